@@ -34,6 +34,7 @@ import eu.arrowhead.common.collector.HttpCollectorDriver;
 import eu.arrowhead.common.collector.ICollectorDriver;
 import eu.arrowhead.common.http.filter.ArrowheadFilter;
 import eu.arrowhead.common.http.filter.NoOpArrowheadFilter;
+import eu.arrowhead.common.http.filter.ReadinessFilter;
 import eu.arrowhead.common.http.filter.authentication.AuthenticationPolicy;
 import eu.arrowhead.common.http.filter.authentication.CertificateFilter;
 import eu.arrowhead.common.http.filter.authentication.IAuthenticationPolicyFilter;
@@ -97,6 +98,13 @@ public class CommonBeanConfig {
 		return new ManagementServiceFilter();
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Bean
+	@ConditionalOnProperty(name = Constants.INIT_ASYNC_ENABLED, havingValue = "true", matchIfMissing = false)
+	ArrowheadFilter readinessFilter() {
+		return new ReadinessFilter();
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Bean
 	@ConditionalOnExpression("'" + Constants.$AUTHENTICATION_POLICY_WD + "' != '" + AuthenticationPolicy.INTERNAL_VALUE + "'")
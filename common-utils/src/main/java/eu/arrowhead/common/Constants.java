@@ -64,6 +64,7 @@ public final class Constants {
 	public static final String METADATA_KEY_TO = "to";
 	public static final String METADATA_KEY_DATA_MODEL_IDS = "dataModelIds";
 	public static final String METADATA_KEY_EVALUATION_TYPE = "evaluationType";
+	public static final String METADATA_KEY_WEIGHT = "weight";
 
 	public static final String PROPERTY_KEY_DATA_MODELS = "dataModels";
 	public static final String PROPERTY_KEY_INPUT = "input";
@@ -76,7 +77,9 @@ public final class Constants {
 	public static final String GENERIC_MQTT_INTERFACE_TEMPLATE_NAME = "generic_mqtt";
 	public static final String GENERIC_MQTTS_INTERFACE_TEMPLATE_NAME = "generic_mqtts";
 
+	public static final int REQUEST_FILTER_ORDER_READINESS = 10;
 	public static final int REQUEST_FILTER_ORDER_AUTHENTICATION = 15;
+	public static final int REQUEST_FILTER_ORDER_AUTHORIZATION_PARALLEL = 18;
 	public static final int REQUEST_FILTER_ORDER_AUTHORIZATION_BLACKLIST = 20;
 	public static final int REQUEST_FILTER_ORDER_AUTHORIZATION_MGMT_SERVICE = 25;
 
@@ -90,6 +93,9 @@ public final class Constants {
 	public static final String NORMALIZATION_MODE = "normalization.mode";
 	public static final String $NORMALIZATION_MODE_WD = "${" + NORMALIZATION_MODE + ":" + Defaults.NORMALIZATION_MODE_DEFAULT + "}";
 
+	public static final String JPA_STREAM_FETCH_SIZE = "500"; // must be a constant expression, because it is used in query hints
+	public static final int JPA_BATCH_SIZE = 50; // same as the default id allocation size of the pooled sequences
+
 	public static final String COMMA = ",";
 	public static final String DOT = ".";
 	public static final String COMPOSITE_ID_DELIMITER = "|";
@@ -118,6 +124,10 @@ public final class Constants {
 	public static final String $SERVER_ADDRESS = "${" + SERVER_ADDRESS + ":" + Defaults.SERVER_ADDRESS_DEFAULT + "}";
 	public static final String SERVER_PORT = "server.port";
 	public static final String $SERVER_PORT = "${" + SERVER_PORT + ":" + Defaults.SERVER_PORT_DEFAULT + "}";
+	public static final String SERVER_UNIX_SOCKET_PATH = "server.unix.socket.path";
+	public static final String $SERVER_UNIX_SOCKET_PATH_WD = "${" + SERVER_UNIX_SOCKET_PATH + ":" + Defaults.SERVER_UNIX_SOCKET_PATH_DEFAULT + "}";
+	public static final String SERVER_HTTP2_ENABLED = "server.http2.enabled";
+	public static final String $SERVER_HTTP2_ENABLED_WD = "${" + SERVER_HTTP2_ENABLED + ":" + Defaults.SERVER_HTTP2_ENABLED_DEFAULT + "}";
 	public static final String DOMAIN_NAME = "domain.name";
 	public static final String $DOMAIN_NAME = "${" + DOMAIN_NAME + ":" + Defaults.DOMAIN_NAME_DEFAULT + "}";
 	public static final String SERVICE_REGISTRY_ADDRESS = "service.registry.address";
@@ -151,8 +161,65 @@ public final class Constants {
 	public static final String $FORCE_BLACKLIST_FILTER_WD = "${" + FORCE_BLACKLIST_FILTER + ":" + Defaults.FORCE_BLACKLIST_FILTER_DEFAULT + "}";
 	public static final String BLACKLIST_CHECK_EXCLUDE_LIST = "blacklist.check.exclude.list";
 	public static final String $BLACKLIST_CHECK_EXCLUDE_LIST_WD = "${" + BLACKLIST_CHECK_EXCLUDE_LIST + ":" + Defaults.BLACKLIST_CHECK_EXCLUDE_LIST_DEFAULT + "}";
+	public static final String PARALLEL_AUTHORIZATION_CHECKS_ENABLED = "parallel.authorization.checks.enabled";
+	public static final String $PARALLEL_AUTHORIZATION_CHECKS_ENABLED_WD = "${" + PARALLEL_AUTHORIZATION_CHECKS_ENABLED + ":" + Defaults.PARALLEL_AUTHORIZATION_CHECKS_ENABLED_DEFAULT + "}";
+	public static final String PARALLEL_AUTHORIZATION_CHECKS_MAX_THREADS = "parallel.authorization.checks.max.threads";
+	public static final String $PARALLEL_AUTHORIZATION_CHECKS_MAX_THREADS_WD = "${" + PARALLEL_AUTHORIZATION_CHECKS_MAX_THREADS + ":" + Defaults.PARALLEL_AUTHORIZATION_CHECKS_MAX_THREADS_DEFAULT + "}";
+	public static final String HTTP_FILTER_ASYNC_ENABLED = "http.filter.async.enabled";
+	public static final String $HTTP_FILTER_ASYNC_ENABLED_WD = "${" + HTTP_FILTER_ASYNC_ENABLED + ":" + Defaults.HTTP_FILTER_ASYNC_ENABLED_DEFAULT + "}";
+	public static final String HTTP_FILTER_ASYNC_TIMEOUT = "http.filter.async.timeout";
+	public static final String $HTTP_FILTER_ASYNC_TIMEOUT_WD = "${" + HTTP_FILTER_ASYNC_TIMEOUT + ":" + Defaults.HTTP_FILTER_ASYNC_TIMEOUT_DEFAULT + "}";
+	public static final String HTTP_FILTER_ASYNC_MAX_THREADS = "http.filter.async.max.threads";
+	public static final String $HTTP_FILTER_ASYNC_MAX_THREADS_WD = "${" + HTTP_FILTER_ASYNC_MAX_THREADS + ":" + Defaults.HTTP_FILTER_ASYNC_MAX_THREADS_DEFAULT + "}";
+	public static final String HTTP_FILTER_ASYNC_QUEUE_SIZE = "http.filter.async.queue.size";
+	public static final String $HTTP_FILTER_ASYNC_QUEUE_SIZE_WD = "${" + HTTP_FILTER_ASYNC_QUEUE_SIZE + ":" + Defaults.HTTP_FILTER_ASYNC_QUEUE_SIZE_DEFAULT + "}";
+	public static final String HTTP_FILTER_BODY_CACHE_MAX_SIZE = "http.filter.body.cache.max.size";
+	public static final String $HTTP_FILTER_BODY_CACHE_MAX_SIZE_WD = "${" + HTTP_FILTER_BODY_CACHE_MAX_SIZE + ":" + Defaults.HTTP_FILTER_BODY_CACHE_MAX_SIZE_DEFAULT + "}";
 	public static final String SERVICE_ADDRESS_ALIAS = "service.address.alias";
 	public static final String $SERVICE_ADDRESS_ALIAS = "${" + SERVICE_ADDRESS_ALIAS + "}";
+	public static final String LOG_RETENTION_ENABLED = "log.retention.enabled";
+	public static final String LOG_RETENTION_INTERVAL = "log.retention.interval";
+	public static final String $LOG_RETENTION_INTERVAL_WD = "${" + LOG_RETENTION_INTERVAL + ":" + Defaults.LOG_RETENTION_INTERVAL_DEFAULT + "}";
+	public static final String LOG_RETENTION_DAYS = "log.retention.days";
+	public static final String $LOG_RETENTION_DAYS_WD = "${" + LOG_RETENTION_DAYS + ":" + Defaults.LOG_RETENTION_DAYS_DEFAULT + "}";
+	public static final String LOG_RETENTION_DAYS_PER_LEVEL = "log.retention.days.per.level";
+	public static final String $LOG_RETENTION_DAYS_PER_LEVEL = "#{${" + LOG_RETENTION_DAYS_PER_LEVEL + ":null}}";
+	public static final String LOG_RETENTION_BATCH_SIZE = "log.retention.batch.size";
+	public static final String $LOG_RETENTION_BATCH_SIZE_WD = "${" + LOG_RETENTION_BATCH_SIZE + ":" + Defaults.LOG_RETENTION_BATCH_SIZE_DEFAULT + "}";
+	public static final String LOG_RETENTION_PARTITIONED_TABLE = "log.retention.partitioned.table";
+	public static final String $LOG_RETENTION_PARTITIONED_TABLE_WD = "${" + LOG_RETENTION_PARTITIONED_TABLE + ":" + Defaults.LOG_RETENTION_PARTITIONED_TABLE_DEFAULT + "}";
+	public static final String JPA_CACHE_ENABLED = "jpa.cache.enabled";
+	public static final String JPA_CACHE_MAX_SIZE = "jpa.cache.max.size";
+	public static final String $JPA_CACHE_MAX_SIZE_WD = "${" + JPA_CACHE_MAX_SIZE + ":" + Defaults.JPA_CACHE_MAX_SIZE_DEFAULT + "}";
+	public static final String JPA_CACHE_TIME_TO_LIVE = "jpa.cache.time.to.live";
+	public static final String $JPA_CACHE_TIME_TO_LIVE_WD = "${" + JPA_CACHE_TIME_TO_LIVE + ":" + Defaults.JPA_CACHE_TIME_TO_LIVE_DEFAULT + "}";
+	public static final String DATASOURCE_REPLICA_ENABLED = "datasource.replica.enabled";
+	public static final String DATASOURCE_REPLICA_URLS = "datasource.replica.urls";
+	public static final String $DATASOURCE_REPLICA_URLS_WD = "${" + DATASOURCE_REPLICA_URLS + ":" + Defaults.DATASOURCE_REPLICA_URLS_DEFAULT + "}";
+	public static final String DATASOURCE_REPLICA_USERNAME = "datasource.replica.username";
+	public static final String $DATASOURCE_REPLICA_USERNAME_WD = "${" + DATASOURCE_REPLICA_USERNAME + ":" + Defaults.DATASOURCE_REPLICA_USERNAME_DEFAULT + "}";
+	public static final String DATASOURCE_REPLICA_PASSWORD = "datasource.replica.password";
+	public static final String $DATASOURCE_REPLICA_PASSWORD_WD = "${" + DATASOURCE_REPLICA_PASSWORD + ":" + Defaults.DATASOURCE_REPLICA_PASSWORD_DEFAULT + "}";
+	public static final String DATASOURCE_REPLICA_SELECTION_POLICY = "datasource.replica.selection.policy";
+	public static final String $DATASOURCE_REPLICA_SELECTION_POLICY_WD = "${" + DATASOURCE_REPLICA_SELECTION_POLICY + ":" + Defaults.DATASOURCE_REPLICA_SELECTION_POLICY_DEFAULT + "}";
+	public static final String DATASOURCE_REPLICA_RETRY_INTERVAL = "datasource.replica.retry.interval";
+	public static final String $DATASOURCE_REPLICA_RETRY_INTERVAL_WD = "${" + DATASOURCE_REPLICA_RETRY_INTERVAL + ":" + Defaults.DATASOURCE_REPLICA_RETRY_INTERVAL_DEFAULT + "}";
+	public static final String INIT_ASYNC_ENABLED = "init.async.enabled";
+	public static final String $INIT_ASYNC_ENABLED_WD = "${" + INIT_ASYNC_ENABLED + ":" + Defaults.INIT_ASYNC_ENABLED_DEFAULT + "}";
+	public static final String INIT_ASYNC_GATED_PATHS = "init.async.gated.paths";
+	public static final String $INIT_ASYNC_GATED_PATHS_WD = "${" + INIT_ASYNC_GATED_PATHS + ":" + Defaults.INIT_ASYNC_GATED_PATHS_DEFAULT + "}";
+	public static final String VIRTUAL_THREADS_ENABLED = "spring.threads.virtual.enabled";
+	public static final String $VIRTUAL_THREADS_ENABLED_WD = "${" + VIRTUAL_THREADS_ENABLED + ":" + Defaults.VIRTUAL_THREADS_ENABLED_DEFAULT + "}";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_ENABLED = "service.collector.snapshot.enabled";
+	public static final String $SERVICE_COLLECTOR_SNAPSHOT_ENABLED_WD = "${" + SERVICE_COLLECTOR_SNAPSHOT_ENABLED + ":" + Defaults.SERVICE_COLLECTOR_SNAPSHOT_ENABLED_DEFAULT + "}";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_FILE = "service.collector.snapshot.file";
+	public static final String $SERVICE_COLLECTOR_SNAPSHOT_FILE_WD = "${" + SERVICE_COLLECTOR_SNAPSHOT_FILE + ":" + Defaults.SERVICE_COLLECTOR_SNAPSHOT_FILE_DEFAULT + "}";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_INTERVAL = "service.collector.snapshot.interval";
+	public static final String $SERVICE_COLLECTOR_SNAPSHOT_INTERVAL_WD = "${" + SERVICE_COLLECTOR_SNAPSHOT_INTERVAL + ":" + Defaults.SERVICE_COLLECTOR_SNAPSHOT_INTERVAL_DEFAULT + "}";
+	public static final String SERVICE_COLLECTOR_SEED_FILE = "service.collector.seed.file";
+	public static final String $SERVICE_COLLECTOR_SEED_FILE_WD = "${" + SERVICE_COLLECTOR_SEED_FILE + ":" + Defaults.SERVICE_COLLECTOR_SEED_FILE_DEFAULT + "}";
+	public static final String SERVICE_COLLECTOR_INSTANCES_TTL = "service.collector.instances.ttl";
+	public static final String $SERVICE_COLLECTOR_INSTANCES_TTL_WD = "${" + SERVICE_COLLECTOR_INSTANCES_TTL + ":" + Defaults.SERVICE_COLLECTOR_INSTANCES_TTL_DEFAULT + "}";
 
 	public static final String AUTHENTICATION_SCHEMA = "Bearer";
 	public static final String AUTHENTICATION_KEY_DELIMITER = "//";
@@ -199,8 +266,20 @@ public final class Constants {
 	public static final String SERVER_SSL_TRUST__STORE__PASSWORD = "server.ssl.trust-store-password";
 	@SuppressWarnings("checkstyle:ConstantName")
 	public static final String $SERVER_SSL_TRUST__STORE__PASSWORD_WD = "${" + SERVER_SSL_TRUST__STORE__PASSWORD + ":" + Defaults.SERVER_SSL_TRUST__STORE__PASSWORD_DEFAULT + "}";
+	@SuppressWarnings("checkstyle:ConstantName")
+	public static final String SERVER_SSL_CLIENT__AUTH = "server.ssl.client-auth";
+	@SuppressWarnings("checkstyle:ConstantName")
+	public static final String $SERVER_SSL_CLIENT__AUTH_WD = "${" + SERVER_SSL_CLIENT__AUTH + ":" + Defaults.SERVER_SSL_CLIENT__AUTH_DEFAULT + "}";
 	public static final String DISABLE_HOSTNAME_VERIFIER = "disable.hostname.verifier";
 	public static final String $DISABLE_HOSTNAME_VERIFIER_WD = "${" + DISABLE_HOSTNAME_VERIFIER + ":" + Defaults.DISABLE_HOSTNAME_VERIFIER_DEFAULT + "}";
+	public static final String TLS_PROTOCOLS = "tls.protocols";
+	public static final String $TLS_PROTOCOLS_WD = "${" + TLS_PROTOCOLS + ":" + Defaults.TLS_PROTOCOLS_DEFAULT + "}";
+	public static final String TLS_SESSION_CACHE_SIZE = "tls.session.cache.size";
+	public static final String $TLS_SESSION_CACHE_SIZE_WD = "${" + TLS_SESSION_CACHE_SIZE + ":" + Defaults.TLS_SESSION_CACHE_SIZE_DEFAULT + "}";
+	public static final String TLS_SESSION_TIMEOUT = "tls.session.timeout";
+	public static final String $TLS_SESSION_TIMEOUT_WD = "${" + TLS_SESSION_TIMEOUT + ":" + Defaults.TLS_SESSION_TIMEOUT_DEFAULT + "}";
+	public static final String TLS_PROVIDER = "tls.provider";
+	public static final String $TLS_PROVIDER_WD = "${" + TLS_PROVIDER + ":" + Defaults.TLS_PROVIDER_DEFAULT + "}";
 
 	// HTTP related
 
@@ -217,12 +296,79 @@ public final class Constants {
 
 	public static final String HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM = "arrowhead.authenticated.system";
 	public static final String HTTP_ATTR_ARROWHEAD_SYSOP_REQUEST = "arrowhead.sysop.request";
+	public static final String HTTP_ATTR_ARROWHEAD_AUTHORIZATION_CHECKED = "arrowhead.authorization.checked";
 	public static final String HTTP_ATTR_JAKARTA_SERVLET_REQUEST_X509_CERTIFICATE = "jakarta.servlet.request.X509Certificate";
 
 	public static final String HTTP_CLIENT_CONNECTION_TIMEOUT = "http.client.connection.timeout";
 	public static final String $HTTP_CLIENT_CONNECTION_TIMEOUT_WD = "${" + HTTP_CLIENT_CONNECTION_TIMEOUT + ":" + Defaults.HTTP_CLIENT_CONNECTION_TIMEOUT_DEFAULT + "}";
 	public static final String HTTP_CLIENT_SOCKET_TIMEOUT = "http.client.socket.timeout";
 	public static final String $HTTP_CLIENT_SOCKET_TIMEOUT_WD = "${" + HTTP_CLIENT_SOCKET_TIMEOUT + ":" + Defaults.HTTP_CLIENT_SOCKET_TIMEOUT_DEFAULT + "}";
+	public static final String HTTP_CLIENT_LOAD_BALANCING_POLICY = "http.client.load.balancing.policy";
+	public static final String $HTTP_CLIENT_LOAD_BALANCING_POLICY_WD = "${" + HTTP_CLIENT_LOAD_BALANCING_POLICY + ":" + Defaults.HTTP_CLIENT_LOAD_BALANCING_POLICY_DEFAULT + "}";
+	public static final String HTTP_CLIENT_ENDPOINT_EJECTION_THRESHOLD = "http.client.endpoint.ejection.threshold";
+	public static final String $HTTP_CLIENT_ENDPOINT_EJECTION_THRESHOLD_WD = "${" + HTTP_CLIENT_ENDPOINT_EJECTION_THRESHOLD + ":" + Defaults.HTTP_CLIENT_ENDPOINT_EJECTION_THRESHOLD_DEFAULT + "}";
+	public static final String HTTP_CLIENT_ENDPOINT_EJECTION_INTERVAL = "http.client.endpoint.ejection.interval";
+	public static final String $HTTP_CLIENT_ENDPOINT_EJECTION_INTERVAL_WD = "${" + HTTP_CLIENT_ENDPOINT_EJECTION_INTERVAL + ":" + Defaults.HTTP_CLIENT_ENDPOINT_EJECTION_INTERVAL_DEFAULT + "}";
+	public static final String HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = "http.client.circuit.breaker.failure.threshold";
+	public static final String $HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD_WD = "${" + HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD + ":" + Defaults.HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD_DEFAULT + "}";
+	public static final String HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION = "http.client.circuit.breaker.open.duration";
+	public static final String $HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION_WD = "${" + HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION + ":" + Defaults.HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION_DEFAULT + "}";
+	public static final String HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS = "http.client.bulkhead.max.concurrent.requests";
+	public static final String $HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS_WD = "${" + HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS + ":" + Defaults.HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_RETRY_COUNT = "http.client.retry.count";
+	public static final String $HTTP_CLIENT_RETRY_COUNT_WD = "${" + HTTP_CLIENT_RETRY_COUNT + ":" + Defaults.HTTP_CLIENT_RETRY_COUNT_DEFAULT + "}";
+	public static final String HTTP_CLIENT_RETRY_BACKOFF = "http.client.retry.backoff";
+	public static final String $HTTP_CLIENT_RETRY_BACKOFF_WD = "${" + HTTP_CLIENT_RETRY_BACKOFF + ":" + Defaults.HTTP_CLIENT_RETRY_BACKOFF_DEFAULT + "}";
+	public static final String HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED = "http.client.adaptive.timeout.enabled";
+	public static final String $HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED_WD = "${" + HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED + ":" + Defaults.HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED_DEFAULT + "}";
+	public static final String HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE = "http.client.adaptive.timeout.percentile";
+	public static final String $HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE_WD = "${" + HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE + ":" + Defaults.HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE_DEFAULT + "}";
+	public static final String HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER = "http.client.adaptive.timeout.multiplier";
+	public static final String $HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER_WD = "${" + HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER + ":" + Defaults.HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HEDGING_OPERATIONS = "http.client.hedging.operations";
+	public static final String $HTTP_CLIENT_HEDGING_OPERATIONS_WD = "${" + HTTP_CLIENT_HEDGING_OPERATIONS + ":" + Defaults.HTTP_CLIENT_HEDGING_OPERATIONS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HEDGING_DELAY = "http.client.hedging.delay";
+	public static final String $HTTP_CLIENT_HEDGING_DELAY_WD = "${" + HTTP_CLIENT_HEDGING_DELAY + ":" + Defaults.HTTP_CLIENT_HEDGING_DELAY_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HEDGING_PERCENTILE = "http.client.hedging.percentile";
+	public static final String $HTTP_CLIENT_HEDGING_PERCENTILE_WD = "${" + HTTP_CLIENT_HEDGING_PERCENTILE + ":" + Defaults.HTTP_CLIENT_HEDGING_PERCENTILE_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HEDGING_BUDGET = "http.client.hedging.budget";
+	public static final String $HTTP_CLIENT_HEDGING_BUDGET_WD = "${" + HTTP_CLIENT_HEDGING_BUDGET + ":" + Defaults.HTTP_CLIENT_HEDGING_BUDGET_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HEDGING_MAX_THREADS = "http.client.hedging.max.threads";
+	public static final String $HTTP_CLIENT_HEDGING_MAX_THREADS_WD = "${" + HTTP_CLIENT_HEDGING_MAX_THREADS + ":" + Defaults.HTTP_CLIENT_HEDGING_MAX_THREADS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_COALESCING_ENABLED = "http.client.coalescing.enabled";
+	public static final String $HTTP_CLIENT_COALESCING_ENABLED_WD = "${" + HTTP_CLIENT_COALESCING_ENABLED + ":" + Defaults.HTTP_CLIENT_COALESCING_ENABLED_DEFAULT + "}";
+	public static final String HTTP_CLIENT_COALESCING_READ_ONLY_PATHS = "http.client.coalescing.read.only.paths";
+	public static final String $HTTP_CLIENT_COALESCING_READ_ONLY_PATHS_WD = "${" + HTTP_CLIENT_COALESCING_READ_ONLY_PATHS + ":" + Defaults.HTTP_CLIENT_COALESCING_READ_ONLY_PATHS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_COALESCING_KEY_HEADERS = "http.client.coalescing.key.headers";
+	public static final String $HTTP_CLIENT_COALESCING_KEY_HEADERS_WD = "${" + HTTP_CLIENT_COALESCING_KEY_HEADERS + ":" + Defaults.HTTP_CLIENT_COALESCING_KEY_HEADERS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_COALESCING_MAX_IN_FLIGHT = "http.client.coalescing.max.in.flight";
+	public static final String $HTTP_CLIENT_COALESCING_MAX_IN_FLIGHT_WD = "${" + HTTP_CLIENT_COALESCING_MAX_IN_FLIGHT + ":" + Defaults.HTTP_CLIENT_COALESCING_MAX_IN_FLIGHT_DEFAULT + "}";
+	public static final String HTTP_CLIENT_COALESCING_MAX_WAIT = "http.client.coalescing.max.wait";
+	public static final String $HTTP_CLIENT_COALESCING_MAX_WAIT_WD = "${" + HTTP_CLIENT_COALESCING_MAX_WAIT + ":" + Defaults.HTTP_CLIENT_COALESCING_MAX_WAIT_DEFAULT + "}";
+	public static final String HTTP_CLIENT_DNS_CACHE_ENABLED = "http.client.dns.cache.enabled";
+	public static final String $HTTP_CLIENT_DNS_CACHE_ENABLED_WD = "${" + HTTP_CLIENT_DNS_CACHE_ENABLED + ":" + Defaults.HTTP_CLIENT_DNS_CACHE_ENABLED_DEFAULT + "}";
+	public static final String HTTP_CLIENT_DNS_CACHE_MIN_TTL = "http.client.dns.cache.min.ttl";
+	public static final String $HTTP_CLIENT_DNS_CACHE_MIN_TTL_WD = "${" + HTTP_CLIENT_DNS_CACHE_MIN_TTL + ":" + Defaults.HTTP_CLIENT_DNS_CACHE_MIN_TTL_DEFAULT + "}";
+	public static final String HTTP_CLIENT_DNS_CACHE_MAX_TTL = "http.client.dns.cache.max.ttl";
+	public static final String $HTTP_CLIENT_DNS_CACHE_MAX_TTL_WD = "${" + HTTP_CLIENT_DNS_CACHE_MAX_TTL + ":" + Defaults.HTTP_CLIENT_DNS_CACHE_MAX_TTL_DEFAULT + "}";
+	public static final String HTTP_CLIENT_DNS_CACHE_NEGATIVE_TTL = "http.client.dns.cache.negative.ttl";
+	public static final String $HTTP_CLIENT_DNS_CACHE_NEGATIVE_TTL_WD = "${" + HTTP_CLIENT_DNS_CACHE_NEGATIVE_TTL + ":" + Defaults.HTTP_CLIENT_DNS_CACHE_NEGATIVE_TTL_DEFAULT + "}";
+	public static final String HTTP_CLIENT_PREWARM_ENABLED = "http.client.prewarm.enabled";
+	public static final String $HTTP_CLIENT_PREWARM_ENABLED_WD = "${" + HTTP_CLIENT_PREWARM_ENABLED + ":" + Defaults.HTTP_CLIENT_PREWARM_ENABLED_DEFAULT + "}";
+	public static final String HTTP_CLIENT_PREWARM_CONNECTIONS = "http.client.prewarm.connections";
+	public static final String $HTTP_CLIENT_PREWARM_CONNECTIONS_WD = "${" + HTTP_CLIENT_PREWARM_CONNECTIONS + ":" + Defaults.HTTP_CLIENT_PREWARM_CONNECTIONS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_KEEP_ALIVE_INTERVAL = "http.client.keep.alive.interval";
+	public static final String $HTTP_CLIENT_KEEP_ALIVE_INTERVAL_WD = "${" + HTTP_CLIENT_KEEP_ALIVE_INTERVAL + ":" + Defaults.HTTP_CLIENT_KEEP_ALIVE_INTERVAL_DEFAULT + "}";
+	public static final String HTTP_CLIENT_LOCAL_DISPATCH_ENABLED = "http.client.local.dispatch.enabled";
+	public static final String $HTTP_CLIENT_LOCAL_DISPATCH_ENABLED_WD = "${" + HTTP_CLIENT_LOCAL_DISPATCH_ENABLED + ":" + Defaults.HTTP_CLIENT_LOCAL_DISPATCH_ENABLED_DEFAULT + "}";
+	public static final String HTTP_CLIENT_UNIX_SOCKET_MAPPINGS = "http.client.unix.socket.mappings";
+	public static final String $HTTP_CLIENT_UNIX_SOCKET_MAPPINGS_WD = "${" + HTTP_CLIENT_UNIX_SOCKET_MAPPINGS + ":" + Defaults.HTTP_CLIENT_UNIX_SOCKET_MAPPINGS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_PROTOCOLS = "http.client.protocols";
+	public static final String $HTTP_CLIENT_PROTOCOLS_WD = "${" + HTTP_CLIENT_PROTOCOLS + ":" + Defaults.HTTP_CLIENT_PROTOCOLS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HTTP2_MAX_CONCURRENT_STREAMS = "http.client.http2.max.concurrent.streams";
+	public static final String $HTTP_CLIENT_HTTP2_MAX_CONCURRENT_STREAMS_WD = "${" + HTTP_CLIENT_HTTP2_MAX_CONCURRENT_STREAMS + ":" + Defaults.HTTP_CLIENT_HTTP2_MAX_CONCURRENT_STREAMS_DEFAULT + "}";
+	public static final String HTTP_CLIENT_HTTP2_MAX_CONNECTIONS = "http.client.http2.max.connections";
+	public static final String $HTTP_CLIENT_HTTP2_MAX_CONNECTIONS_WD = "${" + HTTP_CLIENT_HTTP2_MAX_CONNECTIONS + ":" + Defaults.HTTP_CLIENT_HTTP2_MAX_CONNECTIONS_DEFAULT + "}";
 	public static final String LOG_ALL_REQUEST_AND_RESPONSE = "log.all.request.and.response";
 	public static final String $LOG_ALL_REQUEST_AND_RESPONSE_WD = "${" + LOG_ALL_REQUEST_AND_RESPONSE + ":" + Defaults.LOG_ALL_REQUEST_AND_RESPONSE_DEFAULT + "}";
 
@@ -392,6 +538,7 @@ public final class Constants {
 	public static final String HTTP_API_OP_ECHO_PATH = "/echo";
 	public static final String HTTP_API_OP_LOGS_PATH = "/logs";
 	public static final String HTTP_API_OP_GET_CONFIG_PATH = "/get-config";
+	public static final String HTTP_API_READINESS_PATH = "/readiness";
 
 	// Common property related
 
@@ -415,6 +562,12 @@ public final class Constants {
 
 	public static final String OUTSOURCED_LOGIN_TRIGGER = "outsourcedLoginTrigger";
 	public static final String OUTSOURCED_LOGIN_JOB_FACTORY = "outsourcedLoginJobFactory";
+	public static final String LOG_RETENTION_TRIGGER = "logRetentionTrigger";
+	public static final String LOG_RETENTION_JOB_FACTORY = "logRetentionJobFactory";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_TRIGGER = "serviceCollectorSnapshotTrigger";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_JOB_FACTORY = "serviceCollectorSnapshotJobFactory";
+	public static final String HTTP_CONNECTION_WARM_UP_TRIGGER = "httpConnectionWarmUpTrigger";
+	public static final String HTTP_CONNECTION_WARM_UP_JOB_FACTORY = "httpConnectionWarmUpJobFactory";
 
 	//=================================================================================================
 	// assistant methods
@@ -17,8 +17,10 @@
 package eu.arrowhead.common;
 
 import eu.arrowhead.common.collector.HttpCollectorMode;
+import eu.arrowhead.common.http.balancer.LoadBalancingPolicy;
 import eu.arrowhead.common.http.filter.authentication.AuthenticationPolicy;
 import eu.arrowhead.common.http.filter.authorization.ManagementPolicy;
+import eu.arrowhead.common.jpa.datasource.ReplicaSelectionPolicy;
 import eu.arrowhead.common.service.normalization.NormalizationMode;
 import eu.arrowhead.dto.DTODefaults;
 
@@ -38,6 +40,10 @@ public class Defaults {
 
 	public static final String SERVER_ADDRESS_DEFAULT = "";
 	public static final String SERVER_PORT_DEFAULT = "0"; // just to avoid NullPointerException
+	public static final String SERVER_UNIX_SOCKET_PATH_DEFAULT = ""; // no Unix domain socket connector
+	// Spring Boot property: with TLS the server offers h2 via ALPN, without TLS it accepts h2c (upgrade or prior knowledge); HTTP/1.1 is always accepted
+	// it applies to the Unix domain socket connector too (see UnixDomainSocketConnectorConfig)
+	public static final String SERVER_HTTP2_ENABLED_DEFAULT = "false";
 	public static final String DOMAIN_NAME_DEFAULT = "";
 	public static final String SERVICE_REGISTRY_ADDRESS_DEFAULT = Constants.LOCALHOST;
 	public static final String SERVICE_REGISTRY_PORT_DEFAULT = "8443";
@@ -50,7 +56,36 @@ public class Defaults {
 	public static final String HTTP_COLLECTOR_MODE_DEFAULT = HttpCollectorMode.SR_AND_ORCH_VALUE;
 	public static final String ENABLE_BLACKLIST_FILTER_DEFAULT = "false";
 	public static final String FORCE_BLACKLIST_FILTER_DEFAULT = "true";
+	public static final String PARALLEL_AUTHORIZATION_CHECKS_ENABLED_DEFAULT = "false"; // blacklist and management authorization checks are evaluated concurrently
+	public static final String PARALLEL_AUTHORIZATION_CHECKS_MAX_THREADS_DEFAULT = "64"; // over it the checks run on the caller thread
+	public static final String HTTP_FILTER_ASYNC_ENABLED_DEFAULT = "false"; // remote filter decisions release the request thread while waiting
+	public static final String HTTP_FILTER_ASYNC_TIMEOUT_DEFAULT = "30000"; // in milliseconds
+	public static final String HTTP_FILTER_ASYNC_MAX_THREADS_DEFAULT = "64"; // decisions that are made at the same time
+	public static final String HTTP_FILTER_ASYNC_QUEUE_SIZE_DEFAULT = "1000"; // waiting decisions, the requests over it are rejected
+	public static final String HTTP_FILTER_BODY_CACHE_MAX_SIZE_DEFAULT = "1048576"; // in bytes, larger bodies are not inspected by the filters; non-positive means no limit
 	public static final String SERVICE_ADDRESS_ALIAS_DEFAULT = "\"\"";
+	public static final String LOG_RETENTION_ENABLED_DEFAULT = "false";
+	public static final String LOG_RETENTION_INTERVAL_DEFAULT = "3600000";
+	public static final String LOG_RETENTION_DAYS_DEFAULT = "30";
+	public static final String LOG_RETENTION_BATCH_SIZE_DEFAULT = "1000";
+	public static final String LOG_RETENTION_PARTITIONED_TABLE_DEFAULT = "";
+	public static final String JPA_CACHE_ENABLED_DEFAULT = "false";
+	public static final String JPA_CACHE_MAX_SIZE_DEFAULT = "10000";
+	public static final String JPA_CACHE_TIME_TO_LIVE_DEFAULT = "600000";
+	public static final String DATASOURCE_REPLICA_ENABLED_DEFAULT = "false";
+	public static final String DATASOURCE_REPLICA_URLS_DEFAULT = "";
+	public static final String DATASOURCE_REPLICA_USERNAME_DEFAULT = ""; // empty means the same as the primary
+	public static final String DATASOURCE_REPLICA_PASSWORD_DEFAULT = ""; // empty means the same as the primary
+	public static final String DATASOURCE_REPLICA_SELECTION_POLICY_DEFAULT = ReplicaSelectionPolicy.ROUND_ROBIN_VALUE;
+	public static final String DATASOURCE_REPLICA_RETRY_INTERVAL_DEFAULT = "30000";
+	public static final String INIT_ASYNC_ENABLED_DEFAULT = "false";
+	public static final String INIT_ASYNC_GATED_PATHS_DEFAULT = "\"\""; // path prefixes that are served only after the whole initialization (the others only need the SSL step)
+	public static final String VIRTUAL_THREADS_ENABLED_DEFAULT = "false"; // Spring Boot switch: Tomcat request threads, plus MQTT handlers, Quartz jobs and hedged requests here
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_ENABLED_DEFAULT = "false";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_FILE_DEFAULT = "service-model-snapshot.json";
+	public static final String SERVICE_COLLECTOR_SNAPSHOT_INTERVAL_DEFAULT = "60000";
+	public static final String SERVICE_COLLECTOR_SEED_FILE_DEFAULT = ""; // empty means no seed file
+	public static final String SERVICE_COLLECTOR_INSTANCES_TTL_DEFAULT = "60000"; // in milliseconds, non-positive value means no expiry
 	public static final String BLACKLIST_CHECK_EXCLUDE_LIST_DEFAULT = Constants.SYS_NAME_SERVICE_REGISTRY + ","
 			+ Constants.SYS_NAME_AUTHENTICATION + ","
 			+ Constants.SYS_NAME_CONSUMER_AUTHORIZATION + ","
@@ -73,12 +108,53 @@ public class Defaults {
 	public static final String SERVER_SSL_TRUST__STORE_DEFAULT = "";
 	@SuppressWarnings("checkstyle:ConstantName")
 	public static final String SERVER_SSL_TRUST__STORE__PASSWORD_DEFAULT = "";
+	@SuppressWarnings("checkstyle:ConstantName")
+	public static final String SERVER_SSL_CLIENT__AUTH_DEFAULT = "none";
 	public static final String DISABLE_HOSTNAME_VERIFIER_DEFAULT = "false";
+	public static final String TLS_PROTOCOLS_DEFAULT = "TLSv1.3,TLSv1.2";
+	public static final String TLS_SESSION_CACHE_SIZE_DEFAULT = "1000";
+	public static final String TLS_SESSION_TIMEOUT_DEFAULT = "86400"; // in seconds
+	public static final String TLS_PROVIDER_DEFAULT = "JDK"; // JDK, OPENSSL or OPENSSL_REFCNT (OpenSSL/BoringSSL needs netty-tcnative on the classpath)
 
 	// HTTP related
 
 	public static final String HTTP_CLIENT_CONNECTION_TIMEOUT_DEFAULT = "30000";
 	public static final String HTTP_CLIENT_SOCKET_TIMEOUT_DEFAULT = "30000";
+	public static final String HTTP_CLIENT_LOAD_BALANCING_POLICY_DEFAULT = LoadBalancingPolicy.ROUND_ROBIN_VALUE;
+	public static final String HTTP_CLIENT_ENDPOINT_EJECTION_THRESHOLD_DEFAULT = "3";
+	public static final String HTTP_CLIENT_ENDPOINT_EJECTION_INTERVAL_DEFAULT = "30000";
+	public static final String HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD_DEFAULT = "5";
+	public static final String HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION_DEFAULT = "30000";
+	public static final String HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS_DEFAULT = "64";
+	public static final String HTTP_CLIENT_RETRY_COUNT_DEFAULT = "0"; // the balanced calls already fail over to the other endpoints, retries would multiply the attempts
+	public static final String HTTP_CLIENT_RETRY_BACKOFF_DEFAULT = "200";
+	public static final String HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED_DEFAULT = "false";
+	public static final String HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE_DEFAULT = "99";
+	public static final String HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER_DEFAULT = "3";
+	public static final String HTTP_CLIENT_HEDGING_OPERATIONS_DEFAULT = "\"\""; // no hedging
+	public static final String HTTP_CLIENT_HEDGING_DELAY_DEFAULT = "0"; // 0 means the percentile of the observed latency is used
+	public static final String HTTP_CLIENT_HEDGING_PERCENTILE_DEFAULT = "95";
+	public static final String HTTP_CLIENT_HEDGING_BUDGET_DEFAULT = "10"; // percentage of the requests that can be hedged
+	public static final String HTTP_CLIENT_HEDGING_MAX_THREADS_DEFAULT = "64"; // over it the requests are sent on the caller thread without hedging
+	public static final String HTTP_CLIENT_COALESCING_ENABLED_DEFAULT = "false";
+	public static final String HTTP_CLIENT_COALESCING_READ_ONLY_PATHS_DEFAULT = "\"\""; // POST requests that do not change anything (e.g. lookups)
+	public static final String HTTP_CLIENT_COALESCING_KEY_HEADERS_DEFAULT = "Authorization";
+	public static final String HTTP_CLIENT_COALESCING_MAX_IN_FLIGHT_DEFAULT = "1000";
+	public static final String HTTP_CLIENT_COALESCING_MAX_WAIT_DEFAULT = "30000"; // in milliseconds, after that the joined request is sent on its own
+	public static final String HTTP_CLIENT_DNS_CACHE_ENABLED_DEFAULT = "true";
+	public static final String HTTP_CLIENT_DNS_CACHE_MIN_TTL_DEFAULT = "0"; // in seconds
+	public static final String HTTP_CLIENT_DNS_CACHE_MAX_TTL_DEFAULT = "300"; // in seconds
+	public static final String HTTP_CLIENT_DNS_CACHE_NEGATIVE_TTL_DEFAULT = "0"; // in seconds
+	public static final String HTTP_CLIENT_PREWARM_ENABLED_DEFAULT = "false";
+	public static final String HTTP_CLIENT_PREWARM_CONNECTIONS_DEFAULT = "2"; // per endpoint
+	public static final String HTTP_CLIENT_KEEP_ALIVE_INTERVAL_DEFAULT = "15000"; // in milliseconds, should be shorter than the idle timeout of the servers
+	public static final String HTTP_CLIENT_LOCAL_DISPATCH_ENABLED_DEFAULT = "false";
+	public static final String HTTP_CLIENT_UNIX_SOCKET_MAPPINGS_DEFAULT = "\"\""; // host:port=/path/of/socket entries of co-located servers (Linux only)
+	// HTTP11, H2 (TLS only, negotiated with ALPN) and H2C (plaintext only; alone it means prior knowledge, with HTTP11 an upgrade attempt)
+	// HTTP11 next to H2 or H2C is the fallback for servers without HTTP/2; servers enable HTTP/2 with server.http2.enabled (see SERVER_HTTP2_ENABLED_DEFAULT)
+	public static final String HTTP_CLIENT_PROTOCOLS_DEFAULT = "HTTP11";
+	public static final String HTTP_CLIENT_HTTP2_MAX_CONCURRENT_STREAMS_DEFAULT = "100"; // per connection
+	public static final String HTTP_CLIENT_HTTP2_MAX_CONNECTIONS_DEFAULT = "100"; // per server, HTTP/1.1 fallback connections count too
 	public static final String LOG_ALL_REQUEST_AND_RESPONSE_DEFAULT = "false";
 	public static final String CORS_ORIGIN_PATTERN_DEFAULT = "*";
 
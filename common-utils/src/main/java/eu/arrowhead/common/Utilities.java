@@ -26,6 +26,14 @@ import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -43,6 +51,7 @@ public final class Utilities {
 
 	private static final ObjectMapper mapper = new ObjectMapper();
 	private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_INSTANT;
+	private static final long EXECUTOR_KEEP_ALIVE = 60; // in seconds
 
 	static {
 		mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
@@ -245,6 +254,19 @@ public final class Utilities {
 		return hexString.toString();
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// at most maxThreads tasks run at the same time and at most queueSize tasks wait, the others are rejected with RejectedExecutionException
+	public static ExecutorService createBoundedExecutor(final int maxThreads, final int queueSize, final boolean virtualThreads) {
+		Assert.isTrue(maxThreads > 0, "maxThreads must be positive");
+
+		final BlockingQueue<Runnable> queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+		final ThreadFactory threadFactory = virtualThreads ? Thread.ofVirtual().factory() : Executors.defaultThreadFactory();
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, EXECUTOR_KEEP_ALIVE, TimeUnit.SECONDS, queue, threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
 	//=================================================================================================
 	// assistant methods
 
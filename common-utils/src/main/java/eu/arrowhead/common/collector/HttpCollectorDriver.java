@@ -17,6 +17,7 @@
 package eu.arrowhead.common.collector;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -115,6 +116,74 @@ public class HttpCollectorDriver implements ICollectorDriver {
 		return result;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// every instance of the Service Registry lookup is converted, orchestration (if enabled) is only used if the lookup finds nothing
+	@Override
+	public List<ServiceModel> acquireServiceInstances(final String serviceDefinitionName, final String interfaceTemplateName, final String providerName) throws ArrowheadException {
+		logger.debug("acquireServiceInstances started...");
+		Assert.isTrue(!Utilities.isEmpty(serviceDefinitionName), "service definition is empty");
+
+		if (!supportedInterfaces.contains(interfaceTemplateName)) {
+			throw new InvalidParameterException("This collector only supports the following interfaces: " + String.join(", ", supportedInterfaces));
+		}
+
+		final ServiceInstanceLookupRequestDTO payload = providerName == null
+				? createSRRequestPayload(serviceDefinitionName, interfaceTemplateName)
+				: createSRRequestPayload(serviceDefinitionName, interfaceTemplateName, providerName);
+
+		final ServiceInstanceListResponseDTO response = sendSRLookupRequest(payload);
+		final List<ServiceModel> result = new ArrayList<>();
+		for (final ServiceInstanceResponseDTO instance : response.entries()) {
+			final ServiceModel model = convertServiceInstance(instance, interfaceTemplateName);
+			if (model != null) {
+				result.add(model);
+			}
+		}
+
+		if (result.isEmpty() && HttpCollectorMode.SR_AND_ORCH == mode) {
+			final ServiceModel model = acquireServiceFromOrchestration(serviceDefinitionName, interfaceTemplateName, providerName);
+			if (model != null) {
+				result.add(model);
+			}
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// all services are looked up with one Service Registry request, only the missing ones are orchestrated (if enabled) one by one
+	@Override
+	public Map<ServiceKey, ServiceModel> acquireServices(final Collection<ServiceKey> keys) throws ArrowheadException {
+		logger.debug("acquireServices started...");
+		Assert.notNull(keys, "keys collection is null");
+
+		final Map<ServiceKey, ServiceModel> result = new HashMap<>();
+		if (keys.isEmpty()) {
+			return result;
+		}
+
+		for (final ServiceKey key : keys) {
+			Assert.notNull(key, "key is null");
+			if (!supportedInterfaces.contains(key.interfaceTemplateName())) {
+				throw new InvalidParameterException("This collector only supports the following interfaces: " + String.join(", ", supportedInterfaces));
+			}
+		}
+
+		final ServiceInstanceListResponseDTO response = sendSRLookupRequest(createSRRequestPayload(keys));
+		for (final ServiceKey key : keys) {
+			ServiceModel model = selectFromLookupResponse(response, key);
+			if (model == null && HttpCollectorMode.SR_AND_ORCH == mode) {
+				model = acquireServiceFromOrchestration(key.serviceDefinition(), key.interfaceTemplateName(), key.providerName());
+			}
+
+			if (model != null) {
+				result.put(key, model);
+			}
+		}
+
+		return result;
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -122,25 +191,31 @@ public class HttpCollectorDriver implements ICollectorDriver {
 	private ServiceModel acquireServiceFromSR(final String serviceDefinitionName, final String interfaceTemplateName, final String providerName) {
 		logger.debug("acquireServiceFromSR started...");
 
-		// 1. uri
-		final String scheme = sysInfo.isSslEnabled() ? Constants.HTTPS : Constants.HTTP;
-		final UriComponents uri = HttpUtilities.createURI(scheme, sysInfo.getServiceRegistryAddress(), sysInfo.getServiceRegistryPort(), SR_LOOKUP_PATH, VERBOSE_KEY, VERBOSE_VALUE);
-
-		// 2. payload
 		final ServiceInstanceLookupRequestDTO payload = providerName == null
 				? createSRRequestPayload(serviceDefinitionName, interfaceTemplateName)
 				: createSRRequestPayload(serviceDefinitionName, interfaceTemplateName, providerName);
 
-		// 3. headers
+		final ServiceInstanceListResponseDTO response = sendSRLookupRequest(payload);
+
+		return convertLookupResponse(response, interfaceTemplateName);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceListResponseDTO sendSRLookupRequest(final ServiceInstanceLookupRequestDTO payload) {
+		logger.debug("sendSRLookupRequest started...");
+
+		// 1. uri
+		final String scheme = sysInfo.isSslEnabled() ? Constants.HTTPS : Constants.HTTP;
+		final UriComponents uri = HttpUtilities.createURI(scheme, sysInfo.getServiceRegistryAddress(), sysInfo.getServiceRegistryPort(), SR_LOOKUP_PATH, VERBOSE_KEY, VERBOSE_VALUE);
+
+		// 2. headers
 		final String authorizationHeader = HttpUtilities.calculateAuthorizationHeader(sysInfo);
 		final Map<String, String> headers = new HashMap<>();
 		if (authorizationHeader != null) {
 			headers.put(HttpHeaders.AUTHORIZATION, authorizationHeader);
 		}
 
-		final ServiceInstanceListResponseDTO response = httpService.sendRequest(uri, HttpMethod.POST, ServiceInstanceListResponseDTO.class, payload, null, headers);
-
-		return convertLookupResponse(response, interfaceTemplateName);
+		return httpService.sendRequest(uri, HttpMethod.POST, ServiceInstanceListResponseDTO.class, payload, null, headers);
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -231,6 +306,22 @@ public class HttpCollectorDriver implements ICollectorDriver {
 				.build();
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceLookupRequestDTO createSRRequestPayload(final Collection<ServiceKey> keys) {
+		logger.debug("createSRRequestPayload started...");
+
+		final ServiceInstanceLookupRequestDTO.Builder builder = new ServiceInstanceLookupRequestDTO.Builder()
+				.serviceDefinitionNames(keys.stream().map(ServiceKey::serviceDefinition).distinct().toList())
+				.interfaceTemplateNames(keys.stream().map(ServiceKey::interfaceTemplateName).distinct().toList());
+
+		// the providers can be filtered on the server side only if every key specifies one
+		if (keys.stream().allMatch(k -> k.providerName() != null)) {
+			builder.providerNames(keys.stream().map(ServiceKey::providerName).distinct().toList());
+		}
+
+		return builder.build();
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private OrchestrationRequestDTO createOrchRequestPayload(final String serviceDefinitionName, final String interfaceTemplateName, final String providerName) {
 		logger.debug("createOrchRequestPayload started...");
@@ -283,7 +374,32 @@ public class HttpCollectorDriver implements ICollectorDriver {
 		}
 
 		// convert the first instance
-		final ServiceInstanceResponseDTO instance = response.entries().getFirst();
+		return convertServiceInstance(response.entries().getFirst(), interfaceTemplateName);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// selects the first usable instance of a multi-definition lookup that matches the key
+	private ServiceModel selectFromLookupResponse(final ServiceInstanceListResponseDTO response, final ServiceKey key) {
+		logger.debug("selectFromLookupResponse started...");
+
+		for (final ServiceInstanceResponseDTO instance : response.entries()) {
+			if (!key.serviceDefinition().equals(instance.serviceDefinition().name())
+					|| (key.providerName() != null && !key.providerName().equals(instance.provider().name()))) {
+				continue;
+			}
+
+			final ServiceModel model = convertServiceInstance(instance, key.interfaceTemplateName());
+			if (model != null) {
+				return model;
+			}
+		}
+
+		return null;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceModel convertServiceInstance(final ServiceInstanceResponseDTO instance, final String interfaceTemplateName) {
+		logger.debug("convertServiceInstance started...");
 
 		// create the list of interface models for the service model
 		final List<InterfaceModel> interfaceModelList = convertInterfaceResponsesToInterfaceModels(instance.interfaces(), interfaceTemplateName);
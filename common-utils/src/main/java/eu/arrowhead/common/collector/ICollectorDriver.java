@@ -16,6 +16,11 @@
  *******************************************************************************/
 package eu.arrowhead.common.collector;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.model.ServiceModel;
 
@@ -29,4 +34,26 @@ public interface ICollectorDriver {
 
 	//-------------------------------------------------------------------------------------------------
 	public ServiceModel acquireService(final String serviceDefinitionName, final String interfaceTemplateName, final String providerName) throws ArrowheadException;
+
+	//-------------------------------------------------------------------------------------------------
+	// every matching service instance (e.g. for load balancing); drivers that can find more instances should override this
+	public default List<ServiceModel> acquireServiceInstances(final String serviceDefinitionName, final String interfaceTemplateName, final String providerName) throws ArrowheadException {
+		final ServiceModel model = acquireService(serviceDefinitionName, interfaceTemplateName, providerName);
+
+		return model == null ? List.of() : List.of(model);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the result contains only the found services; drivers that can resolve more services in one request should override this
+	public default Map<ServiceKey, ServiceModel> acquireServices(final Collection<ServiceKey> keys) throws ArrowheadException {
+		final Map<ServiceKey, ServiceModel> result = new HashMap<>();
+		for (final ServiceKey key : keys) {
+			final ServiceModel model = acquireService(key.serviceDefinition(), key.interfaceTemplateName(), key.providerName());
+			if (model != null) {
+				result.put(key, model);
+			}
+		}
+
+		return result;
+	}
 }
\ No newline at end of file
@@ -16,17 +16,30 @@
  *******************************************************************************/
 package eu.arrowhead.common.collector;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.common.model.ServiceModel;
 import eu.arrowhead.common.service.validation.name.InterfaceTemplateNameNormalizer;
 import eu.arrowhead.common.service.validation.name.ServiceDefinitionNameNormalizer;
@@ -55,9 +68,39 @@ public class ServiceCollector {
 	@Autowired
 	private SystemNameNormalizer systemNameNormalizer;
 
+	@Autowired
+	private ServiceModelSnapshotStore snapshotStore;
+
 	@Resource(name = Constants.ARROWHEAD_CONTEXT)
 	private Map<String, Object> arrowheadContext;
 
+	@Value(Constants.$SERVICE_COLLECTOR_SNAPSHOT_ENABLED_WD)
+	private boolean snapshotEnabled;
+
+	@Value(Constants.$SERVICE_COLLECTOR_SNAPSHOT_FILE_WD)
+	private String snapshotFile;
+
+	@Value(Constants.$SERVICE_COLLECTOR_SEED_FILE_WD)
+	private String seedFile;
+
+	@Value(Constants.$SERVICE_COLLECTOR_INSTANCES_TTL_WD)
+	private long instancesTTL;
+
+	// models acquired by the driver (or loaded from the snapshot) with their lookup parameters, these are written to the snapshot
+	private final Map<String, ServiceModelSnapshotEntry> acquiredEntries = new ConcurrentHashMap<>();
+
+	// models loaded from the snapshot that are not yet re-acquired from the driver
+	private final Set<String> staleKeys = ConcurrentHashMap.newKeySet();
+
+	// models loaded from the seed file, these are restored when the service is invalidated
+	private final Map<String, ServiceModel> seededModels = new ConcurrentHashMap<>();
+
+	// every acquired instance of the services that are used with load balancing (until expiry)
+	private final Map<String, ServiceInstances> serviceInstances = new ConcurrentHashMap<>();
+
+	// called with the normalized service definition when a service is invalidated
+	private final List<Consumer<String>> invalidationListeners = new CopyOnWriteArrayList<>();
+
 	//=================================================================================================
 	// methods
 
@@ -77,13 +120,199 @@ public class ServiceCollector {
 
 			final ServiceModel model = driver.acquireService(nServiceDefinition, nTemplateName, nProviderName);
 			if (model != null) {
-				arrowheadContext.put(key, model);
+				storeServiceModel(key, nTemplateName, nProviderName, model);
 			}
 		}
 
 		return (ServiceModel) arrowheadContext.get(key);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// seeded services are never acquired from the driver and the models loaded from the snapshot are served until refreshStaleServiceModels()
+	// re-acquires them; otherwise the instances are acquired from the driver and a model that is already known (e.g. from getServiceModel)
+	// is only used as the single instance when the driver does not find (or cannot reach) the service
+	public List<ServiceModel> getServiceModels(final String serviceDefinition, final String templateName, final String providerName) throws ArrowheadException {
+		logger.debug("getServiceModels started...");
+		Assert.isTrue(!Utilities.isEmpty(serviceDefinition), "service definition is empty");
+		Assert.isTrue(!Utilities.isEmpty(templateName), "template name is empty");
+
+		final String nServiceDefinition = serviceDefNameNormalizer.normalize(serviceDefinition);
+
+		final String key = Constants.KEY_PREFIX_FOR_SERVICE_MODEL + nServiceDefinition;
+		final ServiceModel seededModel = seededModels.get(key);
+		if (seededModel != null) {
+			return List.of(seededModel);
+		}
+
+		final ServiceModel staleModel = staleKeys.contains(key) ? (ServiceModel) arrowheadContext.get(key) : null;
+		if (staleModel != null) {
+			return List.of(staleModel);
+		}
+
+		final ServiceInstances instances = serviceInstances.get(key);
+		if (instances != null && !instances.isExpired()) {
+			return instances.models();
+		}
+
+		final String nTemplateName = interfaceTemplateNameNormalizer.normalize(templateName);
+		final String nProviderName = !Utilities.isEmpty(providerName) ? systemNameNormalizer.normalize(providerName) : null;
+
+		final ServiceModel knownModel = (ServiceModel) arrowheadContext.get(key);
+		List<ServiceModel> models = null;
+		try {
+			models = driver.acquireServiceInstances(nServiceDefinition, nTemplateName, nProviderName);
+		} catch (final ArrowheadException ex) {
+			if (knownModel == null) {
+				throw ex;
+			}
+
+			logger.debug("Service instances of {} cannot be acquired, using the known model: {}", nServiceDefinition, ex.getMessage());
+		}
+
+		if (Utilities.isEmpty(models)) {
+			if (knownModel == null) {
+				return List.of();
+			}
+
+			final List<ServiceModel> result = List.of(knownModel);
+			serviceInstances.put(key, new ServiceInstances(result, calculateExpiry()));
+
+			return result;
+		}
+
+		final List<ServiceModel> result = List.copyOf(models);
+		serviceInstances.put(key, new ServiceInstances(result, calculateExpiry()));
+		storeServiceModel(key, nTemplateName, nProviderName, result.getFirst());
+		staleKeys.remove(key);
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// forgets every cached model of the service (seeded models are restored), the next lookup acquires it again
+	public void invalidate(final String serviceDefinition) {
+		logger.debug("invalidate started...");
+		Assert.isTrue(!Utilities.isEmpty(serviceDefinition), "service definition is empty");
+
+		final String nServiceDefinition = serviceDefNameNormalizer.normalize(serviceDefinition);
+
+		final String key = Constants.KEY_PREFIX_FOR_SERVICE_MODEL + nServiceDefinition;
+		serviceInstances.remove(key);
+		acquiredEntries.remove(key);
+		staleKeys.remove(key);
+
+		final ServiceModel seededModel = seededModels.get(key);
+		if (seededModel != null) {
+			arrowheadContext.put(key, seededModel);
+		} else {
+			arrowheadContext.remove(key);
+		}
+
+		for (final Consumer<String> listener : invalidationListeners) {
+			listener.accept(nServiceDefinition);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void addInvalidationListener(final Consumer<String> listener) {
+		logger.debug("addInvalidationListener started...");
+		Assert.notNull(listener, "listener is null");
+
+		invalidationListeners.add(listener);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// acquires the not yet known services with as few requests as the driver allows (e.g. dependencies of a system during its initialization)
+	public void prefetch(final Collection<ServiceKey> keys) throws ArrowheadException {
+		logger.debug("prefetch started...");
+		Assert.notNull(keys, "keys collection is null");
+
+		final Map<String, ServiceKey> missing = new LinkedHashMap<>();
+		for (final ServiceKey key : keys) {
+			Assert.notNull(key, "key is null");
+
+			final String nServiceDefinition = serviceDefNameNormalizer.normalize(key.serviceDefinition());
+			final String cacheKey = Constants.KEY_PREFIX_FOR_SERVICE_MODEL + nServiceDefinition;
+			if (!arrowheadContext.containsKey(cacheKey)) {
+				missing.putIfAbsent(cacheKey, new ServiceKey(
+						nServiceDefinition,
+						interfaceTemplateNameNormalizer.normalize(key.interfaceTemplateName()),
+						!Utilities.isEmpty(key.providerName()) ? systemNameNormalizer.normalize(key.providerName()) : null));
+			}
+		}
+
+		if (missing.isEmpty()) {
+			return;
+		}
+
+		final Map<ServiceKey, ServiceModel> models = driver.acquireServices(missing.values());
+		for (final Entry<String, ServiceKey> entry : missing.entrySet()) {
+			final ServiceModel model = models.get(entry.getValue());
+			if (model != null) {
+				storeServiceModel(entry.getKey(), entry.getValue().interfaceTemplateName(), entry.getValue().providerName(), model);
+			}
+		}
+
+		logger.debug("{} of {} service model(s) are prefetched", models.size(), missing.size());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// re-acquires the models that are loaded from the snapshot; a model remains in use until the driver returns a newer one
+	public void refreshStaleServiceModels() {
+		logger.debug("refreshStaleServiceModels started...");
+
+		for (final String key : List.copyOf(staleKeys)) {
+			final ServiceModelSnapshotEntry entry = acquiredEntries.get(key);
+			if (entry == null || Utilities.isEmpty(entry.interfaceTemplateName())) {
+				staleKeys.remove(key);
+				continue;
+			}
+
+			try {
+				final ServiceModel model = driver.acquireService(entry.model().serviceDefinition(), entry.interfaceTemplateName(), entry.providerName());
+				if (model != null) {
+					storeServiceModel(key, entry.interfaceTemplateName(), entry.providerName(), model);
+					staleKeys.remove(key);
+				}
+			} catch (final ArrowheadException ex) {
+				logger.debug("Service model of {} cannot be refreshed: {}", entry.model().serviceDefinition(), ex.getMessage());
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// every model that is currently cached (from any source) including all the instances of the balanced services
+	public List<ServiceModel> getKnownServiceModels() {
+		logger.debug("getKnownServiceModels started...");
+
+		final Set<ServiceModel> result = new LinkedHashSet<>();
+		for (final Entry<String, Object> entry : arrowheadContext.entrySet()) {
+			if (entry.getKey().startsWith(Constants.KEY_PREFIX_FOR_SERVICE_MODEL) && entry.getValue() instanceof final ServiceModel model) {
+				result.add(model);
+			}
+		}
+
+		serviceInstances.values().forEach(instances -> result.addAll(instances.models()));
+
+		return List.copyOf(result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void saveSnapshot() {
+		logger.debug("saveSnapshot started...");
+
+		if (!snapshotEnabled) {
+			return;
+		}
+
+		try {
+			snapshotStore.save(snapshotFile, new ArrayList<>(acquiredEntries.values()));
+		} catch (final IOException ex) {
+			logger.error("Service model snapshot cannot be saved: {}", ex.getMessage());
+			logger.debug(ex);
+		}
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -91,5 +320,90 @@ public class ServiceCollector {
 	@PostConstruct
 	private void init() throws ArrowheadException {
 		driver.init();
+
+		if (!Utilities.isEmpty(seedFile)) {
+			loadSeed();
+		}
+
+		if (snapshotEnabled) {
+			loadSnapshot();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// seeded models are used without the driver by getServiceModel and getServiceModels (fixed deployments)
+	private void loadSeed() {
+		logger.debug("loadSeed started...");
+
+		try {
+			final List<ServiceModelSnapshotEntry> entries = snapshotStore.load(seedFile);
+			if (entries.isEmpty()) {
+				throw new InvalidParameterException("Seed file is missing or empty: " + seedFile);
+			}
+
+			for (final ServiceModelSnapshotEntry entry : entries) {
+				final String key = calculateKey(entry.model());
+				arrowheadContext.put(key, entry.model());
+				seededModels.put(key, entry.model());
+			}
+
+			logger.info("{} service model(s) are loaded from the seed file", entries.size());
+		} catch (final IOException ex) {
+			logger.debug(ex);
+			throw new InvalidParameterException("Seed file cannot be loaded: " + ex.getMessage());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// an unreadable snapshot is ignored, because the models can be acquired again
+	private void loadSnapshot() {
+		logger.debug("loadSnapshot started...");
+
+		try {
+			int count = 0;
+			for (final ServiceModelSnapshotEntry entry : snapshotStore.load(snapshotFile)) {
+				final String key = calculateKey(entry.model());
+				if (arrowheadContext.putIfAbsent(key, entry.model()) == null) {
+					acquiredEntries.put(key, entry);
+					staleKeys.add(key);
+					count++;
+				}
+			}
+
+			if (count > 0) {
+				logger.info("{} service model(s) are loaded from the snapshot", count);
+			}
+		} catch (final IOException ex) {
+			logger.warn("Service model snapshot cannot be loaded: {}", ex.getMessage());
+			logger.debug(ex);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void storeServiceModel(final String key, final String templateName, final String providerName, final ServiceModel model) {
+		arrowheadContext.put(key, model);
+		acquiredEntries.put(key, new ServiceModelSnapshotEntry(templateName, providerName, model));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private String calculateKey(final ServiceModel model) {
+		return Constants.KEY_PREFIX_FOR_SERVICE_MODEL + serviceDefNameNormalizer.normalize(model.serviceDefinition());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private long calculateExpiry() {
+		return instancesTTL > 0 ? System.currentTimeMillis() + instancesTTL : Long.MAX_VALUE;
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record ServiceInstances(List<ServiceModel> models, long expiresAt) {
+
+		//-------------------------------------------------------------------------------------------------
+		public boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAt;
+		}
 	}
 }
\ No newline at end of file
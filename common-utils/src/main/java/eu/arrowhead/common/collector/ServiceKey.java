@@ -0,0 +1,34 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.collector;
+
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Utilities;
+
+// providerName is optional
+public record ServiceKey(
+		String serviceDefinition,
+		String interfaceTemplateName,
+		String providerName) {
+
+	//-------------------------------------------------------------------------------------------------
+	public ServiceKey {
+		Assert.isTrue(!Utilities.isEmpty(serviceDefinition), "service definition is empty");
+		Assert.isTrue(!Utilities.isEmpty(interfaceTemplateName), "template name is empty");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.collector;
+
+import eu.arrowhead.common.model.ServiceModel;
+
+// interfaceTemplateName and providerName are the lookup parameters that were used to acquire the model (both are optional in a seed file)
+public record ServiceModelSnapshotEntry(
+		String interfaceTemplateName,
+		String providerName,
+		ServiceModel model) {
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.collector;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.http.model.HttpInterfaceModel;
+import eu.arrowhead.common.model.InterfaceModel;
+import eu.arrowhead.common.mqtt.model.MqttInterfaceModel;
+
+@Component
+public class ServiceModelSnapshotStore {
+
+	//=================================================================================================
+	// members
+
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	private final ObjectMapper mapper = createMapper();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// returns an empty list if the file does not exist
+	public List<ServiceModelSnapshotEntry> load(final String path) throws IOException {
+		logger.debug("load started...");
+		Assert.isTrue(!Utilities.isEmpty(path), "path is empty");
+
+		final Path file = Path.of(path);
+		if (!Files.isRegularFile(file)) {
+			return List.of();
+		}
+
+		final ServiceModelSnapshot snapshot = mapper.readValue(file.toFile(), ServiceModelSnapshot.class);
+		if (snapshot == null || snapshot.entries() == null) {
+			return List.of();
+		}
+
+		return snapshot.entries()
+				.stream()
+				.filter(e -> e != null && e.model() != null)
+				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the file is replaced in one step, so a crash during writing can't destroy the last good snapshot
+	public void save(final String path, final List<ServiceModelSnapshotEntry> entries) throws IOException {
+		logger.debug("save started...");
+		Assert.isTrue(!Utilities.isEmpty(path), "path is empty");
+		Assert.notNull(entries, "entries list is null");
+
+		final Path file = Path.of(path).toAbsolutePath();
+		final Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+		Files.createDirectories(file.getParent());
+
+		final ServiceModelSnapshot snapshot = new ServiceModelSnapshot(Utilities.convertZonedDateTimeToUTCString(Utilities.utcNow()), entries);
+		mapper.writeValue(tempFile.toFile(), snapshot);
+
+		try {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final AtomicMoveNotSupportedException ex) {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// interface models are polymorphic, so a type property is added to them in the file
+	private ObjectMapper createMapper() {
+		final ObjectMapper result = new ObjectMapper();
+		result.addMixIn(InterfaceModel.class, InterfaceModelMixIn.class);
+		result.registerSubtypes(new NamedType(HttpInterfaceModel.class, "http"), new NamedType(MqttInterfaceModel.class, "mqtt"));
+		result.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		return result;
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+	private interface InterfaceModelMixIn {
+	}
+}
\ No newline at end of file
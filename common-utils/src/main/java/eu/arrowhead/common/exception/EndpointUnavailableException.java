@@ -0,0 +1,30 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.exception;
+
+// the request is not sent, because the bulkhead of the target is full or its circuit breaker is open
+@SuppressWarnings("serial")
+public class EndpointUnavailableException extends ExternalServerError {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public EndpointUnavailableException(final String msg) {
+		super(msg);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.exception;
+
+// the request is cancelled by the caller (e.g. the loser of a hedged request), it says nothing about the target
+@SuppressWarnings("serial")
+public class RequestCancelledException extends ArrowheadException {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public RequestCancelledException(final String msg, final Throwable cause) {
+		super(msg, cause);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public RequestCancelledException(final String msg) {
+		super(msg);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.exception;
+
+// no response is received from the target (connection, TLS handshake or read failed, or timed out), unlike an ExternalServerError
+// that is returned by the target itself
+@SuppressWarnings("serial")
+public class TransportFailureException extends ExternalServerError {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public TransportFailureException(final String msg, final Throwable cause) {
+		super(msg, cause);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public TransportFailureException(final String msg) {
+		super(msg);
+	}
+}
\ No newline at end of file
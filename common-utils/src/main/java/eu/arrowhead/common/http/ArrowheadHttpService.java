@@ -16,9 +16,14 @@
  *******************************************************************************/
 package eu.arrowhead.common.http;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,12 +38,22 @@ import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.SystemInfo;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.collector.ServiceCollector;
+import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.DataNotFoundException;
+import eu.arrowhead.common.exception.EndpointUnavailableException;
 import eu.arrowhead.common.exception.ExternalServerError;
 import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.exception.TransportFailureException;
+import eu.arrowhead.common.http.HttpCallPlan.HttpCallTarget;
+import eu.arrowhead.common.http.balancer.HttpEndpoint;
+import eu.arrowhead.common.http.balancer.HttpEndpointBalancer;
+import eu.arrowhead.common.http.balancer.HttpRequestHedger;
+import eu.arrowhead.common.http.local.LocalServiceDispatcher;
 import eu.arrowhead.common.http.model.HttpInterfaceModel;
 import eu.arrowhead.common.http.model.HttpOperationModel;
+import eu.arrowhead.common.model.InterfaceModel;
 import eu.arrowhead.common.model.ServiceModel;
+import eu.arrowhead.common.service.validation.name.ServiceDefinitionNameNormalizer;
 import eu.arrowhead.common.service.validation.name.ServiceOperationNameNormalizer;
 import jakarta.annotation.PostConstruct;
 
@@ -48,22 +63,43 @@ public class ArrowheadHttpService {
 	//=================================================================================================
 	// members
 
+	private static final List<HttpMethod> IDEMPOTENT_METHODS = List.of(HttpMethod.GET, HttpMethod.PUT, HttpMethod.DELETE);
+	private static final String KEY_DELIMITER = "|";
+	private static final int MAX_CALL_PLANS = 1000;
+
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
 	@Autowired
 	private ServiceCollector collector;
 
+	@Autowired
+	private HttpEndpointBalancer balancer;
+
+	@Autowired
+	private HttpRequestHedger hedger;
+
 	@Autowired
 	private HttpService httpService;
 
 	@Autowired
 	private SystemInfo sysInfo;
 
+	@Autowired
+	private ServiceDefinitionNameNormalizer serviceDefNameNormalizer;
+
 	@Autowired
 	private ServiceOperationNameNormalizer operationNameNormalizer;
 
+	@Autowired
+	private LocalServiceDispatcher localDispatcher;
+
 	private String templateName;
 
+	// least recently used plans are evicted over MAX_CALL_PLANS
+	private final Map<String, HttpCallPlan> callPlans = Collections.synchronizedMap(new CallPlanCache());
+
+	private volatile AuthorizationHeader authorizationHeader;
+
 	//=================================================================================================
 	// methods
 
@@ -88,39 +124,52 @@ public class ArrowheadHttpService {
 			throw new InvalidParameterException("Service operation is not specified");
 		}
 
-		final ServiceModel model = collector.getServiceModel(serviceDefinition, templateName, providerName);
-		if (model == null) {
+		final List<ServiceModel> models = collector.getServiceModels(serviceDefinition, templateName, providerName);
+		if (Utilities.isEmpty(models)) {
 			throw new DataNotFoundException("Service definition is not found: " + serviceDefinition);
 		}
 
-		final HttpInterfaceModel interfaceModel = (HttpInterfaceModel) model.interfaces().get(0);
-
-		final String nOperation = operationNameNormalizer.normalize(operation);
-		final HttpOperationModel operationModel = interfaceModel.operations().get(nOperation);
-		if (operationModel == null) {
+		final HttpCallPlan plan = getCallPlan(serviceDefinition, operation, providerName, models);
+		if (plan.endpoints().isEmpty()) {
 			throw new ExternalServerError("Service does not define the specified operation");
 		}
 
-		final Map<String, String> actualHeaders = new HashMap<>();
-		if (customHeaders != null) {
-			actualHeaders.putAll(customHeaders);
-		}
+		final Map<String, String> actualHeaders = createHeaders(customHeaders);
 
-		final String authorizationHeader = HttpUtilities.calculateAuthorizationHeader(sysInfo);
-		if (authorizationHeader != null) {
-			actualHeaders.put(HttpHeaders.AUTHORIZATION, authorizationHeader);
+		// the system consumes one of its own services: no need for the network round trip
+		for (final HttpCallTarget target : plan.targets()) {
+			if (localDispatcher.canDispatch(target, plan.operation())) {
+				return localDispatcher.dispatch(target, plan.operation(), responseType, payload, queryParams, pathParams, actualHeaders);
+			}
 		}
 
 		final String[] pathSegments = pathParams == null ? null : pathParams.toArray(String[]::new);
-		final UriComponents uri = HttpUtilities.createURI(
-				interfaceModel.protocol(),
-				interfaceModel.accessAddresses().get(0),
-				interfaceModel.accessPort(),
-				queryParams,
-				interfaceModel.basePath() + operationModel.path(),
-				pathSegments);
 
-		return httpService.sendRequest(uri, HttpMethod.valueOf(operationModel.method()), responseType, payload, null, actualHeaders);
+		final List<HttpEndpoint> endpoints = balancer.order(plan.endpoints());
+		final Function<HttpEndpoint, T> call = endpoint -> sendToEndpoint(plan.getTarget(endpoint), responseType, payload, queryParams, pathSegments, actualHeaders);
+
+		if (endpoints.size() > 1
+				&& plan.getTarget(endpoints.getFirst()).idempotent()
+				&& hedger.isHedged(endpoints.getFirst().serviceModel().serviceDefinition(), plan.operation())) {
+			return hedger.execute(endpoints.get(0), endpoints.get(1), call);
+		}
+
+		// connection failures (and local rejections) of idempotent requests are retried with the next endpoint, errors returned by the provider are not
+		ExternalServerError lastError = null;
+		for (final HttpEndpoint endpoint : endpoints) {
+			try {
+				return call.apply(endpoint);
+			} catch (final TransportFailureException | EndpointUnavailableException ex) {
+				if (!plan.getTarget(endpoint).idempotent()) {
+					throw ex;
+				}
+
+				logger.debug("Request to {} failed, trying the next endpoint (if any)", endpoint.id());
+				lastError = ex;
+			}
+		}
+
+		throw lastError;
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -178,9 +227,133 @@ public class ArrowheadHttpService {
 	//=================================================================================================
 	// assistant methods
 
+	//-------------------------------------------------------------------------------------------------
+	private <T, P> T sendToEndpoint(
+			final HttpCallTarget target,
+			final Class<T> responseType,
+			final P payload,
+			final MultiValueMap<String, String> queryParams,
+			final String[] pathSegments,
+			final Map<String, String> headers) {
+		final HttpEndpoint endpoint = target.endpoint();
+		final UriComponents uri = target.expand(queryParams, pathSegments);
+
+		final long start = System.currentTimeMillis();
+		try {
+			final T result = httpService.sendRequest(uri, target.method(), responseType, payload, null, headers, endpoint.serviceModel().serviceDefinition());
+			balancer.recordSuccess(endpoint, System.currentTimeMillis() - start);
+
+			return result;
+		} catch (final TransportFailureException | EndpointUnavailableException ex) {
+			balancer.recordFailure(endpoint);
+			throw ex;
+		} catch (final ArrowheadException ex) {
+			// the provider answered, so it is reachable
+			balancer.recordSuccess(endpoint, System.currentTimeMillis() - start);
+			throw ex;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// plans are rebuilt when the collector returns different models (e.g. after a refresh)
+	private HttpCallPlan getCallPlan(final String serviceDefinition, final String operation, final String providerName, final List<ServiceModel> models) {
+		final String key = serviceDefNameNormalizer.normalize(serviceDefinition) + KEY_DELIMITER + operation + KEY_DELIMITER + providerName;
+		final HttpCallPlan cached = callPlans.get(key);
+		if (cached != null && cached.isBasedOn(models)) {
+			return cached;
+		}
+
+		final HttpCallPlan plan = createCallPlan(models, operationNameNormalizer.normalize(operation));
+		if (!plan.endpoints().isEmpty()) {
+			callPlans.put(key, plan);
+		}
+
+		return plan;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// called by the collector with the normalized service definition
+	private void evictCallPlans(final String serviceDefinition) {
+		logger.debug("evictCallPlans started...");
+
+		final String prefix = serviceDefinition + KEY_DELIMITER;
+		synchronized (callPlans) {
+			callPlans.keySet().removeIf(key -> key.startsWith(prefix));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// every access address of every interface that defines the operation
+	private HttpCallPlan createCallPlan(final List<ServiceModel> models, final String operation) {
+		final List<HttpEndpoint> endpoints = new ArrayList<>();
+		final List<HttpCallTarget> targets = new ArrayList<>();
+		for (final ServiceModel model : models) {
+			for (final InterfaceModel interfaceModel : model.interfaces()) {
+				if (interfaceModel instanceof final HttpInterfaceModel httpInterfaceModel && httpInterfaceModel.operations().containsKey(operation)) {
+					final HttpOperationModel operationModel = httpInterfaceModel.operations().get(operation);
+					final HttpMethod method = HttpMethod.valueOf(operationModel.method());
+					for (final String address : httpInterfaceModel.accessAddresses()) {
+						final HttpEndpoint endpoint = new HttpEndpoint(model, httpInterfaceModel, address);
+						final UriComponents uriTemplate = HttpUtilities.createURI(
+								httpInterfaceModel.protocol(),
+								address,
+								httpInterfaceModel.accessPort(),
+								httpInterfaceModel.basePath() + operationModel.path());
+
+						endpoints.add(endpoint);
+						targets.add(new HttpCallTarget(endpoint, method, uriTemplate, IDEMPOTENT_METHODS.contains(method)));
+					}
+				}
+			}
+		}
+
+		return new HttpCallPlan(List.copyOf(models), operation, List.copyOf(endpoints), List.copyOf(targets));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the Authorization header is only recalculated when the identity token changes
+	private Map<String, String> createHeaders(final Map<String, String> customHeaders) {
+		final String identityToken = sysInfo.getIdentityToken();
+		AuthorizationHeader authorization = authorizationHeader;
+		if (authorization == null || !Objects.equals(authorization.identityToken(), identityToken)) {
+			final String value = HttpUtilities.calculateAuthorizationHeader(sysInfo, identityToken);
+			authorization = new AuthorizationHeader(identityToken, value == null ? Map.of() : Map.of(HttpHeaders.AUTHORIZATION, value));
+			authorizationHeader = authorization;
+		}
+
+		final Map<String, String> result = customHeaders == null ? new HashMap<>() : new HashMap<>(customHeaders);
+		result.putAll(authorization.headers());
+
+		return result;
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@PostConstruct
 	private void init() {
 		templateName = sysInfo.isSslEnabled() ? Constants.GENERIC_HTTPS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_HTTP_INTERFACE_TEMPLATE_NAME;
+		collector.addInvalidationListener(this::evictCallPlans);
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record AuthorizationHeader(String identityToken, Map<String, String> headers) {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("serial")
+	private static final class CallPlanCache extends LinkedHashMap<String, HttpCallPlan> {
+
+		//-------------------------------------------------------------------------------------------------
+		CallPlanCache() {
+			super(16, 0.75f, true); // access order
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, HttpCallPlan> eldest) {
+			return size() > MAX_CALL_PLANS;
+		}
 	}
 }
\ No newline at end of file
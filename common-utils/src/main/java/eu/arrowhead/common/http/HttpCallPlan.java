@@ -0,0 +1,95 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import eu.arrowhead.common.http.balancer.HttpEndpoint;
+import eu.arrowhead.common.model.ServiceModel;
+
+// resolved form of an operation of a service: every endpoint that defines the operation with its URI template and HTTP method
+public record HttpCallPlan(
+		List<ServiceModel> models,
+		String operation,
+		List<HttpEndpoint> endpoints,
+		List<HttpCallTarget> targets) {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the plan is valid while the collector returns the same model instances
+	public boolean isBasedOn(final List<ServiceModel> currentModels) {
+		if (currentModels == null || currentModels.size() != models.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < models.size(); ++i) {
+			if (models.get(i) != currentModels.get(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public HttpCallTarget getTarget(final HttpEndpoint endpoint) {
+		for (final HttpCallTarget target : targets) {
+			if (target.endpoint() == endpoint) {
+				return target;
+			}
+		}
+
+		throw new IllegalArgumentException("Endpoint is not part of the call plan: " + endpoint.id());
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	public record HttpCallTarget(
+			HttpEndpoint endpoint,
+			HttpMethod method,
+			UriComponents uriTemplate, // base path and operation path without path and query parameters
+			boolean idempotent) {
+
+		//-------------------------------------------------------------------------------------------------
+		public UriComponents expand(final MultiValueMap<String, String> queryParams, final String[] pathSegments) {
+			final boolean noSegments = pathSegments == null || pathSegments.length == 0;
+			if (noSegments && queryParams == null) {
+				return uriTemplate;
+			}
+
+			final UriComponentsBuilder builder = UriComponentsBuilder.newInstance().uriComponents(uriTemplate);
+			if (!noSegments) {
+				builder.pathSegment(pathSegments);
+			}
+
+			if (queryParams != null) {
+				builder.queryParams(queryParams);
+			}
+
+			return builder.build();
+		}
+	}
+}
\ No newline at end of file
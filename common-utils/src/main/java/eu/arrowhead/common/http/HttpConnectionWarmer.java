@@ -0,0 +1,122 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponents;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.SystemInfo;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.collector.ServiceCollector;
+import eu.arrowhead.common.http.model.HttpInterfaceModel;
+import eu.arrowhead.common.model.InterfaceModel;
+import eu.arrowhead.common.model.ServiceModel;
+
+// Keeps pooled connections to the Service Registry and to the providers known by the service collector open, so user requests don't pay for the DNS lookup, TCP connect and TLS handshake
+@Component
+public class HttpConnectionWarmer {
+
+	//=================================================================================================
+	// members
+
+	private static final String ROOT_PATH = "/";
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$HTTP_CLIENT_PREWARM_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(Constants.$HTTP_CLIENT_PREWARM_CONNECTIONS_WD)
+	private int connections;
+
+	@Autowired
+	private SystemInfo sysInfo;
+
+	@Autowired
+	private ServiceCollector serviceCollector;
+
+	@Autowired
+	private HttpService httpService;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// returns the number of the opened or refreshed connections
+	public int warmUp() {
+		logger.debug("warmUp started...");
+
+		if (!enabled || connections <= 0) {
+			return 0;
+		}
+
+		int count = 0;
+		for (final UriComponents uri : collectServers().values()) {
+			count += httpService.warmUp(uri, connections);
+		}
+
+		logger.debug("{} connection(s) are warmed up", count);
+
+		return count;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private Map<String, UriComponents> collectServers() {
+		logger.debug("collectServers started...");
+
+		final Map<String, UriComponents> result = new LinkedHashMap<>();
+		final String srScheme = sysInfo.isSslEnabled() ? Constants.HTTPS : Constants.HTTP;
+		if (!Constants.SYS_NAME_SERVICE_REGISTRY.equals(sysInfo.getSystemName()) && !Utilities.isEmpty(sysInfo.getServiceRegistryAddress())) {
+			addServer(result, srScheme, sysInfo.getServiceRegistryAddress(), sysInfo.getServiceRegistryPort());
+		}
+
+		for (final ServiceModel model : serviceCollector.getKnownServiceModels()) {
+			if (model.interfaces() == null) {
+				continue;
+			}
+
+			for (final InterfaceModel interfaceModel : model.interfaces()) {
+				if (interfaceModel instanceof final HttpInterfaceModel httpInterfaceModel) {
+					for (final String address : httpInterfaceModel.accessAddresses()) {
+						addServer(result, httpInterfaceModel.protocol(), address, httpInterfaceModel.accessPort());
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void addServer(final Map<String, UriComponents> servers, final String scheme, final String address, final int port) {
+		final String key = scheme + "://" + address + ":" + port;
+		if (!servers.containsKey(key)) {
+			servers.put(key, HttpUtilities.createURI(scheme, address, port, ROOT_PATH));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponents;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.RequestCancelledException;
+
+// Concurrent identical requests share one in-flight exchange and get the same result object (or exception), so callers must not modify
+// the result. Only GET requests and the POST requests of the configured read-only paths are coalesced, a PUT or DELETE changes the state of
+// the provider, so every such request must be sent.
+@Component
+public class HttpRequestCoalescer {
+
+	//=================================================================================================
+	// members
+
+	private static final String BODY_HASH_ALGORITHM = "SHA-256";
+	private static final String KEY_DELIMITER = "|";
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$HTTP_CLIENT_COALESCING_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(Constants.$HTTP_CLIENT_COALESCING_READ_ONLY_PATHS_WD)
+	private List<String> readOnlyPaths;
+
+	@Value(Constants.$HTTP_CLIENT_COALESCING_KEY_HEADERS_WD)
+	private List<String> keyHeaders;
+
+	@Value(Constants.$HTTP_CLIENT_COALESCING_MAX_IN_FLIGHT_WD)
+	private int maxInFlight;
+
+	@Value(Constants.$HTTP_CLIENT_COALESCING_MAX_WAIT_WD)
+	private long maxWait;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder requestCount = new LongAdder();
+	private final LongAdder coalescedCount = new LongAdder();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isCoalescible(final HttpMethod method, final UriComponents uri) {
+		if (!enabled || method == null || uri == null) {
+			return false;
+		}
+
+		return HttpMethod.GET == method || (HttpMethod.POST == method && readOnlyPaths != null && readOnlyPaths.contains(uri.getPath()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public String createKey(final HttpMethod method, final UriComponents uri, final String responseType, final Object payload, final Map<String, String> headers) {
+		logger.debug("createKey started...");
+
+		final StringBuilder sb = new StringBuilder()
+				.append(method.name())
+				.append(KEY_DELIMITER)
+				.append(uri.toUriString())
+				.append(KEY_DELIMITER)
+				.append(responseType);
+
+		if (keyHeaders != null && headers != null) {
+			for (final String header : keyHeaders) {
+				if (!Utilities.isEmpty(header)) {
+					sb.append(KEY_DELIMITER).append(header).append('=').append(headers.get(header));
+				}
+			}
+		}
+
+		if (payload != null) {
+			sb.append(KEY_DELIMITER).append(calculateBodyHash(payload));
+		}
+
+		return sb.toString();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	public <T> T execute(final String key, final Supplier<T> call) {
+		requestCount.increment();
+
+		if (inFlight.size() >= maxInFlight) {
+			// table is full, request is sent on its own
+			return call.get();
+		}
+
+		final CompletableFuture<Object> own = new CompletableFuture<>();
+		final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+		if (existing != null) {
+			coalescedCount.increment();
+			return (T) join(key, existing, call);
+		}
+
+		try {
+			final T result = call.get();
+			own.complete(result);
+
+			return result;
+		} catch (final Throwable ex) {
+			// every outcome completes the future, otherwise the joined callers would wait in vain
+			own.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlight.remove(key, own);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getRequestCount() {
+		return requestCount.sum();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public long getCoalescedCount() {
+		return coalescedCount.sum();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// ratio of the requests that were served by an other request's exchange
+	public double getCoalescingRatio() {
+		final long requests = requestCount.sum();
+
+		return requests == 0 ? 0 : (double) coalescedCount.sum() / requests;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the request is sent on its own if the shared exchange is cancelled (its result says nothing about the target) or takes too long
+	private Object join(final String key, final CompletableFuture<Object> existing, final Supplier<?> call) {
+		try {
+			return existing.get(maxWait, TimeUnit.MILLISECONDS);
+		} catch (final ExecutionException ex) {
+			final Throwable cause = ex.getCause();
+			if (cause instanceof RequestCancelledException) {
+				logger.debug("Shared request is cancelled, request is sent on its own: {}", key);
+				return call.get();
+			}
+
+			if (cause instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (cause instanceof final Error error) {
+				throw error;
+			}
+
+			logger.debug(ex);
+			throw new ArrowheadException(ex.getMessage());
+		} catch (final CancellationException ex) {
+			logger.debug("Shared request is cancelled, request is sent on its own: {}", key);
+			return call.get();
+		} catch (final TimeoutException ex) {
+			logger.debug("No response for the shared request in {} ms, request is sent on its own: {}", maxWait, key);
+			return call.get();
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RequestCancelledException("Request is cancelled: " + key);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private String calculateBodyHash(final Object payload) {
+		try {
+			final byte[] body = payload instanceof final byte[] bytes ? bytes : mapper.writeValueAsBytes(payload);
+
+			return Utilities.bytesToHex(MessageDigest.getInstance(BODY_HASH_ALGORITHM).digest(body));
+		} catch (final JsonProcessingException | NoSuchAlgorithmException ex) {
+			logger.debug(ex);
+			throw new ArrowheadException("Request body cannot be hashed: " + ex.getMessage());
+		}
+	}
+}
\ No newline at end of file
@@ -17,21 +17,23 @@
 package eu.arrowhead.common.http;
 
 import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStore;
+import java.net.URI;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
-import javax.net.ssl.TrustManagerFactory;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,6 +49,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.Builder;
 import org.springframework.web.reactive.function.client.WebClient.RequestBodySpec;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
+import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponents;
 
@@ -57,20 +60,30 @@ import eu.arrowhead.common.SSLProperties;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.AuthException;
-import eu.arrowhead.common.exception.ExternalServerError;
 import eu.arrowhead.common.exception.ForbiddenException;
+import eu.arrowhead.common.exception.RequestCancelledException;
+import eu.arrowhead.common.exception.TransportFailureException;
+import eu.arrowhead.common.http.resilience.HttpResilienceManager;
+import eu.arrowhead.common.security.SSLContextFactory;
 import eu.arrowhead.dto.ErrorMessageDTO;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.ssl.SslContext;
-import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.el.MethodNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.SslProvider;
 import reactor.netty.tcp.SslProvider.SslContextSpec;
 
@@ -84,8 +97,12 @@ public class HttpService {
 	private static final String ERROR_MESSAGE_PART_SUBJECT_ALTERNATIVE_NAMES = "No subject alternative";
 	private static final String ERROR_MESSAGE_PART_X509_NAME = "No name matching";
 	private static final List<HttpMethod> NOT_SUPPORTED_METHODS = List.of(HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.TRACE);
-	private static final String SSL_KEY_MANAGER_FACTORY_ALGORITHM = "ssl.KeyManagerFactory.algorithm";
-	private static final String SSL_TRUST_MANAGER_FACTORY_ALGORITHM = "ssl.TrustManagerFactory.algorithm";
+	private static final List<HttpMethod> IDEMPOTENT_METHODS = List.of(HttpMethod.GET, HttpMethod.PUT, HttpMethod.DELETE);
+	private static final int MAX_GIVEN_CONTEXT_CLIENTS = 16;
+	private static final String UNIX_SOCKET_MAPPING_DELIMITER = "=";
+	private static final int DEFAULT_HTTP_PORT = 80;
+	private static final int DEFAULT_HTTPS_PORT = 443;
+	private static final String HTTP2_CONNECTION_PROVIDER_NAME = "arrowhead-http2";
 
 	private final Logger logger = LogManager.getLogger(HttpService.class);
 
@@ -98,14 +115,52 @@ public class HttpService {
 	@Value(Constants.$HTTP_CLIENT_SOCKET_TIMEOUT_WD)
 	private int socketTimeout;
 
+	@Value(Constants.$HTTP_CLIENT_DNS_CACHE_ENABLED_WD)
+	private boolean dnsCacheEnabled;
+
+	@Value(Constants.$HTTP_CLIENT_DNS_CACHE_MIN_TTL_WD)
+	private int dnsCacheMinTtl;
+
+	@Value(Constants.$HTTP_CLIENT_DNS_CACHE_MAX_TTL_WD)
+	private int dnsCacheMaxTtl;
+
+	@Value(Constants.$HTTP_CLIENT_DNS_CACHE_NEGATIVE_TTL_WD)
+	private int dnsCacheNegativeTtl;
+
+	@Value(Constants.$HTTP_CLIENT_UNIX_SOCKET_MAPPINGS_WD)
+	private List<String> unixSocketMappings;
+
+	@Value(Constants.$HTTP_CLIENT_PROTOCOLS_WD)
+	private List<HttpProtocol> protocols;
+
+	@Value(Constants.$HTTP_CLIENT_HTTP2_MAX_CONCURRENT_STREAMS_WD)
+	private int http2MaxConcurrentStreams;
+
+	@Value(Constants.$HTTP_CLIENT_HTTP2_MAX_CONNECTIONS_WD)
+	private int http2MaxConnections;
+
 	@Autowired
 	private ObjectMapper mapper;
 
 	@Autowired
 	private SSLProperties sslProperties;
 
+	@Autowired
+	private SSLContextFactory sslContextFactory;
+
+	@Autowired
+	private HttpResilienceManager resilienceManager;
+
+	@Autowired
+	private HttpRequestCoalescer coalescer;
+
 	private HttpClient httpClient;
 	private HttpClient sslClient;
+	private final Map<SslContext, HttpClient> givenContextClients = new ConcurrentHashMap<>();
+	private Map<String, String> unixSocketPaths = Map.of(); // host:port -> socket path
+	private final Map<String, HttpClient> unixSocketClients = new ConcurrentHashMap<>();
+	private ConnectionProvider http2ConnectionProvider;
+	private SslContext alpnContext; // the only context that can negotiate HTTP/2
 
 	//=================================================================================================
 	// methods
@@ -118,75 +173,23 @@ public class HttpService {
 			final P payload,
 			final SslContext givenContext,
 			final Map<String, String> customHeaders) {
-		logger.debug("sendRequest started...");
-		Assert.notNull(method, "Request method is not defined");
-		logger.debug("Sending {} request to: {}", method, uri);
-
-		if (uri == null) {
-			logger.error("sendRequest() is called with null URI.");
-			throw new NullPointerException("HttpService.sendRequest method received null URI");
-		}
-
-		if (NOT_SUPPORTED_METHODS.contains(method)) {
-			throw new MethodNotFoundException("Invalid method type was given to the HttpService.sendRequest() method");
-		}
-
-		final boolean secure = Constants.HTTPS.equalsIgnoreCase(uri.getScheme());
-		if (secure && sslClient == null) {
-			logger.debug("sendRequest(): secure request sending was invoked in insecure mode");
-			throw new ForbiddenException("SSL Context is not set, but secure request sending was invoked. An insecure application may not send requests to secure servers");
-		}
-
-		HttpClient usedClient;
-		if (secure) {
-			usedClient = givenContext != null ? createHttpClient(givenContext) : sslClient;
-		} else {
-			usedClient = httpClient;
-		}
-
-		try {
-			final WebClient client = createWebClient(usedClient);
-			final RequestBodySpec spec = client
-					.method(method)
-					.uri(uri.toUri());
-
-			RequestHeadersSpec<?> headersSpec = (payload != null) ? spec.bodyValue(payload) : spec;
-
-			if (!Utilities.isEmpty(customHeaders)) {
-				for (final Entry<String, String> header : customHeaders.entrySet()) {
-					headersSpec = headersSpec.header(header.getKey(), header.getValue());
-				}
-			}
-
-			return headersSpec
-					.retrieve()
-					.bodyToMono(responseType)
-					.block();
-		} catch (final WebClientResponseException ex) {
-			throw convertWebClientException(ex, uri.toString());
-		} catch (final Exception ex) {
-			if (ex.getCause() != null) {
-				final Throwable throwable = ex.getCause();
-				final String message = throwable.getMessage();
-				if (message != null && message.contains(ERROR_MESSAGE_PART_PKIX_PATH)) {
-					logger.error("The system at {} is not part of the same certificate chain of trust", uri.toUriString());
-					logger.debug("Exception:", throwable);
-					throw new ForbiddenException("The system at " + uri.toUriString() + " is not part of the same certificate chain of trust");
-				} else if (message != null && (message.contains(ERROR_MESSAGE_PART_SUBJECT_ALTERNATIVE_NAMES) || message.contains(ERROR_MESSAGE_PART_X509_NAME))) {
-					logger.error("The certificate of the system at {} does not contain the specified IP address or DNS name as a Subject Alternative Name", uri.toString());
-					logger.debug("Exception: ", throwable);
-					throw new AuthException("The certificate of the system at " + uri.toString() + " does not contain the specified IP address or DNS name as a Subject Alternative Name");
-				}
+		return sendRequest(uri, method, responseType, payload, givenContext, customHeaders, null);
+	}
 
-				logger.error("Service unavailable at {}", uri.toUriString());
-				logger.debug("Exception:", throwable);
-				throw new ExternalServerError("Could not get any response from: " + uri.toUriString());
-			}
+	//-------------------------------------------------------------------------------------------------
+	// the resilience settings of the service definition are used (if specified)
+	@SuppressWarnings("checkstyle:ParameterNumberCheck")
+	public <T, P> T sendRequest(
+			final UriComponents uri,
+			final HttpMethod method,
+			final Class<T> responseType,
+			final P payload,
+			final SslContext givenContext,
+			final Map<String, String> customHeaders,
+			final String serviceDefinition) {
+		logger.debug("sendRequest started...");
 
-			logger.error("Service unavailable at {}", uri.toUriString());
-			logger.debug("Exception", ex);
-			throw new ExternalServerError("Could not get any response from: " + uri.toUriString());
-		}
+		return send(uri, method, responseType == null ? null : responseType.getTypeName(), spec -> spec.bodyToMono(responseType), payload, givenContext, customHeaders, serviceDefinition);
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -217,7 +220,115 @@ public class HttpService {
 			final P payload,
 			final SslContext givenContext,
 			final Map<String, String> customHeaders) {
+		return sendRequest(uri, method, responseType, payload, givenContext, customHeaders, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the resilience settings of the service definition are used (if specified)
+	@SuppressWarnings("checkstyle:ParameterNumberCheck")
+	public <T, P> T sendRequest(
+			final UriComponents uri,
+			final HttpMethod method,
+			final ParameterizedTypeReference<T> responseType,
+			final P payload,
+			final SslContext givenContext,
+			final Map<String, String> customHeaders,
+			final String serviceDefinition) {
 		logger.debug("sendRequest started...");
+
+		return send(uri, method, responseType == null ? null : responseType.getType().getTypeName(), spec -> spec.bodyToMono(responseType), payload, givenContext, customHeaders, serviceDefinition);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public <T, P> T sendRequest(final UriComponents uri, final HttpMethod method, final ParameterizedTypeReference<T> responseType, final P payload) {
+		return sendRequest(uri, method, responseType, payload, null, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public <T> T sendRequest(final UriComponents uri, final HttpMethod method, final ParameterizedTypeReference<T> responseType, final SslContext givenContext) {
+		return sendRequest(uri, method, responseType, null, givenContext, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public <T> T sendRequest(final UriComponents uri, final HttpMethod method, final Map<String, String> customHeaders, final ParameterizedTypeReference<T> responseType) {
+		return sendRequest(uri, method, responseType, null, null, customHeaders);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public <T> T sendRequest(final UriComponents uri, final HttpMethod method, final ParameterizedTypeReference<T> responseType) {
+		return sendRequest(uri, method, responseType, null, null, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public WebClient createInsecureWebClient() {
+		logger.debug("createInsecureWebClient started...");
+
+		return createWebClient(httpClient);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public WebClient createSecureWebClient() {
+		logger.debug("createSecureWebClient started...");
+
+		return createWebClient(sslClient);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public WebClient createSecureWebClient(final SslContext sslContext) {
+		logger.debug("createSecureWebClient started...");
+
+		final HttpClient client = createHttpClient(sslContext);
+		return createWebClient(client);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// opens (or keeps alive) pooled connections to the server of the given URI with lightweight HEAD requests, the response status is irrelevant
+	public int warmUp(final UriComponents uri, final int connections) {
+		logger.debug("warmUp started...");
+		Assert.notNull(uri, "uri is null");
+		Assert.isTrue(connections > 0, "connections must be positive");
+
+		final boolean secure = Constants.HTTPS.equalsIgnoreCase(uri.getScheme());
+		final HttpClient client = secure ? sslClient : httpClient;
+		if (client == null) {
+			return 0;
+		}
+
+		final HttpClient unixSocketClient = getUnixSocketClient(client, uri, secure);
+		final HttpClient usedClient = unixSocketClient != null ? unixSocketClient : client;
+
+		final String uriString = uri.toUriString();
+		final String requestUri = unixSocketClient != null ? toRelativeUri(uri.toUri()).toString() : uriString;
+		final Long count = Flux.range(0, connections)
+				.flatMap(i -> usedClient
+						.head()
+						.uri(requestUri)
+						.response()
+						.onErrorResume(ex -> {
+							logger.debug("Warming up connection to {} failed: {}", uriString, ex.getMessage());
+							return Mono.empty();
+						}),
+						connections)
+				.count()
+				.block();
+
+		return count == null ? 0 : count.intValue();
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:ParameterNumberCheck")
+	private <T, P> T send(
+			final UriComponents uri,
+			final HttpMethod method,
+			final String responseTypeName,
+			final Function<ResponseSpec, Mono<T>> bodyExtractor,
+			final P payload,
+			final SslContext givenContext,
+			final Map<String, String> customHeaders,
+			final String serviceDefinition) {
 		Assert.notNull(method, "Request method is not defined");
 		logger.debug("Sending {} request to: {}", method, uri);
 
@@ -236,18 +347,45 @@ public class HttpService {
 			throw new ForbiddenException("SSL Context is not set, but secure request sending was invoked. An insecure application may not send requests to secure servers");
 		}
 
-		HttpClient usedClient;
-		if (secure) {
-			usedClient = givenContext != null ? createHttpClient(givenContext) : sslClient;
+		final HttpClient unixSocketClient = givenContext == null ? getUnixSocketClient(secure ? sslClient : httpClient, uri, secure) : null;
+		final HttpClient usedClient;
+		if (unixSocketClient != null) {
+			usedClient = unixSocketClient;
+		} else if (secure) {
+			usedClient = givenContext != null ? getGivenContextClient(givenContext) : sslClient;
 		} else {
 			usedClient = httpClient;
 		}
 
+		final Supplier<T> call = () -> resilienceManager.execute(
+				uri.getHost() + ":" + uri.getPort(),
+				serviceDefinition,
+				IDEMPOTENT_METHODS.contains(method),
+				timeout -> doSend(usedClient, unixSocketClient != null, uri, method, bodyExtractor, payload, customHeaders, timeout));
+
+		if (coalescer.isCoalescible(method, uri)) {
+			return coalescer.execute(coalescer.createKey(method, uri, responseTypeName, payload, customHeaders), call);
+		}
+
+		return call.get();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:ParameterNumberCheck")
+	private <T, P> T doSend(
+			final HttpClient usedClient,
+			final boolean unixSocket,
+			final UriComponents uri,
+			final HttpMethod method,
+			final Function<ResponseSpec, Mono<T>> bodyExtractor,
+			final P payload,
+			final Map<String, String> customHeaders,
+			final Duration timeout) {
 		try {
 			final WebClient client = createWebClient(usedClient);
 			final RequestBodySpec spec = client
 					.method(method)
-					.uri(uri.toUri());
+					.uri(unixSocket ? toRelativeUri(uri.toUri()) : uri.toUri());
 
 			RequestHeadersSpec<?> headersSpec = (payload != null) ? spec.bodyValue(payload) : spec;
 
@@ -257,15 +395,23 @@ public class HttpService {
 				}
 			}
 
-			return headersSpec
-					.retrieve()
-					.bodyToMono(responseType)
-					.block();
+			Mono<T> response = bodyExtractor.apply(headersSpec.retrieve());
+			if (timeout != null) {
+				response = response.timeout(timeout);
+			}
+
+			return response.block();
 		} catch (final WebClientResponseException ex) {
 			throw convertWebClientException(ex, uri.toString());
 		} catch (final Exception ex) {
 			if (ex.getCause() != null) {
 				final Throwable throwable = ex.getCause();
+				if (throwable instanceof InterruptedException) {
+					// cancelled by the caller (e.g. the loser of a hedged request), it says nothing about the target
+					logger.debug("Request to {} is cancelled", uri.toUriString());
+					throw new RequestCancelledException("Request is cancelled: " + uri.toUriString());
+				}
+
 				final String message = throwable.getMessage();
 				if (message != null && message.contains(ERROR_MESSAGE_PART_PKIX_PATH)) {
 					logger.error("The system at {} is not part of the same certificate chain of trust", uri.toUriString());
@@ -279,73 +425,45 @@ public class HttpService {
 
 				logger.error("Service unavailable at {}", uri.toUriString());
 				logger.debug("Exception:", throwable);
-				throw new ExternalServerError("Could not get any response from: " + uri.toUriString());
+				throw new TransportFailureException("Could not get any response from: " + uri.toUriString());
 			}
 
 			logger.error("Service unavailable at {}", uri.toUriString());
 			logger.debug("Exception", ex);
-			throw new ExternalServerError("Could not get any response from: " + uri.toUriString());
+			throw new TransportFailureException("Could not get any response from: " + uri.toUriString());
 		}
 	}
 
-	//-------------------------------------------------------------------------------------------------
-	public <T, P> T sendRequest(final UriComponents uri, final HttpMethod method, final ParameterizedTypeReference<T> responseType, final P payload) {
-		return sendRequest(uri, method, responseType, payload, null, null);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	public <T> T sendRequest(final UriComponents uri, final HttpMethod method, final ParameterizedTypeReference<T> responseType, final SslContext givenContext) {
-		return sendRequest(uri, method, responseType, null, givenContext, null);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	public <T> T sendRequest(final UriComponents uri, final HttpMethod method, final Map<String, String> customHeaders, final ParameterizedTypeReference<T> responseType) {
-		return sendRequest(uri, method, responseType, null, null, customHeaders);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	public <T> T sendRequest(final UriComponents uri, final HttpMethod method, final ParameterizedTypeReference<T> responseType) {
-		return sendRequest(uri, method, responseType, null, null, null);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	public WebClient createInsecureWebClient() {
-		logger.debug("createInsecureWebClient started...");
-
-		return createWebClient(httpClient);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	public WebClient createSecureWebClient() {
-		logger.debug("createSecureWebClient started...");
-
-		return createWebClient(sslClient);
-	}
-
-	//-------------------------------------------------------------------------------------------------
-	public WebClient createSecureWebClient(final SslContext sslContext) {
-		logger.debug("createSecureWebClient started...");
-
-		final HttpClient client = createHttpClient(sslContext);
-		return createWebClient(client);
-	}
-
-	//=================================================================================================
-	// assistant methods
-
 	//-------------------------------------------------------------------------------------------------
 	@PostConstruct
 	private void init() throws Exception {
 		logger.debug("Initializing HttpService...");
 
+		unixSocketPaths = parseUnixSocketMappings();
+		if (isProtocolEnabled(HttpProtocol.H2) || isProtocolEnabled(HttpProtocol.H2C)) {
+			// streams are multiplexed over a few connections instead of one connection per in-flight request
+			http2ConnectionProvider = ConnectionProvider.builder(HTTP2_CONNECTION_PROVIDER_NAME)
+					.allocationStrategy(Http2AllocationStrategy.builder()
+							.maxConcurrentStreams(http2MaxConcurrentStreams)
+							.maxConnections(http2MaxConnections)
+							.minConnections(1)
+							.build())
+					.build();
+		}
+
 		httpClient = createHttpClient(null);
 
 		if (sslProperties.isSslEnabled()) {
 			SslContext sslContext;
 
 			try {
-				sslContext = createSSLContext();
-			} catch (final KeyManagementException | UnrecoverableKeyException | KeyStoreException | NoSuchAlgorithmException | CertificateException | IOException | IllegalArgumentException ex) {
+				if (isProtocolEnabled(HttpProtocol.H2)) {
+					alpnContext = sslContextFactory.getHttp2ClientContext();
+					sslContext = alpnContext;
+				} else {
+					sslContext = sslContextFactory.getClientContext();
+				}
+			} catch (final UnrecoverableKeyException | KeyStoreException | NoSuchAlgorithmException | CertificateException | IOException | IllegalArgumentException ex) {
 				// it's initialization so we just logging the exception then let the application die
 				logger.error("Error while creating SSL context: {}", ex.getMessage());
 				logger.debug("Exception", ex);
@@ -358,12 +476,36 @@ public class HttpService {
 		logger.debug("HttpService is initialized");
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	private void destroy() {
+		if (http2ConnectionProvider != null) {
+			http2ConnectionProvider.dispose();
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private HttpClient createHttpClient(final SslContext sslContext) {
-		HttpClient client = HttpClient.create()
+		HttpClient client = (http2ConnectionProvider != null ? HttpClient.create(http2ConnectionProvider) : HttpClient.create())
 				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout)
 				.doOnConnected(this::initConnectionHandlers);
 
+		final HttpProtocol[] usedProtocols = getUsedProtocols(sslContext);
+		if (usedProtocols.length > 1 || usedProtocols[0] != HttpProtocol.HTTP11) {
+			// HTTP/1.1 is the default of the client
+			client = client
+					.protocol(usedProtocols)
+					.http2Settings(spec -> spec.maxConcurrentStreams(http2MaxConcurrentStreams));
+		}
+
+		if (dnsCacheEnabled) {
+			// non-blocking caching resolver instead of JDK lookups on the event loop threads
+			client = client.resolver(spec -> spec
+					.cacheMinTimeToLive(Duration.ofSeconds(dnsCacheMinTtl))
+					.cacheMaxTimeToLive(Duration.ofSeconds(dnsCacheMaxTtl))
+					.cacheNegativeTimeToLive(Duration.ofSeconds(dnsCacheNegativeTtl)));
+		}
+
 		if (sslContext != null) {
 			client = client.secure(t -> this.initSecuritySettings(t, sslContext));
 		}
@@ -371,6 +513,100 @@ public class HttpService {
 		return client;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// H2 needs a context with ALPN and H2C needs plaintext, HTTP/1.1 is used if nothing else remains
+	private HttpProtocol[] getUsedProtocols(final SslContext sslContext) {
+		if (Utilities.isEmpty(protocols)) {
+			return new HttpProtocol[] { HttpProtocol.HTTP11 };
+		}
+
+		final HttpProtocol[] result = protocols.stream()
+				.filter(p -> p == HttpProtocol.HTTP11
+						|| (p == HttpProtocol.H2 && sslContext != null && sslContext == alpnContext)
+						|| (p == HttpProtocol.H2C && sslContext == null))
+				.distinct()
+				.toArray(HttpProtocol[]::new);
+
+		return result.length == 0 ? new HttpProtocol[] { HttpProtocol.HTTP11 } : result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isProtocolEnabled(final HttpProtocol protocol) {
+		return protocols != null && protocols.contains(protocol);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// clients of caller-provided contexts are reused, so their pooled connections and TLS sessions survive between requests
+	private HttpClient getGivenContextClient(final SslContext givenContext) {
+		final HttpClient client = givenContextClients.get(givenContext);
+		if (client != null) {
+			return client;
+		}
+
+		if (givenContextClients.size() >= MAX_GIVEN_CONTEXT_CLIENTS) {
+			return createHttpClient(givenContext);
+		}
+
+		return givenContextClients.computeIfAbsent(givenContext, this::createHttpClient);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// co-located servers are reached through their Unix domain socket, bypassing the TCP stack (TLS still applies to secure requests)
+	// returns null if the server of the URI is not mapped to a socket
+	private HttpClient getUnixSocketClient(final HttpClient client, final UriComponents uri, final boolean secure) {
+		if (unixSocketPaths.isEmpty() || client == null) {
+			return null;
+		}
+
+		final int port = uri.getPort() != -1 ? uri.getPort() : (secure ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT);
+		final String hostAndPort = uri.getHost() + ":" + port;
+		final String path = unixSocketPaths.get(hostAndPort);
+		if (path == null) {
+			return null;
+		}
+
+		return unixSocketClients.computeIfAbsent((secure ? Constants.HTTPS : Constants.HTTP) + "|" + hostAndPort, key -> client
+				.remoteAddress(() -> new DomainSocketAddress(path))
+				.headers(headers -> headers.set(HttpHeaderNames.HOST, hostAndPort)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the client connects to its configured socket only if the request URI has no host part
+	private URI toRelativeUri(final URI uri) {
+		final String path = Utilities.isEmpty(uri.getRawPath()) ? "/" : uri.getRawPath();
+
+		return URI.create(uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private Map<String, String> parseUnixSocketMappings() {
+		if (Utilities.isEmpty(unixSocketMappings)) {
+			return Map.of();
+		}
+
+		final Map<String, String> result = new HashMap<>();
+		for (final String mapping : unixSocketMappings) {
+			final String trimmed = mapping == null ? "" : mapping.replace("\"", "").trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+
+			final String[] parts = trimmed.split(UNIX_SOCKET_MAPPING_DELIMITER, 2);
+			if (parts.length != 2 || Utilities.isEmpty(parts[0]) || Utilities.isEmpty(parts[1]) || !parts[0].contains(":")) {
+				throw new IllegalArgumentException(Constants.HTTP_CLIENT_UNIX_SOCKET_MAPPINGS + " contains an invalid entry: " + mapping);
+			}
+
+			result.put(parts[0].trim(), parts[1].trim());
+		}
+
+		if (!result.isEmpty() && !Epoll.isAvailable()) {
+			logger.warn("Unix domain sockets are not available on this platform, {} is ignored", Constants.HTTP_CLIENT_UNIX_SOCKET_MAPPINGS);
+			return Map.of();
+		}
+
+		return result;
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private void initConnectionHandlers(final Connection connection) {
 		connection.addHandlerLast(new ReadTimeoutHandler(socketTimeout, TimeUnit.MILLISECONDS));
@@ -408,39 +644,6 @@ public class HttpService {
 		return builder.build();
 	}
 
-	//-------------------------------------------------------------------------------------------------
-	private SslContext createSSLContext() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, KeyManagementException, UnrecoverableKeyException {
-		logger.debug("createSSLContext started...");
-
-		final String messageNotDefined = " is not defined";
-		Assert.isTrue(!Utilities.isEmpty(sslProperties.getKeyStoreType()), Constants.SERVER_SSL_KEY__STORE__TYPE + messageNotDefined);
-		Assert.notNull(sslProperties.getKeyStore(), Constants.SERVER_SSL_KEY__STORE + messageNotDefined);
-		Assert.isTrue(sslProperties.getKeyStore().exists(), Constants.SERVER_SSL_KEY__STORE + " file is not found");
-		Assert.notNull(sslProperties.getKeyStorePassword(), Constants.SERVER_SSL_KEY__STORE__PASSWORD + messageNotDefined);
-		Assert.notNull(sslProperties.getKeyPassword(), Constants.SERVER_SSL_KEY__PASSWORD + messageNotDefined);
-		Assert.notNull(sslProperties.getTrustStore(), Constants.SERVER_SSL_TRUST__STORE + messageNotDefined);
-		Assert.isTrue(sslProperties.getTrustStore().exists(), Constants.SERVER_SSL_TRUST__STORE + " file is not found");
-		Assert.notNull(sslProperties.getTrustStorePassword(), Constants.SERVER_SSL_TRUST__STORE__PASSWORD + messageNotDefined);
-
-		final KeyStore keyStore = KeyStore.getInstance(sslProperties.getKeyStoreType());
-		keyStore.load(sslProperties.getKeyStore().getInputStream(), sslProperties.getKeyStorePassword().toCharArray());
-		final String kmfAlgorithm = System.getProperty(SSL_KEY_MANAGER_FACTORY_ALGORITHM, KeyManagerFactory.getDefaultAlgorithm());
-		final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(kmfAlgorithm);
-		keyManagerFactory.init(keyStore, sslProperties.getKeyStorePassword().toCharArray());
-
-		final KeyStore trustStore = KeyStore.getInstance(sslProperties.getKeyStoreType());
-		trustStore.load(sslProperties.getTrustStore().getInputStream(), sslProperties.getTrustStorePassword().toCharArray());
-		final String tmfAlgorithm = System.getProperty(SSL_TRUST_MANAGER_FACTORY_ALGORITHM, TrustManagerFactory.getDefaultAlgorithm());
-		final TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(tmfAlgorithm);
-		trustManagerFactory.init(trustStore);
-
-		return SslContextBuilder.forClient()
-				.keyStoreType(sslProperties.getKeyStoreType())
-				.keyManager(keyManagerFactory)
-				.trustManager(trustManagerFactory)
-				.build();
-	}
-
 	//-------------------------------------------------------------------------------------------------
 	private ArrowheadException convertWebClientException(final WebClientResponseException ex, final String uri) {
 		logger.debug("convertWebClientException started...");
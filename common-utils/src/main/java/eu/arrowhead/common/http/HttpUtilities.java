@@ -224,9 +224,13 @@ public final class HttpUtilities {
 
 	//-------------------------------------------------------------------------------------------------
 	public static String calculateAuthorizationHeader(final SystemInfo sysInfo) {
+		return calculateAuthorizationHeader(sysInfo, sysInfo.getIdentityToken());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public static String calculateAuthorizationHeader(final SystemInfo sysInfo, final String identityToken) {
 		logger.debug("calculateAuthorizationHeader started...");
 
-		final String identityToken = sysInfo.getIdentityToken();
 		switch (sysInfo.getAuthenticationPolicy()) {
 		case DECLARED:
 			return Constants.AUTHENTICATION_SCHEMA + " " + Constants.AUTHENTICATION_PREFIX_SYSTEM + Constants.AUTHENTICATION_KEY_DELIMITER + sysInfo.getSystemName();
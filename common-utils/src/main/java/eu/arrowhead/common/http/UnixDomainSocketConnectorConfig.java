@@ -0,0 +1,168 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tomcat.util.net.SSLHostConfig;
+import org.apache.tomcat.util.net.SSLHostConfigCertificate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.SSLProperties;
+
+// additional connector that accepts the requests of co-located systems on a Unix domain socket (see HttpService)
+// Spring Boot only configures its own TCP connector, so TLS and HTTP/2 (server.http2.enabled) are set up here the same way
+@Configuration
+@ConditionalOnExpression("!'" + Constants.$SERVER_UNIX_SOCKET_PATH_WD + "'.isBlank()")
+public class UnixDomainSocketConnectorConfig implements WebServerFactoryCustomizer<TomcatServletWebServerFactory> {
+
+	//=================================================================================================
+	// members
+
+	private static final String UNIX_DOMAIN_SOCKET_PATH_PROPERTY = "unixDomainSocketPath";
+	private static final String CLIENT_AUTH_NEED = "need";
+	private static final String CLIENT_AUTH_WANT = "want";
+
+	@Value(Constants.$SERVER_UNIX_SOCKET_PATH_WD)
+	private String socketPath;
+
+	@Value(Constants.$SERVER_SSL_CLIENT__AUTH_WD)
+	private String clientAuth;
+
+	@Value(Constants.$SERVER_HTTP2_ENABLED_WD)
+	private boolean http2Enabled;
+
+	@Autowired
+	private SSLProperties sslProperties;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public void customize(final TomcatServletWebServerFactory factory) {
+		logger.debug("customize started...");
+
+		factory.addAdditionalTomcatConnectors(createConnector());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private Connector createConnector() {
+		final Path path = Path.of(socketPath.trim());
+		removeStaleSocketFile(path);
+
+		final Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+		connector.setProperty(UNIX_DOMAIN_SOCKET_PATH_PROPERTY, path.toString());
+
+		if (sslProperties.isSslEnabled()) {
+			// same identity as the TCP connector, so the certificate based authentication works the same way
+			connector.setScheme(Constants.HTTPS);
+			connector.setSecure(true);
+			connector.setProperty("SSLEnabled", "true");
+			connector.addSslHostConfig(createSslHostConfig());
+		}
+
+		if (http2Enabled) {
+			// h2 is negotiated with ALPN on TLS, h2c is accepted with upgrade or prior knowledge otherwise
+			connector.addUpgradeProtocol(new Http2Protocol());
+		}
+
+		logger.info("Unix domain socket connector is listening on {}", path);
+
+		return connector;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// a socket file left behind by an unclean shutdown would prevent binding, but anything else on the path is kept
+	private void removeStaleSocketFile(final Path path) {
+		if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+
+		if (!isOther(path)) {
+			throw new IllegalStateException(Constants.SERVER_UNIX_SOCKET_PATH + " points to an existing file that is not a socket: " + path);
+		}
+
+		try {
+			Files.delete(path);
+		} catch (final IOException ex) {
+			logger.error("Unable to remove stale socket file {}: {}", path, ex.getMessage());
+			logger.debug("Exception", ex);
+			throw new IllegalStateException("Stale socket file cannot be removed: " + path, ex);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// sockets are neither regular files, directories nor symbolic links
+	private boolean isOther(final Path path) {
+		try {
+			return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther();
+		} catch (final IOException ex) {
+			throw new IllegalStateException("Unable to read the attributes of " + path, ex);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private SSLHostConfig createSslHostConfig() {
+		final SSLHostConfig config = new SSLHostConfig();
+		final SSLHostConfigCertificate certificate = new SSLHostConfigCertificate(config, SSLHostConfigCertificate.Type.UNDEFINED);
+
+		try {
+			certificate.setCertificateKeystoreFile(sslProperties.getKeyStore().getURI().toString());
+			certificate.setCertificateKeystorePassword(sslProperties.getKeyStorePassword());
+			certificate.setCertificateKeystoreType(sslProperties.getKeyStoreType());
+			certificate.setCertificateKeyAlias(sslProperties.getKeyAlias());
+			certificate.setCertificateKeyPassword(sslProperties.getKeyPassword());
+			config.addCertificate(certificate);
+
+			config.setTruststoreFile(sslProperties.getTrustStore().getURI().toString());
+			config.setTruststorePassword(sslProperties.getTrustStorePassword());
+			config.setTruststoreType(sslProperties.getKeyStoreType());
+		} catch (final IOException ex) {
+			logger.error("Error while configuring the Unix domain socket connector: {}", ex.getMessage());
+			logger.debug("Exception", ex);
+			throw new IllegalStateException("Key store or trust store is not available", ex);
+		}
+
+		if (CLIENT_AUTH_NEED.equalsIgnoreCase(clientAuth)) {
+			config.setCertificateVerification("required");
+		} else if (CLIENT_AUTH_WANT.equalsIgnoreCase(clientAuth)) {
+			config.setCertificateVerification("optional");
+		}
+
+		return config;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.balancer;
+
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.http.model.HttpInterfaceModel;
+import eu.arrowhead.common.model.ServiceModel;
+
+// one access address of one interface of a service instance
+public record HttpEndpoint(
+		ServiceModel serviceModel,
+		HttpInterfaceModel interfaceModel,
+		String address) {
+
+	//-------------------------------------------------------------------------------------------------
+	public HttpEndpoint {
+		Assert.notNull(serviceModel, "serviceModel is null");
+		Assert.notNull(interfaceModel, "interfaceModel is null");
+		Assert.hasText(address, "address is empty");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// identifies the endpoint in the health statistics
+	public String id() {
+		return interfaceModel.protocol() + "://" + address + ":" + interfaceModel.accessPort();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.balancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Constants;
+
+// Orders the endpoints of a service according to the configured load balancing policy and keeps track of their health. An endpoint is ejected
+// for a while after a number of consecutive failures; a reinstated endpoint is ejected again after its first failure.
+@Component
+public class HttpEndpointBalancer {
+
+	//=================================================================================================
+	// members
+
+	private static final double LATENCY_SMOOTHING_FACTOR = 0.3;
+	private static final int DEFAULT_WEIGHT = 1;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$HTTP_CLIENT_LOAD_BALANCING_POLICY_WD)
+	private LoadBalancingPolicy policy;
+
+	@Value(Constants.$HTTP_CLIENT_ENDPOINT_EJECTION_THRESHOLD_WD)
+	private int ejectionThreshold;
+
+	@Value(Constants.$HTTP_CLIENT_ENDPOINT_EJECTION_INTERVAL_WD)
+	private long ejectionInterval;
+
+	private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+	private final Map<String, EndpointHealth> healthByEndpoint = new ConcurrentHashMap<>();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the selected endpoint comes first, then the other available ones (failover order); ejected endpoints are only returned if every endpoint is ejected
+	public List<HttpEndpoint> order(final List<HttpEndpoint> candidates) {
+		logger.debug("order started...");
+		Assert.notEmpty(candidates, "candidates list is empty");
+
+		final long now = System.currentTimeMillis();
+		List<HttpEndpoint> available = candidates.stream()
+				.filter(endpoint -> !isEjected(endpoint, now))
+				.toList();
+
+		if (available.isEmpty()) {
+			logger.warn("Every endpoint of service {} is ejected, all of them are tried", candidates.getFirst().serviceModel().serviceDefinition());
+			available = candidates;
+		}
+
+		if (available.size() == 1) {
+			return available;
+		}
+
+		final HttpEndpoint selected = select(available);
+		final List<HttpEndpoint> result = new ArrayList<>(available.size());
+		result.add(selected);
+		for (final HttpEndpoint endpoint : available) {
+			if (endpoint != selected) {
+				result.add(endpoint);
+			}
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void recordSuccess(final HttpEndpoint endpoint, final long latencyMillis) {
+		logger.debug("recordSuccess started...");
+		Assert.notNull(endpoint, "endpoint is null");
+
+		getHealth(endpoint).success(latencyMillis);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void recordFailure(final HttpEndpoint endpoint) {
+		logger.debug("recordFailure started...");
+		Assert.notNull(endpoint, "endpoint is null");
+
+		if (getHealth(endpoint).failure(ejectionThreshold, ejectionInterval, System.currentTimeMillis())) {
+			logger.warn("Endpoint {} is ejected for {} ms", endpoint.id(), ejectionInterval);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public List<String> getEjectedEndpoints() {
+		final long now = System.currentTimeMillis();
+
+		return healthByEndpoint.entrySet()
+				.stream()
+				.filter(entry -> entry.getValue().isEjected(now))
+				.map(Map.Entry::getKey)
+				.toList();
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private HttpEndpoint select(final List<HttpEndpoint> available) {
+		switch (policy) {
+		case ROUND_ROBIN:
+			return selectRoundRobin(available);
+		case POWER_OF_TWO_CHOICES:
+			return selectPowerOfTwoChoices(available);
+		case WEIGHTED:
+			return selectWeighted(available);
+		default:
+			throw new IllegalArgumentException("Unknown load balancing policy: " + policy.name());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private HttpEndpoint selectRoundRobin(final List<HttpEndpoint> available) {
+		final AtomicInteger counter = counters.computeIfAbsent(available.getFirst().serviceModel().serviceDefinition(), k -> new AtomicInteger());
+
+		return available.get(Math.floorMod(counter.getAndIncrement(), available.size()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// endpoints without observed latency win, so new endpoints are tried as well
+	private HttpEndpoint selectPowerOfTwoChoices(final List<HttpEndpoint> available) {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final int first = random.nextInt(available.size());
+		final int second = (first + 1 + random.nextInt(available.size() - 1)) % available.size();
+
+		final HttpEndpoint endpoint1 = available.get(first);
+		final HttpEndpoint endpoint2 = available.get(second);
+
+		return getHealth(endpoint1).getLatency() <= getHealth(endpoint2).getLatency() ? endpoint1 : endpoint2;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private HttpEndpoint selectWeighted(final List<HttpEndpoint> available) {
+		final int[] weights = new int[available.size()];
+		int total = 0;
+		for (int i = 0; i < available.size(); ++i) {
+			weights[i] = getWeight(available.get(i));
+			total += weights[i];
+		}
+
+		if (total <= 0) {
+			return available.getFirst();
+		}
+
+		int point = ThreadLocalRandom.current().nextInt(total);
+		for (int i = 0; i < weights.length; ++i) {
+			point -= weights[i];
+			if (point < 0) {
+				return available.get(i);
+			}
+		}
+
+		return available.getLast();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the weight is declared by the provider in the service instance metadata
+	private int getWeight(final HttpEndpoint endpoint) {
+		final Map<String, Object> metadata = endpoint.serviceModel().metadata();
+		final Object value = metadata == null ? null : metadata.get(Constants.METADATA_KEY_WEIGHT);
+		if (value == null) {
+			return DEFAULT_WEIGHT;
+		}
+
+		try {
+			final int weight = value instanceof final Number number ? number.intValue() : Integer.parseInt(value.toString().trim());
+
+			return Math.max(0, weight);
+		} catch (final NumberFormatException ex) {
+			logger.debug("Invalid weight of {}: {}", endpoint.id(), value);
+			return DEFAULT_WEIGHT;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isEjected(final HttpEndpoint endpoint, final long now) {
+		final EndpointHealth health = healthByEndpoint.get(endpoint.id());
+
+		return health != null && health.isEjected(now);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private EndpointHealth getHealth(final HttpEndpoint endpoint) {
+		return healthByEndpoint.computeIfAbsent(endpoint.id(), k -> new EndpointHealth());
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class EndpointHealth {
+
+		//=================================================================================================
+		// members
+
+		private double latency = 0; // smoothed, 0 means not yet observed
+		private int consecutiveFailures = 0;
+		private long ejectedUntil = 0;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private synchronized void success(final long latencyMillis) {
+			consecutiveFailures = 0;
+			latency = latency == 0 ? latencyMillis : LATENCY_SMOOTHING_FACTOR * latencyMillis + (1 - LATENCY_SMOOTHING_FACTOR) * latency;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		// returns true if the endpoint is ejected by this failure
+		private synchronized boolean failure(final int threshold, final long interval, final long now) {
+			consecutiveFailures++;
+			if (consecutiveFailures < threshold || ejectedUntil > now) {
+				return false;
+			}
+
+			ejectedUntil = now + interval;
+			consecutiveFailures = threshold - 1; // on probation after reinstatement
+
+			return true;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private synchronized boolean isEjected(final long now) {
+			return ejectedUntil > now;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		private synchronized double getLatency() {
+			return latency;
+		}
+	}
+}
\ No newline at end of file
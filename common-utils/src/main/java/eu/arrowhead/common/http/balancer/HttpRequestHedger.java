@@ -0,0 +1,245 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.balancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.EndpointUnavailableException;
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.exception.TransportFailureException;
+import eu.arrowhead.common.http.resilience.HttpResilienceManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// If the primary request does not answer within the hedging delay, the same request is sent to the alternative endpoint and the first response
+// wins, the other request is cancelled. Only an unreachable endpoint is failed over, an error returned by the provider is a response too.
+// Only for idempotent operations that are listed in the configuration (as serviceDefinition/operation).
+@Component
+public class HttpRequestHedger {
+
+	//=================================================================================================
+	// members
+
+	public static final String OPERATION_DELIMITER = "/";
+
+	private static final double MAX_TOKENS = 10;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Autowired
+	private HttpResilienceManager resilienceManager;
+
+	@Value(Constants.$HTTP_CLIENT_HEDGING_OPERATIONS_WD)
+	private List<String> operations;
+
+	@Value(Constants.$HTTP_CLIENT_HEDGING_DELAY_WD)
+	private long delay;
+
+	@Value(Constants.$VIRTUAL_THREADS_ENABLED_WD)
+	private boolean virtualThreads;
+
+	@Value(Constants.$HTTP_CLIENT_HEDGING_PERCENTILE_WD)
+	private int percentile;
+
+	@Value(Constants.$HTTP_CLIENT_HEDGING_BUDGET_WD)
+	private int budget;
+
+	@Value(Constants.$HTTP_CLIENT_HEDGING_MAX_THREADS_WD)
+	private int maxThreads;
+
+	private Set<String> hedgedOperations = Set.of();
+	private ExecutorService executor;
+	private double tokens = MAX_TOKENS;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isHedged(final String serviceDefinition, final String operation) {
+		return hedgedOperations.contains(serviceDefinition + OPERATION_DELIMITER + operation);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public <T> T execute(final HttpEndpoint primary, final HttpEndpoint alternative, final Function<HttpEndpoint, T> call) {
+		logger.debug("execute started...");
+		Assert.notNull(primary, "primary is null");
+		Assert.notNull(alternative, "alternative is null");
+		Assert.notNull(call, "call is null");
+
+		depositToken();
+
+		final CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		final List<Future<T>> futures = new ArrayList<>(2);
+		try {
+			futures.add(completionService.submit(() -> call.apply(primary)));
+		} catch (final RejectedExecutionException ex) {
+			// every thread is busy, the request is sent on the caller thread without hedging
+			return executeWithoutHedging(primary, alternative, call);
+		}
+
+		try {
+			final long hedgingDelay = calculateDelay(primary);
+			Future<T> done = hedgingDelay < 0 ? null : completionService.poll(hedgingDelay, TimeUnit.MILLISECONDS);
+			if (done == null) {
+				if (hedgingDelay >= 0 && tryAcquireToken()) {
+					logger.debug("No response from {} in {} ms, request is hedged to {}", primary.id(), hedgingDelay, alternative.id());
+					try {
+						futures.add(completionService.submit(() -> call.apply(alternative)));
+					} catch (final RejectedExecutionException ex) {
+						logger.debug("Request cannot be hedged, every thread is busy");
+					}
+				}
+
+				done = completionService.take();
+			}
+
+			int pending = futures.size();
+			while (true) {
+				pending--;
+				try {
+					return done.get();
+				} catch (final ExecutionException ex) {
+					final RuntimeException error = unwrap(ex);
+					if (!isEndpointFailure(error)) {
+						// the provider answered
+						throw error;
+					}
+
+					if (futures.size() == 1) {
+						// primary failed before hedging: alternative is used as failover
+						try {
+							futures.add(completionService.submit(() -> call.apply(alternative)));
+							pending++;
+						} catch (final RejectedExecutionException rex) {
+							return call.apply(alternative);
+						}
+					}
+
+					if (pending == 0) {
+						throw error;
+					}
+				}
+
+				done = completionService.take();
+			}
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ExternalServerError("Interrupted while waiting for response");
+		} finally {
+			// the loser is cancelled (the blocking request is disposed on interrupt)
+			futures.forEach(f -> f.cancel(true));
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	private void init() {
+		hedgedOperations = operations == null ? Set.of() : operations.stream()
+				.filter(o -> !Utilities.isEmpty(o))
+				.map(String::trim)
+				.collect(Collectors.toUnmodifiableSet());
+
+		if (!hedgedOperations.isEmpty()) {
+			executor = Utilities.createBoundedExecutor(maxThreads, 0, virtualThreads);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	private void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the alternative is still used as failover
+	private <T> T executeWithoutHedging(final HttpEndpoint primary, final HttpEndpoint alternative, final Function<HttpEndpoint, T> call) {
+		try {
+			return call.apply(primary);
+		} catch (final TransportFailureException | EndpointUnavailableException ex) {
+			logger.debug("Request to {} failed, trying {}", primary.id(), alternative.id());
+			return call.apply(alternative);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// errors returned by the provider itself are not failed over
+	private boolean isEndpointFailure(final RuntimeException error) {
+		return error instanceof TransportFailureException || error instanceof EndpointUnavailableException;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns -1 if the delay cannot be determined (no hedging)
+	private long calculateDelay(final HttpEndpoint endpoint) {
+		if (delay > 0) {
+			return delay;
+		}
+
+		return resilienceManager.getLatencyPercentile(endpoint.address() + ":" + endpoint.interfaceModel().accessPort(), percentile);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// every request earns a part of a token, every hedged request costs one, so at most budget% of the requests are hedged
+	private synchronized void depositToken() {
+		tokens = Math.min(MAX_TOKENS, tokens + budget / 100.0);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private synchronized boolean tryAcquireToken() {
+		if (tokens < 1) {
+			return false;
+		}
+
+		tokens -= 1;
+		return true;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private RuntimeException unwrap(final ExecutionException ex) {
+		if (ex.getCause() instanceof final RuntimeException cause) {
+			return cause;
+		}
+
+		logger.debug(ex);
+		return new ArrowheadException(ex.getMessage());
+	}
+}
\ No newline at end of file
@@ -21,6 +21,7 @@ import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -30,7 +31,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.http.HttpUtilities;
+import eu.arrowhead.common.http.filter.thirdparty.MultiReadRequestWrapper;
 import eu.arrowhead.dto.ErrorMessageDTO;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -44,8 +47,13 @@ public abstract class ArrowheadFilter extends OncePerRequestFilter {
 	@Autowired
 	protected ObjectMapper mapper;
 
+	@Value(Constants.$HTTP_FILTER_BODY_CACHE_MAX_SIZE_WD)
+	private long maxCachedBodySize;
+
 	protected final Logger log = LogManager.getLogger(getClass());
 
+	private static final String PASSED_SUFFIX = ".PASSED";
+
 	//=================================================================================================
 	// assistant methods
 
@@ -71,7 +79,24 @@ public abstract class ArrowheadFilter extends OncePerRequestFilter {
 	@Override
 	protected boolean shouldNotFilter(final HttpServletRequest request) throws ServletException {
 		final String path = request.getRequestURI();
-		return path.equals("/") || path.startsWith(Constants.SWAGGER_API_DOCS_URI) || path.startsWith(Constants.SWAGGER_UI_URI);
+		if (path.equals("/") || path.equals(Constants.HTTP_API_READINESS_PATH) || path.startsWith(Constants.SWAGGER_API_DOCS_URI) || path.startsWith(Constants.SWAGGER_UI_URI)) {
+			return true;
+		}
+
+		// a resumed request (see AsyncArrowheadFilter) is only processed by the filters that have not seen it yet
+		final String passedAttributeName = getAlreadyFilteredAttributeName() + PASSED_SUFFIX;
+		if (DispatcherType.ASYNC == request.getDispatcherType()) {
+			return request.getAttribute(passedAttributeName) != null;
+		}
+
+		request.setAttribute(passedAttributeName, Boolean.TRUE);
+		return false;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -94,6 +119,12 @@ public abstract class ArrowheadFilter extends OncePerRequestFilter {
 		response.getWriter().flush();
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// the body is only buffered if a filter asks for it
+	protected MultiReadRequestWrapper wrapRequest(final HttpServletRequest request) {
+		return (request instanceof MultiReadRequestWrapper) ? (MultiReadRequestWrapper) request : new MultiReadRequestWrapper(request, maxCachedBodySize);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	protected void initializeRequestAttributes(final HttpServletRequest request) {
 		request.setAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM, Constants.UNKNOWN);
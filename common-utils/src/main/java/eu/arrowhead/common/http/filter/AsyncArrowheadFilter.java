@@ -0,0 +1,211 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.common.exception.TimeoutException;
+import eu.arrowhead.common.http.filter.thirdparty.MultiReadRequestWrapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// base of the filters that wait on remote decisions: in async mode the request thread is released while the decision is made
+// on a separate thread, and the filter chain is resumed by an async dispatch when the decision is available
+public abstract class AsyncArrowheadFilter extends ArrowheadFilter {
+
+	//=================================================================================================
+	// members
+
+	private static final String DECISION_SUFFIX = ".DECISION";
+
+	@Value(Constants.$HTTP_FILTER_ASYNC_ENABLED_WD)
+	private boolean asyncEnabled;
+
+	@Value(Constants.$HTTP_FILTER_ASYNC_TIMEOUT_WD)
+	private long asyncTimeout;
+
+	@Value(Constants.$HTTP_FILTER_ASYNC_MAX_THREADS_WD)
+	private int maxThreads;
+
+	@Value(Constants.$HTTP_FILTER_ASYNC_QUEUE_SIZE_WD)
+	private int queueSize;
+
+	@Value(Constants.$VIRTUAL_THREADS_ENABLED_WD)
+	private boolean virtualThreads;
+
+	private ExecutorService executor;
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// throws an ArrowheadException if the request can't go on; in async mode it runs on a separate thread, so it must not use the response
+	protected abstract void decide(final MultiReadRequestWrapper request);
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain) throws IOException, ServletException {
+		log.debug("AsyncArrowheadFilter.doFilterInternal started...");
+
+		try {
+			final Object decision = request.getAttribute(getDecisionAttributeName());
+			if (decision != null) {
+				// resumed after the decision
+				request.removeAttribute(getDecisionAttributeName());
+				if (decision instanceof ArrowheadException) {
+					throw (ArrowheadException) decision;
+				}
+
+				chain.doFilter(request, response);
+				return;
+			}
+
+			// the body must survive the async dispatch
+			final MultiReadRequestWrapper requestWrapper = wrapRequest(request);
+
+			if (executor == null || !requestWrapper.isAsyncSupported()) {
+				decide(requestWrapper);
+				chain.doFilter(requestWrapper, response);
+				return;
+			}
+
+			startDecision(requestWrapper, response);
+		} catch (final ArrowheadException ex) {
+			handleException(ex, response);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) throws ServletException {
+		if (DispatcherType.ASYNC == request.getDispatcherType() && request.getAttribute(getDecisionAttributeName()) != null) {
+			return false;
+		}
+
+		return super.shouldNotFilter(request);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	private void initDecisionExecutor() {
+		if (asyncEnabled) {
+			executor = Utilities.createBoundedExecutor(maxThreads, queueSize, virtualThreads);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	private void destroyDecisionExecutor() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void startDecision(final MultiReadRequestWrapper request, final HttpServletResponse response) throws IOException {
+		final String requestTarget = request.getRequestURL().toString();
+		final AsyncContext asyncContext = request.startAsync(request, response);
+		final AtomicBoolean finished = new AtomicBoolean(false);
+		final AtomicReference<Future<?>> decisionFuture = new AtomicReference<>();
+
+		asyncContext.setTimeout(asyncTimeout);
+		asyncContext.addListener(new AsyncListener() {
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public void onTimeout(final AsyncEvent event) throws IOException {
+				if (finished.compareAndSet(false, true)) {
+					log.warn("{} timed out on {}", getClass().getSimpleName(), requestTarget);
+					handleException(new TimeoutException("Request processing timed out", requestTarget), response);
+					asyncContext.complete();
+
+					// the decision is not needed anymore, its thread is released
+					final Future<?> future = decisionFuture.get();
+					if (future != null) {
+						future.cancel(true);
+					}
+				}
+			}
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public void onComplete(final AsyncEvent event) {
+				// intentionally do nothing
+			}
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public void onError(final AsyncEvent event) {
+				finished.set(true);
+			}
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public void onStartAsync(final AsyncEvent event) {
+				// intentionally do nothing
+			}
+		});
+
+		try {
+			decisionFuture.set(executor.submit(() -> {
+				Object decision = Boolean.TRUE;
+				try {
+					decide(request);
+				} catch (final ArrowheadException ex) {
+					decision = ex;
+				} catch (final Exception ex) {
+					log.debug(ex);
+					decision = new InternalServerError(ex.getMessage(), requestTarget);
+				}
+
+				if (finished.compareAndSet(false, true)) {
+					request.setAttribute(getDecisionAttributeName(), decision);
+					asyncContext.dispatch();
+				}
+			}));
+		} catch (final RejectedExecutionException ex) {
+			if (finished.compareAndSet(false, true)) {
+				handleException(new InternalServerError("Request decision can't be started", requestTarget), response);
+				asyncContext.complete();
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private String getDecisionAttributeName() {
+		return getAlreadyFilteredAttributeName() + DECISION_SUFFIX;
+	}
+}
\ No newline at end of file
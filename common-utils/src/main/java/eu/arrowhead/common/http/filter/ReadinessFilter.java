@@ -0,0 +1,78 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.init.ApplicationReadiness;
+import eu.arrowhead.common.init.InitStep;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// rejects the requests that depend on an unfinished (or failed) initialization step: the authentication needs the SSL material, so every
+// request waits for the SSL step except the echo (liveness), and the configured paths wait for the whole initialization
+@Order(Constants.REQUEST_FILTER_ORDER_READINESS)
+public class ReadinessFilter extends ArrowheadFilter {
+
+	//=================================================================================================
+	// members
+
+	@Autowired
+	private ApplicationReadiness readiness;
+
+	@Value(Constants.$INIT_ASYNC_GATED_PATHS_WD)
+	private List<String> gatedPaths;
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain) throws IOException, ServletException {
+		log.trace("Entering ReadinessFilter...");
+
+		if (readiness.isReady() || !isGated(request.getRequestURI())) {
+			chain.doFilter(request, response);
+		} else {
+			final String message = readiness.isFailed() ? "System initialization failed" : "System is not ready yet";
+			handleException(new ExternalServerError(message), response);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isGated(final String path) {
+		if (path.endsWith(Constants.HTTP_API_OP_ECHO_PATH)) {
+			return false;
+		}
+
+		if (!readiness.isCompleted(InitStep.SSL)) {
+			return true;
+		}
+
+		return gatedPaths != null && gatedPaths.stream().anyMatch(p -> !Utilities.isEmpty(p) && path.startsWith(p.trim()));
+	}
+}
\ No newline at end of file
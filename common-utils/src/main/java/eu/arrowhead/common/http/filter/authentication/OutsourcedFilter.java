@@ -16,7 +16,6 @@
  *******************************************************************************/
 package eu.arrowhead.common.http.filter.authentication;
 
-import java.io.IOException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
@@ -32,10 +31,9 @@ import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.SystemInfo;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.collector.ServiceCollector;
-import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.AuthException;
 import eu.arrowhead.common.http.ArrowheadHttpService;
-import eu.arrowhead.common.http.filter.ArrowheadFilter;
+import eu.arrowhead.common.http.filter.AsyncArrowheadFilter;
 import eu.arrowhead.common.http.filter.thirdparty.MultiReadRequestWrapper;
 import eu.arrowhead.common.http.model.HttpInterfaceModel;
 import eu.arrowhead.common.http.model.HttpOperationModel;
@@ -46,13 +44,10 @@ import eu.arrowhead.common.service.validation.name.SystemNameNormalizer;
 import eu.arrowhead.dto.IdentityVerifyResponseDTO;
 import eu.arrowhead.dto.ServiceInstanceLookupRequestDTO;
 import jakarta.annotation.PostConstruct;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 
 @Order(Constants.REQUEST_FILTER_ORDER_AUTHENTICATION)
-public class OutsourcedFilter extends ArrowheadFilter implements IAuthenticationPolicyFilter {
+public class OutsourcedFilter extends AsyncArrowheadFilter implements IAuthenticationPolicyFilter {
 
 	//=================================================================================================
 	// members
@@ -79,26 +74,18 @@ public class OutsourcedFilter extends ArrowheadFilter implements IAuthentication
 
 	//-------------------------------------------------------------------------------------------------
 	@Override
-	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain) throws IOException, ServletException {
+	protected void decide(final MultiReadRequestWrapper request) {
 		log.debug("Checking access in OutsourcedFilter...");
 
-		try {
-			initializeRequestAttributes(request);
-
-			final MultiReadRequestWrapper requestWrapper = (request instanceof MultiReadRequestWrapper) ? (MultiReadRequestWrapper) request : new MultiReadRequestWrapper(request);
+		initializeRequestAttributes(request);
 
-			// if request is for lookup for authentication's identity service, no need for check
-			final boolean isAuthenticationLookup = isAuthenticationLookup(requestWrapper);
-
-			if (!isAuthenticationLookup) {
-				final AuthenticationData data = processAuthHeader(requestWrapper);
-				request.setAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM, data.systemName());
-				request.setAttribute(Constants.HTTP_ATTR_ARROWHEAD_SYSOP_REQUEST, data.sysop());
-			}
+		// if request is for lookup for authentication's identity service, no need for check
+		final boolean isAuthenticationLookup = isAuthenticationLookup(request);
 
-			chain.doFilter(requestWrapper, response);
-		} catch (final ArrowheadException ex) {
-			handleException(ex, response);
+		if (!isAuthenticationLookup) {
+			final AuthenticationData data = processAuthHeader(request);
+			request.setAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM, data.systemName());
+			request.setAttribute(Constants.HTTP_ATTR_ARROWHEAD_SYSOP_REQUEST, data.sysop());
 		}
 	}
 
@@ -50,7 +50,7 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 @ConditionalOnProperty(name = Constants.ENABLE_BLACKLIST_FILTER, matchIfMissing = false)
 @Order(Constants.REQUEST_FILTER_ORDER_AUTHORIZATION_BLACKLIST)
-public class BlacklistFilter extends ArrowheadFilter {
+public class BlacklistFilter extends ArrowheadFilter implements IAuthorizationCheckFilter {
 
 	//=================================================================================================
 	// members
@@ -67,6 +67,56 @@ public class BlacklistFilter extends ArrowheadFilter {
 	@Value(Constants.$FORCE_BLACKLIST_FILTER_WD)
 	private boolean force;
 
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public void checkAuthorization(final HttpServletRequest request) {
+		log.debug("BlacklistFilter.checkAuthorization started...");
+
+		final MultiReadRequestWrapper requestWrapper = wrapRequest(request);
+
+		// if requester is sysop, no need for check
+		final boolean isSysop = HttpUtilities.isSysop(requestWrapper, "BlacklistFilter.checkAuthorization");
+
+		if (!isSysop) {
+			// if request is for lookup for authentication, no need for check
+			final boolean isAuthLookup = isAuthenticationLookup(requestWrapper);
+
+			if (!isAuthLookup) {
+				log.debug("checking Blacklist");
+
+				try {
+					final String systemName = request.getAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM).toString();
+
+					// if requester is blacklist or is on the exclude list, no need for check
+					if (!systemName.equals(Constants.SYS_NAME_BLACKLIST)
+							&& !sysInfo.getBlacklistCheckExcludeList().contains(systemName)) {
+						final boolean isBlacklisted = arrowheadHttpService.consumeService(
+								Constants.SERVICE_DEF_BLACKLIST_DISCOVERY,
+								Constants.SERVICE_OP_CHECK,
+								Constants.SYS_NAME_BLACKLIST,
+								Boolean.TYPE,
+								List.of(systemName));
+
+						if (isBlacklisted) {
+							throw new ForbiddenException(systemName + " system is blacklisted");
+						}
+					}
+				} catch (final ForbiddenException | AuthException ex) {
+					throw ex;
+				} catch (final ArrowheadException ex) {
+					logger.error("Blacklist server is not available");
+					logger.debug("Strict blacklist filter: " + force);
+					if (force) {
+						throw new ForbiddenException("Blacklist system is not available, the system might be blacklisted");
+					}
+				}
+			}
+		}
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -76,45 +126,11 @@ public class BlacklistFilter extends ArrowheadFilter {
 		log.debug("BlacklistFilter is active");
 
 		try {
-			final MultiReadRequestWrapper requestWrapper = (request instanceof MultiReadRequestWrapper) ? (MultiReadRequestWrapper) request : new MultiReadRequestWrapper(request);
-
-			// if requester is sysop, no need for check
-			final boolean isSysop = HttpUtilities.isSysop(requestWrapper, "BlacklistFilter.doFilterInternal");
-
-			if (!isSysop) {
-				// if request is for lookup for authentication, no need for check
-				final boolean isAuthLookup = isAuthenticationLookup(requestWrapper);
-
-				if (!isAuthLookup) {
-					log.debug("checking Blacklist");
-
-					try {
-						final String systemName = request.getAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM).toString();
-
-						// if requester is blacklist or is on the exclude list, no need for check
-						if (!systemName.equals(Constants.SYS_NAME_BLACKLIST)
-								&& !sysInfo.getBlacklistCheckExcludeList().contains(systemName)) {
-							final boolean isBlacklisted = arrowheadHttpService.consumeService(
-									Constants.SERVICE_DEF_BLACKLIST_DISCOVERY,
-									Constants.SERVICE_OP_CHECK,
-									Constants.SYS_NAME_BLACKLIST,
-									Boolean.TYPE,
-									List.of(systemName));
-
-							if (isBlacklisted) {
-								throw new ForbiddenException(systemName + " system is blacklisted");
-							}
-						}
-					} catch (final ForbiddenException | AuthException ex) {
-						throw ex;
-					} catch (final ArrowheadException ex) {
-						logger.error("Blacklist server is not available");
-						logger.debug("Strict blacklist filter: " + force);
-						if (force) {
-							throw new ForbiddenException("Blacklist system is not available, the system might be blacklisted");
-						}
-					}
-				}
+			final MultiReadRequestWrapper requestWrapper = wrapRequest(request);
+
+			// if the checks are already evaluated concurrently, no need for check
+			if (!Boolean.TRUE.equals(requestWrapper.getAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHORIZATION_CHECKED))) {
+				checkAuthorization(requestWrapper);
 			}
 
 			chain.doFilter(requestWrapper, response);
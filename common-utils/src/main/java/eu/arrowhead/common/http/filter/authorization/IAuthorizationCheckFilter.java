@@ -0,0 +1,27 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter.authorization;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// authorization filter whose decision only depends on the authenticated requester, so it can be evaluated concurrently with the others
+public interface IAuthorizationCheckFilter {
+
+	//-------------------------------------------------------------------------------------------------
+	// throws an exception if the request is denied
+	public void checkAuthorization(final HttpServletRequest request);
+}
\ No newline at end of file
@@ -50,7 +50,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Order(Constants.REQUEST_FILTER_ORDER_AUTHORIZATION_MGMT_SERVICE)
-public class ManagementServiceFilter extends ArrowheadFilter {
+public class ManagementServiceFilter extends ArrowheadFilter implements IAuthorizationCheckFilter {
 
 	//=================================================================================================
 	// members
@@ -71,6 +71,42 @@ public class ManagementServiceFilter extends ArrowheadFilter {
 
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public void checkAuthorization(final HttpServletRequest request) {
+		logger.debug("ManagementServiceFilter.checkAuthorization started...");
+
+		final String requestTarget = request.getRequestURL().toString();
+		if (requestTarget.contains(mgmtPath)) {
+			final String systemName = (String) request.getAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM); // already normalized
+			boolean allowed = false;
+
+			switch (sysInfo.getManagementPolicy()) {
+			case SYSOP_ONLY:
+				allowed = isSystemOperator(request);
+				break;
+
+			case WHITELIST:
+				allowed = isSystemOperator(request) || isWhitelisted(systemName);
+				break;
+
+			case AUTHORIZATION:
+				allowed = isSystemOperator(request) || isWhitelisted(systemName) || isAuthorized(systemName, request.getRequestURI(), request.getMethod());
+				break;
+
+			default:
+				throw new InternalServerError("Unimplemented management policy: " + sysInfo.getManagementPolicy(), requestTarget);
+			}
+
+			if (!allowed) {
+				throw new ForbiddenException("Requester has no management permission", requestTarget);
+			}
+		}
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -80,31 +116,9 @@ public class ManagementServiceFilter extends ArrowheadFilter {
 		logger.debug("ManagementServiceFilter.doFilterInternal started...");
 
 		try {
-			final String requestTarget = request.getRequestURL().toString();
-			if (requestTarget.contains(mgmtPath)) {
-				final String systemName = (String) request.getAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHENTICATED_SYSTEM); // already normalized
-				boolean allowed = false;
-
-				switch (sysInfo.getManagementPolicy()) {
-				case SYSOP_ONLY:
-					allowed = isSystemOperator(request);
-					break;
-
-				case WHITELIST:
-					allowed = isSystemOperator(request) || isWhitelisted(systemName);
-					break;
-
-				case AUTHORIZATION:
-					allowed = isSystemOperator(request) || isWhitelisted(systemName) || isAuthorized(systemName, request.getRequestURI(), request.getMethod());
-					break;
-
-				default:
-					throw new InternalServerError("Unimplemented management policy: " + sysInfo.getManagementPolicy(), requestTarget);
-				}
-
-				if (!allowed) {
-					throw new ForbiddenException("Requester has no management permission", requestTarget);
-				}
+			// if the checks are already evaluated concurrently, no need for check
+			if (!Boolean.TRUE.equals(request.getAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHORIZATION_CHECKED))) {
+				checkAuthorization(request);
 			}
 
 			chain.doFilter(request, response);
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter.authorization;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.http.filter.AsyncArrowheadFilter;
+import eu.arrowhead.common.http.filter.thirdparty.MultiReadRequestWrapper;
+import eu.arrowhead.common.security.ParallelAuthorizationChecker;
+
+@Component
+@ConditionalOnProperty(name = Constants.PARALLEL_AUTHORIZATION_CHECKS_ENABLED, havingValue = "true", matchIfMissing = false)
+@Order(Constants.REQUEST_FILTER_ORDER_AUTHORIZATION_PARALLEL)
+public class ParallelAuthorizationFilter extends AsyncArrowheadFilter {
+
+	//=================================================================================================
+	// members
+
+	@Autowired
+	private ApplicationContext appContext;
+
+	@Autowired
+	private ParallelAuthorizationChecker checker;
+
+	// resolved at the first request, because some authorization filters are created by factory methods with a general return type
+	private volatile List<IAuthorizationCheckFilter> checkFilters;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	protected void decide(final MultiReadRequestWrapper request) {
+		logger.debug("ParallelAuthorizationFilter.decide started...");
+
+		// the requester is already authenticated, so the authorization checks are independent from each other
+		final List<Runnable> checks = getCheckFilters()
+				.stream()
+				.map(f -> (Runnable) () -> f.checkAuthorization(request))
+				.toList();
+		checker.check(checks);
+
+		request.setAttribute(Constants.HTTP_ATTR_ARROWHEAD_AUTHORIZATION_CHECKED, true);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<IAuthorizationCheckFilter> getCheckFilters() {
+		if (checkFilters == null) {
+			checkFilters = List.copyOf(appContext.getBeansOfType(IAuthorizationCheckFilter.class).values());
+		}
+
+		return checkFilters;
+	}
+}
\ No newline at end of file
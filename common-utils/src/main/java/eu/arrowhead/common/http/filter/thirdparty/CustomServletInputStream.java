@@ -51,7 +51,7 @@ public class CustomServletInputStream extends ServletInputStream {
 	public boolean isReady() {
 		// This implementation will never block
 		// We also never need to call the readListener from this method, as this method will never return false
-		return isFinished();
+		return true;
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -78,7 +78,7 @@ public class CustomServletInputStream extends ServletInputStream {
 	public int read() throws IOException {
 		int i;
 		if (!isFinished()) {
-			i = myBytes[lastIndexRetrieved + 1];
+			i = myBytes[lastIndexRetrieved + 1] & 0xFF; // unsigned, otherwise 0xFF would look like the end of the stream
 			lastIndexRetrieved++;
 			if (isFinished() && (readListener != null)) {
 				try {
@@ -93,4 +93,36 @@ public class CustomServletInputStream extends ServletInputStream {
 			return -1;
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public int read(final byte[] b, final int off, final int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+
+		if (isFinished()) {
+			return -1;
+		}
+
+		final int count = Math.min(len, available());
+		System.arraycopy(myBytes, lastIndexRetrieved + 1, b, off, count);
+		lastIndexRetrieved += count;
+		if (isFinished() && (readListener != null)) {
+			try {
+				readListener.onAllDataRead();
+			} catch (final IOException ex) {
+				readListener.onError(ex);
+				throw ex;
+			}
+		}
+
+		return count;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public int available() {
+		return myBytes.length - 1 - lastIndexRetrieved;
+	}
 }
\ No newline at end of file
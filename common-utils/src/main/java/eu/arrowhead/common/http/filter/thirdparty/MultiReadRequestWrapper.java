@@ -2,9 +2,14 @@ package eu.arrowhead.common.http.filter.thirdparty;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.stream.Collectors;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
 
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
@@ -20,31 +25,180 @@ public class MultiReadRequestWrapper extends HttpServletRequestWrapper {
 	//=================================================================================================
 	// members
 
-	private final String body;
+	private final long maxCachedSize; // non-positive means no limit
+
+	// not synchronized, because the buffering blocks on I/O and that would pin a virtual thread to its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private boolean buffered = false;
+	private boolean complete = false;
+	private byte[] cachedBytes; // the whole body if complete, otherwise the already consumed part of it
+	private String body;
 
 	//=================================================================================================
 	// methods
 
 	//-------------------------------------------------------------------------------------------------
-	public MultiReadRequestWrapper(final HttpServletRequest request) throws IOException {
+	public MultiReadRequestWrapper(final HttpServletRequest request) {
+		this(request, 0);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public MultiReadRequestWrapper(final HttpServletRequest request, final long maxCachedSize) {
 		super(request);
-		body = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
+		this.maxCachedSize = maxCachedSize;
 	}
 
 	//-------------------------------------------------------------------------------------------------
+	// the body is buffered at the first call; returns null if it is larger than the size limit
 	public String getCachedBody() {
-		return body;
+		lock.lock();
+		try {
+			if (!buffered) {
+				try {
+					buffer();
+				} catch (final IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
+
+			if (!complete) {
+				return null;
+			}
+
+			if (body == null) {
+				body = new String(cachedBytes, getCharset());
+			}
+
+			return body;
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Override
 	public ServletInputStream getInputStream() throws IOException {
-		return new CustomServletInputStream(body.getBytes());
+		lock.lock();
+		try {
+			if (!buffered) {
+				return super.getInputStream();
+			}
+
+			if (complete) {
+				return new CustomServletInputStream(cachedBytes);
+			}
+
+			// a body over the limit is streamed through (only once) after the part that has been consumed by the buffering
+			return new PrefixedServletInputStream(cachedBytes, super.getInputStream());
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	//-------------------------------------------------------------------------------------------------
 	@Override
 	public BufferedReader getReader() throws IOException {
-		return new BufferedReader(new InputStreamReader(this.getInputStream()));
+		lock.lock();
+		try {
+			if (!buffered) {
+				return super.getReader();
+			}
+
+			return new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void buffer() throws IOException {
+		buffered = true;
+
+		if (maxCachedSize > 0 && getContentLengthLong() > maxCachedSize) {
+			// known to be too large, nothing is consumed
+			cachedBytes = new byte[0];
+			return;
+		}
+
+		final InputStream stream = super.getInputStream();
+		if (maxCachedSize <= 0) {
+			cachedBytes = stream.readAllBytes();
+			complete = true;
+			return;
+		}
+
+		final int limit = (int) Math.min(maxCachedSize, Integer.MAX_VALUE - 1);
+		cachedBytes = stream.readNBytes(limit + 1);
+		complete = cachedBytes.length <= limit;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private Charset getCharset() {
+		final String encoding = getCharacterEncoding();
+		if (encoding == null) {
+			return StandardCharsets.UTF_8;
+		}
+
+		try {
+			return Charset.forName(encoding);
+		} catch (final IllegalArgumentException ex) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class PrefixedServletInputStream extends ServletInputStream {
+
+		//=================================================================================================
+		// members
+
+		private final CustomServletInputStream prefix;
+		private final ServletInputStream rest;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private PrefixedServletInputStream(final byte[] prefixBytes, final ServletInputStream rest) {
+			this.prefix = new CustomServletInputStream(prefixBytes);
+			this.rest = rest;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public boolean isFinished() {
+			return prefix.isFinished() && rest.isFinished();
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public boolean isReady() {
+			return !prefix.isFinished() || rest.isReady();
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public void setReadListener(final ReadListener readListener) {
+			rest.setReadListener(readListener);
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public int read() throws IOException {
+			return prefix.isFinished() ? rest.read() : prefix.read();
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			return prefix.isFinished() ? rest.read(b, off, len) : prefix.read(b, off, len);
+		}
 	}
 }
\ No newline at end of file
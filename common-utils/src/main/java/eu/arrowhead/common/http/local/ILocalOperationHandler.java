@@ -0,0 +1,34 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.local;
+
+// in-process implementation of a service operation that the system both provides and consumes
+// service definition and operation names must be in normalized form
+public interface ILocalOperationHandler {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public String serviceDefinition();
+
+	//-------------------------------------------------------------------------------------------------
+	public String operation();
+
+	//-------------------------------------------------------------------------------------------------
+	public Object handle(final LocalOperationRequest request);
+}
\ No newline at end of file
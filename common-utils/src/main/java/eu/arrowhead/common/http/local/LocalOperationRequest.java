@@ -0,0 +1,45 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.local;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.MultiValueMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public record LocalOperationRequest(
+		String requester, // name of the local system
+		Object payload,
+		MultiValueMap<String, String> queryParams,
+		List<String> pathParams,
+		Map<String, String> headers) {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the payload is the object the caller passed, not its serialized form
+	public <P> P payload(final Class<P> type, final ObjectMapper mapper) {
+		if (payload == null || type.isInstance(payload)) {
+			return type.cast(payload);
+		}
+
+		return mapper.convertValue(payload, type);
+	}
+}
\ No newline at end of file
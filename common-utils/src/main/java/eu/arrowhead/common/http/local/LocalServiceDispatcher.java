@@ -0,0 +1,199 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.local;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.SystemInfo;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.http.HttpCallPlan.HttpCallTarget;
+import eu.arrowhead.common.http.balancer.HttpEndpoint;
+import eu.arrowhead.common.http.filter.authorization.ManagementPolicy;
+import jakarta.annotation.PostConstruct;
+
+// serves requests that the system sends to itself without the network round trip
+@Component
+public class LocalServiceDispatcher {
+
+	//=================================================================================================
+	// members
+
+	private static final String MGMT_PATH = "/mgmt/";
+	private static final String KEY_DELIMITER = "|";
+
+	@Value(Constants.$HTTP_CLIENT_LOCAL_DISPATCH_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(Constants.$ENABLE_BLACKLIST_FILTER_WD)
+	private boolean blacklistFilterEnabled;
+
+	@Autowired
+	private SystemInfo sysInfo;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Autowired(required = false)
+	private List<ILocalOperationHandler> handlerList;
+
+	private Map<String, ILocalOperationHandler> handlers = Map.of();
+
+	private Set<String> ownAddresses;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the target is served locally only if it is an endpoint of this system and the inbound filters would let the request through anyway
+	public boolean canDispatch(final HttpCallTarget target, final String operation) {
+		logger.debug("canDispatch started...");
+
+		if (!enabled || handlers.isEmpty() || target == null) {
+			return false;
+		}
+
+		final HttpEndpoint endpoint = target.endpoint();
+		if (!handlers.containsKey(createKey(endpoint.serviceModel().serviceDefinition(), operation))) {
+			return false;
+		}
+
+		return isOwnEndpoint(endpoint) && isPermitted(target.uriTemplate().getPath());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	public <T> T dispatch(
+			final HttpCallTarget target,
+			final String operation,
+			final Class<T> responseType,
+			final Object payload,
+			final MultiValueMap<String, String> queryParams,
+			final List<String> pathParams,
+			final Map<String, String> headers) {
+		logger.debug("dispatch started...");
+		Assert.notNull(target, "target is null");
+
+		final String serviceDefinition = target.endpoint().serviceModel().serviceDefinition();
+		final ILocalOperationHandler handler = handlers.get(createKey(serviceDefinition, operation));
+		Assert.notNull(handler, "No local handler for " + serviceDefinition + "/" + operation);
+
+		final Object result = handler.handle(new LocalOperationRequest(sysInfo.getSystemName(), payload, queryParams, pathParams, headers));
+		if (result == null || responseType == null || responseType == Void.class || responseType == Void.TYPE) {
+			return null;
+		}
+
+		if (responseType.isInstance(result)) {
+			return responseType.cast(result);
+		}
+
+		// same shape as the JSON round trip would produce (also handles primitive response types)
+		return (T) mapper.convertValue(result, responseType);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	private void init() {
+		logger.debug("init started...");
+
+		if (Utilities.isEmpty(handlerList)) {
+			return;
+		}
+
+		final Map<String, ILocalOperationHandler> result = new HashMap<>(handlerList.size());
+		for (final ILocalOperationHandler handler : handlerList) {
+			final String key = createKey(handler.serviceDefinition(), handler.operation());
+			if (result.putIfAbsent(key, handler) != null) {
+				throw new IllegalArgumentException("Multiple local handlers for " + handler.serviceDefinition() + "/" + handler.operation());
+			}
+		}
+
+		handlers = Collections.unmodifiableMap(result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isOwnEndpoint(final HttpEndpoint endpoint) {
+		if (endpoint.interfaceModel().accessPort() != sysInfo.getServerPort()) {
+			return false;
+		}
+
+		if (ownAddresses == null) {
+			final Set<String> addresses = new HashSet<>();
+			addresses.add(Constants.LOCALHOST);
+			addIfNotEmpty(addresses, sysInfo.getServerAddress());
+			addIfNotEmpty(addresses, sysInfo.getDomainAddress());
+			if (sysInfo.getSystemModel() != null && sysInfo.getSystemModel().addresses() != null) {
+				sysInfo.getSystemModel().addresses().forEach(a -> addIfNotEmpty(addresses, a));
+			}
+
+			ownAddresses = addresses;
+		}
+
+		return ownAddresses.contains(endpoint.address());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// mirrors the checks of BlacklistFilter and ManagementServiceFilter; whatever would need a remote decision goes to the network
+	private boolean isPermitted(final String path) {
+		final String systemName = sysInfo.getSystemName();
+
+		if (blacklistFilterEnabled
+				&& !Constants.SYS_NAME_BLACKLIST.equals(systemName)
+				&& !sysInfo.getBlacklistCheckExcludeList().contains(systemName)) {
+			return false;
+		}
+
+		if (path != null && path.contains(MGMT_PATH)) {
+			final ManagementPolicy policy = sysInfo.getManagementPolicy();
+			return policy != ManagementPolicy.SYSOP_ONLY && sysInfo.getManagementWhitelist().contains(systemName);
+		}
+
+		return true;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void addIfNotEmpty(final Set<String> addresses, final String address) {
+		if (!Utilities.isEmpty(address)) {
+			addresses.add(address);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private String createKey(final String serviceDefinition, final String operation) {
+		return serviceDefinition + KEY_DELIMITER + operation;
+	}
+}
\ No newline at end of file
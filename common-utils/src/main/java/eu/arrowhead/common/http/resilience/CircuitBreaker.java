@@ -0,0 +1,114 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// After the configured number of consecutive failures the circuit opens and the requests are rejected. When the open duration is over, one
+// probe request is let through (half-open state): its success closes the circuit, its failure opens it again.
+public class CircuitBreaker {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	private final String name;
+
+	private CircuitState state = CircuitState.CLOSED;
+	private int consecutiveFailures = 0;
+	private long openedAt = 0;
+	private boolean probeInFlight = false;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public CircuitBreaker(final String name) {
+		this.name = name;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized boolean tryAcquirePermission(final long now, final long openDuration) {
+		switch (state) {
+		case CLOSED:
+			return true;
+		case OPEN:
+			if (now - openedAt < openDuration) {
+				return false;
+			}
+
+			changeState(CircuitState.HALF_OPEN);
+			probeInFlight = true;
+			return true;
+		case HALF_OPEN:
+			if (probeInFlight) {
+				return false;
+			}
+
+			probeInFlight = true;
+			return true;
+		default:
+			throw new IllegalStateException("Unknown circuit state: " + state.name());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the acquired permission is not used (e.g. the request is rejected by an other guard)
+	public synchronized void releasePermission() {
+		probeInFlight = false;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void onSuccess() {
+		consecutiveFailures = 0;
+		probeInFlight = false;
+		if (state != CircuitState.CLOSED) {
+			changeState(CircuitState.CLOSED);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void onFailure(final long now, final int failureThreshold) {
+		probeInFlight = false;
+		consecutiveFailures++;
+		if (state == CircuitState.HALF_OPEN || (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold)) {
+			openedAt = now;
+			changeState(CircuitState.OPEN);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized CircuitState getState() {
+		return state;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void changeState(final CircuitState newState) {
+		if (newState == CircuitState.OPEN) {
+			logger.warn("Circuit breaker of {} changed from {} to {} after {} consecutive failure(s)", name, state, newState, consecutiveFailures);
+		} else {
+			logger.info("Circuit breaker of {} changed from {} to {}", name, state, newState);
+		}
+
+		state = newState;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.EndpointUnavailableException;
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.exception.RequestCancelledException;
+import eu.arrowhead.common.exception.TransportFailureException;
+
+// Per-host circuit breaker, bulkhead, retry and adaptive timeout for the outgoing HTTP requests. Every setting can be overridden for a service
+// definition by appending its name to the property name (e.g. http.client.retry.count.serviceDiscovery=2).
+@Component
+public class HttpResilienceManager {
+
+	//=================================================================================================
+	// members
+
+	private static final int LATENCY_WINDOW_SIZE = 200;
+	private static final int MIN_LATENCY_SAMPLES = 20;
+	private static final long MIN_ADAPTIVE_TIMEOUT = 100; // in milliseconds
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Autowired
+	private Environment environment;
+
+	@Value(Constants.$HTTP_CLIENT_SOCKET_TIMEOUT_WD)
+	private int socketTimeout;
+
+	@Value(Constants.$HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD_WD)
+	private int failureThreshold;
+
+	@Value(Constants.$HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION_WD)
+	private long openDuration;
+
+	@Value(Constants.$HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS_WD)
+	private int maxConcurrentRequests;
+
+	@Value(Constants.$HTTP_CLIENT_RETRY_COUNT_WD)
+	private int retryCount;
+
+	@Value(Constants.$HTTP_CLIENT_RETRY_BACKOFF_WD)
+	private long retryBackoff;
+
+	@Value(Constants.$HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED_WD)
+	private boolean adaptiveTimeout;
+
+	@Value(Constants.$HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE_WD)
+	private int timeoutPercentile;
+
+	@Value(Constants.$HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER_WD)
+	private double timeoutMultiplier;
+
+	private final Map<String, ResilienceSettings> settingsByServiceDefinition = new ConcurrentHashMap<>();
+	private final Map<String, HostState> hostStates = new ConcurrentHashMap<>();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the call gets the adaptive timeout (or null if there is none); only a transport failure counts as failure (and is retried), a cancelled request
+	// counts as nothing, other errors (including an ExternalServerError returned by the host) mean the host is responding
+	public <T> T execute(final String host, final String serviceDefinition, final boolean retryable, final Function<Duration, T> call) {
+		logger.debug("execute started...");
+		Assert.isTrue(!Utilities.isEmpty(host), "host is empty");
+		Assert.notNull(call, "call is null");
+
+		final ResilienceSettings settings = getSettings(serviceDefinition);
+		final HostState state = hostStates.computeIfAbsent(host, HostState::new);
+		final int maxAttempts = retryable ? Math.max(0, settings.retryCount()) + 1 : 1;
+
+		for (int attempt = 1; ; ++attempt) {
+			acquire(state, settings);
+
+			final Duration timeout = calculateTimeout(state, settings);
+			final long start = System.currentTimeMillis();
+			try {
+				final T result = call.apply(timeout);
+				state.latencies.add(System.currentTimeMillis() - start);
+				state.circuitBreaker.onSuccess();
+
+				return result;
+			} catch (final TransportFailureException ex) {
+				if (timeout != null && System.currentTimeMillis() - start >= timeout.toMillis()) {
+					// a timed out call is recorded with the timeout, so the timeout can grow when the host slows down
+					state.latencies.add(timeout.toMillis());
+				}
+
+				if (settings.failureThreshold() > 0) {
+					state.circuitBreaker.onFailure(System.currentTimeMillis(), settings.failureThreshold());
+				}
+
+				if (attempt >= maxAttempts) {
+					throw ex;
+				}
+
+				logger.debug("Request to {} failed (attempt {} of {}): {}", host, attempt, maxAttempts, ex.getMessage());
+			} catch (final RequestCancelledException ex) {
+				// neither success nor failure, but a half-open probe can be sent again
+				state.circuitBreaker.releasePermission();
+				throw ex;
+			} catch (final RuntimeException ex) {
+				state.circuitBreaker.onSuccess();
+				throw ex;
+			} finally {
+				state.inFlight.decrementAndGet();
+			}
+
+			backoff(settings.retryBackoff() << (attempt - 1));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public ResilienceSettings getSettings(final String serviceDefinition) {
+		if (Utilities.isEmpty(serviceDefinition) || environment == null) {
+			return createSettings(null);
+		}
+
+		return settingsByServiceDefinition.computeIfAbsent(serviceDefinition, this::createSettings);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns -1 if there are not enough samples
+	public long getLatencyPercentile(final String host, final int percentile) {
+		final HostState state = hostStates.get(host);
+		if (state == null || state.latencies.size() < MIN_LATENCY_SAMPLES) {
+			return -1;
+		}
+
+		return state.latencies.percentile(percentile);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public Map<String, CircuitState> getCircuitStates() {
+		final Map<String, CircuitState> result = new ConcurrentHashMap<>();
+		hostStates.forEach((host, state) -> result.put(host, state.circuitBreaker.getState()));
+
+		return result;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void acquire(final HostState state, final ResilienceSettings settings) {
+		final int inFlight = state.inFlight.incrementAndGet();
+		if (settings.maxConcurrentRequests() > 0 && inFlight > settings.maxConcurrentRequests()) {
+			state.inFlight.decrementAndGet();
+			logger.warn("Bulkhead of {} is full, request is rejected", state.host);
+			throw new EndpointUnavailableException("Too many concurrent requests to: " + state.host);
+		}
+
+		if (settings.failureThreshold() > 0 && !state.circuitBreaker.tryAcquirePermission(System.currentTimeMillis(), settings.openDuration())) {
+			state.inFlight.decrementAndGet();
+			throw new EndpointUnavailableException("Circuit breaker is open for: " + state.host);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the half-open probe gets the socket timeout, otherwise a too short adaptive timeout could keep the circuit open forever
+	private Duration calculateTimeout(final HostState state, final ResilienceSettings settings) {
+		if (!settings.adaptiveTimeout() || state.latencies.size() < MIN_LATENCY_SAMPLES || state.circuitBreaker.getState() == CircuitState.HALF_OPEN) {
+			return null;
+		}
+
+		final long timeout = Math.round(state.latencies.percentile(settings.timeoutPercentile()) * settings.timeoutMultiplier());
+
+		return Duration.ofMillis(Math.max(MIN_ADAPTIVE_TIMEOUT, Math.min(timeout, socketTimeout)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void backoff(final long millis) {
+		if (millis <= 0) {
+			return;
+		}
+
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ExternalServerError("Interrupted while waiting for retry");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ResilienceSettings createSettings(final String serviceDefinition) {
+		return new ResilienceSettings(
+				getProperty(Constants.HTTP_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD, serviceDefinition, Integer.class, failureThreshold),
+				getProperty(Constants.HTTP_CLIENT_CIRCUIT_BREAKER_OPEN_DURATION, serviceDefinition, Long.class, openDuration),
+				getProperty(Constants.HTTP_CLIENT_BULKHEAD_MAX_CONCURRENT_REQUESTS, serviceDefinition, Integer.class, maxConcurrentRequests),
+				getProperty(Constants.HTTP_CLIENT_RETRY_COUNT, serviceDefinition, Integer.class, retryCount),
+				getProperty(Constants.HTTP_CLIENT_RETRY_BACKOFF, serviceDefinition, Long.class, retryBackoff),
+				getProperty(Constants.HTTP_CLIENT_ADAPTIVE_TIMEOUT_ENABLED, serviceDefinition, Boolean.class, adaptiveTimeout),
+				getProperty(Constants.HTTP_CLIENT_ADAPTIVE_TIMEOUT_PERCENTILE, serviceDefinition, Integer.class, timeoutPercentile),
+				getProperty(Constants.HTTP_CLIENT_ADAPTIVE_TIMEOUT_MULTIPLIER, serviceDefinition, Double.class, timeoutMultiplier));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private <T> T getProperty(final String name, final String serviceDefinition, final Class<T> type, final T defaultValue) {
+		if (serviceDefinition == null) {
+			return defaultValue;
+		}
+
+		return environment.getProperty(name + "." + serviceDefinition, type, defaultValue);
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class HostState {
+
+		//=================================================================================================
+		// members
+
+		private final String host;
+		private final CircuitBreaker circuitBreaker;
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		private HostState(final String host) {
+			this.host = host;
+			this.circuitBreaker = new CircuitBreaker(host);
+		}
+	}
+}
\ No newline at end of file
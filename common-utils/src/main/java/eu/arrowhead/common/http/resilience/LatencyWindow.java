@@ -0,0 +1,64 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.resilience;
+
+import java.util.Arrays;
+
+// keeps the latency of the last requests to calculate percentiles
+public class LatencyWindow {
+
+	//=================================================================================================
+	// members
+
+	private final long[] samples;
+	private int next = 0;
+	private int count = 0;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public LatencyWindow(final int size) {
+		this.samples = new long[size];
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized void add(final long latencyMillis) {
+		samples[next] = latencyMillis;
+		next = (next + 1) % samples.length;
+		count = Math.min(count + 1, samples.length);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public synchronized int size() {
+		return count;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns -1 if there is no sample yet
+	public synchronized long percentile(final int percentile) {
+		if (count == 0) {
+			return -1;
+		}
+
+		final long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+		final int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+
+		return sorted[Math.max(0, Math.min(index, count - 1))];
+	}
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.resilience;
+
+// failureThreshold <= 0: no circuit breaker, maxConcurrentRequests <= 0: no bulkhead
+public record ResilienceSettings(
+		int failureThreshold,
+		long openDuration,
+		int maxConcurrentRequests,
+		int retryCount,
+		long retryBackoff,
+		boolean adaptiveTimeout,
+		int timeoutPercentile,
+		double timeoutMultiplier) {
+}
\ No newline at end of file
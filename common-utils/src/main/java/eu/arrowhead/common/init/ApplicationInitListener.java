@@ -24,11 +24,21 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.naming.ConfigurationException;
@@ -37,6 +47,7 @@ import javax.security.auth.x500.X500Principal;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
@@ -46,10 +57,12 @@ import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.SystemInfo;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.collector.ServiceCollector;
+import eu.arrowhead.common.collector.ServiceKey;
 import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.AuthException;
 import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.http.ArrowheadHttpService;
+import eu.arrowhead.common.http.HttpConnectionWarmer;
 import eu.arrowhead.common.http.filter.authentication.AuthenticationPolicy;
 import eu.arrowhead.common.model.ServiceModel;
 import eu.arrowhead.common.model.SystemModel;
@@ -72,8 +85,13 @@ public abstract class ApplicationInitListener {
 	//=================================================================================================
 	// members
 
-	private static final int MAX_NUMBER_OF_SERVICEREGISTRY_CONNECTION_RETRIES = 3;
-	private static final int WAITING_PERIOD_BETWEEN_RETRIES_IN_SECONDS = 15;
+	private static final int MAX_NUMBER_OF_SERVICEREGISTRY_CONNECTION_RETRIES = 6;
+	private static final int INITIAL_WAITING_PERIOD_BETWEEN_RETRIES_IN_MILLISECONDS = 1000;
+	private static final int MAX_WAITING_PERIOD_BETWEEN_RETRIES_IN_MILLISECONDS = 16000;
+	private static final int MAX_NUMBER_OF_PARALLEL_REQUESTS = 8;
+	private static final long REVOCATION_TIMEOUT_IN_MILLISECONDS = 10000;
+	private static final int MAX_NUMBER_OF_PARALLEL_INIT_STEPS = 2;
+	private static final long INIT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS = 5000;
 
 	protected final Logger logger = LogManager.getLogger(getClass());
 
@@ -89,9 +107,20 @@ public abstract class ApplicationInitListener {
 	@Autowired
 	protected ArrowheadHttpService arrowheadHttpService;
 
+	@Autowired
+	protected HttpConnectionWarmer connectionWarmer;
+
 	@Autowired(required = false)
 	protected MqttController mqttController;
 
+	@Autowired
+	protected ApplicationReadiness readiness;
+
+	@Value(Constants.$INIT_ASYNC_ENABLED_WD)
+	private boolean asyncInit;
+
+	private ExecutorService initExecutor;
+
 	protected boolean standaloneMode = false;
 
 	protected Set<String> registeredServices = new HashSet<>();
@@ -116,23 +145,27 @@ public abstract class ApplicationInitListener {
 			standaloneMode = (boolean) arrowheadContext.get(Constants.SERVER_STANDALONE_MODE);
 		}
 
-		if (sysInfo.isSslEnabled()) {
-			checkSSLProperties();
-			final KeyStore keyStore = initializeKeyStore();
-			obtainKeys(keyStore);
-			if (sysInfo.getAuthenticationPolicy() == AuthenticationPolicy.CERTIFICATE) {
-				// in this case the certificate must be compliant with the Arrowhead Certificate structure
-				checkServerCertificate(keyStore);
-			}
+		if (asyncInit) {
+			startAsyncInitialization(event);
+			logger.debug("Initialization in onApplicationEvent() is continued in the background.");
+
+			return;
 		}
 
+		initializeSSL();
+		readiness.markCompleted(InitStep.SSL);
+
 		registerToServiceRegistry();
+		readiness.markCompleted(InitStep.SERVICE_REGISTRY);
 
 		if (sysInfo.isMqttApiEnabled()) {
 			subscribeToMqttServiceTopics();
+			readiness.markCompleted(InitStep.MQTT);
 		}
 
 		customInit(event);
+		readiness.markCompleted(InitStep.CUSTOM);
+		readiness.markReady();
 
 		logger.debug("Initialization in onApplicationEvent() is done.");
 	}
@@ -142,6 +175,12 @@ public abstract class ApplicationInitListener {
 	public void destroy() throws InterruptedException {
 		logger.debug("destroy called...");
 
+		if (initExecutor != null) {
+			// stops the unfinished initialization steps, so they can't register anything after the revocation
+			initExecutor.shutdownNow();
+			initExecutor.awaitTermination(INIT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+		}
+
 		revokeServices();
 
 		try {
@@ -182,6 +221,12 @@ public abstract class ApplicationInitListener {
 	protected void customDestroy() {
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// services that the system consumes (they are prefetched after the registration)
+	protected Collection<ServiceKey> getRequiredServices() {
+		return List.of();
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	protected String getSSLString() {
 		return sysInfo.isSslEnabled() ? "ENABLED" : "DISABLED";
@@ -196,6 +241,70 @@ public abstract class ApplicationInitListener {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	// the steps form a dependency graph: registration and MQTT subscription need the SSL material (public key in the system model, server common name
+	// in the authentication filters), but they are independent from each other; the custom initialization may use anything
+	private void startAsyncInitialization(final ContextRefreshedEvent event) {
+		logger.debug("startAsyncInitialization started...");
+
+		initExecutor = Executors.newFixedThreadPool(MAX_NUMBER_OF_PARALLEL_INIT_STEPS);
+
+		final CompletableFuture<Void> ssl = runStep(InitStep.SSL, this::initializeSSL);
+		final CompletableFuture<Void> registration = ssl.thenCompose(v -> runStep(InitStep.SERVICE_REGISTRY, this::registerToServiceRegistry));
+		final CompletableFuture<Void> mqtt = sysInfo.isMqttApiEnabled()
+				? ssl.thenCompose(v -> runStep(InitStep.MQTT, this::subscribeToMqttServiceTopics))
+				: CompletableFuture.completedFuture(null);
+
+		CompletableFuture.allOf(registration, mqtt)
+				.thenCompose(v -> runStep(InitStep.CUSTOM, () -> customInit(event)))
+				.whenComplete((v, t) -> {
+					if (t == null) {
+						readiness.markReady();
+						logger.info("System {} is ready", sysInfo.getSystemName());
+					} else {
+						final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+						readiness.markFailed(cause);
+						logger.error("Initialization failed: {}", cause.getMessage());
+						logger.debug(cause);
+					}
+
+					initExecutor.shutdown();
+				});
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private CompletableFuture<Void> runStep(final InitStep step, final InitStepAction action) {
+		return CompletableFuture.runAsync(() -> {
+			logger.debug("Initialization step {} started...", step);
+
+			try {
+				action.run();
+			} catch (final RuntimeException ex) {
+				throw ex;
+			} catch (final Exception ex) {
+				throw new CompletionException(ex);
+			}
+
+			readiness.markCompleted(step);
+			logger.debug("Initialization step {} is done.", step);
+		}, initExecutor);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void initializeSSL() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException {
+		logger.debug("initializeSSL started...");
+
+		if (sysInfo.isSslEnabled()) {
+			checkSSLProperties();
+			final KeyStore keyStore = initializeKeyStore();
+			obtainKeys(keyStore);
+			if (sysInfo.getAuthenticationPolicy() == AuthenticationPolicy.CERTIFICATE) {
+				// in this case the certificate must be compliant with the Arrowhead Certificate structure
+				checkServerCertificate(keyStore);
+			}
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private void checkSSLProperties() {
 		logger.debug("checkSSLProperties started...");
@@ -292,7 +401,7 @@ public abstract class ApplicationInitListener {
 			Thread.sleep(sysInfo.getAuthenticatorLoginDelay());
 		}
 
-		checkServiceRegistryConnection(sysInfo.isSslEnabled(), MAX_NUMBER_OF_SERVICEREGISTRY_CONNECTION_RETRIES, WAITING_PERIOD_BETWEEN_RETRIES_IN_SECONDS);
+		checkServiceRegistryConnection(sysInfo.isSslEnabled(), MAX_NUMBER_OF_SERVICEREGISTRY_CONNECTION_RETRIES, INITIAL_WAITING_PERIOD_BETWEEN_RETRIES_IN_MILLISECONDS);
 
 		// revoke system (if any)
 		arrowheadHttpService.consumeService(Constants.SERVICE_DEF_SYSTEM_DISCOVERY, Constants.SERVICE_OP_REVOKE, Constants.SYS_NAME_SERVICE_REGISTRY, Void.class);
@@ -303,13 +412,33 @@ public abstract class ApplicationInitListener {
 		arrowheadHttpService.consumeService(Constants.SERVICE_DEF_SYSTEM_DISCOVERY, Constants.SERVICE_OP_REGISTER, Constants.SYS_NAME_SERVICE_REGISTRY, SystemResponseDTO.class, payload);
 
 		// register services
-		if (sysInfo.getServices() != null) {
-			for (final ServiceModel serviceModel : sysInfo.getServices()) {
-				registerService(serviceModel);
-			}
-		}
+		registerServices();
 
 		logger.info("System {} published {} service(s)", sysInfo.getSystemName(), registeredServices.size());
+
+		prefetchRequiredServices();
+
+		// connections to the prefetched providers are opened before the first real request
+		connectionWarmer.warmUp();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the required services are looked up together, so the first calls don't have to wait for separate lookups
+	private void prefetchRequiredServices() {
+		logger.debug("prefetchRequiredServices started...");
+
+		final Collection<ServiceKey> requiredServices = getRequiredServices();
+		if (Utilities.isEmpty(requiredServices)) {
+			return;
+		}
+
+		try {
+			serviceCollector.prefetch(requiredServices);
+		} catch (final ArrowheadException ex) {
+			// not fatal, the services will be looked up on first use
+			logger.warn("Prefetching required services failed: {}", ex.getMessage());
+			logger.debug(ex);
+		}
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -320,7 +449,8 @@ public abstract class ApplicationInitListener {
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private void checkServiceRegistryConnection(final boolean secure, final int retries, final int period) throws InterruptedException {
+	// waits between retries with exponential backoff and jitter, starting from initialPeriod (in milliseconds)
+	private void checkServiceRegistryConnection(final boolean secure, final int retries, final int initialPeriod) throws InterruptedException {
 		logger.debug("checkServiceRegistryConnection started...");
 
 		final String templateName = secure ? Constants.GENERIC_HTTPS_INTERFACE_TEMPLATE_NAME : Constants.GENERIC_HTTP_INTERFACE_TEMPLATE_NAME;
@@ -336,15 +466,59 @@ public abstract class ApplicationInitListener {
 				if (i >= retries) {
 					throw ex;
 				} else {
-					logger.info("ServiceRegistry is unavailable at the moment, retrying in {} seconds...", period);
-					Thread.sleep(period * Constants.CONVERSION_MILLISECOND_TO_SECOND);
+					final long period = calculateWaitingPeriod(i, initialPeriod);
+					logger.info("ServiceRegistry is unavailable at the moment, retrying in {} milliseconds...", period);
+					Thread.sleep(period);
+				}
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// "equal jitter": the result is between the half and the whole of the exponentially growing period
+	private long calculateWaitingPeriod(final int attempt, final int initialPeriod) {
+		final long period = Math.min((long) initialPeriod << Math.min(attempt, Integer.SIZE), MAX_WAITING_PERIOD_BETWEEN_RETRIES_IN_MILLISECONDS);
+		final long half = period / 2;
+
+		return half + ThreadLocalRandom.current().nextLong(period - half + 1);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the Service Registry has no bulk registration operation for a system's own services, so they are registered in parallel (with a bounded number of threads)
+	private void registerServices() throws InterruptedException {
+		logger.debug("registerServices started...");
+
+		final List<ServiceModel> services = sysInfo.getServices();
+		if (Utilities.isEmpty(services)) {
+			return;
+		}
+
+		RuntimeException firstError = null;
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(services.size(), MAX_NUMBER_OF_PARALLEL_REQUESTS))) {
+			final List<Future<String>> futures = services
+					.stream()
+					.map(model -> executor.submit(() -> registerService(model)))
+					.toList();
+
+			// every result is processed, so the successfully registered services can be revoked later even if some registrations failed
+			for (final Future<String> future : futures) {
+				try {
+					registeredServices.add(future.get());
+				} catch (final ExecutionException ex) {
+					if (firstError == null) {
+						firstError = ex.getCause() instanceof final RuntimeException cause ? cause : new ArrowheadException(ex.getCause().getMessage(), ex.getCause());
+					}
 				}
 			}
 		}
+
+		if (firstError != null) {
+			throw firstError;
+		}
 	}
 
 	//-------------------------------------------------------------------------------------------------
-	private void registerService(final ServiceModel model) {
+	private String registerService(final ServiceModel model) {
 		logger.debug("registerService started...");
 
 		final ServiceInterfacePolicy interfacePolicy = sysInfo.getAuthenticationPolicy() == AuthenticationPolicy.CERTIFICATE ? ServiceInterfacePolicy.CERT_AUTH : ServiceInterfacePolicy.NONE;
@@ -359,7 +533,8 @@ public abstract class ApplicationInitListener {
 				Constants.SYS_NAME_SERVICE_REGISTRY,
 				ServiceInstanceResponseDTO.class,
 				payload);
-		registeredServices.add(response.instanceId());
+
+		return response.instanceId();
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -373,8 +548,32 @@ public abstract class ApplicationInitListener {
 		try {
 			checkServiceRegistryConnection(sysInfo.isSslEnabled(), 0, 1);
 
-			for (final String serviceInstanceId : registeredServices) {
-				arrowheadHttpService.consumeService(Constants.SERVICE_DEF_SERVICE_DISCOVERY, Constants.SERVICE_OP_REVOKE, Constants.SYS_NAME_SERVICE_REGISTRY, Void.class, List.of(serviceInstanceId));
+			if (!registeredServices.isEmpty()) {
+				// the revoke operation accepts only one instance id, so the requests are sent in parallel and the whole revocation is time-boxed to not block the shutdown
+				final ExecutorService executor = Executors.newFixedThreadPool(Math.min(registeredServices.size(), MAX_NUMBER_OF_PARALLEL_REQUESTS));
+				try {
+					final List<Future<Void>> futures = registeredServices
+							.stream()
+							.map(serviceInstanceId -> executor.submit(() -> arrowheadHttpService.consumeService(
+									Constants.SERVICE_DEF_SERVICE_DISCOVERY,
+									Constants.SERVICE_OP_REVOKE,
+									Constants.SYS_NAME_SERVICE_REGISTRY,
+									Void.class,
+									List.of(serviceInstanceId))))
+							.toList();
+
+					final long deadline = System.currentTimeMillis() + REVOCATION_TIMEOUT_IN_MILLISECONDS;
+					final long failed = futures
+							.stream()
+							.filter(future -> !waitForRevocation(future, deadline))
+							.count();
+					if (failed > 0) {
+						logger.error("{} service(s) could not be revoked in {} milliseconds", failed, REVOCATION_TIMEOUT_IN_MILLISECONDS);
+						return;
+					}
+				} finally {
+					executor.shutdownNow();
+				}
 			}
 
 			logger.info("Core system {} revoked {} service(s)", sysInfo.getSystemName(), registeredServices.size());
@@ -385,6 +584,23 @@ public abstract class ApplicationInitListener {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	private boolean waitForRevocation(final Future<Void> future, final long deadline) {
+		try {
+			future.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+
+			return true;
+		} catch (final ExecutionException ex) {
+			logger.debug(ex.getCause());
+		} catch (final TimeoutException ex) {
+			future.cancel(true);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+
+		return false;
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private IdentityRequestDTO getLogoutPayload() {
 		logger.debug("getLogoutPayload started...");
@@ -393,4 +609,13 @@ public abstract class ApplicationInitListener {
 				sysInfo.getSystemName(),
 				sysInfo.getAuthenticatorCredentials());
 	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	@FunctionalInterface
+	private interface InitStepAction {
+		void run() throws Exception;
+	}
 }
\ No newline at end of file
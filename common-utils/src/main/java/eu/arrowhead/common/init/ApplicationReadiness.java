@@ -0,0 +1,159 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.init;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+@Component
+public class ApplicationReadiness {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	private final Set<InitStep> completedSteps = Collections.synchronizedSet(EnumSet.noneOf(InitStep.class));
+
+	private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+	private final Object readinessStateLock = new Object();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public ReadinessStatus getStatus() {
+		if (!ready.isDone()) {
+			return ReadinessStatus.STARTING;
+		}
+
+		return ready.isCompletedExceptionally() ? ReadinessStatus.FAILED : ReadinessStatus.READY;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isReady() {
+		return getStatus() == ReadinessStatus.READY;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isFailed() {
+		return getStatus() == ReadinessStatus.FAILED;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isCompleted(final InitStep step) {
+		Assert.notNull(step, "step is null");
+
+		return completedSteps.contains(step);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public List<InitStep> getCompletedSteps() {
+		synchronized (completedSteps) {
+			return List.copyOf(completedSteps);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns false if the initialization is not finished in time or it is failed
+	public boolean awaitReady(final long timeout, final TimeUnit unit) throws InterruptedException {
+		logger.debug("awaitReady started...");
+		Assert.notNull(unit, "unit is null");
+
+		try {
+			ready.get(timeout, unit);
+
+			return true;
+		} catch (final ExecutionException | TimeoutException ex) {
+			return false;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the returned future can't be used to change the readiness state
+	public CompletableFuture<Void> whenReady() {
+		return ready.copy();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Spring Boot accepts traffic when the context is started, but the (asynchronous) initialization may still be in progress;
+	// the liveness state is not changed, a system that is not (yet) ready is still alive
+	@EventListener
+	public void onReadinessStateChange(final AvailabilityChangeEvent<ReadinessState> event) {
+		synchronized (readinessStateLock) {
+			if (ReadinessState.ACCEPTING_TRAFFIC == event.getState() && !isReady()) {
+				AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+			}
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	void markCompleted(final InitStep step) {
+		logger.debug("markCompleted started...");
+		Assert.notNull(step, "step is null");
+
+		completedSteps.add(step);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	void markReady() {
+		logger.debug("markReady started...");
+
+		ready.complete(null);
+		publishReadinessState(ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	void markFailed(final Throwable cause) {
+		logger.debug("markFailed started...");
+		Assert.notNull(cause, "cause is null");
+
+		ready.completeExceptionally(cause);
+		publishReadinessState(ReadinessState.REFUSING_TRAFFIC);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// same lock as the listener, so a late ACCEPTING_TRAFFIC of Spring Boot can't override the final state
+	private void publishReadinessState(final ReadinessState state) {
+		synchronized (readinessStateLock) {
+			AvailabilityChangeEvent.publish(publisher, this, state);
+		}
+	}
+}
\ No newline at end of file
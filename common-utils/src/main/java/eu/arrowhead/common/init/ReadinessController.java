@@ -0,0 +1,59 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.init;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.dto.ReadinessResponseDTO;
+
+// the filters skip this path, so it can be used as an (unauthenticated) readiness probe
+@RestController
+public class ReadinessController {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Autowired
+	private ApplicationReadiness readiness;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// HTTP 503 until the initialization is finished (or if it is failed)
+	@GetMapping(path = Constants.HTTP_API_READINESS_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ReadinessResponseDTO> readiness() {
+		logger.debug("readiness started...");
+
+		final ReadinessStatus status = readiness.getStatus();
+		final ReadinessResponseDTO dto = new ReadinessResponseDTO(
+				status.name(),
+				readiness.getCompletedSteps().stream().map(InitStep::name).toList());
+
+		return ResponseEntity.status(ReadinessStatus.READY == status ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(dto);
+	}
+}
\ No newline at end of file
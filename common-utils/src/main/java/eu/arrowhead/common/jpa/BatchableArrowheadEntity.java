@@ -0,0 +1,65 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa;
+
+import java.time.ZonedDateTime;
+
+import eu.arrowhead.common.Utilities;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+@MappedSuperclass
+public abstract class BatchableArrowheadEntity extends BatchableUnmodifiableArrowheadEntity {
+
+	//=================================================================================================
+	// members
+
+	@Column(nullable = false, updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP")
+	protected ZonedDateTime updatedAt;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	@PrePersist
+	public void onCreate() {
+		this.createdAt = Utilities.utcNow();
+		this.updatedAt = this.createdAt;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreUpdate
+	public void onUpdate() {
+		this.updatedAt = Utilities.utcNow();
+	}
+
+	//=================================================================================================
+	// boilerplate
+
+	//-------------------------------------------------------------------------------------------------
+	public ZonedDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void setUpdatedAt(final ZonedDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+}
\ No newline at end of file
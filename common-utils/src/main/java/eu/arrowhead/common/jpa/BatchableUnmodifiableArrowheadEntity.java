@@ -0,0 +1,107 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+import eu.arrowhead.common.Utilities;
+import jakarta.persistence.Column;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+
+// Alternative of UnmodifiableArrowheadEntity: the ids come from a pooled sequence (emulated by a table on databases without sequence support) instead
+// of an identity column, so Hibernate can send the inserts in JDBC batches. Every entity gets its own sequence named <entity name>_SEQ which has to
+// be created by the database scripts with an increment of 50 (the default allocation size).
+@MappedSuperclass
+public abstract class BatchableUnmodifiableArrowheadEntity {
+
+	//=================================================================================================
+	// members
+
+	public static final int VARCHAR_TINY = UnmodifiableArrowheadEntity.VARCHAR_TINY;
+	public static final int VARCHAR_SMALL = UnmodifiableArrowheadEntity.VARCHAR_SMALL;
+	public static final int VARCHAR_MEDIUM = UnmodifiableArrowheadEntity.VARCHAR_MEDIUM;
+	public static final int VARCHAR_LARGE = UnmodifiableArrowheadEntity.VARCHAR_LARGE;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
+	protected long id;
+
+	@Column(nullable = false, updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+	protected ZonedDateTime createdAt;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PrePersist
+	public void onCreate() {
+		this.createdAt = Utilities.utcNow();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null) {
+			return false;
+		}
+
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+
+		final BatchableUnmodifiableArrowheadEntity other = (BatchableUnmodifiableArrowheadEntity) obj;
+		return id == other.id;
+	}
+
+	//=================================================================================================
+	// boilerplate
+
+	//-------------------------------------------------------------------------------------------------
+	public long getId() {
+		return id;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void setId(final long id) {
+		this.id = id;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public ZonedDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void setCreatedAt(final ZonedDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.util.ClassUtils;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import eu.arrowhead.common.Constants;
+
+@Configuration
+public class JpaConfig {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// enables JDBC batching and ordered inserts/updates unless the application configures them explicitly (spring.jpa.properties.hibernate.*)
+	// note: inserts of entities with identity ids are never batched, see BatchableUnmodifiableArrowheadEntity
+	@Bean
+	HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(Constants.JPA_BATCH_SIZE));
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+		};
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// enables the second-level and query cache for the entities marked with @CachedEntity (queries have to opt in with the HibernateHints.HINT_CACHEABLE hint)
+	// Hibernate keeps the cached entries consistent on every write that goes through the persistence context or a JPQL bulk operation
+	@Bean
+	@ConditionalOnProperty(name = Constants.JPA_CACHE_ENABLED, havingValue = "true")
+	HibernatePropertiesCustomizer cachingHibernatePropertiesCustomizer(
+			final ObjectProvider<PersistenceManagedTypes> managedTypesProvider,
+			@Value(Constants.$JPA_CACHE_MAX_SIZE_WD) final long maxSize,
+			@Value(Constants.$JPA_CACHE_TIME_TO_LIVE_WD) final long timeToLive) {
+		final Map<String, AccessType> cachedEntities = findCachedEntities(managedTypesProvider.getIfAvailable());
+		logger.info("Second-level cache is enabled for {} entities", cachedEntities.size());
+
+		return properties -> {
+			properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+			properties.put(AvailableSettings.USE_QUERY_CACHE, "true");
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+			properties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(cachedEntities.keySet(), maxSize, timeToLive));
+			properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+			properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, "true");
+			cachedEntities.forEach((className, accessType) -> properties.put(AvailableSettings.CLASS_CACHE_PREFIX + Constants.DOT + className, accessType.getExternalName()));
+		};
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private Map<String, AccessType> findCachedEntities(final PersistenceManagedTypes managedTypes) {
+		logger.debug("findCachedEntities started...");
+
+		final Map<String, AccessType> result = new HashMap<>();
+		if (managedTypes == null) {
+			return result;
+		}
+
+		for (final String className : managedTypes.getManagedClassNames()) {
+			final Class<?> clazz = ClassUtils.resolveClassName(className, getClass().getClassLoader());
+			final CachedEntity annotation = clazz.getAnnotation(CachedEntity.class);
+			if (annotation != null) {
+				result.put(className, annotation.readOnly() ? AccessType.READ_ONLY : AccessType.READ_WRITE);
+			}
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the regions are created in advance, because the caches that Hibernate creates on demand are unbounded
+	private CacheManager createCacheManager(final Iterable<String> entityRegions, final long maxSize, final long timeToLive) {
+		logger.debug("createCacheManager started...");
+
+		final CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+		final CaffeineConfiguration<Object, Object> boundedConfig = new CaffeineConfiguration<>()
+				.setMaximumSize(OptionalLong.of(maxSize))
+				.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(timeToLive)));
+
+		for (final String region : entityRegions) {
+			createCacheIfMissing(cacheManager, region, boundedConfig);
+		}
+		createCacheIfMissing(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, boundedConfig);
+
+		// the timestamps must not be evicted, otherwise cached query results can not be validated
+		createCacheIfMissing(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+
+		return cacheManager;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void createCacheIfMissing(final CacheManager cacheManager, final String name, final CaffeineConfiguration<Object, Object> config) {
+		if (cacheManager.getCache(name) == null) {
+			cacheManager.createCache(name, config);
+		}
+	}
+}
\ No newline at end of file
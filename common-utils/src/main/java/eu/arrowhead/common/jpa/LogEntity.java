@@ -36,9 +36,17 @@ public class LogEntity {
 	private static final int VARCHAR = 100;
 
 	public static final List<String> SORTABLE_FIELDS_BY = List.of("logId", "entryDate", "logger", "logLevel");
+	// keyset scrolling needs sort fields without null values, otherwise the next cursor cannot be continued
+	public static final List<String> KEYSET_SORTABLE_FIELDS_BY = List.of("logId", "entryDate");
 	public static final String DEFAULT_SORT_FIELD = "entryDate";
 	public static final String FIELD_NAME_ID = "logId";
 
+	// recommended indexes, concrete log entities should declare them in their @Table annotation
+	public static final String INDEX_NAME_ENTRY_DATE_LEVEL_LOGGER = "idx_log_entry_date_level_logger";
+	public static final String INDEX_COLUMNS_ENTRY_DATE_LEVEL_LOGGER = "entryDate, logLevel, logger";
+	public static final String INDEX_NAME_LEVEL_ENTRY_DATE = "idx_log_level_entry_date";
+	public static final String INDEX_COLUMNS_LEVEL_ENTRY_DATE = "logLevel, entryDate";
+
 	@Id
 	@Column(length = VARCHAR)
 	protected String logId;
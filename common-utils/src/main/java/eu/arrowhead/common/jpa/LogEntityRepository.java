@@ -18,11 +18,24 @@ package eu.arrowhead.common.jpa;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.boot.logging.LogLevel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import eu.arrowhead.common.Constants;
+import jakarta.persistence.QueryHint;
 
 @NoRepositoryBean
 public interface LogEntityRepository<T extends LogEntity> extends RefreshableRepository<T, String> {
@@ -40,4 +53,50 @@ public interface LogEntityRepository<T extends LogEntity> extends RefreshableRep
 			final ZonedDateTime to,
 			final String logger,
 			final Pageable pageable);
+
+	//-------------------------------------------------------------------------------------------------
+	public Window<LogEntity> findAllByLogLevelInAndEntryDateBetween(
+			final List<LogLevel> levels,
+			final ZonedDateTime from,
+			final ZonedDateTime to,
+			final ScrollPosition position,
+			final Limit limit,
+			final Sort sort);
+
+	//-------------------------------------------------------------------------------------------------
+	public Window<LogEntity> findAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(
+			final List<LogLevel> levels,
+			final ZonedDateTime from,
+			final ZonedDateTime to,
+			final String logger,
+			final ScrollPosition position,
+			final Limit limit,
+			final Sort sort);
+
+	//-------------------------------------------------------------------------------------------------
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.JPA_STREAM_FETCH_SIZE),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	public Stream<LogEntity> streamAllByLogLevelInAndEntryDateBetween(final List<LogLevel> levels, final ZonedDateTime from, final ZonedDateTime to, final Sort sort);
+
+	//-------------------------------------------------------------------------------------------------
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.JPA_STREAM_FETCH_SIZE),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	public Stream<LogEntity> streamAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(
+			final List<LogLevel> levels,
+			final ZonedDateTime from,
+			final ZonedDateTime to,
+			final String logger,
+			final Sort sort);
+
+	//-------------------------------------------------------------------------------------------------
+	@Query("SELECT l.logId FROM #{#entityName} l WHERE l.logLevel = :level AND l.entryDate < :threshold ORDER BY l.entryDate")
+	public List<String> findLogIdsByLogLevelAndEntryDateBefore(@Param("level") final LogLevel level, @Param("threshold") final ZonedDateTime threshold, final Pageable pageable);
+
+	//-------------------------------------------------------------------------------------------------
+	@Query("SELECT l.logId FROM #{#entityName} l WHERE l.logLevel IS NULL AND l.entryDate < :threshold ORDER BY l.entryDate")
+	public List<String> findLogIdsWithoutLogLevelAndEntryDateBefore(@Param("threshold") final ZonedDateTime threshold, final Pageable pageable);
 }
\ No newline at end of file
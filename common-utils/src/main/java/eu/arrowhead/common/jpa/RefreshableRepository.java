@@ -20,6 +20,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 @NoRepositoryBean
 public interface RefreshableRepository<T, ID extends Serializable> extends JpaRepository<T, ID> {
@@ -29,4 +31,20 @@ public interface RefreshableRepository<T, ID extends Serializable> extends JpaRe
 
 	//-------------------------------------------------------------------------------------------------
 	public void refresh(final T t);
+
+	//-------------------------------------------------------------------------------------------------
+	public void refreshAll(final Iterable<? extends T> entities);
+
+	//-------------------------------------------------------------------------------------------------
+	// persists new entities without the select-per-row of saveAll() and detaches them periodically, so the returned entities are detached
+	public <S extends T> List<S> persistAll(final Iterable<S> entities);
+
+	//-------------------------------------------------------------------------------------------------
+	// inserts or updates entities with assigned ids by using the native upsert of the database where it is available (lifecycle callbacks are not invoked,
+	// but the timestamps of the Arrowhead entities are set, and the managed instances of the written rows are detached)
+	public <S extends T> void upsertAll(final Iterable<S> entities);
+
+	//-------------------------------------------------------------------------------------------------
+	// set-based delete that bypasses the persistence context (no cascades and no lifecycle callbacks), returns the number of deleted rows
+	public int deleteAllByIdInChunks(final Collection<ID> ids);
 }
\ No newline at end of file
@@ -17,11 +17,20 @@
 package eu.arrowhead.common.jpa;
 
 import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
 import jakarta.persistence.EntityManager;
 
 public class RefreshableRepositoryImpl<T, ID extends Serializable> extends SimpleJpaRepository<T, ID> implements RefreshableRepository<T, ID> {
@@ -29,7 +38,11 @@ public class RefreshableRepositoryImpl<T, ID extends Serializable> extends Simpl
 	//=================================================================================================
 	// members
 
+	private static final int DELETE_CHUNK_SIZE = 1000;
+
+	private final JpaEntityInformation<T, ?> entityInformation;
 	private final EntityManager entityManager;
+	private final String deleteByIdsQuery;
 
 	//=================================================================================================
 	// methods
@@ -38,7 +51,11 @@ public class RefreshableRepositoryImpl<T, ID extends Serializable> extends Simpl
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public RefreshableRepositoryImpl(final JpaEntityInformation entityInformation, final EntityManager entityManager) {
 		super(entityInformation, entityManager);
+		this.entityInformation = entityInformation;
 		this.entityManager = entityManager;
+		this.deleteByIdsQuery = entityInformation.hasCompositeId() || entityInformation.getIdAttribute() == null
+				? null
+				: "DELETE FROM " + entityInformation.getEntityName() + " x WHERE x." + entityInformation.getIdAttribute().getName() + " IN :ids";
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -47,4 +64,124 @@ public class RefreshableRepositoryImpl<T, ID extends Serializable> extends Simpl
 	public void refresh(final T t) {
 		entityManager.refresh(t);
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	@Transactional
+	public void refreshAll(final Iterable<? extends T> entities) {
+		Assert.notNull(entities, "entities is null");
+
+		for (final T entity : entities) {
+			entityManager.refresh(entity);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	@Transactional
+	public <S extends T> List<S> persistAll(final Iterable<S> entities) {
+		Assert.notNull(entities, "entities is null");
+
+		final List<S> result = new ArrayList<>();
+		final List<S> batch = new ArrayList<>(Constants.JPA_BATCH_SIZE);
+		for (final S entity : entities) {
+			entityManager.persist(entity);
+			result.add(entity);
+			batch.add(entity);
+
+			if (batch.size() == Constants.JPA_BATCH_SIZE) {
+				flushAndDetach(batch);
+			}
+		}
+
+		flushAndDetach(batch);
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	@Transactional
+	public <S extends T> void upsertAll(final Iterable<S> entities) {
+		Assert.notNull(entities, "entities is null");
+
+		// the stateless session does not invoke the lifecycle callbacks, so the timestamps are set here
+		final ZonedDateTime now = Utilities.utcNow();
+		for (final S entity : entities) {
+			Assert.isTrue(!entityInformation.isNew(entity), "entity has no id (generated ids cannot be upserted)");
+			setTimestamps(entity, now);
+		}
+
+		// changes of the persistence context must reach the database before the upserts
+		entityManager.flush();
+
+		final Session session = entityManager.unwrap(Session.class);
+		session.doWork(connection -> {
+			// uses the connection of the current transaction, so closing the stateless session does not close or commit anything
+			try (StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(connection)) {
+				statelessSession.setJdbcBatchSize(Constants.JPA_BATCH_SIZE);
+				for (final S entity : entities) {
+					statelessSession.upsert(entity);
+				}
+			}
+		});
+
+		// stateless sessions bypass the second-level cache, so the cached data may be stale now
+		session.getSessionFactory().getCache().evictEntityData(getDomainClass());
+		session.getSessionFactory().getCache().evictQueryRegions();
+
+		// the managed instances of the written rows are stale too, the other managed entities of the caller's transaction are kept
+		for (final S entity : entities) {
+			entityManager.detach(entityManager.getReference(getDomainClass(), entityInformation.getId(entity)));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	@Transactional
+	public int deleteAllByIdInChunks(final Collection<ID> ids) {
+		Assert.notNull(ids, "ids is null");
+		Assert.state(deleteByIdsQuery != null, "Entity has no single id attribute");
+
+		final List<ID> idList = new ArrayList<>(ids);
+		int count = 0;
+		for (int i = 0; i < idList.size(); i += DELETE_CHUNK_SIZE) {
+			count += entityManager.createQuery(deleteByIdsQuery)
+					.setParameter("ids", idList.subList(i, Math.min(i + DELETE_CHUNK_SIZE, idList.size())))
+					.executeUpdate();
+		}
+
+		return count;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	// the creation time is kept if it is already set (e.g. the entity is loaded before)
+	private void setTimestamps(final Object entity, final ZonedDateTime now) {
+		if (entity instanceof final UnmodifiableArrowheadEntity unmodifiable && unmodifiable.getCreatedAt() == null) {
+			unmodifiable.setCreatedAt(now);
+		}
+
+		if (entity instanceof final BatchableUnmodifiableArrowheadEntity unmodifiable && unmodifiable.getCreatedAt() == null) {
+			unmodifiable.setCreatedAt(now);
+		}
+
+		if (entity instanceof final ArrowheadEntity modifiable) {
+			modifiable.setUpdatedAt(now);
+		}
+
+		if (entity instanceof final BatchableArrowheadEntity modifiable) {
+			modifiable.setUpdatedAt(now);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// only the written entities are detached, so the other managed entities of the caller's transaction are kept
+	private <S extends T> void flushAndDetach(final List<S> batch) {
+		entityManager.flush();
+		batch.forEach(entityManager::detach);
+		batch.clear();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.InvalidParameterException;
+
+@Configuration
+@ConditionalOnProperty(name = Constants.DATASOURCE_REPLICA_ENABLED, havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	//=================================================================================================
+	// members
+
+	private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$DATASOURCE_REPLICA_URLS_WD)
+	private List<String> replicaUrls;
+
+	@Value(Constants.$DATASOURCE_REPLICA_USERNAME_WD)
+	private String replicaUsername;
+
+	@Value(Constants.$DATASOURCE_REPLICA_PASSWORD_WD)
+	private String replicaPassword;
+
+	@Value(Constants.$DATASOURCE_REPLICA_SELECTION_POLICY_WD)
+	private ReplicaSelectionPolicy selectionPolicy;
+
+	@Value(Constants.$DATASOURCE_REPLICA_RETRY_INTERVAL_WD)
+	private long retryInterval;
+
+	@Autowired
+	private Environment environment;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Bean
+	ReplicaRoutingDataSource replicaRoutingDataSource(final DataSourceProperties properties) {
+		final List<String> urls = replicaUrls.stream()
+				.filter(url -> !Utilities.isEmpty(url))
+				.map(String::trim)
+				.toList();
+		if (urls.isEmpty()) {
+			throw new InvalidParameterException("At least one replica URL must be specified in " + Constants.DATASOURCE_REPLICA_URLS);
+		}
+
+		final String username = Utilities.isEmpty(replicaUsername) ? properties.determineUsername() : replicaUsername;
+		final String password = Utilities.isEmpty(replicaPassword) ? properties.determinePassword() : replicaPassword;
+
+		final DataSource primary = createDataSource(properties, properties.determineUrl(), properties.determineUsername(), properties.determinePassword(), ReplicaRoutingDataSource.PRIMARY_KEY);
+		final List<DataSource> replicas = new ArrayList<>(urls.size());
+		for (int i = 0; i < urls.size(); ++i) {
+			replicas.add(createDataSource(properties, urls.get(i), username, password, ReplicaRoutingDataSource.REPLICA_KEY_PREFIX + i));
+		}
+
+		logger.info("Read-only transactions are routed to {} replica(s) by {} policy", replicas.size(), selectionPolicy.name());
+
+		return new ReplicaRoutingDataSource(primary, replicas, selectionPolicy, retryInterval);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the actual connection is requested only when the first statement is executed, at that point the read-only flag of the transaction is already available
+	@Bean
+	@Primary
+	DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private DataSource createDataSource(final DataSourceProperties properties, final String url, final String username, final String password, final String name) {
+		logger.debug("createDataSource started...");
+
+		final HikariDataSource result = properties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.url(url)
+				.username(username)
+				.password(password)
+				.build();
+
+		// the spring.datasource.hikari.* settings apply to every pool
+		Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(result));
+		result.setPoolName(name);
+
+		return result;
+	}
+}
\ No newline at end of file
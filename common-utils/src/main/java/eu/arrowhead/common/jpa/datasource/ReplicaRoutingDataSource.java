@@ -0,0 +1,196 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+// Sends the connection requests of read-only transactions to one of the replicas and everything else to the primary. Must be used behind a
+// LazyConnectionDataSourceProxy, because the read-only flag of the transaction is only known after the transaction manager asked for a connection.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+	//=================================================================================================
+	// members
+
+	public static final String PRIMARY_KEY = "primary";
+	public static final String REPLICA_KEY_PREFIX = "replica-";
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	private final DataSource primary;
+	private final Map<String, DataSource> replicas = new HashMap<>();
+	private final List<String> replicaKeys = new ArrayList<>();
+	private final ReplicaSelectionPolicy selectionPolicy;
+	private final long retryInterval;
+
+	private final AtomicInteger counter = new AtomicInteger();
+	private final Map<String, Long> unhealthyUntil = new ConcurrentHashMap<>();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public ReplicaRoutingDataSource(final DataSource primary, final List<DataSource> replicas, final ReplicaSelectionPolicy selectionPolicy, final long retryInterval) {
+		Assert.notNull(primary, "primary is null");
+		Assert.notEmpty(replicas, "replicas list is empty");
+		Assert.notNull(selectionPolicy, "selectionPolicy is null");
+
+		this.primary = primary;
+		this.selectionPolicy = selectionPolicy;
+		this.retryInterval = retryInterval;
+
+		final Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY_KEY, primary);
+		for (int i = 0; i < replicas.size(); ++i) {
+			final String key = REPLICA_KEY_PREFIX + i;
+			this.replicas.put(key, replicas.get(i));
+			this.replicaKeys.add(key);
+			targets.put(key, replicas.get(i));
+		}
+
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public Connection getConnection() throws SQLException {
+		// every replica is tried at most once, then the primary is used as fallback
+		for (int i = 0; i < replicaKeys.size(); ++i) {
+			final Object key = determineCurrentLookupKey();
+			if (PRIMARY_KEY.equals(key)) {
+				break;
+			}
+
+			try {
+				return replicas.get(key).getConnection();
+			} catch (final SQLException ex) {
+				logger.warn("Replica {} is unavailable, it is skipped for {} ms: {}", key, retryInterval, ex.getMessage());
+				logger.debug(ex);
+				unhealthyUntil.put((String) key, System.currentTimeMillis() + retryInterval);
+			}
+		}
+
+		return primary.getConnection();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public List<String> getUnhealthyReplicas() {
+		final long now = System.currentTimeMillis();
+
+		return replicaKeys.stream()
+				.filter(key -> !isHealthy(key, now))
+				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public void close() {
+		logger.debug("close started...");
+
+		closeDataSource(primary);
+		replicas.values().forEach(this::closeDataSource);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return PRIMARY_KEY;
+		}
+
+		final long now = System.currentTimeMillis();
+		final List<String> candidates = replicaKeys.stream()
+				.filter(key -> isHealthy(key, now))
+				.toList();
+
+		if (candidates.isEmpty()) {
+			return PRIMARY_KEY;
+		}
+
+		switch (selectionPolicy) {
+		case ROUND_ROBIN:
+			return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+		case LEAST_CONNECTIONS:
+			return Collections.min(candidates, (key1, key2) -> Integer.compare(getActiveConnections(replicas.get(key1)), getActiveConnections(replicas.get(key2))));
+		default:
+			throw new IllegalArgumentException("Unknown selection policy: " + selectionPolicy.name());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private boolean isHealthy(final String key, final long now) {
+		final Long until = unhealthyUntil.get(key);
+		if (until == null) {
+			return true;
+		}
+
+		if (until <= now) {
+			// retry interval is over, let's give it another chance
+			unhealthyUntil.remove(key, until);
+			return true;
+		}
+
+		return false;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private int getActiveConnections(final DataSource dataSource) {
+		if (dataSource instanceof final HikariDataSource hikari) {
+			final HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+
+			return pool == null ? 0 : pool.getActiveConnections();
+		}
+
+		// no information
+		return 0;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void closeDataSource(final DataSource dataSource) {
+		if (dataSource instanceof final AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (final Exception ex) {
+				logger.debug(ex);
+			}
+		}
+	}
+}
\ No newline at end of file
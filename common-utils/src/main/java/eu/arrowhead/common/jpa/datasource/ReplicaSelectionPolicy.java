@@ -0,0 +1,26 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa.datasource;
+
+public enum ReplicaSelectionPolicy {
+	ROUND_ROBIN, LEAST_CONNECTIONS;
+
+	//=================================================================================================
+	// members
+
+	public static final String ROUND_ROBIN_VALUE = "ROUND_ROBIN"; // right side must be a constant expression
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import eu.arrowhead.common.Constants;
+import jakarta.persistence.EntityManagerFactory;
+
+@Service
+@ConditionalOnProperty(name = Constants.JPA_CACHE_ENABLED, havingValue = "true")
+public class JpaCacheService {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// region name => hit, miss and put counts (entity regions are named after the entity classes)
+	public Map<String, CacheRegionStatistics> getRegionStatistics() {
+		logger.debug("getRegionStatistics started...");
+
+		final Statistics statistics = getStatistics();
+		final Map<String, CacheRegionStatistics> result = new HashMap<>();
+		for (final String region : statistics.getSecondLevelCacheRegionNames()) {
+			final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+			if (regionStatistics != null) {
+				result.put(region, regionStatistics);
+			}
+		}
+
+		return result;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// returns the ratio of the cache hits among all second-level cache lookups, or -1 if there was no lookup yet
+	public double getHitRatio() {
+		logger.debug("getHitRatio started...");
+
+		final Statistics statistics = getStatistics();
+		final long lookups = statistics.getSecondLevelCacheHitCount() + statistics.getSecondLevelCacheMissCount();
+
+		return lookups == 0 ? -1 : (double) statistics.getSecondLevelCacheHitCount() / lookups;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// should be called after database modifications that bypass Hibernate (e.g. manual changes or scripts)
+	public void evictAll() {
+		logger.debug("evictAll started...");
+
+		entityManagerFactory.getCache().evictAll();
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private Statistics getStatistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+}
\ No newline at end of file
@@ -16,10 +16,18 @@
  *******************************************************************************/
 package eu.arrowhead.common.jpa.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,12 +35,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.logging.LogLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.jpa.LogEntity;
 import eu.arrowhead.common.jpa.LogEntityRepository;
+import eu.arrowhead.common.service.util.KeysetPageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class LogDbService {
@@ -43,11 +59,20 @@ public class LogDbService {
 	private static final List<LogLevel> ALL_LOG_LEVELS = Arrays.asList(LogLevel.values());
 	private static final ZonedDateTime START_OF_TIMES = ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 1, ZoneId.systemDefault());
 
+	private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("^[A-Za-z0-9_]+$");
+	private static final int DATE_ONLY_LENGTH = 10;
+	private static final String MAX_VALUE = "MAXVALUE";
+	private static final String PARTITION_QUERY = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+			+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tableName AND PARTITION_METHOD = 'RANGE COLUMNS' AND PARTITION_NAME IS NOT NULL";
+
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
 	@Autowired
 	private LogEntityRepository<? extends LogEntity> logRepository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	//=================================================================================================
 	// methods
 
@@ -71,4 +96,147 @@ public class LogDbService {
 			throw new InternalServerError("Database operation error");
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	public Window<LogEntity> getLogEntries(final KeysetPageRequest pageRequest, final List<LogLevel> levels, final ZonedDateTime from, final ZonedDateTime to, final String loggerStr) {
+		logger.debug("getLogEntries started...");
+
+		final List<LogLevel> _levels = Utilities.isEmpty(levels) ? ALL_LOG_LEVELS : levels;
+		final ZonedDateTime _from = from == null ? START_OF_TIMES : from;
+		final ZonedDateTime _to = to == null ? Utilities.utcNow() : to;
+
+		try {
+			if (Utilities.isEmpty(loggerStr)) {
+				return logRepository.findAllByLogLevelInAndEntryDateBetween(_levels, _from, _to, pageRequest.position(), pageRequest.limit(), pageRequest.sort());
+			} else {
+				return logRepository.findAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(_levels, _from, _to, loggerStr, pageRequest.position(), pageRequest.limit(), pageRequest.sort());
+			}
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the returned stream must be consumed (and closed) inside the caller's transaction
+	public Stream<LogEntity> streamLogEntries(final Sort sort, final List<LogLevel> levels, final ZonedDateTime from, final ZonedDateTime to, final String loggerStr) {
+		logger.debug("streamLogEntries started...");
+
+		final List<LogLevel> _levels = Utilities.isEmpty(levels) ? ALL_LOG_LEVELS : levels;
+		final ZonedDateTime _from = from == null ? START_OF_TIMES : from;
+		final ZonedDateTime _to = to == null ? Utilities.utcNow() : to;
+
+		try {
+			if (Utilities.isEmpty(loggerStr)) {
+				return logRepository.streamAllByLogLevelInAndEntryDateBetween(_levels, _from, _to, sort);
+			} else {
+				return logRepository.streamAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(_levels, _from, _to, loggerStr, sort);
+			}
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// every chunk is deleted in its own short transaction, so the table is never locked for long
+	public int purgeLogEntries(final LogLevel level, final ZonedDateTime threshold, final int batchSize) {
+		logger.debug("purgeLogEntries started...");
+		Assert.notNull(level, "level is null");
+		Assert.notNull(threshold, "threshold is null");
+		Assert.isTrue(batchSize > 0, "batchSize must be positive");
+
+		return purgeInChunks(pageable -> logRepository.findLogIdsByLogLevelAndEntryDateBefore(level, threshold, pageable), batchSize);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// entries without log level are not matched by any of the level specific purges
+	public int purgeLogEntriesWithoutLevel(final ZonedDateTime threshold, final int batchSize) {
+		logger.debug("purgeLogEntriesWithoutLevel started...");
+		Assert.notNull(threshold, "threshold is null");
+		Assert.isTrue(batchSize > 0, "batchSize must be positive");
+
+		return purgeInChunks(pageable -> logRepository.findLogIdsWithoutLogLevelAndEntryDateBefore(threshold, pageable), batchSize);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// only works with MySQL/MariaDB tables that are partitioned by RANGE COLUMNS on the entry date (partition bounds are interpreted as UTC)
+	@Transactional
+	public List<String> dropExpiredLogPartitions(final String tableName, final ZonedDateTime threshold) {
+		logger.debug("dropExpiredLogPartitions started...");
+		Assert.isTrue(!Utilities.isEmpty(tableName) && TABLE_NAME_PATTERN.matcher(tableName).matches(), "Invalid table name");
+		Assert.notNull(threshold, "threshold is null");
+
+		try {
+			@SuppressWarnings("unchecked")
+			final List<Object[]> partitions = entityManager.createNativeQuery(PARTITION_QUERY)
+					.setParameter("tableName", tableName)
+					.getResultList();
+
+			final LocalDateTime utcThreshold = threshold.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+			final List<String> expired = new ArrayList<>();
+			for (final Object[] partition : partitions) {
+				final LocalDateTime upperBound = parsePartitionBound((String) partition[1]);
+				if (upperBound != null && !upperBound.isAfter(utcThreshold)) {
+					expired.add((String) partition[0]);
+				}
+			}
+
+			if (!expired.isEmpty()) {
+				entityManager.createNativeQuery("ALTER TABLE " + tableName + " DROP PARTITION " + String.join(", ", expired.stream().map(p -> "`" + p + "`").toList()))
+						.executeUpdate();
+			}
+
+			return expired;
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private int purgeInChunks(final Function<Pageable, List<String>> idFinder, final int batchSize) {
+		logger.debug("purgeInChunks started...");
+
+		try {
+			int count = 0;
+			List<String> ids;
+			do {
+				ids = idFinder.apply(PageRequest.of(0, batchSize));
+				if (!ids.isEmpty()) {
+					logRepository.deleteAllByIdInBatch(ids);
+					count += ids.size();
+				}
+			} while (ids.size() == batchSize);
+
+			return count;
+		} catch (final Exception ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+			throw new InternalServerError("Database operation error");
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private LocalDateTime parsePartitionBound(final String description) {
+		logger.debug("parsePartitionBound started...");
+
+		if (Utilities.isEmpty(description) || description.trim().equalsIgnoreCase(MAX_VALUE)) {
+			return null;
+		}
+
+		final String bound = description.trim().replace("'", "");
+		try {
+			return bound.length() == DATE_ONLY_LENGTH ? LocalDate.parse(bound).atStartOfDay() : LocalDateTime.parse(bound.replace(' ', 'T'));
+		} catch (final DateTimeParseException ex) {
+			logger.debug("Unsupported partition bound: {}", description);
+			return null;
+		}
+	}
 }
\ No newline at end of file
@@ -18,9 +18,14 @@ package eu.arrowhead.common.mqtt;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class MqttResourceManager {
 
@@ -38,17 +43,32 @@ public class MqttResourceManager {
 	private ThreadPoolExecutor threadpool;
 	private boolean threadpoolFixed;
 
-	private static final Object LOCK = new Object();
+	// virtual thread mode: one thread per message, the limit is only applied when latency is high
+	private ExecutorService virtualExecutor;
+	private final AtomicInteger activeVirtualCount = new AtomicInteger();
+	private volatile int virtualLimit = Integer.MAX_VALUE;
+
+	// not a monitor, so virtual threads are not pinned to their carrier while waiting
+	private final ReentrantLock lock = new ReentrantLock();
 
 	//=================================================================================================
 	// methods
 
 	//-------------------------------------------------------------------------------------------------
 	public MqttResourceManager() {
-		threadpool = (ThreadPoolExecutor) Executors.newCachedThreadPool();
-		threadpool.setCorePoolSize(MIN_THREAD);
-		threadpool.setMaximumPoolSize(NO_LIMIT);
-		threadpool.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
+		this(false);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public MqttResourceManager(final boolean virtualThreads) {
+		if (virtualThreads) {
+			virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		} else {
+			threadpool = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+			threadpool.setCorePoolSize(MIN_THREAD);
+			threadpool.setMaximumPoolSize(NO_LIMIT);
+			threadpool.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
+		}
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -56,14 +76,22 @@ public class MqttResourceManager {
 		return this.threadpool;
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	public Executor getExecutor() {
+		return virtualExecutor != null ? this::executeOnVirtualThread : threadpool;
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	public void registerLatency(final long latency) {
-		synchronized (LOCK) {
+		lock.lock();
+		try {
 			if (latencies.size() == MEASURE_SIZE) {
 				latencies.pollLast();
 			}
 			latencies.addFirst(latency);
 			reconsider();
+		} finally {
+			lock.unlock();
 		}
 	}
 
@@ -86,11 +114,40 @@ public class MqttResourceManager {
 		if (shouldFix && threadpoolFixed) {
 			return;
 		} else if (shouldFix && !threadpoolFixed) {
-			threadpool.setMaximumPoolSize(threadpool.getActiveCount());
+			if (virtualExecutor != null) {
+				virtualLimit = activeVirtualCount.get();
+			} else {
+				threadpool.setMaximumPoolSize(threadpool.getActiveCount());
+			}
 			threadpoolFixed = true;
 		} else if (!shouldFix && threadpoolFixed) {
-			threadpool.setMaximumPoolSize(NO_LIMIT);
+			if (virtualExecutor != null) {
+				virtualLimit = Integer.MAX_VALUE;
+			} else {
+				threadpool.setMaximumPoolSize(NO_LIMIT);
+			}
 			threadpoolFixed = false;
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void executeOnVirtualThread(final Runnable task) {
+		if (activeVirtualCount.incrementAndGet() > virtualLimit) {
+			activeVirtualCount.decrementAndGet();
+			throw new RejectedExecutionException("Too many messages are under processing");
+		}
+
+		try {
+			virtualExecutor.execute(() -> {
+				try {
+					task.run();
+				} finally {
+					activeVirtualCount.decrementAndGet();
+				}
+			});
+		} catch (final RejectedExecutionException ex) {
+			activeVirtualCount.decrementAndGet();
+			throw ex;
+		}
+	}
 }
\ No newline at end of file
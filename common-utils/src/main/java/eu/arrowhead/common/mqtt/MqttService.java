@@ -16,22 +16,10 @@
  *******************************************************************************/
 package eu.arrowhead.common.mqtt;
 
-import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.UnrecoverableKeyException;
-import java.security.cert.CertificateException;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
-import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManagerFactory;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.paho.client.mqttv3.MqttClient;
@@ -45,6 +33,7 @@ import org.springframework.util.Assert;
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.SSLProperties;
 import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.security.SSLContextFactory;
 
 @Component
 @ConditionalOnProperty(name = Constants.MQTT_API_ENABLED, matchIfMissing = false)
@@ -55,13 +44,13 @@ public class MqttService {
 
 	private static final String SSL_PREFIX = Constants.SSL + "://";
 	private static final String TCP_PREFIX = Constants.TCP + "://";
-	private static final String SSL_KEY_MANAGER_FACTORY_ALGORITHM = "ssl.KeyManagerFactory.algorithm";
-	private static final String SSL_TRUST_MANAGER_FACTORY_ALGORITHM = "ssl.TrustManagerFactory.algorithm";
-	private static final String TLS_VERSION = "TLSv1.2";
 
 	@Autowired
 	private SSLProperties sslProperties;
 
+	@Autowired
+	private SSLContextFactory sslContextFactory;
+
 	private final Map<String, MqttClient> clientMap = new ConcurrentHashMap<>();
 
 	private final Logger logger = LogManager.getLogger(getClass());
@@ -149,7 +138,7 @@ public class MqttService {
 
 		if (sslProperties.isSslEnabled()) {
 			try {
-				options.setSocketFactory(sslSettings());
+				options.setSocketFactory(sslContextFactory.getSSLSocketFactory());
 			} catch (final Exception ex) {
 				logger.debug(ex);
 				logger.error("Creating SSL context is failed. Reason: " + ex.getMessage());
@@ -163,36 +152,4 @@ public class MqttService {
 
 		logger.info("Connected to MQTT broker: " + client.getServerURI());
 	}
-
-	//-------------------------------------------------------------------------------------------------
-	private SSLSocketFactory sslSettings() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException, KeyManagementException {
-		logger.debug("sslSettings started");
-
-		final String messageNotDefined = " is not defined";
-		Assert.isTrue(!Utilities.isEmpty(sslProperties.getKeyStoreType()), Constants.SERVER_SSL_KEY__STORE__TYPE + messageNotDefined);
-		Assert.notNull(sslProperties.getKeyStore(), Constants.SERVER_SSL_KEY__STORE + messageNotDefined);
-		Assert.isTrue(sslProperties.getKeyStore().exists(), Constants.SERVER_SSL_KEY__STORE + " file is not found");
-		Assert.notNull(sslProperties.getKeyStorePassword(), Constants.SERVER_SSL_KEY__STORE__PASSWORD + messageNotDefined);
-		Assert.notNull(sslProperties.getKeyPassword(), Constants.SERVER_SSL_KEY__PASSWORD + messageNotDefined);
-		Assert.notNull(sslProperties.getTrustStore(), Constants.SERVER_SSL_TRUST__STORE + messageNotDefined);
-		Assert.isTrue(sslProperties.getTrustStore().exists(), Constants.SERVER_SSL_TRUST__STORE + " file is not found");
-		Assert.notNull(sslProperties.getTrustStorePassword(), Constants.SERVER_SSL_TRUST__STORE__PASSWORD + messageNotDefined);
-
-		final KeyStore keyStore = KeyStore.getInstance(sslProperties.getKeyStoreType());
-		keyStore.load(sslProperties.getKeyStore().getInputStream(), sslProperties.getKeyStorePassword().toCharArray());
-		final String kmfAlgorithm = System.getProperty(SSL_KEY_MANAGER_FACTORY_ALGORITHM, KeyManagerFactory.getDefaultAlgorithm());
-		final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(kmfAlgorithm);
-		keyManagerFactory.init(keyStore, sslProperties.getKeyStorePassword().toCharArray());
-
-		final KeyStore trustStore = KeyStore.getInstance(sslProperties.getKeyStoreType());
-		trustStore.load(sslProperties.getTrustStore().getInputStream(), sslProperties.getTrustStorePassword().toCharArray());
-		final String tmfAlgorithm = System.getProperty(SSL_TRUST_MANAGER_FACTORY_ALGORITHM, TrustManagerFactory.getDefaultAlgorithm());
-		final TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(tmfAlgorithm);
-		trustManagerFactory.init(trustStore);
-
-		final SSLContext sslContext = SSLContext.getInstance(TLS_VERSION);
-		sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
-
-		return sslContext.getSocketFactory();
-	}
 }
\ No newline at end of file
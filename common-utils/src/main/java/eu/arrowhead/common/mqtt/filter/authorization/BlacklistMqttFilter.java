@@ -36,14 +36,13 @@ import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.http.ArrowheadHttpService;
 import eu.arrowhead.common.model.InterfaceModel;
 import eu.arrowhead.common.model.ServiceModel;
-import eu.arrowhead.common.mqtt.filter.ArrowheadMqttFilter;
 import eu.arrowhead.common.mqtt.model.MqttInterfaceModel;
 import eu.arrowhead.common.mqtt.model.MqttRequestModel;
 import eu.arrowhead.dto.ServiceInstanceLookupRequestDTO;
 
 @Service
 @ConditionalOnProperty(name = { Constants.MQTT_API_ENABLED, Constants.ENABLE_BLACKLIST_FILTER }, havingValue = "true", matchIfMissing = false)
-public class BlacklistMqttFilter implements ArrowheadMqttFilter {
+public class BlacklistMqttFilter implements IAuthorizationCheckMqttFilter {
 
 	//=================================================================================================
 	// members
@@ -31,14 +31,13 @@ import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.http.ArrowheadHttpService;
 import eu.arrowhead.common.model.InterfaceModel;
 import eu.arrowhead.common.model.ServiceModel;
-import eu.arrowhead.common.mqtt.filter.ArrowheadMqttFilter;
 import eu.arrowhead.common.mqtt.model.MqttInterfaceModel;
 import eu.arrowhead.common.mqtt.model.MqttRequestModel;
 import eu.arrowhead.common.service.validation.name.ServiceDefinitionNameNormalizer;
 import eu.arrowhead.dto.AuthorizationVerifyRequestDTO;
 import eu.arrowhead.dto.enums.AuthorizationTargetType;
 
-public class ManagementServiceMqttFilter implements ArrowheadMqttFilter {
+public class ManagementServiceMqttFilter implements IAuthorizationCheckMqttFilter {
 
 	//=================================================================================================
 	// members
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package eu.arrowhead.common.mqtt.handler;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -26,8 +27,10 @@ import org.springframework.util.Assert;
 
 import eu.arrowhead.common.mqtt.MqttResourceManager;
 import eu.arrowhead.common.mqtt.filter.ArrowheadMqttFilter;
+import eu.arrowhead.common.mqtt.filter.authorization.IAuthorizationCheckMqttFilter;
 import eu.arrowhead.common.mqtt.model.MqttMessageContainer;
 import eu.arrowhead.common.mqtt.model.MqttRequestModel;
+import eu.arrowhead.common.security.ParallelAuthorizationChecker;
 
 public class MqttMessageContainerHandler implements Runnable {
 
@@ -40,6 +43,9 @@ public class MqttMessageContainerHandler implements Runnable {
 	@Autowired
 	private List<ArrowheadMqttFilter> filters;
 
+	@Autowired
+	private ParallelAuthorizationChecker authorizationChecker;
+
 	private final Logger logger = LogManager.getLogger(getClass());
 
 	private final MqttMessageContainer msgContainer;
@@ -71,9 +77,7 @@ public class MqttMessageContainerHandler implements Runnable {
 			request = parsed.getValue();
 
 			// Filter chain
-			for (final ArrowheadMqttFilter filter : filters) {
-				filter.doFilter(parsed.getKey(), request);
-			}
+			doFilters(parsed.getKey(), request);
 
 			// API call
 			topicHandler.handle(request);
@@ -84,4 +88,32 @@ public class MqttMessageContainerHandler implements Runnable {
 			resourceManager.registerLatency(endTime - startTime);
 		}
 	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void doFilters(final String authKey, final MqttRequestModel request) {
+		if (!authorizationChecker.isEnabled()) {
+			for (final ArrowheadMqttFilter filter : filters) {
+				filter.doFilter(authKey, request);
+			}
+
+			return;
+		}
+
+		// consecutive authorization checks are evaluated concurrently (the requester is already authenticated by then)
+		final List<Runnable> checks = new ArrayList<>();
+		for (final ArrowheadMqttFilter filter : filters) {
+			if (filter instanceof IAuthorizationCheckMqttFilter) {
+				checks.add(() -> filter.doFilter(authKey, request));
+			} else {
+				authorizationChecker.check(checks);
+				checks.clear();
+				filter.doFilter(authKey, request);
+			}
+		}
+
+		authorizationChecker.check(checks);
+	}
 }
\ No newline at end of file
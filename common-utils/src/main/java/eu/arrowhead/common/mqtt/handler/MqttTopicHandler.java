@@ -19,17 +19,19 @@ package eu.arrowhead.common.mqtt.handler;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.common.mqtt.MqttResourceManager;
@@ -54,11 +56,14 @@ public abstract class MqttTopicHandler extends Thread {
 
 	private BlockingQueue<MqttMessageContainer> queue;
 
+	@Value(Constants.$VIRTUAL_THREADS_ENABLED_WD)
+	private boolean virtualThreads;
+
 	private boolean doWork = false;
 
-	private final MqttResourceManager resourceManager = new MqttResourceManager();
+	private MqttResourceManager resourceManager;
 
-	private ThreadPoolExecutor threadpool = null;
+	private Executor threadpool = null;
 
 	private final Logger logger = LogManager.getLogger(getClass());
 
@@ -70,7 +75,8 @@ public abstract class MqttTopicHandler extends Thread {
 		logger.debug("init started...");
 
 		this.queue = queue;
-		this.threadpool = resourceManager.getThreadpool();
+		this.resourceManager = new MqttResourceManager(virtualThreads);
+		this.threadpool = resourceManager.getExecutor();
 		filters.sort((a, b) -> a.order() - b.order());
 	}
 
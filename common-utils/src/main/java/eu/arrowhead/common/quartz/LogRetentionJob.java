@@ -0,0 +1,162 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.quartz;
+
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.stereotype.Component;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.jpa.service.LogDbService;
+import jakarta.annotation.PostConstruct;
+
+@Component
+@DisallowConcurrentExecution
+public class LogRetentionJob implements Job {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$LOG_RETENTION_DAYS_WD)
+	private int retentionDays;
+
+	@Value(Constants.$LOG_RETENTION_DAYS_PER_LEVEL)
+	private Map<String, Integer> rawRetentionDaysPerLevel;
+
+	@Value(Constants.$LOG_RETENTION_BATCH_SIZE_WD)
+	private int batchSize;
+
+	@Value(Constants.$LOG_RETENTION_PARTITIONED_TABLE_WD)
+	private String partitionedTable;
+
+	@Autowired
+	private LogDbService dbService;
+
+	private final Map<LogLevel, Integer> retentionDaysPerLevel = new EnumMap<>(LogLevel.class);
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Override
+	public void execute(final JobExecutionContext context) throws JobExecutionException {
+		logger.debug("Log retention job called...");
+
+		try {
+			final ZonedDateTime now = Utilities.utcNow();
+			final Map<LogLevel, ZonedDateTime> thresholds = calculateThresholds(now);
+			// entries without log level follow the default retention
+			final ZonedDateTime defaultThreshold = retentionDays > 0 ? now.minusDays(retentionDays) : null;
+			if (thresholds.isEmpty() && defaultThreshold == null) {
+				return;
+			}
+
+			if (!Utilities.isEmpty(partitionedTable) && thresholds.size() == LogLevel.values().length && defaultThreshold != null) {
+				// a partition contains entries of every level (and without level), so it can be dropped only if it is expired for all of them
+				final ZonedDateTime oldest = thresholds.values().stream().min(ZonedDateTime::compareTo).get();
+				dropExpiredPartitions(oldest.isBefore(defaultThreshold) ? oldest : defaultThreshold);
+			}
+
+			int count = 0;
+			for (final Entry<LogLevel, ZonedDateTime> entry : thresholds.entrySet()) {
+				count += dbService.purgeLogEntries(entry.getKey(), entry.getValue(), batchSize);
+			}
+
+			if (defaultThreshold != null) {
+				count += dbService.purgeLogEntriesWithoutLevel(defaultThreshold, batchSize);
+			}
+
+			if (count > 0) {
+				logger.info("{} expired log entries are removed", count);
+			}
+		} catch (final ArrowheadException ex) {
+			logger.error(ex.getMessage());
+			logger.debug(ex);
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	private void init() {
+		if (batchSize < 1) {
+			throw new InvalidParameterException("Log retention batch size must be positive");
+		}
+
+		if (!Utilities.isEmpty(rawRetentionDaysPerLevel)) {
+			for (final Entry<String, Integer> entry : rawRetentionDaysPerLevel.entrySet()) {
+				if (!Utilities.isEnumValue(entry.getKey().trim().toUpperCase(), LogLevel.class)) {
+					throw new InvalidParameterException("Invalid log level in log retention settings: " + entry.getKey());
+				}
+
+				retentionDaysPerLevel.put(LogLevel.valueOf(entry.getKey().trim().toUpperCase()), entry.getValue());
+			}
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void dropExpiredPartitions(final ZonedDateTime threshold) {
+		logger.debug("dropExpiredPartitions started...");
+
+		try {
+			final List<String> dropped = dbService.dropExpiredLogPartitions(partitionedTable, threshold);
+			if (!dropped.isEmpty()) {
+				logger.info("Expired log partitions are dropped: {}", dropped);
+			}
+		} catch (final ArrowheadException ex) {
+			// chunked deletion still works, so it is not a fatal problem
+			logger.warn("Dropping expired log partitions failed: {}", ex.getMessage());
+			logger.debug(ex);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// a non-positive retention means that the entries of the related level are kept forever
+	private Map<LogLevel, ZonedDateTime> calculateThresholds(final ZonedDateTime now) {
+		logger.debug("calculateThresholds started...");
+
+		final Map<LogLevel, ZonedDateTime> result = new EnumMap<>(LogLevel.class);
+		for (final LogLevel level : LogLevel.values()) {
+			final Integer days = retentionDaysPerLevel.getOrDefault(level, retentionDays);
+			if (days != null && days > 0) {
+				result.put(level, now.minusDays(days));
+			}
+		}
+
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.quartz;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.quartz.JobDetail;
+import org.quartz.SimpleTrigger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.quartz.JobDetailFactoryBean;
+import org.springframework.scheduling.quartz.SimpleTriggerFactoryBean;
+
+import eu.arrowhead.common.Constants;
+import jakarta.annotation.PostConstruct;
+
+@Configuration
+@EnableAutoConfiguration
+@ConditionalOnProperty(name = Constants.SERVICE_COLLECTOR_SNAPSHOT_ENABLED, havingValue = "true", matchIfMissing = false)
+public class ServiceCollectorSnapshotConfig {
+
+	//=================================================================================================
+	// members
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$SERVICE_COLLECTOR_SNAPSHOT_INTERVAL_WD)
+	private long interval;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Bean(Constants.SERVICE_COLLECTOR_SNAPSHOT_JOB_FACTORY)
+	JobDetailFactoryBean serviceCollectorSnapshotJobDetail() {
+		final JobDetailFactoryBean jobDetailFactory = new JobDetailFactoryBean();
+		jobDetailFactory.setJobClass(ServiceCollectorSnapshotJob.class);
+		jobDetailFactory.setDescription("Refreshing and saving the collected service models");
+		jobDetailFactory.setDurability(true);
+		return jobDetailFactory;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Bean(Constants.SERVICE_COLLECTOR_SNAPSHOT_TRIGGER)
+	SimpleTriggerFactoryBean serviceCollectorSnapshotTrigger(@Qualifier(Constants.SERVICE_COLLECTOR_SNAPSHOT_JOB_FACTORY) final JobDetail job) {
+		final SimpleTriggerFactoryBean trigger = new SimpleTriggerFactoryBean();
+		trigger.setJobDetail(job);
+		trigger.setRepeatInterval(interval);
+		trigger.setRepeatCount(SimpleTrigger.REPEAT_INDEFINITELY);
+		return trigger;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	public void init() {
+		logger.info("Service collector snapshot job is initialized.");
+	}
+}
\ No newline at end of file
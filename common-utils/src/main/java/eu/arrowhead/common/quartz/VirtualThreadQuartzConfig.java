@@ -0,0 +1,46 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.quartz;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import eu.arrowhead.common.Constants;
+
+// Tomcat switches to virtual threads by the same property in Spring Boot itself, this covers the Quartz jobs
+@Configuration
+@ConditionalOnProperty(name = Constants.VIRTUAL_THREADS_ENABLED, havingValue = "true", matchIfMissing = false)
+public class VirtualThreadQuartzConfig {
+
+	//=================================================================================================
+	// members
+
+	private static final String THREAD_NAME_PREFIX = "quartz-";
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Bean
+	SchedulerFactoryBeanCustomizer virtualThreadSchedulerCustomizer() {
+		// jobs run on virtual threads instead of the fixed size Quartz worker pool
+		return schedulerFactoryBean -> schedulerFactoryBean.setTaskExecutor(new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.InternalServerError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class ParallelAuthorizationChecker {
+
+	//=================================================================================================
+	// members
+
+	@Value(Constants.$PARALLEL_AUTHORIZATION_CHECKS_ENABLED_WD)
+	private boolean enabled;
+
+	@Value(Constants.$PARALLEL_AUTHORIZATION_CHECKS_MAX_THREADS_WD)
+	private int maxThreads;
+
+	@Value(Constants.$VIRTUAL_THREADS_ENABLED_WD)
+	private boolean virtualThreads;
+
+	private ExecutorService executor;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// a check signals denial by throwing an exception; the first one is rethrown without waiting for the others
+	public void check(final List<Runnable> checks) {
+		logger.debug("check started...");
+		Assert.notNull(checks, "checks list is null");
+
+		if (executor == null || checks.size() < 2) {
+			checks.forEach(Runnable::run);
+			return;
+		}
+
+		final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+		final List<Future<Void>> futures = new ArrayList<>(checks.size());
+		try {
+			for (final Runnable check : checks) {
+				try {
+					futures.add(completionService.submit(check, null));
+				} catch (final RejectedExecutionException ex) {
+					// every thread is busy, the check runs on the caller thread
+					check.run();
+				}
+			}
+
+			for (int i = 0; i < futures.size(); ++i) {
+				completionService.take().get();
+			}
+		} catch (final ExecutionException ex) {
+			throw unwrap(ex);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InternalServerError("Interrupted while waiting for authorization checks");
+		} finally {
+			// pending checks are no longer needed after a denial
+			futures.forEach(f -> f.cancel(true));
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@PostConstruct
+	private void init() {
+		if (enabled) {
+			executor = Utilities.createBoundedExecutor(maxThreads, 0, virtualThreads);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@PreDestroy
+	private void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private RuntimeException unwrap(final ExecutionException ex) {
+		final Throwable cause = ex.getCause();
+		if (cause instanceof RuntimeException) {
+			return (RuntimeException) cause;
+		}
+
+		return new InternalServerError(cause == null ? ex.getMessage() : cause.getMessage(), cause);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,352 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.security;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
+import java.util.List;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.SSLProperties;
+import eu.arrowhead.common.Utilities;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolConfig.Protocol;
+import io.netty.handler.ssl.ApplicationProtocolConfig.SelectedListenerFailureBehavior;
+import io.netty.handler.ssl.ApplicationProtocolConfig.SelectorFailureBehavior;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+
+// Loads the key and trust stores once and shares the resulting TLS contexts between the HTTP and MQTT clients, so every connection uses the same session cache
+@Component
+public class SSLContextFactory {
+
+	//=================================================================================================
+	// members
+
+	private static final String SSL_KEY_MANAGER_FACTORY_ALGORITHM = "ssl.KeyManagerFactory.algorithm";
+	private static final String SSL_TRUST_MANAGER_FACTORY_ALGORITHM = "ssl.TrustManagerFactory.algorithm";
+	private static final String DEFAULT_PROTOCOL = "TLS";
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	@Value(Constants.$TLS_PROTOCOLS_WD)
+	private List<String> protocols;
+
+	@Value(Constants.$TLS_SESSION_CACHE_SIZE_WD)
+	private int sessionCacheSize;
+
+	@Value(Constants.$TLS_SESSION_TIMEOUT_WD)
+	private int sessionTimeout;
+
+	@Value(Constants.$TLS_PROVIDER_WD)
+	private String provider;
+
+	@Autowired
+	private SSLProperties sslProperties;
+
+	private KeyManagerFactory keyManagerFactory;
+	private TrustManagerFactory trustManagerFactory;
+	private SslContext clientContext;
+	private SslContext http2ClientContext;
+	private SSLContext sslContext;
+	private SSLSocketFactory sslSocketFactory;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	// Netty client context used by the HTTP client
+	public synchronized SslContext getClientContext() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException {
+		logger.debug("getClientContext started...");
+
+		if (clientContext == null) {
+			clientContext = createClientContext(false);
+		}
+
+		return clientContext;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// Netty client context that offers HTTP/2 and HTTP/1.1 during the TLS handshake (ALPN)
+	public synchronized SslContext getHttp2ClientContext() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException {
+		logger.debug("getHttp2ClientContext started...");
+
+		if (http2ClientContext == null) {
+			http2ClientContext = createClientContext(true);
+		}
+
+		return http2ClientContext;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// JSSE context used by the MQTT client
+	public synchronized SSLContext getSSLContext() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException, KeyManagementException {
+		logger.debug("getSSLContext started...");
+
+		if (sslContext == null) {
+			loadStores();
+
+			// the configured protocol versions are enforced by the socket factory (see getSSLSocketFactory())
+			final SSLContext context = SSLContext.getInstance(DEFAULT_PROTOCOL);
+			context.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+
+			final SSLSessionContext sessionContext = context.getClientSessionContext();
+			if (sessionCacheSize > 0) {
+				sessionContext.setSessionCacheSize(sessionCacheSize);
+			}
+
+			if (sessionTimeout > 0) {
+				sessionContext.setSessionTimeout(sessionTimeout);
+			}
+
+			sslContext = context;
+		}
+
+		return sslContext;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// socket factory used by the MQTT client, its sockets only enable the configured protocol versions
+	public synchronized SSLSocketFactory getSSLSocketFactory() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException, KeyManagementException {
+		logger.debug("getSSLSocketFactory started...");
+
+		if (sslSocketFactory == null) {
+			final SSLSocketFactory socketFactory = getSSLContext().getSocketFactory();
+			final List<String> usedProtocols = getProtocols();
+			sslSocketFactory = usedProtocols.isEmpty() ? socketFactory : new ProtocolRestrictingSocketFactory(socketFactory, usedProtocols.toArray(String[]::new));
+		}
+
+		return sslSocketFactory;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private SslContext createClientContext(final boolean alpn) throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException {
+		loadStores();
+
+		final SslContextBuilder builder = SslContextBuilder.forClient()
+				.sslProvider(getProvider())
+				.keyStoreType(sslProperties.getKeyStoreType())
+				.keyManager(keyManagerFactory)
+				.trustManager(trustManagerFactory);
+
+		final List<String> usedProtocols = getProtocols();
+		if (!usedProtocols.isEmpty()) {
+			builder.protocols(usedProtocols);
+		}
+
+		if (sessionCacheSize > 0) {
+			builder.sessionCacheSize(sessionCacheSize);
+		}
+
+		if (sessionTimeout > 0) {
+			builder.sessionTimeout(sessionTimeout);
+		}
+
+		if (alpn) {
+			builder.applicationProtocolConfig(new ApplicationProtocolConfig(
+					Protocol.ALPN,
+					SelectorFailureBehavior.NO_ADVERTISE,
+					SelectedListenerFailureBehavior.ACCEPT,
+					ApplicationProtocolNames.HTTP_2,
+					ApplicationProtocolNames.HTTP_1_1));
+		}
+
+		return builder.build();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void loadStores() throws KeyStoreException, NoSuchAlgorithmException, CertificateException, IOException, UnrecoverableKeyException {
+		logger.debug("loadStores started...");
+
+		if (keyManagerFactory != null && trustManagerFactory != null) {
+			return;
+		}
+
+		final String messageNotDefined = " is not defined";
+		Assert.isTrue(!Utilities.isEmpty(sslProperties.getKeyStoreType()), Constants.SERVER_SSL_KEY__STORE__TYPE + messageNotDefined);
+		Assert.notNull(sslProperties.getKeyStore(), Constants.SERVER_SSL_KEY__STORE + messageNotDefined);
+		Assert.isTrue(sslProperties.getKeyStore().exists(), Constants.SERVER_SSL_KEY__STORE + " file is not found");
+		Assert.notNull(sslProperties.getKeyStorePassword(), Constants.SERVER_SSL_KEY__STORE__PASSWORD + messageNotDefined);
+		Assert.notNull(sslProperties.getKeyPassword(), Constants.SERVER_SSL_KEY__PASSWORD + messageNotDefined);
+		Assert.notNull(sslProperties.getTrustStore(), Constants.SERVER_SSL_TRUST__STORE + messageNotDefined);
+		Assert.isTrue(sslProperties.getTrustStore().exists(), Constants.SERVER_SSL_TRUST__STORE + " file is not found");
+		Assert.notNull(sslProperties.getTrustStorePassword(), Constants.SERVER_SSL_TRUST__STORE__PASSWORD + messageNotDefined);
+
+		final KeyStore keyStore = KeyStore.getInstance(sslProperties.getKeyStoreType());
+		keyStore.load(sslProperties.getKeyStore().getInputStream(), sslProperties.getKeyStorePassword().toCharArray());
+		final String kmfAlgorithm = System.getProperty(SSL_KEY_MANAGER_FACTORY_ALGORITHM, KeyManagerFactory.getDefaultAlgorithm());
+		final KeyManagerFactory kmf = KeyManagerFactory.getInstance(kmfAlgorithm);
+		kmf.init(keyStore, sslProperties.getKeyStorePassword().toCharArray());
+
+		final KeyStore trustStore = KeyStore.getInstance(sslProperties.getKeyStoreType());
+		trustStore.load(sslProperties.getTrustStore().getInputStream(), sslProperties.getTrustStorePassword().toCharArray());
+		final String tmfAlgorithm = System.getProperty(SSL_TRUST_MANAGER_FACTORY_ALGORITHM, TrustManagerFactory.getDefaultAlgorithm());
+		final TrustManagerFactory tmf = TrustManagerFactory.getInstance(tmfAlgorithm);
+		tmf.init(trustStore);
+
+		keyManagerFactory = kmf;
+		trustManagerFactory = tmf;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private List<String> getProtocols() {
+		logger.debug("getProtocols started...");
+
+		if (protocols == null) {
+			return List.of();
+		}
+
+		return protocols
+				.stream()
+				.filter(p -> !Utilities.isEmpty(p))
+				.map(p -> p.trim())
+				.toList();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private SslProvider getProvider() {
+		logger.debug("getProvider started...");
+
+		if (Utilities.isEmpty(provider)) {
+			return SslProvider.JDK;
+		}
+
+		final SslProvider result;
+		try {
+			result = SslProvider.valueOf(provider.trim().toUpperCase());
+		} catch (final IllegalArgumentException ex) {
+			throw new IllegalArgumentException(Constants.TLS_PROVIDER + " is invalid: " + provider);
+		}
+
+		if (result != SslProvider.JDK && !OpenSsl.isAvailable()) {
+			// native library is not on the classpath
+			logger.warn("TLS provider {} is not available, falling back to JDK", result.name());
+			return SslProvider.JDK;
+		}
+
+		return result;
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class ProtocolRestrictingSocketFactory extends SSLSocketFactory {
+
+		//=================================================================================================
+		// members
+
+		private final SSLSocketFactory delegate;
+		private final String[] protocols;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		ProtocolRestrictingSocketFactory(final SSLSocketFactory delegate, final String[] protocols) {
+			this.delegate = delegate;
+			this.protocols = protocols;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public String[] getDefaultCipherSuites() {
+			return delegate.getDefaultCipherSuites();
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public String[] getSupportedCipherSuites() {
+			return delegate.getSupportedCipherSuites();
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Socket createSocket() throws IOException {
+			return restrict(delegate.createSocket());
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Socket createSocket(final Socket socket, final String host, final int port, final boolean autoClose) throws IOException {
+			return restrict(delegate.createSocket(socket, host, port, autoClose));
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Socket createSocket(final String host, final int port) throws IOException {
+			return restrict(delegate.createSocket(host, port));
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Socket createSocket(final String host, final int port, final InetAddress localHost, final int localPort) throws IOException {
+			return restrict(delegate.createSocket(host, port, localHost, localPort));
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Socket createSocket(final InetAddress host, final int port) throws IOException {
+			return restrict(delegate.createSocket(host, port));
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		public Socket createSocket(final InetAddress address, final int port, final InetAddress localAddress, final int localPort) throws IOException {
+			return restrict(delegate.createSocket(address, port, localAddress, localPort));
+		}
+
+		//=================================================================================================
+		// assistant methods
+
+		//-------------------------------------------------------------------------------------------------
+		private Socket restrict(final Socket socket) {
+			if (socket instanceof final SSLSocket sslSocket) {
+				sslSocket.setEnabledProtocols(protocols);
+			}
+
+			return socket;
+		}
+	}
+}
\ No newline at end of file
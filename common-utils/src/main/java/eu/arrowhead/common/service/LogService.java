@@ -26,17 +26,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.logging.LogLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.jpa.LogEntity;
 import eu.arrowhead.common.jpa.service.LogDbService;
+import eu.arrowhead.common.service.stream.StreamingFormat;
+import eu.arrowhead.common.service.stream.StreamingResponseService;
+import eu.arrowhead.common.service.util.KeysetPageRequest;
 import eu.arrowhead.common.service.validation.LogValidation;
+import eu.arrowhead.dto.LogCursorRequestDTO;
+import eu.arrowhead.dto.LogEntryCursorListResponseDTO;
 import eu.arrowhead.dto.LogEntryDTO;
 import eu.arrowhead.dto.LogEntryListResponseDTO;
 import eu.arrowhead.dto.LogRequestDTO;
+import eu.arrowhead.dto.PageDTO;
 
 @Service
 public class LogService {
@@ -55,6 +65,9 @@ public class LogService {
 	@Autowired
 	private LogDbService dbService;
 
+	@Autowired
+	private StreamingResponseService streamingService;
+
 	private final Logger logger = LogManager.getLogger(this.getClass());
 
 	//=================================================================================================
@@ -80,6 +93,54 @@ public class LogService {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	public LogEntryCursorListResponseDTO getLogEntriesByCursor(final LogCursorRequestDTO dto, final String origin) {
+		logger.debug("getLogEntriesByCursor started...");
+
+		validator.validateLogCursorRequest(dto, origin);
+		final KeysetPageRequest pageRequest = pageService.getKeysetPageRequest(
+				dto == null ? null : dto.pagination(),
+				Direction.DESC,
+				LogEntity.KEYSET_SORTABLE_FIELDS_BY,
+				LogEntity.DEFAULT_SORT_FIELD,
+				LogEntity.class,
+				origin);
+		final ZonedDateTime from = Utilities.parseUTCStringToZonedDateTime(dto == null ? null : dto.from());
+		final ZonedDateTime to = Utilities.parseUTCStringToZonedDateTime(dto == null ? null : dto.to());
+		final List<LogLevel> logLevels = getLogLevels(dto == null ? null : dto.severity());
+		final String logger = dto == null || Utilities.isEmpty(dto.logger()) ? null : dto.logger().trim();
+
+		try {
+			final Window<LogEntity> window = dbService.getLogEntries(pageRequest, logLevels, from, to, logger);
+			final List<LogEntryDTO> list = window.stream()
+					.map(e -> convertLogEntityToDTO(e))
+					.collect(Collectors.toList());
+
+			return new LogEntryCursorListResponseDTO(list, pageService.getNextCursor(window, pageRequest.sort()));
+		} catch (final InternalServerError ex) {
+			throw new InternalServerError(ex.getMessage(), origin);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// pagination is only used for sorting, all matching entries are written to the response
+	public ResponseEntity<StreamingResponseBody> exportLogEntries(final LogRequestDTO dto, final StreamingFormat format, final String origin) {
+		logger.debug("exportLogEntries started...");
+
+		validator.validateLogRequest(dto, origin);
+		final PageDTO page = pageService.normalizePageParameters(dto == null ? null : dto.pagination(), Direction.DESC, LogEntity.SORTABLE_FIELDS_BY, LogEntity.DEFAULT_SORT_FIELD, origin);
+		final Sort sort = Sort.by(Direction.valueOf(page.direction()), page.sortField());
+		final ZonedDateTime from = Utilities.parseUTCStringToZonedDateTime(dto == null ? null : dto.from());
+		final ZonedDateTime to = Utilities.parseUTCStringToZonedDateTime(dto == null ? null : dto.to());
+		final List<LogLevel> logLevels = getLogLevels(dto == null ? null : dto.severity());
+		final String logger = dto == null || Utilities.isEmpty(dto.logger()) ? null : dto.logger().trim();
+
+		return streamingService.createResponse(
+				() -> dbService.streamLogEntries(sort, logLevels, from, to, logger),
+				e -> convertLogEntityToDTO(e),
+				format == null ? StreamingFormat.NDJSON : format);
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -16,20 +16,44 @@
  *******************************************************************************/
 package eu.arrowhead.common.service;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.service.util.KeysetPageRequest;
 import eu.arrowhead.common.service.validation.PageValidator;
+import eu.arrowhead.dto.CursorPageDTO;
 import eu.arrowhead.dto.PageDTO;
+import jakarta.persistence.Id;
 
 @Service
 public class PageService {
@@ -38,6 +62,9 @@ public class PageService {
 	// members
 
 	private static final Direction DEFAULT_DEFAULT_DIRECTION = Direction.ASC;
+	private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+	private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
 
 	@Value(Constants.$MAX_PAGE_SIZE_WD)
 	private int maxPageSize;
@@ -96,4 +123,196 @@ public class PageService {
 		final PageDTO normalized = normalizePageParameters(page, availableSortFields, defaultSortField, origin);
 		return PageRequest.of(normalized.page().intValue(), normalized.size().intValue(), Direction.valueOf(normalized.direction()), normalized.sortField());
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	public CursorPageDTO normalizeCursorPageParameters(final CursorPageDTO page, final Direction defaultDirection, final List<String> availableSortFields, final String defaultSortField, final String origin) {
+		logger.debug("normalizeCursorPageParameters started...");
+
+		if (page == null) {
+			return new CursorPageDTO(maxPageSize, defaultDirection.name(), defaultSortField, null);
+		}
+
+		pageValidator.validateCursorPageParameter(page, availableSortFields, origin);
+
+		int normalizedSize = page.size() == null ? -1 : page.size();
+		if (normalizedSize < 1) {
+			normalizedSize = maxPageSize;
+		}
+
+		final Direction normalizedDirection = Utilities.isEmpty(page.direction()) ? defaultDirection : Direction.valueOf(page.direction().trim().toUpperCase());
+		final String normalizedSortField = Utilities.isEmpty(page.sortField()) ? defaultSortField : page.sortField().trim();
+		final String normalizedCursor = Utilities.isEmpty(page.cursor()) ? null : page.cursor().trim();
+
+		return new CursorPageDTO(normalizedSize, normalizedDirection.name(), normalizedSortField, normalizedCursor);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public KeysetPageRequest getKeysetPageRequest(
+			final CursorPageDTO page,
+			final Direction defaultDirection,
+			final List<String> availableSortFields,
+			final String defaultSortField,
+			final Class<?> entityClass,
+			final String origin) {
+		logger.debug("getKeysetPageRequest started...");
+		Assert.notNull(entityClass, "entityClass is null");
+
+		final CursorPageDTO normalized = normalizeCursorPageParameters(page, defaultDirection, availableSortFields, defaultSortField, origin);
+		final Sort sort = Sort.by(Direction.valueOf(normalized.direction()), normalized.sortField());
+		final KeysetScrollPosition position = normalized.cursor() == null ? ScrollPosition.keyset() : decodeCursor(normalized.cursor(), sort, entityClass, origin);
+
+		return new KeysetPageRequest(Limit.of(normalized.size().intValue()), sort, position);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public String getNextCursor(final Window<?> window, final Sort sort) {
+		logger.debug("getNextCursor started...");
+		Assert.notNull(window, "window is null");
+
+		if (!window.hasNext() || window.isEmpty()) {
+			return null;
+		}
+
+		return encodeCursor(window.positionAt(window.size() - 1), sort);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public String encodeCursor(final ScrollPosition position, final Sort sort) {
+		logger.debug("encodeCursor started...");
+		Assert.isTrue(position instanceof KeysetScrollPosition, "position is not a keyset position");
+		Assert.isTrue(sort != null && sort.isSorted(), "sort is not specified");
+
+		final Order order = sort.iterator().next();
+		final Map<String, String> keys = new HashMap<>();
+		for (final Entry<String, Object> entry : ((KeysetScrollPosition) position).getKeys().entrySet()) {
+			keys.put(entry.getKey(), convertCursorValueToString(entry.getValue()));
+		}
+
+		final CursorContent content = new CursorContent(order.getProperty(), order.getDirection().name(), keys);
+
+		try {
+			return CURSOR_ENCODER.encodeToString(CURSOR_MAPPER.writeValueAsBytes(content));
+		} catch (final IOException ex) {
+			throw new ArrowheadException("Cursor cannot be created", ex);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public KeysetScrollPosition decodeCursor(final String cursor, final Sort sort, final Class<?> entityClass, final String origin) {
+		logger.debug("decodeCursor started...");
+		Assert.isTrue(!Utilities.isEmpty(cursor), "cursor is empty");
+		Assert.isTrue(sort != null && sort.isSorted(), "sort is not specified");
+		Assert.notNull(entityClass, "entityClass is null");
+
+		final CursorContent content;
+		try {
+			content = CURSOR_MAPPER.readValue(CURSOR_DECODER.decode(cursor), CursorContent.class);
+		} catch (final IllegalArgumentException | IOException ex) {
+			throw new InvalidParameterException("Invalid cursor", origin);
+		}
+
+		final Order order = sort.iterator().next();
+		if (content == null || Utilities.isEmpty(content.keys()) || !order.getProperty().equals(content.sortField()) || !order.getDirection().name().equals(content.direction())) {
+			throw new InvalidParameterException("Cursor does not match the requested sort field and direction", origin);
+		}
+
+		// keyset scrolling uses the sort field and the id as keys, anything else would end up in the query
+		final Set<String> expectedKeys = new HashSet<>();
+		expectedKeys.add(order.getProperty());
+		final String idFieldName = findIdFieldName(entityClass);
+		if (idFieldName != null) {
+			expectedKeys.add(idFieldName);
+		}
+
+		if (!expectedKeys.equals(content.keys().keySet())) {
+			throw new InvalidParameterException("Invalid cursor", origin);
+		}
+
+		final Map<String, Object> keys = new HashMap<>(content.keys().size());
+		for (final Entry<String, String> entry : content.keys().entrySet()) {
+			final Field field = ReflectionUtils.findField(entityClass, entry.getKey());
+			if (field == null || entry.getValue() == null) {
+				// a null key cannot be compared in the keyset query either
+				throw new InvalidParameterException("Invalid cursor", origin);
+			}
+
+			try {
+				keys.put(entry.getKey(), convertCursorValue(entry.getValue(), field.getType()));
+			} catch (final RuntimeException ex) {
+				throw new InvalidParameterException("Invalid cursor", origin);
+			}
+		}
+
+		return ScrollPosition.forward(keys);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private String convertCursorValueToString(final Object value) {
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof final ZonedDateTime dateTime) {
+			return Utilities.convertZonedDateTimeToUTCString(dateTime);
+		}
+
+		if (value instanceof final Enum<?> enumValue) {
+			return enumValue.name();
+		}
+
+		return value.toString();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private String findIdFieldName(final Class<?> entityClass) {
+		for (Class<?> clazz = entityClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+			for (final Field field : clazz.getDeclaredFields()) {
+				if (field.isAnnotationPresent(Id.class)) {
+					return field.getName();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object convertCursorValue(final String value, final Class<?> type) {
+		if (value == null || type == String.class) {
+			return value;
+		}
+
+		if (type == ZonedDateTime.class) {
+			return Utilities.parseUTCStringToZonedDateTime(value);
+		}
+
+		if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, value);
+		}
+
+		if (type == Long.class || type == long.class) {
+			return Long.valueOf(value);
+		}
+
+		if (type == Integer.class || type == int.class) {
+			return Integer.valueOf(value);
+		}
+
+		if (type == Boolean.class || type == boolean.class) {
+			return Boolean.valueOf(value);
+		}
+
+		throw new IllegalArgumentException("Unsupported cursor value type: " + type.getName());
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private record CursorContent(String sortField, String direction, Map<String, String> keys) {
+	}
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.service.stream;
+
+import org.springframework.http.MediaType;
+
+public enum StreamingFormat {
+	NDJSON(MediaType.APPLICATION_NDJSON), JSON_ARRAY(MediaType.APPLICATION_JSON);
+
+	//=================================================================================================
+	// members
+
+	private final MediaType mediaType;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private StreamingFormat(final MediaType mediaType) {
+		this.mediaType = mediaType;
+	}
+}
\ No newline at end of file
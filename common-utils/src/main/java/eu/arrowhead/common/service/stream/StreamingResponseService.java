@@ -0,0 +1,148 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.service.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class StreamingResponseService {
+
+	//=================================================================================================
+	// members
+
+	private static final int FLUSH_INTERVAL = 100;
+	private static final String NDJSON_SEPARATOR = "\n";
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final Logger logger = LogManager.getLogger(this.getClass());
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public <E, D> ResponseEntity<StreamingResponseBody> createResponse(final Supplier<Stream<E>> streamSupplier, final Function<E, D> converter, final StreamingFormat format) {
+		logger.debug("createResponse started...");
+
+		return ResponseEntity
+				.ok()
+				.contentType(format.getMediaType())
+				.body(createResponseBody(streamSupplier, converter, format));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the stream is opened and consumed inside a read-only transaction when the response is actually written
+	public <E, D> StreamingResponseBody createResponseBody(final Supplier<Stream<E>> streamSupplier, final Function<E, D> converter, final StreamingFormat format) {
+		logger.debug("createResponseBody started...");
+		Assert.notNull(streamSupplier, "streamSupplier is null");
+		Assert.notNull(converter, "converter is null");
+		Assert.notNull(format, "format is null");
+
+		return outputStream -> writeStream(outputStream, streamSupplier, converter, format);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private <E, D> void writeStream(final OutputStream outputStream, final Supplier<Stream<E>> streamSupplier, final Function<E, D> converter, final StreamingFormat format) throws IOException {
+		logger.debug("writeStream started...");
+
+		final TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(true);
+
+		try (SequenceWriter writer = createSequenceWriter(outputStream, format)) {
+			final Integer count = template.execute(status -> {
+				try (Stream<E> stream = streamSupplier.get()) {
+					final Iterator<E> iterator = stream.iterator();
+					int written = 0;
+					while (iterator.hasNext()) {
+						writer.write(converter.apply(iterator.next()));
+						if (++written % FLUSH_INTERVAL == 0) {
+							writer.flush();
+							// nothing to flush in a read-only transaction, so the already written entities can be released
+							entityManager.clear();
+						}
+					}
+
+					return written;
+				} catch (final IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+
+			if (format == StreamingFormat.NDJSON && count != null && count > 0) {
+				writer.flush();
+				outputStream.write(NDJSON_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+			}
+		} catch (final UncheckedIOException ex) {
+			logger.debug(ex);
+			throw ex.getCause();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private SequenceWriter createSequenceWriter(final OutputStream outputStream, final StreamingFormat format) throws IOException {
+		logger.debug("createSequenceWriter started...");
+
+		final ObjectWriter objectWriter = mapper.writer()
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.without(SerializationFeature.INDENT_OUTPUT);
+
+		switch (format) {
+		case NDJSON:
+			return objectWriter.withRootValueSeparator(NDJSON_SEPARATOR).writeValues(outputStream);
+		case JSON_ARRAY:
+			return objectWriter.writeValuesAsArray(outputStream);
+		default:
+			throw new IllegalArgumentException("Unknown streaming format: " + format.name());
+		}
+	}
+}
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.springframework.stereotype.Service;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.common.jpa.LogEntity;
+import eu.arrowhead.dto.LogCursorRequestDTO;
 import eu.arrowhead.dto.LogRequestDTO;
 
 @Service
@@ -50,20 +51,37 @@ public class LogValidation {
 
 		if (dto != null) {
 			pageValidator.validatePageParameter(dto.pagination(), LogEntity.SORTABLE_FIELDS_BY, origin);
-			final ZonedDateTime from = validateAndParseDateTime(dto.from(), "from", origin);
-			final ZonedDateTime to = validateAndParseDateTime(dto.to(), "to", origin);
+			validateFilters(dto.from(), dto.to(), dto.severity(), origin);
+		}
+	}
 
-			if (from != null && to != null && to.isBefore(from)) {
-				throw new InvalidParameterException("Invalid time interval", origin);
-			}
+	//-------------------------------------------------------------------------------------------------
+	public void validateLogCursorRequest(final LogCursorRequestDTO dto, final String origin) {
+		logger.debug("validateLogCursorRequest started...");
 
-			validateSeverity(dto.severity(), origin);
+		if (dto != null) {
+			pageValidator.validateCursorPageParameter(dto.pagination(), LogEntity.KEYSET_SORTABLE_FIELDS_BY, origin);
+			validateFilters(dto.from(), dto.to(), dto.severity(), origin);
 		}
 	}
 
 	//=================================================================================================
 	// assistant methods
 
+	//-------------------------------------------------------------------------------------------------
+	private void validateFilters(final String fromStr, final String toStr, final String severity, final String origin) {
+		logger.debug("validateFilters started...");
+
+		final ZonedDateTime from = validateAndParseDateTime(fromStr, "from", origin);
+		final ZonedDateTime to = validateAndParseDateTime(toStr, "to", origin);
+
+		if (from != null && to != null && to.isBefore(from)) {
+			throw new InvalidParameterException("Invalid time interval", origin);
+		}
+
+		validateSeverity(severity, origin);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	private ZonedDateTime validateAndParseDateTime(final String dateTime, final String fieldName, final String origin) {
 		logger.debug("validateAndParseDateTime started...");
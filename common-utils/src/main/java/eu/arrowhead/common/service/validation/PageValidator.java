@@ -27,6 +27,7 @@ import org.springframework.stereotype.Service;
 import eu.arrowhead.common.Constants;
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.dto.CursorPageDTO;
 import eu.arrowhead.dto.PageDTO;
 
 @Service
@@ -62,17 +63,40 @@ public class PageValidator {
 				throw new InvalidParameterException("If page parameter is defined then size parameter cannot be undefined", origin);
 			}
 
-			if (!Utilities.isEmpty(page.direction())) {
-				try {
-					Direction.valueOf(page.direction().trim().toUpperCase());
-				} catch (final IllegalArgumentException ex) {
-					throw new InvalidParameterException("Direction is invalid. Only ASC or DESC are allowed", origin);
-				}
+			validateDirectionAndSortField(page.direction(), page.sortField(), availableSortFields, origin);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public void validateCursorPageParameter(final CursorPageDTO page, final List<String> availableSortFields, final String origin) {
+		logger.debug("validateCursorPageParameter started...");
+
+		if (page != null) {
+			if (page.size() != null && page.size() > maxPageSize) {
+				throw new InvalidParameterException("The page size cannot be larger than " + maxPageSize, origin);
 			}
 
-			if (!Utilities.isEmpty(page.sortField()) && !availableSortFields.contains(page.sortField().trim())) {
-				throw new InvalidParameterException("Sort field is invalid. Only the following are allowed: " + availableSortFields, origin);
+			validateDirectionAndSortField(page.direction(), page.sortField(), availableSortFields, origin);
+		}
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void validateDirectionAndSortField(final String direction, final String sortField, final List<String> availableSortFields, final String origin) {
+		logger.debug("validateDirectionAndSortField started...");
+
+		if (!Utilities.isEmpty(direction)) {
+			try {
+				Direction.valueOf(direction.trim().toUpperCase());
+			} catch (final IllegalArgumentException ex) {
+				throw new InvalidParameterException("Direction is invalid. Only ASC or DESC are allowed", origin);
 			}
 		}
+
+		if (!Utilities.isEmpty(sortField) && !availableSortFields.contains(sortField.trim())) {
+			throw new InvalidParameterException("Sort field is invalid. Only the following are allowed: " + availableSortFields, origin);
+		}
 	}
 }
\ No newline at end of file
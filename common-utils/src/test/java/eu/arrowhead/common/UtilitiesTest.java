@@ -30,6 +30,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 
@@ -305,4 +308,37 @@ public class UtilitiesTest {
 				() -> assertEquals("", Utilities.bytesToHex(new byte[0])),
 				() -> assertEquals("746573745f737472696e67", Utilities.bytesToHex("test_string".getBytes(StandardCharsets.UTF_8))));
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCreateBoundedExecutorInvalidMaxThreads() {
+		final Throwable ex = assertThrows(IllegalArgumentException.class,
+				() -> Utilities.createBoundedExecutor(0, 1, false));
+
+		assertEquals("maxThreads must be positive", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCreateBoundedExecutorRejects() throws InterruptedException {
+		final CountDownLatch release = new CountDownLatch(1);
+		final ExecutorService executor = Utilities.createBoundedExecutor(1, 1, true);
+		try {
+			final Runnable task = () -> {
+				try {
+					release.await();
+				} catch (final InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			};
+
+			executor.execute(task); // running
+			executor.execute(task); // waiting
+
+			assertThrows(RejectedExecutionException.class, () -> executor.execute(task));
+		} finally {
+			release.countDown();
+			executor.shutdown();
+		}
+	}
 }
\ No newline at end of file
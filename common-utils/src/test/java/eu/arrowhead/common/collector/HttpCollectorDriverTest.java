@@ -28,6 +28,7 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -791,4 +792,163 @@ public class HttpCollectorDriverTest {
 		assertEquals(1, headerCaptor.getValue().size());
 		assertEquals("Bearer SYSTEM//ConsumerName", headerCaptor.getValue().get("Authorization"));
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireServicesEmpty() {
+		final Map<ServiceKey, ServiceModel> result = driver.acquireServices(List.of());
+
+		verify(httpService, never()).sendRequest(any(UriComponents.class), any(HttpMethod.class), eq(ServiceInstanceListResponseDTO.class), any(), any(), anyMap());
+
+		assertTrue(result.isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireServicesUnsupportedInterface() {
+		final List<ServiceKey> keys = List.of(new ServiceKey("testService", "generic_http", null), new ServiceKey("otherService", "custom_http", null));
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> driver.acquireServices(keys));
+
+		verify(httpService, never()).sendRequest(any(UriComponents.class), any(HttpMethod.class), eq(ServiceInstanceListResponseDTO.class), any(), any(), anyMap());
+
+		assertTrue(ex.getMessage().startsWith("This collector only supports the following interfaces: "));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireServicesOneLookup() {
+		final ServiceKey key1 = new ServiceKey("testService", "generic_http", "Provider2");
+		final ServiceKey key2 = new ServiceKey("otherService", "generic_http", null);
+		final ServiceKey key3 = new ServiceKey("missingService", "generic_http", null);
+		final HttpOperationsValidator httpOperationsValidatorMock = Mockito.mock(HttpOperationsValidator.class);
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getServiceRegistryAddress()).thenReturn("localhost");
+		when(sysInfo.getServiceRegistryPort()).thenReturn(8443);
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(ServiceInstanceListResponseDTO.class), any(ServiceInstanceLookupRequestDTO.class), isNull(), anyMap()))
+				.thenReturn(new ServiceInstanceListResponseDTO(List.of(
+						createServiceInstance("Provider1", "testService", 10001),
+						createServiceInstance("Provider2", "testService", 10002),
+						createServiceInstance("Provider3", "otherService", 10003)), 3));
+		when(validators.getValidator(PropertyValidatorType.HTTP_OPERATIONS)).thenReturn(httpOperationsValidatorMock);
+		when(httpOperationsValidatorMock.validateAndNormalize(anyMap())).thenReturn(Map.of("op", new HttpOperationModel.Builder().path("/op").method("POST").build()));
+
+		final Map<ServiceKey, ServiceModel> result = driver.acquireServices(List.of(key1, key2, key3));
+
+		final ArgumentCaptor<ServiceInstanceLookupRequestDTO> payloadCaptor = ArgumentCaptor.forClass(ServiceInstanceLookupRequestDTO.class);
+		verify(httpService).sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(ServiceInstanceListResponseDTO.class), payloadCaptor.capture(), isNull(), anyMap());
+
+		final ServiceInstanceLookupRequestDTO payload = payloadCaptor.getValue();
+		assertEquals(List.of("testService", "otherService", "missingService"), payload.serviceDefinitionNames());
+		assertEquals(List.of("generic_http"), payload.interfaceTemplateNames());
+		assertNull(payload.providerNames());
+
+		assertEquals(2, result.size());
+		assertEquals(10002, ((HttpInterfaceModel) result.get(key1).interfaces().get(0)).accessPort());
+		assertEquals("otherService", result.get(key2).serviceDefinition());
+		assertEquals(10003, ((HttpInterfaceModel) result.get(key2).interfaces().get(0)).accessPort());
+		assertFalse(result.containsKey(key3));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireServicesProviderFilter() {
+		final ServiceKey key1 = new ServiceKey("testService", "generic_http", "Provider1");
+		final ServiceKey key2 = new ServiceKey("otherService", "generic_https", "Provider2");
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getServiceRegistryAddress()).thenReturn("localhost");
+		when(sysInfo.getServiceRegistryPort()).thenReturn(8443);
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(ServiceInstanceListResponseDTO.class), any(ServiceInstanceLookupRequestDTO.class), isNull(), anyMap()))
+				.thenReturn(new ServiceInstanceListResponseDTO(List.of(), 0));
+
+		final Map<ServiceKey, ServiceModel> result = driver.acquireServices(List.of(key1, key2));
+
+		final ArgumentCaptor<ServiceInstanceLookupRequestDTO> payloadCaptor = ArgumentCaptor.forClass(ServiceInstanceLookupRequestDTO.class);
+		verify(httpService).sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(ServiceInstanceListResponseDTO.class), payloadCaptor.capture(), isNull(), anyMap());
+
+		final ServiceInstanceLookupRequestDTO payload = payloadCaptor.getValue();
+		assertEquals(List.of("testService", "otherService"), payload.serviceDefinitionNames());
+		assertEquals(List.of("generic_http", "generic_https"), payload.interfaceTemplateNames());
+		assertEquals(List.of("Provider1", "Provider2"), payload.providerNames());
+
+		assertTrue(result.isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireServiceInstancesAll() {
+		final HttpOperationsValidator httpOperationsValidatorMock = Mockito.mock(HttpOperationsValidator.class);
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getServiceRegistryAddress()).thenReturn("localhost");
+		when(sysInfo.getServiceRegistryPort()).thenReturn(8443);
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(ServiceInstanceListResponseDTO.class), any(ServiceInstanceLookupRequestDTO.class), isNull(), anyMap()))
+				.thenReturn(new ServiceInstanceListResponseDTO(List.of(
+						createServiceInstance("Provider1", "testService", 10001),
+						createServiceInstance("Provider2", "testService", 10002)), 2));
+		when(validators.getValidator(PropertyValidatorType.HTTP_OPERATIONS)).thenReturn(httpOperationsValidatorMock);
+		when(httpOperationsValidatorMock.validateAndNormalize(anyMap())).thenReturn(Map.of("op", new HttpOperationModel.Builder().path("/op").method("POST").build()));
+
+		final List<ServiceModel> result = driver.acquireServiceInstances("testService", "generic_http", null);
+
+		verify(httpService).sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(ServiceInstanceListResponseDTO.class), any(ServiceInstanceLookupRequestDTO.class), isNull(), anyMap());
+
+		assertEquals(2, result.size());
+		assertEquals(10001, ((HttpInterfaceModel) result.get(0).interfaces().get(0)).accessPort());
+		assertEquals(10002, ((HttpInterfaceModel) result.get(1).interfaces().get(0)).accessPort());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testAcquireServiceInstancesUnsupportedInterface() {
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> driver.acquireServiceInstances("testService", "custom_http", null));
+
+		verify(httpService, never()).sendRequest(any(UriComponents.class), any(HttpMethod.class), eq(ServiceInstanceListResponseDTO.class), any(), any(), anyMap());
+
+		assertTrue(ex.getMessage().startsWith("This collector only supports the following interfaces: "));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceResponseDTO createServiceInstance(final String providerName, final String serviceDefinition, final int port) {
+		final ServiceInstanceInterfaceResponseDTO intf = new ServiceInstanceInterfaceResponseDTO(
+				"generic_http",
+				"http",
+				"NONE",
+				Map.of(
+						"accessAddresses", List.of("localhost"),
+						"accessPort", port,
+						"basePath", "/test",
+						"operations", Map.of("op", Map.of("path", "/op", "method", "POST"))));
+
+		return new ServiceInstanceResponseDTO(
+				providerName + "|" + serviceDefinition + "|1.0.0",
+				new SystemResponseDTO(
+						providerName,
+						Map.of(),
+						"1.0.0",
+						List.of(new AddressDTO("HOSTNAME", "localhost")),
+						null,
+						"2025-07-30T08:00:00Z",
+						"2025-07-30T08:00:00Z"),
+				new ServiceDefinitionResponseDTO(serviceDefinition, "2025-06-25T08:00:00Z", "2025-06-25T08:00:00Z"),
+				"1.0.0",
+				null,
+				Map.of(),
+				List.of(intf),
+				"2025-07-30T08:00:05Z",
+				"2025-07-30T08:00:05Z");
+	}
 }
\ No newline at end of file
@@ -16,30 +16,46 @@
  *******************************************************************************/
 package eu.arrowhead.common.collector;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.common.http.model.HttpInterfaceModel;
 import eu.arrowhead.common.http.model.HttpOperationModel;
 import eu.arrowhead.common.model.ServiceModel;
+import eu.arrowhead.common.model.ServiceModelTestHelper;
 import eu.arrowhead.common.service.validation.name.InterfaceTemplateNameNormalizer;
 import eu.arrowhead.common.service.validation.name.ServiceDefinitionNameNormalizer;
 import eu.arrowhead.common.service.validation.name.SystemNameNormalizer;
@@ -65,6 +81,9 @@ public class ServiceCollectorTest {
 	@Mock
 	private SystemNameNormalizer systemNameNormalizer;
 
+	@Mock
+	private ServiceModelSnapshotStore snapshotStore;
+
 	//=================================================================================================
 	// methods
 
@@ -250,4 +269,444 @@ public class ServiceCollectorTest {
 
 		verify(driver).init();
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitLoadsSnapshot() throws IOException {
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		ReflectionTestUtils.setField(collector, "snapshotEnabled", true);
+		ReflectionTestUtils.setField(collector, "snapshotFile", "snapshot.json");
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+
+		doNothing().when(driver).init();
+		when(snapshotStore.load("snapshot.json")).thenReturn(List.of(new ServiceModelSnapshotEntry("generic_http", null, serviceModel)));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+
+		ReflectionTestUtils.invokeMethod(collector, "init");
+
+		verify(driver).init();
+		verify(snapshotStore).load("snapshot.json");
+		verify(driver, never()).acquireService(anyString(), anyString(), any());
+
+		assertEquals(serviceModel, context.get("service-model$$testService"));
+		assertTrue(getStaleKeys().contains("service-model$$testService"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitSnapshotUnreadable() throws IOException {
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		ReflectionTestUtils.setField(collector, "snapshotEnabled", true);
+		ReflectionTestUtils.setField(collector, "snapshotFile", "snapshot.json");
+
+		doNothing().when(driver).init();
+		when(snapshotStore.load("snapshot.json")).thenThrow(new IOException("test"));
+
+		assertDoesNotThrow(() -> ReflectionTestUtils.invokeMethod(collector, "init"));
+
+		assertTrue(context.isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitSeedNotOverriddenBySnapshot() throws IOException {
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		ReflectionTestUtils.setField(collector, "snapshotEnabled", true);
+		ReflectionTestUtils.setField(collector, "snapshotFile", "snapshot.json");
+		ReflectionTestUtils.setField(collector, "seedFile", "seed.json");
+		final ServiceModel seedModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel snapshotModel = ServiceModelTestHelper.createServiceModel("testService", "2.0.0");
+
+		doNothing().when(driver).init();
+		when(snapshotStore.load("seed.json")).thenReturn(List.of(new ServiceModelSnapshotEntry(null, null, seedModel)));
+		when(snapshotStore.load("snapshot.json")).thenReturn(List.of(new ServiceModelSnapshotEntry("generic_http", null, snapshotModel)));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+
+		ReflectionTestUtils.invokeMethod(collector, "init");
+
+		assertEquals(seedModel, context.get("service-model$$testService"));
+		assertTrue(getStaleKeys().isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitSeedMissing() throws IOException {
+		ReflectionTestUtils.setField(collector, "seedFile", "seed.json");
+
+		doNothing().when(driver).init();
+		when(snapshotStore.load("seed.json")).thenReturn(List.of());
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> ReflectionTestUtils.invokeMethod(collector, "init"));
+
+		assertEquals("Seed file is missing or empty: seed.json", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRefreshStaleServiceModels() throws IOException {
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		ReflectionTestUtils.setField(collector, "snapshotEnabled", true);
+		ReflectionTestUtils.setField(collector, "snapshotFile", "snapshot.json");
+		final ServiceModel oldModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel newModel = ServiceModelTestHelper.createServiceModel("testService", "2.0.0");
+
+		doNothing().when(driver).init();
+		when(snapshotStore.load("snapshot.json")).thenReturn(List.of(new ServiceModelSnapshotEntry("generic_http", "ProviderName", oldModel)));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(driver.acquireService("testService", "generic_http", "ProviderName")).thenThrow(new ExternalServerError("test")).thenReturn(newModel);
+
+		ReflectionTestUtils.invokeMethod(collector, "init");
+
+		// first attempt fails: the old model remains in use
+		collector.refreshStaleServiceModels();
+		assertEquals(oldModel, context.get("service-model$$testService"));
+		assertTrue(getStaleKeys().contains("service-model$$testService"));
+
+		collector.refreshStaleServiceModels();
+		assertEquals(newModel, context.get("service-model$$testService"));
+		assertTrue(getStaleKeys().isEmpty());
+
+		collector.refreshStaleServiceModels();
+		verify(driver, times(2)).acquireService("testService", "generic_http", "ProviderName");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSaveSnapshotDisabled() throws IOException {
+		collector.saveSnapshot();
+
+		verify(snapshotStore, never()).save(anyString(), anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSaveSnapshotOk() throws IOException {
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		ReflectionTestUtils.setField(collector, "snapshotEnabled", true);
+		ReflectionTestUtils.setField(collector, "snapshotFile", "snapshot.json");
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireService("testService", "generic_http", null)).thenReturn(serviceModel);
+		doThrow(new IOException("test")).when(snapshotStore).save(eq("snapshot.json"), anyList());
+
+		collector.getServiceModel("testService", "generic_http", null);
+		assertDoesNotThrow(() -> collector.saveSnapshot());
+
+		verify(snapshotStore).save("snapshot.json", List.of(new ServiceModelSnapshotEntry("generic_http", null, serviceModel)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPrefetchNothingMissing() {
+		final Map<String, Object> context = new HashMap<>();
+		context.put("service-model$$testService", ServiceModelTestHelper.createServiceModel("testService", "1.0.0"));
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+
+		collector.prefetch(List.of(new ServiceKey("testService", "generic_http", null)));
+
+		verify(driver, never()).acquireServices(anyList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPrefetchOk() {
+		final Map<String, Object> context = new HashMap<>();
+		context.put("service-model$$knownService", ServiceModelTestHelper.createServiceModel("testService", "1.0.0"));
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceKey expectedKey = new ServiceKey("testService", "generic_http", "ProviderName");
+
+		when(serviceDefNameNormalizer.normalize("knownService")).thenReturn("knownService");
+		when(serviceDefNameNormalizer.normalize("test-service")).thenReturn("testService");
+		when(serviceDefNameNormalizer.normalize("missingService")).thenReturn("missingService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(systemNameNormalizer.normalize("providerName")).thenReturn("ProviderName");
+		when(driver.acquireServices(anyCollection())).thenReturn(Map.of(expectedKey, serviceModel));
+
+		collector.prefetch(List.of(
+				new ServiceKey("knownService", "generic_http", null),
+				new ServiceKey("test-service", "generic_http", "providerName"),
+				new ServiceKey("missingService", "generic_http", null)));
+
+		@SuppressWarnings("unchecked")
+		final ArgumentCaptor<Collection<ServiceKey>> keysCaptor = ArgumentCaptor.forClass(Collection.class);
+		verify(driver).acquireServices(keysCaptor.capture());
+
+		assertEquals(List.of(expectedKey, new ServiceKey("missingService", "generic_http", null)), List.copyOf(keysCaptor.getValue()));
+		assertEquals(serviceModel, context.get("service-model$$testService"));
+		assertFalse(context.containsKey("service-model$$missingService"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsAlreadyKnown() {
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel serviceModel1 = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		final ServiceModel serviceModel2 = ServiceModelTestHelper.createServiceModel("testService", "1.0.2");
+		final Map<String, Object> context = new HashMap<>();
+		context.put("service-model$$testService", serviceModel);
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of(serviceModel1, serviceModel2));
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", null);
+
+		verify(driver).acquireServiceInstances("testService", "generic_http", null);
+
+		assertEquals(List.of(serviceModel1, serviceModel2), result);
+		assertEquals(serviceModel1, context.get("service-model$$testService"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsAlreadyKnownNotFound() {
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final Map<String, Object> context = new HashMap<>();
+		context.put("service-model$$testService", serviceModel);
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of());
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", null);
+		final List<ServiceModel> result2 = collector.getServiceModels("testService", "generic_http", null);
+
+		verify(driver).acquireServiceInstances("testService", "generic_http", null);
+
+		assertEquals(List.of(serviceModel), result);
+		assertEquals(result, result2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsAlreadyKnownDriverFails() {
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final Map<String, Object> context = new HashMap<>();
+		context.put("service-model$$testService", serviceModel);
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenThrow(new ExternalServerError("unreachable"));
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", null);
+
+		assertEquals(List.of(serviceModel), result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsDriverFails() {
+		ReflectionTestUtils.setField(collector, "arrowheadContext", new HashMap<>());
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenThrow(new ExternalServerError("unreachable"));
+
+		final Throwable ex = assertThrows(ExternalServerError.class, () -> collector.getServiceModels("testService", "generic_http", null));
+
+		assertEquals("unreachable", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsExpired() throws InterruptedException {
+		final ServiceModel serviceModel1 = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel serviceModel2 = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		ReflectionTestUtils.setField(collector, "arrowheadContext", new HashMap<>());
+		ReflectionTestUtils.setField(collector, "instancesTTL", 1L);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of(serviceModel1), List.of(serviceModel2));
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", null);
+		Thread.sleep(10);
+		final List<ServiceModel> result2 = collector.getServiceModels("testService", "generic_http", null);
+
+		verify(driver, times(2)).acquireServiceInstances("testService", "generic_http", null);
+
+		assertEquals(List.of(serviceModel1), result);
+		assertEquals(List.of(serviceModel2), result2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvalidate() {
+		final ServiceModel serviceModel1 = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel serviceModel2 = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		final List<String> invalidated = new ArrayList<>();
+		collector.addInvalidationListener(invalidated::add);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of(serviceModel1), List.of(serviceModel2));
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", null);
+		collector.invalidate("testService");
+
+		assertTrue(context.isEmpty());
+		assertEquals(List.of("testService"), invalidated);
+
+		final List<ServiceModel> result2 = collector.getServiceModels("testService", "generic_http", null);
+
+		verify(driver, times(2)).acquireServiceInstances("testService", "generic_http", null);
+
+		assertEquals(List.of(serviceModel1), result);
+		assertEquals(List.of(serviceModel2), result2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInvalidateRestoresSeed() throws IOException {
+		final ServiceModel seededModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+		ReflectionTestUtils.setField(collector, "seedFile", "seed.json");
+
+		when(snapshotStore.load("seed.json")).thenReturn(List.of(new ServiceModelSnapshotEntry(null, null, seededModel)));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+
+		ReflectionTestUtils.invokeMethod(collector, "init");
+		context.put("service-model$$testService", serviceModel);
+
+		collector.invalidate("testService");
+
+		assertEquals(seededModel, context.get("service-model$$testService"));
+		assertEquals(List.of(seededModel), collector.getServiceModels("testService", "generic_http", null));
+		verify(driver, never()).acquireServiceInstances(anyString(), anyString(), any());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsSeeded() throws IOException {
+		final ServiceModel seededModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		ReflectionTestUtils.setField(collector, "arrowheadContext", new HashMap<>());
+		ReflectionTestUtils.setField(collector, "seedFile", "seed.json");
+
+		when(snapshotStore.load("seed.json")).thenReturn(List.of(new ServiceModelSnapshotEntry(null, null, seededModel)));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+
+		ReflectionTestUtils.invokeMethod(collector, "init");
+
+		assertEquals(List.of(seededModel), collector.getServiceModels("testService", "generic_http", null));
+		assertEquals(List.of(seededModel), collector.getServiceModels("testService", "generic_http", null));
+
+		// the Service Registry is never asked about seeded services
+		verify(driver, never()).acquireServiceInstances(anyString(), anyString(), any());
+		verify(driver, never()).acquireService(anyString(), anyString(), any());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsFromSnapshotUntilRefreshed() throws IOException {
+		final ServiceModel snapshotModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel refreshedModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		final ServiceModel serviceModel1 = ServiceModelTestHelper.createServiceModel("testService", "1.0.2");
+		ReflectionTestUtils.setField(collector, "arrowheadContext", new HashMap<>());
+		ReflectionTestUtils.setField(collector, "snapshotEnabled", true);
+		ReflectionTestUtils.setField(collector, "snapshotFile", "snapshot.json");
+
+		doNothing().when(driver).init();
+		when(snapshotStore.load("snapshot.json")).thenReturn(List.of(new ServiceModelSnapshotEntry("generic_http", null, snapshotModel)));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+
+		ReflectionTestUtils.invokeMethod(collector, "init");
+
+		// served immediately, without waiting for the Service Registry
+		assertEquals(List.of(snapshotModel), collector.getServiceModels("testService", "generic_http", null));
+		verify(driver, never()).acquireServiceInstances(anyString(), anyString(), any());
+
+		when(driver.acquireService("testService", "generic_http", null)).thenReturn(refreshedModel);
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of(serviceModel1));
+
+		collector.refreshStaleServiceModels();
+
+		assertEquals(List.of(serviceModel1), collector.getServiceModels("testService", "generic_http", null));
+		verify(driver).acquireServiceInstances("testService", "generic_http", null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsAcquired() {
+		final ServiceModel serviceModel1 = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel serviceModel2 = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of(serviceModel1, serviceModel2));
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", null);
+		final List<ServiceModel> result2 = collector.getServiceModels("testService", "generic_http", null);
+
+		verify(driver).acquireServiceInstances("testService", "generic_http", null);
+
+		assertEquals(List.of(serviceModel1, serviceModel2), result);
+		assertEquals(result, result2);
+		assertEquals(serviceModel1, context.get("service-model$$testService"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetServiceModelsNotFound() {
+		final Map<String, Object> context = new HashMap<>();
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(systemNameNormalizer.normalize("providerName")).thenReturn("ProviderName");
+		when(driver.acquireServiceInstances("testService", "generic_http", "ProviderName")).thenReturn(List.of());
+
+		final List<ServiceModel> result = collector.getServiceModels("testService", "generic_http", "providerName");
+
+		assertTrue(result.isEmpty());
+		assertTrue(context.isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetKnownServiceModels() {
+		final ServiceModel serviceModel1 = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+		final ServiceModel serviceModel2 = ServiceModelTestHelper.createServiceModel("testService", "1.0.1");
+		final Map<String, Object> context = new HashMap<>();
+		context.put("other", "value");
+		ReflectionTestUtils.setField(collector, "arrowheadContext", context);
+
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(interfaceTemplateNameNormalizer.normalize("generic_http")).thenReturn("generic_http");
+		when(driver.acquireServiceInstances("testService", "generic_http", null)).thenReturn(List.of(serviceModel1, serviceModel2));
+
+		collector.getServiceModels("testService", "generic_http", null);
+		final List<ServiceModel> result = collector.getKnownServiceModels();
+
+		assertEquals(List.of(serviceModel1, serviceModel2), result);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	private Set<String> getStaleKeys() {
+		return (Set<String>) ReflectionTestUtils.getField(collector, "staleKeys");
+	}
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eu.arrowhead.common.http.model.HttpInterfaceModel;
+import eu.arrowhead.common.http.model.HttpOperationModel;
+import eu.arrowhead.common.model.ServiceModel;
+import eu.arrowhead.common.mqtt.model.MqttInterfaceModel;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+public class ServiceModelSnapshotStoreTest {
+
+	//=================================================================================================
+	// members
+
+	private final ServiceModelSnapshotStore store = new ServiceModelSnapshotStore();
+
+	@TempDir
+	private Path tempDir;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testLoadFileNotExists() throws IOException {
+		assertTrue(store.load(tempDir.resolve("missing.json").toString()).isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testLoadInvalidContent() throws IOException {
+		final Path file = tempDir.resolve("invalid.json");
+		Files.writeString(file, "{ \"entries\": [ { \"model\": { \"serviceDefinition\": \"\" } } ] }");
+
+		assertThrows(IOException.class, () -> store.load(file.toString()));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSaveAndLoad() throws IOException {
+		final ServiceModel model = new ServiceModel.Builder()
+				.serviceDefinition("testService")
+				.version("1.0.0")
+				.metadata("key", "value")
+				.serviceInterface(new HttpInterfaceModel.Builder("generic_https")
+						.accessAddress("localhost")
+						.accessPort(8443)
+						.basePath("/test")
+						.operation("test-operation", new HttpOperationModel("/op", "POST"))
+						.build())
+				.serviceInterface(new MqttInterfaceModel.Builder("generic_mqtt")
+						.accessAddress("broker")
+						.accessPort(1883)
+						.baseTopic("arrowhead/test/")
+						.operations(Set.of("test-operation"))
+						.build())
+				.build();
+		final String path = tempDir.resolve("sub").resolve("snapshot.json").toString();
+
+		store.save(path, List.of(new ServiceModelSnapshotEntry("generic_https", "ProviderName", model)));
+		final List<ServiceModelSnapshotEntry> result = store.load(path);
+
+		assertFalse(Files.exists(Path.of(path + ".tmp")));
+		assertEquals(1, result.size());
+		assertEquals("generic_https", result.get(0).interfaceTemplateName());
+		assertEquals("ProviderName", result.get(0).providerName());
+		assertEquals(model.serviceDefinition(), result.get(0).model().serviceDefinition());
+		assertEquals(model.version(), result.get(0).model().version());
+		assertEquals(Map.of("key", "value"), result.get(0).model().metadata());
+		assertEquals(model.interfaces().get(0), result.get(0).model().interfaces().get(0));
+		assertEquals(model.interfaces().get(1), result.get(0).model().interfaces().get(1));
+	}
+}
\ No newline at end of file
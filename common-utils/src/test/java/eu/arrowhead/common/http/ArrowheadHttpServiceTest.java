@@ -18,19 +18,26 @@ package eu.arrowhead.common.http;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,10 +55,18 @@ import eu.arrowhead.common.collector.ServiceCollector;
 import eu.arrowhead.common.exception.DataNotFoundException;
 import eu.arrowhead.common.exception.ExternalServerError;
 import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.exception.TransportFailureException;
+import eu.arrowhead.common.http.HttpCallPlan.HttpCallTarget;
+import eu.arrowhead.common.http.balancer.HttpEndpoint;
+import eu.arrowhead.common.http.balancer.HttpEndpointBalancer;
+import eu.arrowhead.common.http.balancer.HttpRequestHedger;
 import eu.arrowhead.common.http.filter.authentication.AuthenticationPolicy;
+import eu.arrowhead.common.http.local.LocalServiceDispatcher;
 import eu.arrowhead.common.http.model.HttpInterfaceModel;
 import eu.arrowhead.common.http.model.HttpOperationModel;
 import eu.arrowhead.common.model.ServiceModel;
+import eu.arrowhead.common.model.ServiceModelTestHelper;
+import eu.arrowhead.common.service.validation.name.ServiceDefinitionNameNormalizer;
 import eu.arrowhead.common.service.validation.name.ServiceOperationNameNormalizer;
 
 @SuppressWarnings("checkstyle:MagicNumber")
@@ -70,12 +85,24 @@ public class ArrowheadHttpServiceTest {
 	@Mock
 	private HttpService httpService;
 
+	@Mock
+	private HttpEndpointBalancer balancer;
+
+	@Mock
+	private HttpRequestHedger hedger;
+
 	@Mock
 	private SystemInfo sysInfo;
 
+	@Mock
+	private ServiceDefinitionNameNormalizer serviceDefNameNormalizer;
+
 	@Mock
 	private ServiceOperationNameNormalizer operationNameNormalizer;
 
+	@Mock
+	private LocalServiceDispatcher localDispatcher;
+
 	//=================================================================================================
 	// members
 
@@ -120,12 +147,12 @@ public class ArrowheadHttpServiceTest {
 	public void testConsumeService8ServiceModelNull() {
 		ReflectionTestUtils.setField(service, "templateName", "generic_http");
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(null);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of());
 
 		final Throwable ex = assertThrows(DataNotFoundException.class,
 				() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, "payload", null, List.of(), Map.of()));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 
 		assertEquals("Service definition is not found: testService", ex.getMessage());
 	}
@@ -146,13 +173,13 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 
 		final Throwable ex = assertThrows(ExternalServerError.class,
 				() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, "payload", null, List.of(), Map.of()));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 
 		assertEquals("Service does not define the specified operation", ex.getMessage());
@@ -175,15 +202,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, "payload", null, null, null));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -191,7 +219,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -214,16 +242,17 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
 		when(sysInfo.getSystemName()).thenReturn("ConsumerName");
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, "payload", null, List.of("a", "b"), Map.of("CustomHeader", "1")));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -232,7 +261,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op/a/b", uriCaptor.getValue().toUriString());
 		final HashMap<String, String> headers = headerCaptor.getValue();
@@ -260,15 +289,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, "payload"));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -276,7 +306,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -299,15 +329,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", null)).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", Void.TYPE, "payload"));
 
-		verify(collector).getServiceModel("testService", "generic_http", null);
+		verify(collector).getServiceModels("testService", "generic_http", null);
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -315,7 +346,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -341,15 +372,16 @@ public class ArrowheadHttpServiceTest {
 		final LinkedMultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>();
 		queryMap.put("a", List.of("12"));
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, "payload", queryMap));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -357,7 +389,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op?a=12", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -383,15 +415,16 @@ public class ArrowheadHttpServiceTest {
 		final LinkedMultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>();
 		queryMap.put("a", List.of("12"));
 
-		when(collector.getServiceModel("testService", "generic_http", null)).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", Void.TYPE, "payload", queryMap));
 
-		verify(collector).getServiceModel("testService", "generic_http", null);
+		verify(collector).getServiceModels("testService", "generic_http", null);
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -399,7 +432,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), eq("payload"), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op?a=12", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -425,15 +458,16 @@ public class ArrowheadHttpServiceTest {
 		final LinkedMultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>();
 		queryMap.put("a", List.of("12"));
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, queryMap));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -441,7 +475,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op?a=12", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -467,15 +501,16 @@ public class ArrowheadHttpServiceTest {
 		final LinkedMultiValueMap<String, String> queryMap = new LinkedMultiValueMap<>();
 		queryMap.put("a", List.of("12"));
 
-		when(collector.getServiceModel("testService", "generic_http", null)).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", Void.TYPE, queryMap));
 
-		verify(collector).getServiceModel("testService", "generic_http", null);
+		verify(collector).getServiceModels("testService", "generic_http", null);
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -483,7 +518,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op?a=12", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -506,15 +541,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -522,7 +558,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -545,15 +581,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", null)).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", Void.TYPE));
 
-		verify(collector).getServiceModel("testService", "generic_http", null);
+		verify(collector).getServiceModels("testService", "generic_http", null);
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -561,7 +598,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -584,15 +621,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", "ProviderName")).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", "ProviderName")).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", "ProviderName", Void.TYPE, List.of("b", "a")));
 
-		verify(collector).getServiceModel("testService", "generic_http", "ProviderName");
+		verify(collector).getServiceModels("testService", "generic_http", "ProviderName");
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -600,7 +638,7 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op/b/a", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
@@ -623,15 +661,16 @@ public class ArrowheadHttpServiceTest {
 						.build())
 				.build();
 
-		when(collector.getServiceModel("testService", "generic_http", null)).thenReturn(serviceModel);
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
 		when(sysInfo.getIdentityToken()).thenReturn(null);
 		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
-		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap())).thenReturn(null);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"))).thenReturn(null);
 
 		assertDoesNotThrow(() -> service.consumeService("testService", "test-operation", Void.TYPE, List.of("b", "a")));
 
-		verify(collector).getServiceModel("testService", "generic_http", null);
+		verify(collector).getServiceModels("testService", "generic_http", null);
 		verify(operationNameNormalizer).normalize("test-operation");
 		verify(sysInfo).getIdentityToken();
 		verify(sysInfo).getAuthenticationPolicy();
@@ -639,12 +678,288 @@ public class ArrowheadHttpServiceTest {
 		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
 		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
 
-		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture());
+		verify(httpService).sendRequest(uriCaptor.capture(), eq(HttpMethod.POST), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
 
 		assertEquals("http://localhost:1234/test/op/b/a", uriCaptor.getValue().toUriString());
 		assertTrue(headerCaptor.getValue().isEmpty());
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConsumeServiceFailoverIdempotent() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		final ServiceModel serviceModel = new ServiceModel.Builder()
+				.serviceDefinition("testService")
+				.version("1.0.0")
+				.serviceInterface(new HttpInterfaceModel.Builder("generic_http")
+						.accessAddresses(List.of("host1", "host2"))
+						.accessPort(1234)
+						.basePath("/test")
+						.operation("test-operation", new HttpOperationModel("/op", "GET"))
+						.build())
+				.build();
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.GET), eq(String.class), isNull(), isNull(), anyMap(), eq("testService")))
+				.thenThrow(new TransportFailureException("Could not get any response"))
+				.thenReturn("result");
+
+		final String result = service.consumeService("testService", "test-operation", String.class);
+
+		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
+		verify(httpService, times(2)).sendRequest(uriCaptor.capture(), eq(HttpMethod.GET), eq(String.class), isNull(), isNull(), anyMap(), eq("testService"));
+		final ArgumentCaptor<HttpEndpoint> failedCaptor = ArgumentCaptor.forClass(HttpEndpoint.class);
+		verify(balancer).recordFailure(failedCaptor.capture());
+		final ArgumentCaptor<HttpEndpoint> succeededCaptor = ArgumentCaptor.forClass(HttpEndpoint.class);
+		verify(balancer).recordSuccess(succeededCaptor.capture(), anyLong());
+
+		assertEquals("result", result);
+		assertEquals("http://host1:1234/test/op", uriCaptor.getAllValues().get(0).toUriString());
+		assertEquals("http://host2:1234/test/op", uriCaptor.getAllValues().get(1).toUriString());
+		assertEquals("host1", failedCaptor.getValue().address());
+		assertEquals("host2", succeededCaptor.getValue().address());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConsumeServiceNoFailoverNotIdempotent() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		final ServiceModel serviceModel = new ServiceModel.Builder()
+				.serviceDefinition("testService")
+				.version("1.0.0")
+				.serviceInterface(new HttpInterfaceModel.Builder("generic_http")
+						.accessAddresses(List.of("host1", "host2"))
+						.accessPort(1234)
+						.basePath("/test")
+						.operation("test-operation", new HttpOperationModel("/op", "POST"))
+						.build())
+				.build();
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(String.class), eq("payload"), isNull(), anyMap(), eq("testService")))
+				.thenThrow(new TransportFailureException("Could not get any response"));
+
+		final Throwable ex = assertThrows(TransportFailureException.class,
+				() -> service.consumeService("testService", "test-operation", String.class, "payload"));
+
+		verify(httpService).sendRequest(any(UriComponents.class), eq(HttpMethod.POST), eq(String.class), eq("payload"), isNull(), anyMap(), eq("testService"));
+		verify(balancer).recordFailure(any(HttpEndpoint.class));
+		verify(balancer, never()).recordSuccess(any(HttpEndpoint.class), anyLong());
+
+		assertEquals("Could not get any response", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConsumeServiceNoFailoverErrorResponse() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		final ServiceModel serviceModel = new ServiceModel.Builder()
+				.serviceDefinition("testService")
+				.version("1.0.0")
+				.serviceInterface(new HttpInterfaceModel.Builder("generic_http")
+						.accessAddresses(List.of("host1", "host2"))
+						.accessPort(1234)
+						.basePath("/test")
+						.operation("test-operation", new HttpOperationModel("/op", "GET"))
+						.build())
+				.build();
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(httpService.sendRequest(any(UriComponents.class), eq(HttpMethod.GET), eq(String.class), isNull(), isNull(), anyMap(), eq("testService")))
+				.thenThrow(new ExternalServerError("Internal server error"));
+
+		final Throwable ex = assertThrows(ExternalServerError.class,
+				() -> service.consumeService("testService", "test-operation", String.class));
+
+		verify(httpService).sendRequest(any(UriComponents.class), eq(HttpMethod.GET), eq(String.class), isNull(), isNull(), anyMap(), eq("testService"));
+		verify(balancer, never()).recordFailure(any(HttpEndpoint.class));
+		verify(balancer).recordSuccess(any(HttpEndpoint.class), anyLong());
+
+		assertEquals("Internal server error", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testConsumeServiceHedged() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		final ServiceModel serviceModel = new ServiceModel.Builder()
+				.serviceDefinition("testService")
+				.version("1.0.0")
+				.serviceInterface(new HttpInterfaceModel.Builder("generic_http")
+						.accessAddresses(List.of("host1", "host2"))
+						.accessPort(1234)
+						.basePath("/test")
+						.operation("test-operation", new HttpOperationModel("/op", "GET"))
+						.build())
+				.build();
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn(null);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.CERTIFICATE);
+		when(hedger.isHedged("testService", "test-operation")).thenReturn(true);
+		when(hedger.execute(any(HttpEndpoint.class), any(HttpEndpoint.class), any(Function.class))).thenReturn("hedged");
+
+		final String result = service.consumeService("testService", "test-operation", String.class);
+
+		final ArgumentCaptor<HttpEndpoint> primaryCaptor = ArgumentCaptor.forClass(HttpEndpoint.class);
+		final ArgumentCaptor<HttpEndpoint> alternativeCaptor = ArgumentCaptor.forClass(HttpEndpoint.class);
+		verify(hedger).execute(primaryCaptor.capture(), alternativeCaptor.capture(), any(Function.class));
+		verify(httpService, never()).sendRequest(any(UriComponents.class), any(HttpMethod.class), eq(String.class), any(), any(), anyMap(), any());
+
+		assertEquals("hedged", result);
+		assertEquals("host1", primaryCaptor.getValue().address());
+		assertEquals("host2", alternativeCaptor.getValue().address());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testConsumeServiceCallPlanReused() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn("token");
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.OUTSOURCED);
+
+		service.consumeService("testService", "test-operation", Void.TYPE, List.of("a"));
+		service.consumeService("testService", "test-operation", Void.TYPE, List.of("b"));
+
+		verify(operationNameNormalizer).normalize("test-operation");
+		verify(sysInfo, times(2)).getIdentityToken();
+		verify(sysInfo).getAuthenticationPolicy();
+
+		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
+		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
+		verify(httpService, times(2)).sendRequest(uriCaptor.capture(), eq(HttpMethod.GET), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
+
+		assertEquals("http://localhost:1234/test/op/a", uriCaptor.getAllValues().get(0).toUriString());
+		assertEquals("http://localhost:1234/test/op/b", uriCaptor.getAllValues().get(1).toUriString());
+		assertEquals("Bearer IDENTITY-TOKEN//token", headerCaptor.getAllValues().get(1).get("Authorization"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testConsumeServiceCallPlanRebuilt() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(
+				List.of(ServiceModelTestHelper.createServiceModel("testService", "1.0.0")),
+				List.of(ServiceModelTestHelper.createServiceModel("testService", "1.0.0", List.of("localhost"), 5678, null)));
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn("token1", "token2");
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.OUTSOURCED);
+
+		service.consumeService("testService", "test-operation", Void.TYPE);
+		service.consumeService("testService", "test-operation", Void.TYPE);
+
+		verify(operationNameNormalizer, times(2)).normalize("test-operation");
+		verify(sysInfo, times(2)).getAuthenticationPolicy();
+
+		final ArgumentCaptor<UriComponents> uriCaptor = ArgumentCaptor.forClass(UriComponents.class);
+		final ArgumentCaptor<HashMap<String, String>> headerCaptor = ArgumentCaptor.forClass(HashMap.class);
+		verify(httpService, times(2)).sendRequest(uriCaptor.capture(), eq(HttpMethod.GET), eq(Void.TYPE), isNull(), isNull(), headerCaptor.capture(), eq("testService"));
+
+		assertEquals("http://localhost:1234/test/op", uriCaptor.getAllValues().get(0).toUriString());
+		assertEquals("http://localhost:5678/test/op", uriCaptor.getAllValues().get(1).toUriString());
+		assertEquals("Bearer IDENTITY-TOKEN//token1", headerCaptor.getAllValues().get(0).get("Authorization"));
+		assertEquals("Bearer IDENTITY-TOKEN//token2", headerCaptor.getAllValues().get(1).get("Authorization"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConsumeServiceLocalDispatch() {
+		ReflectionTestUtils.setField(service, "templateName", "generic_http");
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(ServiceModelTestHelper.createServiceModel("testService", "1.0.0")));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn("token");
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.OUTSOURCED);
+		when(localDispatcher.canDispatch(any(HttpCallTarget.class), eq("test-operation"))).thenReturn(true);
+		when(localDispatcher.dispatch(any(HttpCallTarget.class), eq("test-operation"), eq(String.class), eq("payload"), isNull(), isNull(), anyMap())).thenReturn("result");
+
+		final String result = service.consumeService("testService", "test-operation", String.class, "payload");
+
+		assertEquals("result", result);
+		verify(localDispatcher).dispatch(any(HttpCallTarget.class), eq("test-operation"), eq(String.class), eq("payload"), isNull(), isNull(), anyMap());
+		verify(balancer, never()).order(anyList());
+		verify(httpService, never()).sendRequest(any(UriComponents.class), any(HttpMethod.class), eq(String.class), any(), any(), anyMap(), any());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testConsumeServiceCallPlanEvictedOnInvalidation() {
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+
+		ReflectionTestUtils.invokeMethod(service, "init");
+
+		final ArgumentCaptor<Consumer<String>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+		verify(collector).addInvalidationListener(listenerCaptor.capture());
+
+		final ServiceModel serviceModel = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+
+		when(collector.getServiceModels("testService", "generic_http", null)).thenReturn(List.of(serviceModel));
+		when(serviceDefNameNormalizer.normalize("testService")).thenReturn("testService");
+		when(balancer.order(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(operationNameNormalizer.normalize("test-operation")).thenReturn("test-operation");
+		when(sysInfo.getIdentityToken()).thenReturn("token");
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.OUTSOURCED);
+
+		service.consumeService("testService", "test-operation", Void.TYPE);
+		listenerCaptor.getValue().accept("otherService");
+		service.consumeService("testService", "test-operation", Void.TYPE);
+		listenerCaptor.getValue().accept("testService");
+		service.consumeService("testService", "test-operation", Void.TYPE);
+
+		// the same models, but the plan was evicted once
+		verify(operationNameNormalizer, times(2)).normalize("test-operation");
+		verify(httpService, times(3)).sendRequest(any(UriComponents.class), eq(HttpMethod.GET), eq(Void.TYPE), isNull(), isNull(), anyMap(), eq("testService"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCallPlansLeastRecentlyUsedEvicted() {
+		final Map<String, HttpCallPlan> callPlans = (Map<String, HttpCallPlan>) ReflectionTestUtils.getField(service, "callPlans");
+		final HttpCallPlan plan = new HttpCallPlan(List.of(), "test-operation", List.of(), List.of());
+		for (int i = 0; i < 1000; ++i) {
+			callPlans.put("key" + i, plan);
+		}
+
+		callPlans.get("key0");
+		callPlans.put("key1000", plan);
+
+		assertEquals(1000, callPlans.size());
+		assertTrue(callPlans.containsKey("key0"));
+		assertFalse(callPlans.containsKey("key1"));
+		assertTrue(callPlans.containsKey("key1000"));
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testInitSSL() {
@@ -655,6 +970,7 @@ public class ArrowheadHttpServiceTest {
 		assertDoesNotThrow(() -> ReflectionTestUtils.invokeGetterMethod(service, "init"));
 
 		verify(sysInfo).isSslEnabled();
+		verify(collector).addInvalidationListener(any());
 
 		assertEquals("generic_https", ReflectionTestUtils.getField(service, "templateName"));
 	}
@@ -669,6 +985,7 @@ public class ArrowheadHttpServiceTest {
 		assertDoesNotThrow(() -> ReflectionTestUtils.invokeGetterMethod(service, "init"));
 
 		verify(sysInfo).isSslEnabled();
+		verify(collector).addInvalidationListener(any());
 
 		assertEquals("generic_http", ReflectionTestUtils.getField(service, "templateName"));
 	}
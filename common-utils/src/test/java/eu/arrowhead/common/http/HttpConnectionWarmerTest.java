@@ -0,0 +1,116 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponents;
+
+import eu.arrowhead.common.SystemInfo;
+import eu.arrowhead.common.collector.ServiceCollector;
+import eu.arrowhead.common.model.ServiceModelTestHelper;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class HttpConnectionWarmerTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private HttpConnectionWarmer warmer;
+
+	@Mock
+	private SystemInfo sysInfo;
+
+	@Mock
+	private ServiceCollector serviceCollector;
+
+	@Mock
+	private HttpService httpService;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(warmer, "enabled", true);
+		ReflectionTestUtils.setField(warmer, "connections", 2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWarmUpDisabled() {
+		ReflectionTestUtils.setField(warmer, "enabled", false);
+
+		assertEquals(0, warmer.warmUp());
+
+		verifyNoInteractions(sysInfo, serviceCollector, httpService);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWarmUpOk() {
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getSystemName()).thenReturn("TestProvider");
+		when(sysInfo.getServiceRegistryAddress()).thenReturn("localhost");
+		when(sysInfo.getServiceRegistryPort()).thenReturn(8443);
+		when(serviceCollector.getKnownServiceModels()).thenReturn(List.of(
+				ServiceModelTestHelper.createServiceModel("testService1", "1.0.0", List.of("192.168.0.10", "192.168.0.11"), 8080, null),
+				ServiceModelTestHelper.createServiceModel("testService2", "1.0.0", List.of("192.168.0.10"), 8080, null)));
+		when(httpService.warmUp(any(UriComponents.class), anyInt())).thenReturn(2);
+
+		final int result = warmer.warmUp();
+
+		final ArgumentCaptor<UriComponents> captor = ArgumentCaptor.forClass(UriComponents.class);
+		verify(httpService, times(3)).warmUp(captor.capture(), eq(2));
+
+		assertEquals(6, result);
+		assertEquals(List.of("http://localhost:8443/", "http://192.168.0.10:8080/", "http://192.168.0.11:8080/"),
+				captor.getAllValues().stream().map(UriComponents::toUriString).toList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWarmUpServiceRegistryItself() {
+		when(sysInfo.isSslEnabled()).thenReturn(true);
+		when(sysInfo.getSystemName()).thenReturn("ServiceRegistry");
+		when(serviceCollector.getKnownServiceModels()).thenReturn(List.of());
+
+		assertEquals(0, warmer.warmUp());
+
+		verifyNoInteractions(httpService);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponents;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.exception.RequestCancelledException;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class HttpRequestCoalescerTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private HttpRequestCoalescer coalescer;
+
+	@Spy
+	private ObjectMapper mapper;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(coalescer, "enabled", true);
+		ReflectionTestUtils.setField(coalescer, "readOnlyPaths", List.of("/serviceregistry/service-discovery/lookup"));
+		ReflectionTestUtils.setField(coalescer, "keyHeaders", List.of("Authorization"));
+		ReflectionTestUtils.setField(coalescer, "maxInFlight", 10);
+		ReflectionTestUtils.setField(coalescer, "maxWait", 5000L);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testIsCoalescible() {
+		final UriComponents lookup = HttpUtilities.createURI("http", "localhost", 8443, "/serviceregistry/service-discovery/lookup");
+		final UriComponents register = HttpUtilities.createURI("http", "localhost", 8443, "/serviceregistry/service-discovery/register");
+
+		assertTrue(coalescer.isCoalescible(HttpMethod.GET, register));
+		assertTrue(coalescer.isCoalescible(HttpMethod.POST, lookup));
+		assertFalse(coalescer.isCoalescible(HttpMethod.POST, register));
+		assertFalse(coalescer.isCoalescible(HttpMethod.PATCH, lookup));
+		assertFalse(coalescer.isCoalescible(HttpMethod.PUT, register));
+		assertFalse(coalescer.isCoalescible(HttpMethod.DELETE, register));
+
+		ReflectionTestUtils.setField(coalescer, "enabled", false);
+		assertFalse(coalescer.isCoalescible(HttpMethod.GET, register));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCreateKey() {
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", 8443, "/test");
+
+		final String key1 = coalescer.createKey(HttpMethod.POST, uri, "java.lang.String", Map.of("name", "a"), Map.of("Authorization", "Bearer A", "X-Other", "1"));
+		final String key2 = coalescer.createKey(HttpMethod.POST, uri, "java.lang.String", Map.of("name", "a"), Map.of("Authorization", "Bearer A", "X-Other", "2"));
+		final String key3 = coalescer.createKey(HttpMethod.POST, uri, "java.lang.String", Map.of("name", "b"), Map.of("Authorization", "Bearer A"));
+		final String key4 = coalescer.createKey(HttpMethod.POST, uri, "java.lang.String", Map.of("name", "a"), Map.of("Authorization", "Bearer B"));
+		final String key5 = coalescer.createKey(HttpMethod.POST, uri, "java.lang.Integer", Map.of("name", "a"), Map.of("Authorization", "Bearer A"));
+
+		assertEquals(key1, key2);
+		assertNotEquals(key1, key3);
+		assertNotEquals(key1, key4);
+		assertNotEquals(key1, key5);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteCoalesced() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger calls = new AtomicInteger();
+		final Object shared = new Object();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			final Future<Object> leader = executor.submit(() -> coalescer.execute("key", () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (final InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+
+				return shared;
+			}));
+
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			final Future<Object> follower = executor.submit(() -> coalescer.execute("key", () -> {
+				calls.incrementAndGet();
+				return new Object();
+			}));
+
+			while (coalescer.getCoalescedCount() == 0) {
+				Thread.sleep(10);
+			}
+
+			release.countDown();
+
+			assertSame(shared, leader.get(5, TimeUnit.SECONDS));
+			assertSame(shared, follower.get(5, TimeUnit.SECONDS));
+		}
+
+		assertEquals(1, calls.get());
+		assertEquals(2, coalescer.getRequestCount());
+		assertEquals(0.5, coalescer.getCoalescingRatio());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteCoalescedOwnerCancelled() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			final Future<Object> leader = startLeader(executor, release, () -> {
+				throw new RequestCancelledException("Request is cancelled");
+			});
+			final Future<Object> follower = startFollower(executor);
+
+			release.countDown();
+
+			final Throwable ex = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+
+			assertInstanceOf(RequestCancelledException.class, ex.getCause());
+			assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteCoalescedOwnerError() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			startLeader(executor, release, () -> {
+				throw new AssertionError("error");
+			});
+			final Future<Object> follower = startFollower(executor);
+
+			release.countDown();
+
+			final Throwable ex = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+
+			assertInstanceOf(AssertionError.class, ex.getCause());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteCoalescedMaxWait() throws Exception {
+		ReflectionTestUtils.setField(coalescer, "maxWait", 50L);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			final Future<Object> leader = startLeader(executor, release, () -> "shared");
+			final Future<Object> follower = startFollower(executor);
+
+			assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+
+			release.countDown();
+
+			assertEquals("shared", leader.get(5, TimeUnit.SECONDS));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteException() {
+		assertThrows(ExternalServerError.class, () -> coalescer.execute("key", () -> {
+			throw new ExternalServerError("Could not get any response");
+		}));
+
+		// the failed exchange is removed
+		assertEquals("result", coalescer.execute("key", () -> "result"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteTableFull() {
+		ReflectionTestUtils.setField(coalescer, "maxInFlight", 0);
+
+		assertEquals("result", coalescer.execute("key", () -> "result"));
+		assertEquals(1, coalescer.getRequestCount());
+		assertEquals(0, coalescer.getCoalescedCount());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private Future<Object> startLeader(final ExecutorService executor, final CountDownLatch release, final Supplier<Object> outcome) throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final Future<Object> leader = executor.submit(() -> coalescer.execute("key", () -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+
+			return outcome.get();
+		}));
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		return leader;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private Future<Object> startFollower(final ExecutorService executor) throws InterruptedException {
+		final Future<Object> follower = executor.submit(() -> coalescer.execute("key", () -> "own"));
+		while (coalescer.getCoalescedCount() == 0) {
+			Thread.sleep(10);
+		}
+
+		return follower;
+	}
+}
\ No newline at end of file
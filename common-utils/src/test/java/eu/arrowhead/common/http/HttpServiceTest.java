@@ -16,10 +16,14 @@
  *******************************************************************************/
 package eu.arrowhead.common.http; // checkstyle file length checker can not be suppressed with @SuppressWarnings
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
@@ -30,13 +34,24 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.StandardProtocolFamily;
 import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -46,6 +61,7 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.TrustManagerFactory;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -68,8 +84,10 @@ import org.springframework.web.reactive.function.client.WebClient.RequestHeaders
 import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
 
 import eu.arrowhead.common.SSLProperties;
 import eu.arrowhead.common.Utilities;
@@ -78,9 +96,12 @@ import eu.arrowhead.common.exception.AuthException;
 import eu.arrowhead.common.exception.ExternalServerError;
 import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.http.resilience.HttpResilienceManager;
+import eu.arrowhead.common.security.SSLContextFactory;
 import eu.arrowhead.dto.ErrorMessageDTO;
 import eu.arrowhead.dto.enums.ExceptionType;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
@@ -89,6 +110,8 @@ import io.netty.handler.timeout.WriteTimeoutHandler;
 import jakarta.el.MethodNotFoundException;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.tcp.SslProvider;
 import reactor.netty.tcp.SslProvider.SslContextSpec;
@@ -108,9 +131,24 @@ public class HttpServiceTest {
 	@Mock
 	private SSLProperties sslProperties;
 
+	@Spy
+	private HttpResilienceManager resilienceManager;
+
+	@Spy
+	private SSLContextFactory sslContextFactory;
+
+	@Spy
+	private HttpRequestCoalescer coalescer;
+
 	//=================================================================================================
 	// members
 
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(sslContextFactory, "sslProperties", sslProperties);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testSendRequest6ClassHttpMethodNull() {
@@ -2099,6 +2137,217 @@ public class HttpServiceTest {
 		assertEquals("<unknown>", result);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWarmUpNoSSLClient() {
+		final UriComponents uri = HttpUtilities.createURI("https", "localhost", 12345, "/");
+
+		assertEquals(0, service.warmUp(uri, 2));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testWarmUpOk() throws IOException {
+		ReflectionTestUtils.setField(service, "connectionTimeout", 1000);
+		ReflectionTestUtils.setField(service, "socketTimeout", 1000);
+		ReflectionTestUtils.setField(service, "dnsCacheEnabled", true);
+		ReflectionTestUtils.setField(service, "dnsCacheMaxTtl", 60);
+		ReflectionTestUtils.setField(service, "httpClient", ReflectionTestUtils.invokeMethod(service, "createHttpClient", (SslContext) null));
+
+		final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+
+		try {
+			final UriComponents uri = HttpUtilities.createURI("http", "localhost", server.getAddress().getPort(), "/");
+
+			assertEquals(2, service.warmUp(uri, 2));
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testWarmUpConnectionRefused() throws IOException {
+		ReflectionTestUtils.setField(service, "connectionTimeout", 1000);
+		ReflectionTestUtils.setField(service, "socketTimeout", 1000);
+		ReflectionTestUtils.setField(service, "httpClient", ReflectionTestUtils.invokeMethod(service, "createHttpClient", (SslContext) null));
+
+		final int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+
+		final UriComponents uri = HttpUtilities.createURI("http", "localhost", port, "/");
+
+		assertEquals(0, service.warmUp(uri, 2));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testParseUnixSocketMappingsEmpty() {
+		ReflectionTestUtils.setField(service, "unixSocketMappings", List.of("\"\""));
+
+		final Map<String, String> result = ReflectionTestUtils.invokeMethod(service, "parseUnixSocketMappings");
+
+		assertTrue(result.isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testParseUnixSocketMappingsInvalid() {
+		ReflectionTestUtils.setField(service, "unixSocketMappings", List.of("localhost=/tmp/test.sock"));
+
+		final Throwable ex = assertThrows(IllegalArgumentException.class, () -> ReflectionTestUtils.invokeMethod(service, "parseUnixSocketMappings"));
+
+		assertEquals("http.client.unix.socket.mappings contains an invalid entry: localhost=/tmp/test.sock", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testParseUnixSocketMappingsOk() {
+		ReflectionTestUtils.setField(service, "unixSocketMappings", List.of(" localhost:8443 = /tmp/test.sock"));
+
+		final Map<String, String> result = ReflectionTestUtils.invokeMethod(service, "parseUnixSocketMappings");
+
+		assertEquals(Epoll.isAvailable() ? Map.of("localhost:8443", "/tmp/test.sock") : Map.of(), result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetUnixSocketClientNotMapped() {
+		final HttpClient client = HttpClient.create();
+		ReflectionTestUtils.setField(service, "unixSocketPaths", Map.of("localhost:8443", "/tmp/test.sock"));
+
+		final HttpClient result = ReflectionTestUtils.invokeMethod(service, "getUnixSocketClient", client, HttpUtilities.createURI("https", "localhost", 8444, "/"), true);
+
+		assertNull(result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetUnixSocketClientDefaultPort() {
+		final HttpClient client = HttpClient.create();
+		ReflectionTestUtils.setField(service, "unixSocketPaths", Map.of("localhost:443", "/tmp/test.sock"));
+
+		final HttpClient result = ReflectionTestUtils.invokeMethod(service, "getUnixSocketClient", client, UriComponentsBuilder.fromUriString("https://localhost/").build(), true);
+		final HttpClient result2 = ReflectionTestUtils.invokeMethod(service, "getUnixSocketClient", client, UriComponentsBuilder.fromUriString("https://localhost:443/").build(), true);
+
+		assertNotNull(result);
+		assertEquals(result, result2);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testUnixSocket() throws IOException {
+		assumeTrue(Epoll.isAvailable());
+
+		ReflectionTestUtils.setField(service, "connectionTimeout", 1000);
+		ReflectionTestUtils.setField(service, "socketTimeout", 1000);
+		ReflectionTestUtils.setField(service, "httpClient", ReflectionTestUtils.invokeMethod(service, "createHttpClient", (SslContext) null));
+
+		final Path socketPath = Files.createTempDirectory("ah-uds").resolve("test.sock");
+		ReflectionTestUtils.setField(service, "unixSocketPaths", Map.of("localhost:1", socketPath.toString()));
+
+		try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			server.bind(UnixDomainSocketAddress.of(socketPath));
+			final Thread acceptor = Thread.ofVirtual().start(() -> {
+				try {
+					while (true) {
+						final SocketChannel channel = server.accept();
+						Thread.ofVirtual().start(() -> respond(channel));
+					}
+				} catch (final IOException ex) {
+					// server is closed
+				}
+			});
+
+			// nothing listens on TCP port 1, so the requests can only succeed through the socket
+			assertEquals(2, service.warmUp(HttpUtilities.createURI("http", "localhost", 1, "/"), 2));
+			assertEquals("ok", service.sendRequest(HttpUtilities.createURI("http", "localhost", 1, "/test"), HttpMethod.GET, String.class));
+			acceptor.interrupt();
+		} finally {
+			Files.deleteIfExists(socketPath);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetUsedProtocolsDefault() {
+		final HttpProtocol[] result = ReflectionTestUtils.invokeMethod(service, "getUsedProtocols", (SslContext) null);
+
+		assertArrayEquals(new HttpProtocol[] { HttpProtocol.HTTP11 }, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetUsedProtocolsPlaintext() {
+		ReflectionTestUtils.setField(service, "protocols", List.of(HttpProtocol.H2, HttpProtocol.H2C, HttpProtocol.HTTP11));
+
+		final HttpProtocol[] result = ReflectionTestUtils.invokeMethod(service, "getUsedProtocols", (SslContext) null);
+
+		assertArrayEquals(new HttpProtocol[] { HttpProtocol.H2C, HttpProtocol.HTTP11 }, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetUsedProtocolsSecure() throws Exception {
+		final SslContext alpnContext = createSSLContext();
+		ReflectionTestUtils.setField(service, "protocols", List.of(HttpProtocol.H2, HttpProtocol.H2C, HttpProtocol.HTTP11));
+		ReflectionTestUtils.setField(service, "alpnContext", alpnContext);
+
+		final HttpProtocol[] result = ReflectionTestUtils.invokeMethod(service, "getUsedProtocols", alpnContext);
+
+		assertArrayEquals(new HttpProtocol[] { HttpProtocol.H2, HttpProtocol.HTTP11 }, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetUsedProtocolsGivenContext() throws Exception {
+		ReflectionTestUtils.setField(service, "protocols", List.of(HttpProtocol.H2));
+		ReflectionTestUtils.setField(service, "alpnContext", createSSLContext());
+
+		// caller-provided contexts cannot negotiate HTTP/2
+		final HttpProtocol[] result = ReflectionTestUtils.invokeMethod(service, "getUsedProtocols", createSSLContext());
+
+		assertArrayEquals(new HttpProtocol[] { HttpProtocol.HTTP11 }, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testSendRequestH2C() {
+		ReflectionTestUtils.setField(service, "connectionTimeout", 1000);
+		ReflectionTestUtils.setField(service, "socketTimeout", 1000);
+		ReflectionTestUtils.setField(service, "protocols", List.of(HttpProtocol.H2C));
+		ReflectionTestUtils.setField(service, "http2MaxConcurrentStreams", 10);
+		ReflectionTestUtils.setField(service, "http2MaxConnections", 1);
+		ReflectionTestUtils.invokeMethod(service, "init");
+
+		final DisposableServer server = reactor.netty.http.server.HttpServer.create()
+				.host("localhost")
+				.port(0)
+				.protocol(HttpProtocol.H2C)
+				.handle((request, response) -> response.sendString(Mono.just(request.protocol())))
+				.bindNow();
+
+		try {
+			final UriComponents uri = HttpUtilities.createURI("http", "localhost", server.port(), "/test");
+
+			assertEquals("HTTP/2.0", service.sendRequest(uri, HttpMethod.GET, String.class));
+		} finally {
+			server.disposeNow();
+			ReflectionTestUtils.invokeMethod(service, "destroy");
+		}
+	}
+
 	//=================================================================================================
 	// assistant methods
 
@@ -2125,4 +2374,28 @@ public class HttpServiceTest {
 				.trustManager(trustManagerFactory)
 				.build();
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void respond(final SocketChannel channel) {
+		try (channel) {
+			final ByteBuffer buffer = ByteBuffer.allocate(1024);
+			final StringBuilder request = new StringBuilder();
+			while (true) {
+				while (request.indexOf("\r\n\r\n") < 0) {
+					buffer.clear();
+					if (channel.read(buffer) < 0) {
+						return;
+					}
+
+					request.append(new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+				}
+
+				final String response = request.toString().startsWith("HEAD") ? "" : "ok";
+				request.delete(0, request.indexOf("\r\n\r\n") + 4);
+				channel.write(ByteBuffer.wrap(("HTTP/1.1 200 OK\r\nContent-Type: text/plain\r\nContent-Length: 2\r\n\r\n" + response).getBytes(StandardCharsets.US_ASCII)));
+			}
+		} catch (final IOException ex) {
+			// connection is closed
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.apache.tomcat.util.net.SSLHostConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.SSLProperties;
+
+@ExtendWith(MockitoExtension.class)
+public class UnixDomainSocketConnectorConfigTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private UnixDomainSocketConnectorConfig config;
+
+	@Mock
+	private SSLProperties sslProperties;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCustomizeInsecure() throws IOException {
+		final Path socketPath = Files.createTempDirectory("ah-uds").resolve("test.sock");
+		// stale socket file of a previous run
+		try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			channel.bind(UnixDomainSocketAddress.of(socketPath));
+		}
+
+		assertTrue(Files.exists(socketPath));
+		ReflectionTestUtils.setField(config, "socketPath", socketPath.toString());
+		when(sslProperties.isSslEnabled()).thenReturn(false);
+
+		final TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+		config.customize(factory);
+
+		final List<Connector> connectors = factory.getAdditionalTomcatConnectors();
+		assertEquals(1, connectors.size());
+		assertEquals(socketPath.toString(), connectors.get(0).getProperty("unixDomainSocketPath"));
+		assertFalse(connectors.get(0).getSecure());
+		assertEquals(0, connectors.get(0).findUpgradeProtocols().length);
+		assertFalse(Files.exists(socketPath));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCustomizeNotASocketFile() throws IOException {
+		final Path socketPath = Files.createTempFile("ah-uds", ".sock");
+		ReflectionTestUtils.setField(config, "socketPath", socketPath.toString());
+
+		final TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+		final Throwable ex = assertThrows(IllegalStateException.class,
+				() -> config.customize(factory));
+
+		assertEquals("server.unix.socket.path points to an existing file that is not a socket: " + socketPath, ex.getMessage());
+		assertTrue(Files.exists(socketPath));
+		assertTrue(factory.getAdditionalTomcatConnectors().isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCustomizeHttp2() throws IOException {
+		final Path socketPath = Files.createTempDirectory("ah-uds").resolve("test.sock");
+		ReflectionTestUtils.setField(config, "socketPath", socketPath.toString());
+		ReflectionTestUtils.setField(config, "http2Enabled", true);
+		when(sslProperties.isSslEnabled()).thenReturn(false);
+
+		final TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+		config.customize(factory);
+
+		final UpgradeProtocol[] upgradeProtocols = factory.getAdditionalTomcatConnectors().get(0).findUpgradeProtocols();
+		assertEquals(1, upgradeProtocols.length);
+		assertTrue(upgradeProtocols[0] instanceof Http2Protocol);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCustomizeSecure() throws IOException {
+		final Path socketPath = Files.createTempDirectory("ah-uds").resolve("test.sock");
+		ReflectionTestUtils.setField(config, "socketPath", socketPath.toString());
+		ReflectionTestUtils.setField(config, "clientAuth", "need");
+		when(sslProperties.isSslEnabled()).thenReturn(true);
+		when(sslProperties.getKeyStore()).thenReturn(new ClassPathResource("certs/ConsumerAuthorization.p12"));
+		when(sslProperties.getKeyStorePassword()).thenReturn("123456");
+		when(sslProperties.getKeyStoreType()).thenReturn("PKCS12");
+		when(sslProperties.getKeyAlias()).thenReturn("consumerauthorization");
+		when(sslProperties.getKeyPassword()).thenReturn("123456");
+		when(sslProperties.getTrustStore()).thenReturn(new ClassPathResource("certs/truststore.p12"));
+		when(sslProperties.getTrustStorePassword()).thenReturn("123456");
+
+		final TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+		config.customize(factory);
+
+		final Connector connector = factory.getAdditionalTomcatConnectors().get(0);
+		assertTrue(connector.getSecure());
+		assertEquals("https", connector.getScheme());
+
+		final SSLHostConfig[] sslHostConfigs = connector.findSslHostConfigs();
+		assertEquals(1, sslHostConfigs.length);
+		assertEquals(SSLHostConfig.CertificateVerification.REQUIRED, sslHostConfigs[0].getCertificateVerification());
+		assertTrue(sslHostConfigs[0].getTruststoreFile().endsWith("certs/truststore.p12"));
+	}
+}
\ No newline at end of file
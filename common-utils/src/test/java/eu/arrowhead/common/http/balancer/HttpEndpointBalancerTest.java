@@ -0,0 +1,139 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.balancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.model.ServiceModelTestHelper;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+public class HttpEndpointBalancerTest {
+
+	//=================================================================================================
+	// members
+
+	private HttpEndpointBalancer balancer;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		balancer = new HttpEndpointBalancer();
+		ReflectionTestUtils.setField(balancer, "policy", LoadBalancingPolicy.ROUND_ROBIN);
+		ReflectionTestUtils.setField(balancer, "ejectionThreshold", 2);
+		ReflectionTestUtils.setField(balancer, "ejectionInterval", 60000L);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOrderSingleEndpoint() {
+		final HttpEndpoint endpoint = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of());
+
+		assertEquals(List.of(endpoint), balancer.order(List.of(endpoint)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOrderRoundRobin() {
+		final HttpEndpoint endpoint1 = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of());
+		final HttpEndpoint endpoint2 = ServiceModelTestHelper.createEndpoint("testService", "host2", Map.of());
+		final List<HttpEndpoint> candidates = List.of(endpoint1, endpoint2);
+
+		assertEquals(List.of(endpoint1, endpoint2), balancer.order(candidates));
+		assertEquals(List.of(endpoint2, endpoint1), balancer.order(candidates));
+		assertEquals(List.of(endpoint1, endpoint2), balancer.order(candidates));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOrderPowerOfTwoChoices() {
+		ReflectionTestUtils.setField(balancer, "policy", LoadBalancingPolicy.POWER_OF_TWO_CHOICES);
+		final HttpEndpoint endpoint1 = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of());
+		final HttpEndpoint endpoint2 = ServiceModelTestHelper.createEndpoint("testService", "host2", Map.of());
+
+		balancer.recordSuccess(endpoint1, 500);
+		balancer.recordSuccess(endpoint2, 10);
+
+		for (int i = 0; i < 10; ++i) {
+			assertEquals(endpoint2, balancer.order(List.of(endpoint1, endpoint2)).getFirst());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOrderWeighted() {
+		ReflectionTestUtils.setField(balancer, "policy", LoadBalancingPolicy.WEIGHTED);
+		final HttpEndpoint endpoint1 = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of("weight", 0));
+		final HttpEndpoint endpoint2 = ServiceModelTestHelper.createEndpoint("testService", "host2", Map.of("weight", "5"));
+
+		for (int i = 0; i < 10; ++i) {
+			assertEquals(List.of(endpoint2, endpoint1), balancer.order(List.of(endpoint1, endpoint2)));
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testEjection() {
+		final HttpEndpoint endpoint1 = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of());
+		final HttpEndpoint endpoint2 = ServiceModelTestHelper.createEndpoint("testService", "host2", Map.of());
+
+		balancer.recordFailure(endpoint1);
+		assertTrue(balancer.getEjectedEndpoints().isEmpty());
+
+		balancer.recordFailure(endpoint1);
+		assertEquals(List.of("http://host1:1234"), balancer.getEjectedEndpoints());
+		assertEquals(List.of(endpoint2), balancer.order(List.of(endpoint1, endpoint2)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testEjectionEveryEndpoint() {
+		final HttpEndpoint endpoint1 = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of());
+		final HttpEndpoint endpoint2 = ServiceModelTestHelper.createEndpoint("testService", "host2", Map.of());
+
+		balancer.recordFailure(endpoint1);
+		balancer.recordFailure(endpoint1);
+		balancer.recordFailure(endpoint2);
+		balancer.recordFailure(endpoint2);
+
+		assertEquals(2, balancer.order(List.of(endpoint1, endpoint2)).size());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReinstatement() {
+		ReflectionTestUtils.setField(balancer, "ejectionInterval", 0L);
+		final HttpEndpoint endpoint1 = ServiceModelTestHelper.createEndpoint("testService", "host1", Map.of());
+		final HttpEndpoint endpoint2 = ServiceModelTestHelper.createEndpoint("testService", "host2", Map.of());
+
+		balancer.recordFailure(endpoint1);
+		balancer.recordFailure(endpoint1);
+
+		assertTrue(balancer.getEjectedEndpoints().isEmpty());
+		assertEquals(2, balancer.order(List.of(endpoint1, endpoint2)).size());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.balancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.exception.EndpointUnavailableException;
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.exception.TransportFailureException;
+import eu.arrowhead.common.http.resilience.HttpResilienceManager;
+import eu.arrowhead.common.model.ServiceModelTestHelper;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class HttpRequestHedgerTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private HttpRequestHedger hedger;
+
+	@Mock
+	private HttpResilienceManager resilienceManager;
+
+	private final HttpEndpoint primary = ServiceModelTestHelper.createEndpoint("testService", "host1", null);
+	private final HttpEndpoint alternative = ServiceModelTestHelper.createEndpoint("testService", "host2", null);
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(hedger, "operations", List.of("testService/test-operation", ""));
+		ReflectionTestUtils.setField(hedger, "delay", 50L);
+		ReflectionTestUtils.setField(hedger, "percentile", 95);
+		ReflectionTestUtils.setField(hedger, "budget", 10);
+		ReflectionTestUtils.setField(hedger, "maxThreads", 4);
+		ReflectionTestUtils.invokeMethod(hedger, "init");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterEach
+	public void tearDown() {
+		ReflectionTestUtils.invokeMethod(hedger, "destroy");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testIsHedged() {
+		assertTrue(hedger.isHedged("testService", "test-operation"));
+		assertFalse(hedger.isHedged("testService", "other-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePrimaryFast() {
+		final AtomicInteger calls = new AtomicInteger();
+
+		final String result = hedger.execute(primary, alternative, endpoint -> {
+			calls.incrementAndGet();
+			return endpoint.address();
+		});
+
+		assertEquals("host1", result);
+		assertEquals(1, calls.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteHedgedAndLoserCancelled() throws InterruptedException {
+		final CountDownLatch cancelled = new CountDownLatch(1);
+
+		final String result = hedger.execute(primary, alternative, endpoint -> {
+			if (endpoint == primary) {
+				try {
+					Thread.sleep(10000);
+				} catch (final InterruptedException ex) {
+					cancelled.countDown();
+				}
+			}
+
+			return endpoint.address();
+		});
+
+		assertEquals("host2", result);
+		assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePoolFull() {
+		ReflectionTestUtils.invokeMethod(hedger, "destroy");
+		ReflectionTestUtils.setField(hedger, "maxThreads", 1);
+		ReflectionTestUtils.invokeMethod(hedger, "init");
+		final ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(hedger, "executor");
+		final CountDownLatch release = new CountDownLatch(1);
+		final Thread caller = Thread.currentThread();
+
+		executor.execute(() -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		try {
+			// sent on the caller thread, the alternative is still used as failover
+			final String result = hedger.execute(primary, alternative, endpoint -> {
+				if (endpoint == primary) {
+					throw new TransportFailureException("Could not get any response");
+				}
+
+				return Thread.currentThread() == caller ? endpoint.address() : "other thread";
+			});
+
+			assertEquals("host2", result);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteBudgetExhausted() {
+		ReflectionTestUtils.setField(hedger, "budget", 0);
+		ReflectionTestUtils.setField(hedger, "tokens", 0.0);
+		final AtomicInteger calls = new AtomicInteger();
+
+		final String result = hedger.execute(primary, alternative, endpoint -> {
+			calls.incrementAndGet();
+			if (endpoint == primary) {
+				try {
+					Thread.sleep(200);
+				} catch (final InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			return endpoint.address();
+		});
+
+		assertEquals("host1", result);
+		assertEquals(1, calls.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePrimaryFailsFast() {
+		ReflectionTestUtils.setField(hedger, "budget", 0);
+		ReflectionTestUtils.setField(hedger, "tokens", 0.0);
+
+		final String result = hedger.execute(primary, alternative, endpoint -> {
+			if (endpoint == primary) {
+				throw new TransportFailureException("Could not get any response");
+			}
+
+			return endpoint.address();
+		});
+
+		assertEquals("host2", result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePrimaryUnavailable() {
+		ReflectionTestUtils.setField(hedger, "budget", 0);
+		ReflectionTestUtils.setField(hedger, "tokens", 0.0);
+
+		final String result = hedger.execute(primary, alternative, endpoint -> {
+			if (endpoint == primary) {
+				throw new EndpointUnavailableException("Circuit breaker is open for: host1");
+			}
+
+			return endpoint.address();
+		});
+
+		assertEquals("host2", result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePrimaryErrorResponseNotFailedOver() {
+		final AtomicInteger calls = new AtomicInteger();
+
+		final Throwable ex = assertThrows(ExternalServerError.class, () -> hedger.execute(primary, alternative, endpoint -> {
+			calls.incrementAndGet();
+			throw new ExternalServerError("Internal error at: " + endpoint.address());
+		}));
+
+		assertEquals("Internal error at: host1", ex.getMessage());
+		assertEquals(1, calls.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteWithoutHedgingErrorResponseNotFailedOver() {
+		ReflectionTestUtils.setField(hedger, "budget", 0);
+		ReflectionTestUtils.setField(hedger, "tokens", 0.0);
+		final AtomicInteger calls = new AtomicInteger();
+
+		final Throwable ex = assertThrows(InvalidParameterException.class, () -> hedger.execute(primary, alternative, endpoint -> {
+			calls.incrementAndGet();
+			throw new InvalidParameterException("Invalid request");
+		}));
+
+		assertEquals("Invalid request", ex.getMessage());
+		assertEquals(1, calls.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteBothFail() {
+		final Throwable ex = assertThrows(TransportFailureException.class, () -> hedger.execute(primary, alternative, endpoint -> {
+			throw new TransportFailureException("Could not get any response from: " + endpoint.address());
+		}));
+
+		assertTrue(ex.getMessage().startsWith("Could not get any response from: "));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteDelayFromLatency() {
+		ReflectionTestUtils.setField(hedger, "delay", 0L);
+		when(resilienceManager.getLatencyPercentile("host1:1234", 95)).thenReturn(-1L);
+
+		final String result = hedger.execute(primary, alternative, endpoint -> endpoint.address());
+
+		verify(resilienceManager).getLatencyPercentile("host1:1234", 95);
+		verify(resilienceManager, never()).getLatencyPercentile("host2:1234", 95);
+
+		assertEquals("host1", result);
+	}
+}
\ No newline at end of file
@@ -44,6 +44,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import eu.arrowhead.common.exception.ArrowheadException;
 import eu.arrowhead.common.exception.ForbiddenException;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -100,6 +101,28 @@ public class ArrowheadFilterTest {
 
 		request.setRequestURI("/swagger-ui");
 		assertTrue(filter.shouldNotFilter(request));
+
+		request.setRequestURI("/readiness");
+		assertTrue(filter.shouldNotFilter(request));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testShouldNotFilterAsyncDispatch() throws ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRequestURI("/serviceregistry/mgmt/systems");
+
+		assertFalse(filter.shouldNotFilterAsyncDispatch());
+
+		// not seen before the async dispatch
+		request.setDispatcherType(DispatcherType.ASYNC);
+		assertFalse(filter.shouldNotFilter(request));
+
+		// seen before the async dispatch
+		request.setDispatcherType(DispatcherType.REQUEST);
+		assertFalse(filter.shouldNotFilter(request));
+		request.setDispatcherType(DispatcherType.ASYNC);
+		assertTrue(filter.shouldNotFilter(request));
 	}
 
 	//-------------------------------------------------------------------------------------------------
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.common.exception.ForbiddenException;
+import eu.arrowhead.common.http.filter.thirdparty.MultiReadRequestWrapper;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+public class AsyncArrowheadFilterTest {
+
+	//=================================================================================================
+	// members
+
+	private Tomcat tomcat;
+
+	private final AtomicInteger downstreamCounter = new AtomicInteger();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterEach
+	public void tearDown() throws LifecycleException {
+		if (tomcat != null) {
+			tomcat.stop();
+			tomcat.destroy();
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterAsyncAllowed() throws Exception {
+		final int port = start(request -> request.setAttribute("decision.thread", Thread.currentThread().getName()), 5000);
+
+		final HttpResponse<String> response = post(port, "payload");
+
+		assertEquals(200, response.statusCode());
+		assertTrue(response.body().startsWith("payload|"));
+		assertFalse(response.body().substring("payload|".length()).startsWith("http-")); // decided outside of the request threads
+		assertEquals(1, downstreamCounter.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterAsyncDenied() throws Exception {
+		final int port = start(request -> {
+			throw new ForbiddenException("RequesterSystem system is blacklisted");
+		}, 5000);
+
+		final HttpResponse<String> response = post(port, "payload");
+
+		assertEquals(403, response.statusCode());
+		assertTrue(response.body().contains("RequesterSystem system is blacklisted"));
+		assertEquals(0, downstreamCounter.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterAsyncTimeout() throws Exception {
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		final int port = start(request -> {
+			try {
+				Thread.sleep(3000);
+			} catch (final InterruptedException ex) {
+				interrupted.countDown();
+				Thread.currentThread().interrupt();
+			}
+		}, 200);
+
+		final HttpResponse<String> response = post(port, "payload");
+
+		assertEquals(408, response.statusCode());
+		assertTrue(response.body().contains("Request processing timed out"));
+		assertEquals(0, downstreamCounter.get());
+		assertTrue(interrupted.await(2, TimeUnit.SECONDS)); // the decision is cancelled
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private int start(final IDecision decision, final long timeout) throws Exception {
+		final DecidingFilter asyncFilter = new DecidingFilter(decision);
+		ReflectionTestUtils.setField(asyncFilter, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(asyncFilter, "asyncEnabled", true);
+		ReflectionTestUtils.setField(asyncFilter, "asyncTimeout", timeout);
+		ReflectionTestUtils.setField(asyncFilter, "maxThreads", 4);
+		ReflectionTestUtils.setField(asyncFilter, "queueSize", 4);
+		ReflectionTestUtils.invokeMethod(asyncFilter, "initDecisionExecutor");
+
+		final CountingFilter downstreamFilter = new CountingFilter();
+
+		tomcat = new Tomcat();
+		tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+		tomcat.setPort(0);
+
+		final Context context = tomcat.addContext("", null);
+		Tomcat.addServlet(context, "echo", new EchoServlet()).setAsyncSupported(true);
+		context.addServletMappingDecoded("/*", "echo");
+		addFilter(context, "asyncFilter", asyncFilter);
+		addFilter(context, "downstreamFilter", downstreamFilter);
+
+		tomcat.getConnector();
+		tomcat.start();
+
+		return tomcat.getConnector().getLocalPort();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void addFilter(final Context context, final String name, final ArrowheadFilter filter) {
+		final FilterDef def = new FilterDef();
+		def.setFilterName(name);
+		def.setFilter(filter);
+		def.setAsyncSupported("true");
+		context.addFilterDef(def);
+
+		final FilterMap map = new FilterMap();
+		map.setFilterName(name);
+		map.addURLPattern("/*");
+		map.setDispatcher(DispatcherType.REQUEST.name());
+		map.setDispatcher(DispatcherType.ASYNC.name());
+		context.addFilterMap(map);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private HttpResponse<String> post(final int port, final String body) throws IOException, InterruptedException {
+		final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/mgmt/systems"))
+				.POST(HttpRequest.BodyPublishers.ofString(body))
+				.build();
+
+		return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	private interface IDecision {
+
+		//-------------------------------------------------------------------------------------------------
+		public void decide(final HttpServletRequest request);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class DecidingFilter extends AsyncArrowheadFilter {
+
+		//=================================================================================================
+		// members
+
+		private final IDecision decision;
+
+		//=================================================================================================
+		// assistant methods
+
+		//-------------------------------------------------------------------------------------------------
+		private DecidingFilter(final IDecision decision) {
+			this.decision = decision;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		protected void decide(final MultiReadRequestWrapper request) {
+			// the body is read before the dispatch
+			request.getCachedBody();
+			decision.decide(request);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private final class CountingFilter extends ArrowheadFilter {
+
+		//=================================================================================================
+		// assistant methods
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain) throws IOException, ServletException {
+			downstreamCounter.incrementAndGet();
+			chain.doFilter(request, response);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class EchoServlet extends HttpServlet {
+
+		//=================================================================================================
+		// members
+
+		private static final long serialVersionUID = 1L;
+
+		//=================================================================================================
+		// assistant methods
+
+		//-------------------------------------------------------------------------------------------------
+		@Override
+		protected void doPost(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+			final String body = new String(request.getInputStream().readAllBytes());
+			response.getWriter().print(body + "|" + request.getAttribute("decision.thread"));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.common.init.ApplicationReadiness;
+import eu.arrowhead.common.init.InitStep;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class ReadinessFilterTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private ReadinessFilter filter;
+
+	@Spy
+	private ObjectMapper mapper;
+
+	@Mock
+	private ApplicationReadiness readiness;
+
+	@Mock
+	private FilterChain chain;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalReady() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(readiness.isReady()).thenReturn(true);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, response, chain));
+
+		verify(readiness).isReady();
+		verify(readiness, never()).isFailed();
+		verify(chain).doFilter(request, response);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalNotReadyYet() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(readiness.isReady()).thenReturn(false);
+		when(readiness.isFailed()).thenReturn(false);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, response, chain));
+
+		verify(readiness).isReady();
+		verify(readiness).isFailed();
+		verify(chain, never()).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
+
+		assertEquals(503, response.getStatus());
+		assertTrue(response.getContentAsString().contains("System is not ready yet"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalFailed() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(readiness.isReady()).thenReturn(false);
+		when(readiness.isFailed()).thenReturn(true);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, response, chain));
+
+		verify(readiness).isReady();
+		verify(readiness).isFailed();
+		verify(chain, never()).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
+
+		assertEquals(503, response.getStatus());
+		assertTrue(response.getContentAsString().contains("System initialization failed"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalEchoNotGated() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRequestURI("/serviceregistry/monitor/echo");
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(readiness.isReady()).thenReturn(false);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, response, chain));
+
+		verify(readiness, never()).isCompleted(any(InitStep.class));
+		verify(chain).doFilter(request, response);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalSSLReadyPathNotGated() throws IOException, ServletException {
+		ReflectionTestUtils.setField(filter, "gatedPaths", List.of("/serviceregistry/service-discovery"));
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRequestURI("/serviceregistry/logs");
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(readiness.isReady()).thenReturn(false);
+		when(readiness.isCompleted(InitStep.SSL)).thenReturn(true);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, response, chain));
+
+		verify(readiness).isCompleted(InitStep.SSL);
+		verify(chain).doFilter(request, response);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalSSLReadyPathGated() throws IOException, ServletException {
+		ReflectionTestUtils.setField(filter, "gatedPaths", List.of("", " /serviceregistry/service-discovery"));
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRequestURI("/serviceregistry/service-discovery/lookup");
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(readiness.isReady()).thenReturn(false);
+		when(readiness.isCompleted(InitStep.SSL)).thenReturn(true);
+		when(readiness.isFailed()).thenReturn(false);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, response, chain));
+
+		verify(chain, never()).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class));
+
+		assertEquals(503, response.getStatus());
+		assertTrue(response.getContentAsString().contains("System is not ready yet"));
+	}
+}
\ No newline at end of file
@@ -71,7 +71,7 @@ public class OutsourcedFilterTest {
 	// members
 
 	@InjectMocks
-	private OutsourcedFilter filter = new OutsourcedFilterTestHelper(); // this is the trick
+	private OutsourcedFilterTestHelper filter = new OutsourcedFilterTestHelper(); // this is the trick
 
 	@Mock
 	private SystemInfo sysInfo;
@@ -19,6 +19,9 @@ package eu.arrowhead.common.http.filter.authentication;
 import java.io.IOException;
 
 import eu.arrowhead.common.exception.ArrowheadException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 // we test this derived class instead of the original one
@@ -33,4 +36,11 @@ public class OutsourcedFilterTestHelper extends OutsourcedFilter {
 	protected void handleException(final ArrowheadException ex, final HttpServletResponse response) throws IOException {
 		throw ex;
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	// the original method is inherited from another package, so it is made visible for the test here
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain) throws IOException, ServletException {
+		super.doFilterInternal(request, response, chain);
+	}
 }
\ No newline at end of file
@@ -96,6 +96,20 @@ public class BlacklistFilterTest {
 		verify(chain).doFilter(request, null);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalAlreadyChecked() throws IOException, ServletException {
+		final HttpServletRequest request = new MultiReadRequestWrapper(new MockHttpServletRequest());
+		request.setAttribute("arrowhead.sysop.request", false);
+		request.setAttribute("arrowhead.authenticated.system", "RequesterSystem");
+		request.setAttribute("arrowhead.authorization.checked", true);
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, null, chain));
+
+		verify(sysInfo, never()).getSystemName();
+		verify(chain).doFilter(request, null);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testDoFilterInternalAuthenticationLookup() throws IOException, ServletException {
@@ -92,6 +92,44 @@ public class ManagementServiceFilterTest {
 		verify(chain).doFilter(request, null);
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalAlreadyChecked() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute("arrowhead.authenticated.system", "RequesterSystem");
+		request.setAttribute("arrowhead.sysop.request", false);
+		request.setAttribute("arrowhead.authorization.checked", true);
+		request.setScheme("http");
+		request.setServerName("localhost");
+		request.setServerPort(8443);
+		request.setRequestURI("/serviceregistry/mgmt/systems");
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, null, chain));
+
+		verify(sysInfo, never()).getManagementPolicy();
+		verify(chain).doFilter(request, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckAuthorizationWhitelistFalse() {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute("arrowhead.authenticated.system", "RequesterSystem");
+		request.setAttribute("arrowhead.sysop.request", false);
+		request.setScheme("http");
+		request.setServerName("localhost");
+		request.setServerPort(8443);
+		request.setRequestURI("/serviceregistry/mgmt/systems");
+
+		when(sysInfo.getManagementPolicy()).thenReturn(ManagementPolicy.WHITELIST);
+		when(sysInfo.getManagementWhitelist()).thenReturn(List.of("OtherSystem"));
+
+		final Throwable ex = assertThrows(ForbiddenException.class,
+				() -> filter.checkAuthorization(request));
+
+		assertEquals("Requester has no management permission", ex.getMessage());
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testDoFilterInternalSysopOnlySysopTrue() throws IOException, ServletException {
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import eu.arrowhead.common.exception.ForbiddenException;
+import eu.arrowhead.common.security.ParallelAuthorizationChecker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ParallelAuthorizationFilterTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private ParallelAuthorizationFilterTestHelper filter; // this is the trick
+
+	@Mock
+	private ApplicationContext appContext;
+
+	@Mock
+	private ParallelAuthorizationChecker checker;
+
+	@Mock
+	private IAuthorizationCheckFilter blacklistFilter;
+
+	@Mock
+	private IAuthorizationCheckFilter managementFilter;
+
+	@Mock
+	private FilterChain chain;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDoFilterInternalAllowed() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute("arrowhead.authenticated.system", "RequesterSystem");
+
+		when(appContext.getBeansOfType(IAuthorizationCheckFilter.class)).thenReturn(Map.of("blacklistFilter", blacklistFilter, "managementServiceFilter", managementFilter));
+		doAnswer(invocation -> {
+			final List<Runnable> checks = invocation.getArgument(0);
+			checks.forEach(Runnable::run);
+			return null;
+		}).when(checker).check(anyList());
+
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, null, chain));
+		assertDoesNotThrow(() -> filter.doFilterInternal(request, null, chain));
+
+		final ArgumentCaptor<HttpServletRequest> captor = ArgumentCaptor.forClass(HttpServletRequest.class);
+		verify(appContext).getBeansOfType(IAuthorizationCheckFilter.class);
+		verify(checker, times(2)).check(anyList());
+		verify(blacklistFilter, times(2)).checkAuthorization(any(HttpServletRequest.class));
+		verify(managementFilter, times(2)).checkAuthorization(any(HttpServletRequest.class));
+		verify(chain, times(2)).doFilter(captor.capture(), isNull());
+		assertEquals(true, captor.getValue().getAttribute("arrowhead.authorization.checked"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDoFilterInternalDenied() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute("arrowhead.authenticated.system", "RequesterSystem");
+
+		when(appContext.getBeansOfType(IAuthorizationCheckFilter.class)).thenReturn(Map.of("blacklistFilter", blacklistFilter));
+		doThrow(new ForbiddenException("RequesterSystem system is blacklisted")).when(checker).check(anyList());
+
+		final Throwable ex = assertThrows(ForbiddenException.class,
+				() -> filter.doFilterInternal(request, null, chain));
+
+		assertEquals("RequesterSystem system is blacklisted", ex.getMessage());
+		verify(chain, never()).doFilter(any(HttpServletRequest.class), isNull());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.filter.thirdparty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+public class MultiReadRequestWrapperTest {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testNotBufferedStreamsThrough() throws IOException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(new byte[] { 1, 2, 3 });
+		final MultiReadRequestWrapper wrapper = new MultiReadRequestWrapper(request, 2);
+
+		assertSame(request.getInputStream(), wrapper.getInputStream());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCachedBodyRepeatedReads() throws IOException {
+		final byte[] content = "{\r\n \"name\": \"árvíztűrő\"\r\n}".getBytes(StandardCharsets.UTF_8);
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(content);
+		final MultiReadRequestWrapper wrapper = new MultiReadRequestWrapper(request, 1024);
+
+		// CRLF and non-ASCII characters are kept
+		assertEquals("{\r\n \"name\": \"árvíztűrő\"\r\n}", wrapper.getCachedBody());
+		assertArrayEquals(content, wrapper.getInputStream().readAllBytes());
+		assertArrayEquals(content, wrapper.getInputStream().readAllBytes());
+		assertEquals("{", wrapper.getReader().readLine());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBinaryBody() throws IOException {
+		final byte[] content = new byte[] { 0, (byte) 0xFF, (byte) 0x80, 0x0D, 0x0A, 0x7F };
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(content);
+		final MultiReadRequestWrapper wrapper = new MultiReadRequestWrapper(request);
+		wrapper.getCachedBody();
+
+		final CustomServletInputStream stream = (CustomServletInputStream) wrapper.getInputStream();
+		assertEquals(0, stream.read());
+		assertEquals(0xFF, stream.read());
+		final byte[] rest = new byte[10];
+		assertEquals(4, stream.read(rest, 0, 10));
+		assertEquals(-1, stream.read());
+		assertArrayEquals(new byte[] { (byte) 0x80, 0x0D, 0x0A, 0x7F }, Arrays.copyOf(rest, 4));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOverLimitByContentLength() throws IOException {
+		final byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent(content);
+		final MultiReadRequestWrapper wrapper = new MultiReadRequestWrapper(request, 5);
+
+		assertNull(wrapper.getCachedBody());
+		assertArrayEquals(content, wrapper.getInputStream().readAllBytes());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOverLimitUnknownLength() throws IOException {
+		final byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+		final MockHttpServletRequest request = new MockHttpServletRequest() {
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public long getContentLengthLong() {
+				return -1; // chunked
+			}
+		};
+		request.setContent(content);
+		final MultiReadRequestWrapper wrapper = new MultiReadRequestWrapper(request, 5);
+
+		assertNull(wrapper.getCachedBody());
+		// the consumed part is served before the rest of the original stream
+		assertArrayEquals(content, wrapper.getInputStream().readAllBytes());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testNoLimit() throws IOException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent("0123456789".getBytes(StandardCharsets.UTF_8));
+		final MultiReadRequestWrapper wrapper = new MultiReadRequestWrapper(request);
+
+		assertEquals("0123456789", wrapper.getCachedBody());
+		assertEquals("0123456789", new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.local;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.common.Constants;
+import eu.arrowhead.common.SystemInfo;
+import eu.arrowhead.common.http.HttpCallPlan.HttpCallTarget;
+import eu.arrowhead.common.http.balancer.HttpEndpoint;
+import eu.arrowhead.common.http.filter.authorization.ManagementPolicy;
+import eu.arrowhead.common.http.model.HttpInterfaceModel;
+import eu.arrowhead.common.http.model.HttpOperationModel;
+import eu.arrowhead.common.model.ServiceModel;
+import eu.arrowhead.common.model.SystemModel;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class LocalServiceDispatcherTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private LocalServiceDispatcher dispatcher;
+
+	@Mock
+	private SystemInfo sysInfo;
+
+	@Spy
+	private ObjectMapper mapper;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(dispatcher, "enabled", true);
+		lenient().when(sysInfo.getSystemName()).thenReturn("TestSystem");
+		lenient().when(sysInfo.getServerPort()).thenReturn(8443);
+		lenient().when(sysInfo.getServerAddress()).thenReturn("192.168.0.10");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchDisabled() {
+		ReflectionTestUtils.setField(dispatcher, "enabled", false);
+		init(createHandler("testService", "test-operation", r -> "ok"));
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchNoHandler() {
+		init(createHandler("testService", "other-operation", r -> "ok"));
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchOtherPort() {
+		init(createHandler("testService", "test-operation", r -> "ok"));
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.10", 8444, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchOtherAddress() {
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getSystemModel()).thenReturn(new SystemModel(Map.of(), "1.0.0", List.of("10.0.0.1"), null));
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.11", 8443, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchOwnAddress() {
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getSystemModel()).thenReturn(new SystemModel(Map.of(), "1.0.0", List.of("10.0.0.1"), null));
+
+		assertTrue(dispatcher.canDispatch(createTarget("10.0.0.1", 8443, "/test/op"), "test-operation"));
+		assertTrue(dispatcher.canDispatch(createTarget(Constants.LOCALHOST, 8443, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchBlacklistFilter() {
+		ReflectionTestUtils.setField(dispatcher, "blacklistFilterEnabled", true);
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getBlacklistCheckExcludeList()).thenReturn(List.of());
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchBlacklistFilterExcluded() {
+		ReflectionTestUtils.setField(dispatcher, "blacklistFilterEnabled", true);
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getBlacklistCheckExcludeList()).thenReturn(List.of("TestSystem"));
+
+		assertTrue(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchManagementSysopOnly() {
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getManagementPolicy()).thenReturn(ManagementPolicy.SYSOP_ONLY);
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/mgmt/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchManagementWhitelisted() {
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getManagementPolicy()).thenReturn(ManagementPolicy.WHITELIST);
+		when(sysInfo.getManagementWhitelist()).thenReturn(List.of("TestSystem"));
+
+		assertTrue(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/mgmt/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCanDispatchManagementNotWhitelisted() {
+		init(createHandler("testService", "test-operation", r -> "ok"));
+		when(sysInfo.getManagementPolicy()).thenReturn(ManagementPolicy.AUTHORIZATION);
+		when(sysInfo.getManagementWhitelist()).thenReturn(List.of());
+
+		assertFalse(dispatcher.canDispatch(createTarget("192.168.0.10", 8443, "/test/mgmt/op"), "test-operation"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitDuplicateHandlers() {
+		ReflectionTestUtils.setField(dispatcher, "handlerList", List.of(createHandler("testService", "test-operation", r -> "a"), createHandler("testService", "test-operation", r -> "b")));
+
+		final Throwable ex = assertThrows(IllegalArgumentException.class, () -> ReflectionTestUtils.invokeMethod(dispatcher, "init"));
+
+		assertEquals("Multiple local handlers for testService/test-operation", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDispatchSameType() {
+		init(createHandler("testService", "test-operation", r -> r.requester() + ":" + r.payload() + ":" + r.pathParams().get(0)));
+
+		final String result = dispatcher.dispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation", String.class, "payload", null, List.of("p"), Map.of());
+
+		assertEquals("TestSystem:payload:p", result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDispatchConverted() {
+		init(createHandler("testService", "test-operation", r -> true));
+
+		final boolean result = dispatcher.dispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation", Boolean.TYPE, null, null, null, Map.of());
+
+		assertTrue(result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDispatchVoid() {
+		init(createHandler("testService", "test-operation", r -> "ignored"));
+
+		assertNull(dispatcher.dispatch(createTarget("192.168.0.10", 8443, "/test/op"), "test-operation", Void.TYPE, null, null, null, Map.of()));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void init(final ILocalOperationHandler handler) {
+		ReflectionTestUtils.setField(dispatcher, "handlerList", List.of(handler));
+		ReflectionTestUtils.invokeMethod(dispatcher, "init");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ILocalOperationHandler createHandler(final String serviceDefinition, final String operation, final Function<LocalOperationRequest, Object> function) {
+		return new ILocalOperationHandler() {
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public String serviceDefinition() {
+				return serviceDefinition;
+			}
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public String operation() {
+				return operation;
+			}
+
+			//-------------------------------------------------------------------------------------------------
+			@Override
+			public Object handle(final LocalOperationRequest request) {
+				return function.apply(request);
+			}
+		};
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private HttpCallTarget createTarget(final String address, final int port, final String path) {
+		final HttpInterfaceModel interfaceModel = new HttpInterfaceModel.Builder("generic_http")
+				.accessAddress(address)
+				.accessPort(port)
+				.basePath("/test")
+				.operation("test-operation", new HttpOperationModel("/op", "GET"))
+				.build();
+		final ServiceModel model = new ServiceModel.Builder()
+				.serviceDefinition("testService")
+				.version("1.0.0")
+				.serviceInterface(interfaceModel)
+				.build();
+
+		return new HttpCallTarget(new HttpEndpoint(model, interfaceModel, address), HttpMethod.GET, UriComponentsBuilder.fromUriString("http://" + address + ":" + port + path).build(), true);
+	}
+}
\ No newline at end of file
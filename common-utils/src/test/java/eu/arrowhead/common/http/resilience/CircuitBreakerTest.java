@@ -0,0 +1,99 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+public class CircuitBreakerTest {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOpensAfterThreshold() {
+		final CircuitBreaker breaker = new CircuitBreaker("localhost:1234");
+
+		breaker.onFailure(1000, 2);
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquirePermission(1000, 5000));
+
+		breaker.onFailure(1000, 2);
+		assertEquals(CircuitState.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquirePermission(2000, 5000));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testSuccessResetsFailures() {
+		final CircuitBreaker breaker = new CircuitBreaker("localhost:1234");
+
+		breaker.onFailure(1000, 2);
+		breaker.onSuccess();
+		breaker.onFailure(1000, 2);
+
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHalfOpenProbeSuccess() {
+		final CircuitBreaker breaker = new CircuitBreaker("localhost:1234");
+		breaker.onFailure(1000, 1);
+
+		assertTrue(breaker.tryAcquirePermission(6000, 5000));
+		assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquirePermission(6000, 5000)); // only one probe
+
+		breaker.onSuccess();
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquirePermission(6000, 5000));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testHalfOpenProbeFailure() {
+		final CircuitBreaker breaker = new CircuitBreaker("localhost:1234");
+		breaker.onFailure(1000, 3);
+		breaker.onFailure(1000, 3);
+		breaker.onFailure(1000, 3);
+
+		assertTrue(breaker.tryAcquirePermission(6000, 5000));
+		breaker.onFailure(6000, 3);
+
+		assertEquals(CircuitState.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquirePermission(10000, 5000));
+		assertTrue(breaker.tryAcquirePermission(11000, 5000));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReleasePermission() {
+		final CircuitBreaker breaker = new CircuitBreaker("localhost:1234");
+		breaker.onFailure(1000, 1);
+
+		assertTrue(breaker.tryAcquirePermission(6000, 5000));
+		breaker.releasePermission();
+
+		assertTrue(breaker.tryAcquirePermission(6000, 5000));
+	}
+}
\ No newline at end of file
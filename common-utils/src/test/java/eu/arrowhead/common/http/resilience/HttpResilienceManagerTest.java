@@ -0,0 +1,268 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.http.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.exception.EndpointUnavailableException;
+import eu.arrowhead.common.exception.ExternalServerError;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.exception.RequestCancelledException;
+import eu.arrowhead.common.exception.TransportFailureException;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class HttpResilienceManagerTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private HttpResilienceManager manager;
+
+	@Mock
+	private Environment environment;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(manager, "socketTimeout", 30000);
+		ReflectionTestUtils.setField(manager, "failureThreshold", 2);
+		ReflectionTestUtils.setField(manager, "openDuration", 60000L);
+		ReflectionTestUtils.setField(manager, "maxConcurrentRequests", 1);
+		ReflectionTestUtils.setField(manager, "retryCount", 1);
+		ReflectionTestUtils.setField(manager, "retryBackoff", 0L);
+		ReflectionTestUtils.setField(manager, "adaptiveTimeout", false);
+		ReflectionTestUtils.setField(manager, "timeoutPercentile", 99);
+		ReflectionTestUtils.setField(manager, "timeoutMultiplier", 2.0);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteRetryIdempotent() {
+		final AtomicInteger calls = new AtomicInteger();
+
+		final String result = manager.execute("localhost:1234", null, true, timeout -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new TransportFailureException("Could not get any response");
+			}
+
+			return "result";
+		});
+
+		assertEquals("result", result);
+		assertEquals(2, calls.get());
+		assertEquals(CircuitState.CLOSED, manager.getCircuitStates().get("localhost:1234"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteNoRetryNotIdempotent() {
+		final AtomicInteger calls = new AtomicInteger();
+
+		assertThrows(ExternalServerError.class, () -> manager.execute("localhost:1234", null, false, timeout -> {
+			calls.incrementAndGet();
+			throw new TransportFailureException("Could not get any response");
+		}));
+
+		assertEquals(1, calls.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteCircuitOpens() {
+		final AtomicInteger calls = new AtomicInteger();
+
+		assertThrows(ExternalServerError.class, () -> manager.execute("localhost:1234", null, true, timeout -> {
+			calls.incrementAndGet();
+			throw new TransportFailureException("Could not get any response");
+		}));
+
+		final Throwable ex = assertThrows(EndpointUnavailableException.class, () -> manager.execute("localhost:1234", null, true, timeout -> "result"));
+
+		assertEquals(2, calls.get());
+		assertEquals(CircuitState.OPEN, manager.getCircuitStates().get("localhost:1234"));
+		assertEquals("Circuit breaker is open for: localhost:1234", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteOtherErrorIsNotFailure() {
+		ReflectionTestUtils.setField(manager, "failureThreshold", 1);
+
+		assertThrows(InvalidParameterException.class, () -> manager.execute("localhost:1234", null, true, timeout -> {
+			throw new InvalidParameterException("bad request");
+		}));
+
+		assertEquals(CircuitState.CLOSED, manager.getCircuitStates().get("localhost:1234"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteRemoteExternalServerErrorIsNotFailure() {
+		ReflectionTestUtils.setField(manager, "failureThreshold", 1);
+		final AtomicInteger calls = new AtomicInteger();
+
+		assertThrows(ExternalServerError.class, () -> manager.execute("localhost:1234", null, true, timeout -> {
+			calls.incrementAndGet();
+			throw new ExternalServerError("Dependency is unavailable", "provider");
+		}));
+
+		assertEquals(1, calls.get());
+		assertEquals(CircuitState.CLOSED, manager.getCircuitStates().get("localhost:1234"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteCancelledIsNeitherSuccessNorFailure() {
+		ReflectionTestUtils.setField(manager, "failureThreshold", 1);
+		ReflectionTestUtils.setField(manager, "openDuration", 0L);
+
+		assertThrows(ExternalServerError.class, () -> manager.execute("localhost:1234", null, false, timeout -> {
+			throw new TransportFailureException("Could not get any response");
+		}));
+		assertThrows(RequestCancelledException.class, () -> manager.execute("localhost:1234", null, false, timeout -> {
+			throw new RequestCancelledException("Request is cancelled");
+		}));
+
+		assertEquals(CircuitState.HALF_OPEN, manager.getCircuitStates().get("localhost:1234"));
+
+		// the probe permission is released
+		assertEquals("result", manager.execute("localhost:1234", null, false, timeout -> "result"));
+		assertEquals(CircuitState.CLOSED, manager.getCircuitStates().get("localhost:1234"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteBulkheadFull() {
+		final Throwable ex = assertThrows(EndpointUnavailableException.class, () -> manager.execute("localhost:1234", null, false,
+				timeout -> manager.execute("localhost:1234", null, false, timeout2 -> "nested")));
+
+		assertEquals("Too many concurrent requests to: localhost:1234", ex.getMessage());
+
+		// the permits are released
+		assertEquals("result", manager.execute("localhost:1234", null, false, timeout -> "result"));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteAdaptiveTimeout() {
+		ReflectionTestUtils.setField(manager, "adaptiveTimeout", true);
+		final List<Duration> timeouts = new ArrayList<>();
+
+		for (int i = 0; i < 21; ++i) {
+			manager.execute("localhost:1234", null, false, timeout -> timeouts.add(timeout));
+		}
+
+		assertNull(timeouts.get(0));
+		assertNotNull(timeouts.get(20));
+		assertEquals(Duration.ofMillis(100), timeouts.get(20)); // minimum
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteAdaptiveTimeoutRecordsTimedOutCalls() {
+		ReflectionTestUtils.setField(manager, "adaptiveTimeout", true);
+		ReflectionTestUtils.setField(manager, "failureThreshold", 0);
+
+		for (int i = 0; i < 20; ++i) {
+			manager.execute("localhost:1234", null, false, timeout -> "result");
+		}
+
+		assertThrows(TransportFailureException.class, () -> manager.execute("localhost:1234", null, false, timeout -> {
+			sleep(timeout.toMillis());
+			throw new TransportFailureException("Could not get any response");
+		}));
+
+		assertEquals(100, manager.getLatencyPercentile("localhost:1234", 100));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteAdaptiveTimeoutNotUsedForProbe() {
+		ReflectionTestUtils.setField(manager, "adaptiveTimeout", true);
+		ReflectionTestUtils.setField(manager, "failureThreshold", 1);
+		ReflectionTestUtils.setField(manager, "openDuration", 0L);
+		final List<Duration> timeouts = new ArrayList<>();
+
+		for (int i = 0; i < 20; ++i) {
+			manager.execute("localhost:1234", null, false, timeout -> "result");
+		}
+
+		assertThrows(TransportFailureException.class, () -> manager.execute("localhost:1234", null, false, timeout -> {
+			throw new TransportFailureException("Could not get any response");
+		}));
+		manager.execute("localhost:1234", null, false, timeout -> timeouts.add(timeout));
+		manager.execute("localhost:1234", null, false, timeout -> timeouts.add(timeout));
+
+		assertNull(timeouts.get(0)); // probe
+		assertEquals(Duration.ofMillis(100), timeouts.get(1));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetSettingsOverride() {
+		when(environment.getProperty("http.client.circuit.breaker.failure.threshold.testService", Integer.class, 2)).thenReturn(2);
+		when(environment.getProperty("http.client.circuit.breaker.open.duration.testService", Long.class, 60000L)).thenReturn(60000L);
+		when(environment.getProperty("http.client.bulkhead.max.concurrent.requests.testService", Integer.class, 1)).thenReturn(1);
+		when(environment.getProperty("http.client.retry.count.testService", Integer.class, 1)).thenReturn(0);
+		when(environment.getProperty("http.client.retry.backoff.testService", Long.class, 0L)).thenReturn(0L);
+		when(environment.getProperty("http.client.adaptive.timeout.enabled.testService", Boolean.class, false)).thenReturn(true);
+		when(environment.getProperty("http.client.adaptive.timeout.percentile.testService", Integer.class, 99)).thenReturn(95);
+		when(environment.getProperty("http.client.adaptive.timeout.multiplier.testService", Double.class, 2.0)).thenReturn(2.0);
+
+		final ResilienceSettings settings = manager.getSettings("testService");
+		final ResilienceSettings settings2 = manager.getSettings("testService");
+
+		assertEquals(new ResilienceSettings(2, 60000L, 1, 0, 0L, true, 95, 2.0), settings);
+		assertEquals(settings, settings2);
+		assertEquals(new ResilienceSettings(2, 60000L, 1, 1, 0L, false, 99, 2.0), manager.getSettings(null));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
\ No newline at end of file
@@ -23,10 +23,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,10 +65,12 @@ import eu.arrowhead.common.exception.AuthException;
 import eu.arrowhead.common.exception.ExternalServerError;
 import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.http.ArrowheadHttpService;
+import eu.arrowhead.common.http.HttpConnectionWarmer;
 import eu.arrowhead.common.http.filter.authentication.AuthenticationPolicy;
 import eu.arrowhead.common.http.model.HttpInterfaceModel;
 import eu.arrowhead.common.http.model.HttpOperationModel;
 import eu.arrowhead.common.model.ServiceModel;
+import eu.arrowhead.common.model.ServiceModelTestHelper;
 import eu.arrowhead.common.model.SystemModel;
 import eu.arrowhead.common.mqtt.MqttController;
 import eu.arrowhead.common.security.SecurityUtilities;
@@ -98,9 +102,15 @@ public class ApplicationInitListenerTest {
 	@Mock
 	private ArrowheadHttpService arrowheadHttpService;
 
+	@Mock
+	private HttpConnectionWarmer connectionWarmer;
+
 	@Mock
 	private MqttController mqttController;
 
+	@Mock
+	private ApplicationReadiness readiness;
+
 	@Mock
 	private Helper helper;
 
@@ -835,7 +845,7 @@ public class ApplicationInitListenerTest {
 		verify(arrowheadHttpService).consumeService("systemDiscovery", "revoke", "ServiceRegistry", Void.class);
 		verify(sysInfo).getSystemModel();
 		verify(arrowheadHttpService).consumeService(eq("systemDiscovery"), eq("register"), eq("ServiceRegistry"), eq(SystemResponseDTO.class), any(SystemRegisterRequestDTO.class));
-		verify(sysInfo, times(4)).getServices();
+		verify(sysInfo, times(3)).getServices();
 		verify(arrowheadHttpService).consumeService(eq("serviceDiscovery"), eq("register"), eq("ServiceRegistry"), eq(ServiceInstanceResponseDTO.class), any(ServiceInstanceCreateRequestDTO.class));
 		verify(sysInfo).isMqttApiEnabled();
 		verify(mqttController).listen(services.get(0));
@@ -933,7 +943,7 @@ public class ApplicationInitListenerTest {
 		verify(arrowheadHttpService).consumeService("systemDiscovery", "revoke", "ServiceRegistry", Void.class);
 		verify(sysInfo).getSystemModel();
 		verify(arrowheadHttpService).consumeService(eq("systemDiscovery"), eq("register"), eq("ServiceRegistry"), eq(SystemResponseDTO.class), any(SystemRegisterRequestDTO.class));
-		verify(sysInfo, times(4)).getServices();
+		verify(sysInfo, times(3)).getServices();
 		verify(arrowheadHttpService).consumeService(eq("serviceDiscovery"), eq("register"), eq("ServiceRegistry"), eq(ServiceInstanceResponseDTO.class), any(ServiceInstanceCreateRequestDTO.class));
 		verify(sysInfo).isMqttApiEnabled();
 		verify(mqttController).listen(services.get(0));
@@ -1071,6 +1081,161 @@ public class ApplicationInitListenerTest {
 		assertEquals("connection problem", ex.getMessage());
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCalculateWaitingPeriod() {
+		for (int i = 0; i < 10; ++i) {
+			final long first = ReflectionTestUtils.invokeMethod(listener, "calculateWaitingPeriod", 0, 1000);
+			final long third = ReflectionTestUtils.invokeMethod(listener, "calculateWaitingPeriod", 2, 1000);
+			final long capped = ReflectionTestUtils.invokeMethod(listener, "calculateWaitingPeriod", 40, 1000);
+
+			assertTrue(first >= 500 && first <= 1000);
+			assertTrue(third >= 2000 && third <= 4000);
+			assertTrue(capped >= 8000 && capped <= 16000);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRegisterServicesPartialFailure() {
+		final List<ServiceModel> services = List.of(
+				ServiceModelTestHelper.createServiceModel("testService1", "1.0.0"),
+				ServiceModelTestHelper.createServiceModel("testService2", "1.0.0"),
+				ServiceModelTestHelper.createServiceModel("testService3", "1.0.0"));
+
+		when(sysInfo.getServices()).thenReturn(services);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
+		when(arrowheadHttpService.consumeService(eq("serviceDiscovery"), eq("register"), eq("ServiceRegistry"), eq(ServiceInstanceResponseDTO.class), any(ServiceInstanceCreateRequestDTO.class)))
+				.thenAnswer(invocation -> {
+					final ServiceInstanceCreateRequestDTO payload = invocation.getArgument(4);
+					if ("testService2".equals(payload.serviceDefinitionName())) {
+						throw new ExternalServerError("registration failed");
+					}
+
+					return createServiceInstanceResponse("TestProvider|" + payload.serviceDefinitionName() + "|1.0.0");
+				});
+
+		final Throwable ex = assertThrows(ExternalServerError.class, () -> ReflectionTestUtils.invokeMethod(listener, "registerServices"));
+
+		verify(arrowheadHttpService, times(3)).consumeService(eq("serviceDiscovery"), eq("register"), eq("ServiceRegistry"), eq(ServiceInstanceResponseDTO.class), any(ServiceInstanceCreateRequestDTO.class));
+
+		assertEquals("registration failed", ex.getMessage());
+
+		// successfully registered services are remembered for revocation
+		@SuppressWarnings("unchecked")
+		final Set<String> registeredServices = (Set<String>) ReflectionTestUtils.getField(listener, "registeredServices");
+		assertEquals(Set.of("TestProvider|testService1|1.0.0", "TestProvider|testService3|1.0.0"), registeredServices);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRevokeServicesMultiple() {
+		@SuppressWarnings("unchecked")
+		final Set<String> registeredServices = (Set<String>) ReflectionTestUtils.getField(listener, "registeredServices");
+		registeredServices.addAll(List.of("TestProvider|testService1|1.0.0", "TestProvider|testService2|1.0.0"));
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(serviceCollector.getServiceModel("systemDiscovery", "generic_http", "ServiceRegistry")).thenReturn(ServiceModelTestHelper.createServiceModel("systemDiscovery", "1.0.0"));
+		when(sysInfo.getSystemName()).thenReturn("TestProvider");
+
+		assertDoesNotThrow(() -> ReflectionTestUtils.invokeMethod(listener, "revokeServices"));
+
+		verify(arrowheadHttpService).consumeService("serviceDiscovery", "revoke", "ServiceRegistry", Void.class, List.of("TestProvider|testService1|1.0.0"));
+		verify(arrowheadHttpService).consumeService("serviceDiscovery", "revoke", "ServiceRegistry", Void.class, List.of("TestProvider|testService2|1.0.0"));
+
+		assertTrue(registeredServices.isEmpty());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRevokeServicesPartialFailure() {
+		@SuppressWarnings("unchecked")
+		final Set<String> registeredServices = (Set<String>) ReflectionTestUtils.getField(listener, "registeredServices");
+		registeredServices.addAll(List.of("TestProvider|testService1|1.0.0", "TestProvider|testService2|1.0.0"));
+
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(serviceCollector.getServiceModel("systemDiscovery", "generic_http", "ServiceRegistry")).thenReturn(ServiceModelTestHelper.createServiceModel("systemDiscovery", "1.0.0"));
+		when(arrowheadHttpService.consumeService("serviceDiscovery", "revoke", "ServiceRegistry", Void.class, List.of("TestProvider|testService2|1.0.0"))).thenThrow(ExternalServerError.class);
+
+		assertDoesNotThrow(() -> ReflectionTestUtils.invokeMethod(listener, "revokeServices"));
+
+		verify(arrowheadHttpService).consumeService("serviceDiscovery", "revoke", "ServiceRegistry", Void.class, List.of("TestProvider|testService1|1.0.0"));
+		verify(arrowheadHttpService).consumeService("serviceDiscovery", "revoke", "ServiceRegistry", Void.class, List.of("TestProvider|testService2|1.0.0"));
+		verify(sysInfo).getSystemName(); // only in skipRegistration()
+
+		assertEquals(2, registeredServices.size());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOnApplicationEventAsyncOk() {
+		ReflectionTestUtils.setField(listener, "arrowheadContext", Map.of("server.standalone.mode", true));
+		ReflectionTestUtils.setField(listener, "asyncInit", true);
+		final ServiceModel service = ServiceModelTestHelper.createServiceModel("testService", "1.0.0");
+
+		when(sysInfo.getSystemName()).thenReturn("TestProvider");
+		when(sysInfo.getServerPort()).thenReturn(12345);
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
+		when(sysInfo.isMqttApiEnabled()).thenReturn(true);
+		when(sysInfo.getServices()).thenReturn(List.of(service));
+		doNothing().when(mqttController).listen(service);
+		doNothing().when(helper).customInitCheck();
+
+		assertDoesNotThrow(() -> listener.onApplicationEvent(null));
+
+		verify(readiness, timeout(5000)).markReady();
+		verify(readiness).markCompleted(InitStep.SSL);
+		verify(readiness).markCompleted(InitStep.SERVICE_REGISTRY);
+		verify(readiness).markCompleted(InitStep.MQTT);
+		verify(readiness).markCompleted(InitStep.CUSTOM);
+		verify(readiness, never()).markFailed(any(Throwable.class));
+		verify(mqttController).listen(service);
+		verify(helper).customInitCheck();
+		verify(arrowheadHttpService, never()).consumeService(anyString(), anyString(), anyString(), any());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOnApplicationEventAsyncFailed() {
+		ReflectionTestUtils.setField(listener, "arrowheadContext", Map.of("server.standalone.mode", true));
+		ReflectionTestUtils.setField(listener, "asyncInit", true);
+
+		when(sysInfo.getSystemName()).thenReturn("TestProvider");
+		when(sysInfo.getServerPort()).thenReturn(12345);
+		when(sysInfo.isSslEnabled()).thenReturn(false);
+		when(sysInfo.getAuthenticationPolicy()).thenReturn(AuthenticationPolicy.DECLARED);
+		when(sysInfo.isMqttApiEnabled()).thenReturn(false);
+		doThrow(new IllegalStateException("test")).when(helper).customInitCheck();
+
+		assertDoesNotThrow(() -> listener.onApplicationEvent(null));
+
+		verify(readiness, timeout(5000)).markFailed(argThat(t -> t instanceof IllegalStateException && "test".equals(t.getMessage())));
+		verify(readiness).markCompleted(InitStep.SSL);
+		verify(readiness).markCompleted(InitStep.SERVICE_REGISTRY);
+		verify(readiness, never()).markCompleted(InitStep.MQTT);
+		verify(readiness, never()).markCompleted(InitStep.CUSTOM);
+		verify(readiness, never()).markReady();
+		verify(mqttController, never()).listen(any(ServiceModel.class));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceInstanceResponseDTO createServiceInstanceResponse(final String instanceId) {
+		return new ServiceInstanceResponseDTO(
+				instanceId,
+				new SystemResponseDTO("TestProvider", Map.of(), "1.0.0", List.of(new AddressDTO("HOSTNAME", "localhost")), null, "2025-07-24T08:00:00Z", "2025-07-24T08:00:00Z"),
+				new ServiceDefinitionResponseDTO("testService", "2025-07-24T08:00:00Z", "2025-07-24T08:00:00Z"),
+				"1.0.0",
+				null,
+				Map.of(),
+				List.of(),
+				"2025-07-24T08:00:00Z",
+				"2025-07-24T08:00:00Z");
+	}
+
 	//=================================================================================================
 	// nested classes
 
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ApplicationReadinessTest {
+
+	//=================================================================================================
+	// members
+
+	private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitialState() throws InterruptedException {
+		final ApplicationReadiness readiness = createReadiness();
+
+		assertEquals(ReadinessStatus.STARTING, readiness.getStatus());
+		assertFalse(readiness.isReady());
+		assertFalse(readiness.isFailed());
+		assertFalse(readiness.isCompleted(InitStep.SSL));
+		assertFalse(readiness.awaitReady(1, TimeUnit.MILLISECONDS));
+		assertFalse(readiness.whenReady().isDone());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testMarkCompleted() {
+		final ApplicationReadiness readiness = createReadiness();
+
+		readiness.markCompleted(InitStep.SSL);
+
+		assertTrue(readiness.isCompleted(InitStep.SSL));
+		assertFalse(readiness.isCompleted(InitStep.SERVICE_REGISTRY));
+		assertEquals(List.of(InitStep.SSL), readiness.getCompletedSteps());
+		assertEquals(ReadinessStatus.STARTING, readiness.getStatus());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testMarkReady() throws InterruptedException {
+		final ApplicationReadiness readiness = createReadiness();
+		final CompletableFuture<Void> future = readiness.whenReady();
+
+		readiness.markReady();
+
+		assertEquals(ReadinessStatus.READY, readiness.getStatus());
+		assertTrue(readiness.isReady());
+		assertFalse(readiness.isFailed());
+		assertTrue(readiness.awaitReady(1, TimeUnit.MILLISECONDS));
+		assertTrue(future.isDone());
+		verify(publisher).publishEvent(argThat(isReadinessState(ReadinessState.ACCEPTING_TRAFFIC)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testMarkFailed() throws InterruptedException {
+		final ApplicationReadiness readiness = createReadiness();
+
+		readiness.markFailed(new IllegalStateException("test"));
+
+		assertEquals(ReadinessStatus.FAILED, readiness.getStatus());
+		assertFalse(readiness.isReady());
+		assertTrue(readiness.isFailed());
+		assertFalse(readiness.awaitReady(1, TimeUnit.MILLISECONDS));
+		verify(publisher).publishEvent(argThat(isReadinessState(ReadinessState.REFUSING_TRAFFIC)));
+
+		final Throwable ex = assertThrows(ExecutionException.class, () -> readiness.whenReady().get());
+		assertEquals("test", ex.getCause().getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWhenReadyCannotChangeState() {
+		final ApplicationReadiness readiness = createReadiness();
+
+		readiness.whenReady().complete(null);
+
+		assertEquals(ReadinessStatus.STARTING, readiness.getStatus());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOnReadinessStateChangeNotReady() {
+		final ApplicationReadiness readiness = createReadiness();
+
+		readiness.onReadinessStateChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+		verify(publisher).publishEvent(argThat(isReadinessState(ReadinessState.REFUSING_TRAFFIC)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOnReadinessStateChangeReady() {
+		final ApplicationReadiness readiness = createReadiness();
+		readiness.markReady();
+
+		readiness.onReadinessStateChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+		verify(publisher, never()).publishEvent(argThat(isReadinessState(ReadinessState.REFUSING_TRAFFIC)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testOnReadinessStateChangeRefusing() {
+		final ApplicationReadiness readiness = createReadiness();
+
+		readiness.onReadinessStateChange(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+
+		verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private ApplicationReadiness createReadiness() {
+		final ApplicationReadiness readiness = new ApplicationReadiness();
+		ReflectionTestUtils.setField(readiness, "publisher", publisher);
+
+		return readiness;
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private ArgumentMatcher<ApplicationEvent> isReadinessState(final ReadinessState state) {
+		return event -> event instanceof final AvailabilityChangeEvent<?> availabilityEvent && state == availabilityEvent.getState();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import eu.arrowhead.dto.ReadinessResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadinessControllerTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private ReadinessController controller;
+
+	@Mock
+	private ApplicationReadiness readiness;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReadinessStarting() {
+		when(readiness.getStatus()).thenReturn(ReadinessStatus.STARTING);
+		when(readiness.getCompletedSteps()).thenReturn(List.of(InitStep.SSL));
+
+		final ResponseEntity<ReadinessResponseDTO> result = controller.readiness();
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+		assertEquals("STARTING", result.getBody().status());
+		assertEquals(List.of("SSL"), result.getBody().completedSteps());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReadinessFailed() {
+		when(readiness.getStatus()).thenReturn(ReadinessStatus.FAILED);
+		when(readiness.getCompletedSteps()).thenReturn(List.of());
+
+		final ResponseEntity<ReadinessResponseDTO> result = controller.readiness();
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+		assertEquals("FAILED", result.getBody().status());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testReadinessReady() {
+		when(readiness.getStatus()).thenReturn(ReadinessStatus.READY);
+		when(readiness.getCompletedSteps()).thenReturn(List.of(InitStep.SSL, InitStep.SERVICE_REGISTRY, InitStep.CUSTOM));
+
+		final ResponseEntity<ReadinessResponseDTO> result = controller.readiness();
+
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		assertEquals("READY", result.getBody().status());
+		assertEquals(List.of("SSL", "SERVICE_REGISTRY", "CUSTOM"), result.getBody().completedSteps());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+public class JpaConfigTest {
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBatchingHibernatePropertiesCustomizerDefaults() {
+		final Map<String, Object> properties = new HashMap<>();
+
+		new JpaConfig().batchingHibernatePropertiesCustomizer().customize(properties);
+
+		assertEquals("50", properties.get(AvailableSettings.STATEMENT_BATCH_SIZE));
+		assertEquals("true", properties.get(AvailableSettings.ORDER_INSERTS));
+		assertEquals("true", properties.get(AvailableSettings.ORDER_UPDATES));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testBatchingHibernatePropertiesCustomizerKeepsExplicitSettings() {
+		final Map<String, Object> properties = new HashMap<>();
+		properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, "0");
+		properties.put(AvailableSettings.ORDER_INSERTS, "false");
+
+		new JpaConfig().batchingHibernatePropertiesCustomizer().customize(properties);
+
+		assertEquals("0", properties.get(AvailableSettings.STATEMENT_BATCH_SIZE));
+		assertEquals("false", properties.get(AvailableSettings.ORDER_INSERTS));
+		assertEquals("true", properties.get(AvailableSettings.ORDER_UPDATES));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCachingHibernatePropertiesCustomizer() {
+		final ObjectProvider<PersistenceManagedTypes> provider = mock(ObjectProvider.class);
+		when(provider.getIfAvailable()).thenReturn(PersistenceManagedTypes.of(CachedTestEntity.class.getName(), ReadOnlyCachedTestEntity.class.getName(), NotCachedTestEntity.class.getName()));
+		final Map<String, Object> properties = new HashMap<>();
+
+		new JpaConfig().cachingHibernatePropertiesCustomizer(provider, 100, 1000).customize(properties);
+
+		assertEquals("true", properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE));
+		assertEquals("true", properties.get(AvailableSettings.USE_QUERY_CACHE));
+		assertEquals("jcache", properties.get(AvailableSettings.CACHE_REGION_FACTORY));
+		assertEquals("read-write", properties.get(AvailableSettings.CLASS_CACHE_PREFIX + "." + CachedTestEntity.class.getName()));
+		assertEquals("read-only", properties.get(AvailableSettings.CLASS_CACHE_PREFIX + "." + ReadOnlyCachedTestEntity.class.getName()));
+		assertFalse(properties.containsKey(AvailableSettings.CLASS_CACHE_PREFIX + "." + NotCachedTestEntity.class.getName()));
+
+		final CacheManager cacheManager = assertInstanceOf(CacheManager.class, properties.get(ConfigSettings.CACHE_MANAGER));
+		assertInstanceOf(javax.cache.Cache.class, cacheManager.getCache(CachedTestEntity.class.getName()));
+		assertInstanceOf(javax.cache.Cache.class, cacheManager.getCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME));
+		assertInstanceOf(javax.cache.Cache.class, cacheManager.getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME));
+		cacheManager.close();
+	}
+
+	//=================================================================================================
+	// nested structures
+
+	//-------------------------------------------------------------------------------------------------
+	@CachedEntity
+	private static final class CachedTestEntity {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@CachedEntity(readOnly = true)
+	private static final class ReadOnlyCachedTestEntity {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private static final class NotCachedTestEntity {
+	}
+}
\ No newline at end of file
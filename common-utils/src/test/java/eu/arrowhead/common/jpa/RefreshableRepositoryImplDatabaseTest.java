@@ -0,0 +1,203 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+
+// runs the bulk operations against an in-memory database (every test is rolled back)
+@DataJpaTest
+public class RefreshableRepositoryImplDatabaseTest {
+
+	//=================================================================================================
+	// members
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private BatchableItemRepository batchableItemRepository;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testUpsertAllInsertsAndUpdates() {
+		itemRepository.upsertAll(List.of(new Item(100, "first")));
+		entityManager.clear();
+
+		final Item inserted = itemRepository.findById(100L).orElseThrow();
+
+		assertEquals("first", inserted.getName());
+		assertNotNull(inserted.getCreatedAt());
+		assertNotNull(inserted.getUpdatedAt());
+
+		itemRepository.upsertAll(List.of(new Item(100, "second"), new Item(101, "third")));
+		entityManager.clear();
+
+		assertEquals("second", itemRepository.findById(100L).orElseThrow().getName());
+		assertEquals("third", itemRepository.findById(101L).orElseThrow().getName());
+		assertEquals(2, itemRepository.count());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testUpsertAllSequenceIds() {
+		batchableItemRepository.upsertAll(List.of(new BatchableItem(100, "first")));
+		entityManager.clear();
+
+		final BatchableItem inserted = batchableItemRepository.findById(100L).orElseThrow();
+
+		assertEquals("first", inserted.getName());
+		assertNotNull(inserted.getCreatedAt());
+		assertNotNull(inserted.getUpdatedAt());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testUpsertAllWithoutId() {
+		// the repository proxy translates the IllegalArgumentException
+		final Throwable ex = assertThrows(InvalidDataAccessApiUsageException.class, () -> itemRepository.upsertAll(List.of(new Item(0, "first"))));
+
+		assertEquals("entity has no id (generated ids cannot be upserted)", ex.getMessage());
+		assertEquals(0, itemRepository.count());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testUpsertAllKeepsOtherManagedEntities() {
+		final BatchableItem other = batchableItemRepository.save(new BatchableItem(0, "other"));
+		final Item written = itemRepository.save(new Item(0, "first"));
+
+		itemRepository.upsertAll(List.of(new Item(written.getId(), "second")));
+
+		assertTrue(entityManager.contains(other));
+		assertFalse(entityManager.contains(written));
+		assertEquals("second", itemRepository.findById(written.getId()).orElseThrow().getName());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPersistAllKeepsOtherManagedEntities() {
+		final Item other = itemRepository.save(new Item(0, "other"));
+		final List<BatchableItem> items = new ArrayList<>();
+		IntStream.range(0, 60).forEach(i -> items.add(new BatchableItem(0, "item" + i)));
+
+		final List<BatchableItem> result = batchableItemRepository.persistAll(items);
+
+		assertTrue(entityManager.contains(other));
+		assertTrue(result.stream().noneMatch(entityManager::contains));
+		assertTrue(result.stream().allMatch(i -> i.getId() > 0 && i.getCreatedAt() != null));
+		assertEquals(60, batchableItemRepository.count());
+	}
+
+	//=================================================================================================
+	// nested classes
+
+	//-------------------------------------------------------------------------------------------------
+	@Configuration
+	@EntityScan(basePackageClasses = RefreshableRepositoryImplDatabaseTest.class)
+	@EnableJpaRepositories(basePackageClasses = RefreshableRepositoryImplDatabaseTest.class, considerNestedRepositories = true, repositoryBaseClass = RefreshableRepositoryImpl.class)
+	public static class TestConfig {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Entity
+	public static class Item extends ArrowheadEntity {
+
+		//=================================================================================================
+		// members
+
+		private String name;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		public Item() {
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		public Item(final long id, final String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		public String getName() {
+			return name;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Entity
+	public static class BatchableItem extends BatchableArrowheadEntity {
+
+		//=================================================================================================
+		// members
+
+		private String name;
+
+		//=================================================================================================
+		// methods
+
+		//-------------------------------------------------------------------------------------------------
+		public BatchableItem() {
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		public BatchableItem(final long id, final String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		//-------------------------------------------------------------------------------------------------
+		public String getName() {
+			return name;
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public interface ItemRepository extends RefreshableRepository<Item, Long> {
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public interface BatchableItemRepository extends RefreshableRepository<BatchableItem, Long> {
+	}
+}
\ No newline at end of file
@@ -17,11 +17,26 @@
 package eu.arrowhead.common.jpa;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jdbc.Work;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +47,8 @@ import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 
 import eu.arrowhead.common.Utilities;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 @ExtendWith(MockitoExtension.class)
 public class RefreshableRepositoryImplTest {
@@ -74,4 +91,105 @@ public class RefreshableRepositoryImplTest {
 
 		verify(entityManager).refresh(any(LogEntity.class));
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testRefreshAll() {
+		final List<LogEntity> entities = List.of(createEntity("id1"), createEntity("id2"));
+
+		assertDoesNotThrow(() -> impl.refreshAll(entities));
+
+		verify(entityManager, times(2)).refresh(any(LogEntity.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPersistAll() {
+		final List<LogEntity> entities = new ArrayList<>();
+		IntStream.range(0, 120).forEach(i -> entities.add(createEntity("id" + i)));
+
+		final List<LogEntity> result = impl.persistAll(entities);
+
+		verify(entityManager, times(120)).persist(any(LogEntity.class));
+		// after every 50 entities and at the end
+		verify(entityManager, times(3)).flush();
+		verify(entityManager, times(120)).detach(any(LogEntity.class));
+		verify(entityManager, never()).clear();
+
+		assertEquals(entities, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testUpsertAll() {
+		final Session session = mock(Session.class);
+		final SessionFactory sessionFactory = mock(SessionFactory.class);
+		final Cache cache = mock(Cache.class);
+		final LogEntity entity = createEntity("id1");
+		final LogEntity managed = createEntity("id1");
+
+		when(entityManager.unwrap(Session.class)).thenReturn(session);
+		when(session.getSessionFactory()).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(cache);
+		when(entityInformation.getJavaType()).thenReturn(LogEntity.class);
+		when(entityInformation.getId(entity)).thenReturn("id1");
+		when(entityManager.getReference(LogEntity.class, "id1")).thenReturn(managed);
+
+		assertDoesNotThrow(() -> impl.upsertAll(List.of(entity)));
+
+		verify(entityManager).flush();
+		verify(session).doWork(any(Work.class));
+		verify(cache).evictEntityData(LogEntity.class);
+		verify(cache).evictQueryRegions();
+		verify(entityManager).detach(managed);
+		verify(entityManager, never()).clear();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDeleteAllByIdInChunksNoIdAttribute() {
+		final Throwable ex = assertThrows(IllegalStateException.class, () -> impl.deleteAllByIdInChunks(List.of("id1")));
+
+		assertEquals("Entity has no single id attribute", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testDeleteAllByIdInChunks() {
+		final SingularAttribute<LogEntity, ?> idAttribute = mock(SingularAttribute.class);
+		final Query query = mock(Query.class);
+		final List<String> ids = new ArrayList<>();
+		IntStream.range(0, 1500).forEach(i -> ids.add("id" + i));
+
+		when(entityInformation.getEntityName()).thenReturn("Logs");
+		when(entityInformation.getIdAttribute()).thenReturn((SingularAttribute) idAttribute);
+		when(idAttribute.getName()).thenReturn("logId");
+		when(entityManager.createQuery("DELETE FROM Logs x WHERE x.logId IN :ids")).thenReturn(query);
+		when(query.setParameter(eq("ids"), any())).thenReturn(query);
+		when(query.executeUpdate()).thenReturn(1000, 500);
+
+		final RefreshableRepositoryImpl<LogEntity, String> deleteImpl = new RefreshableRepositoryImpl<>(entityInformation, entityManager);
+		final int result = deleteImpl.deleteAllByIdInChunks(ids);
+
+		verify(query).setParameter("ids", ids.subList(0, 1000));
+		verify(query).setParameter("ids", ids.subList(1000, 1500));
+		verify(entityManager, times(2)).createQuery(anyString());
+
+		assertEquals(1500, result);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private LogEntity createEntity(final String id) {
+		return new LogEntity(
+				id,
+				Utilities.parseUTCStringToZonedDateTime("2025-07-21T12:41:12Z"),
+				"loggername",
+				LogLevel.INFO,
+				"something important",
+				null);
+	}
 }
\ No newline at end of file
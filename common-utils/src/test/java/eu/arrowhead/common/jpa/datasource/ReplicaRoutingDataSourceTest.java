@@ -0,0 +1,179 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+
+	//=================================================================================================
+	// members
+
+	@Mock
+	private DataSource primary;
+
+	@Mock
+	private DataSource replica1;
+
+	@Mock
+	private DataSource replica2;
+
+	@Mock
+	private Connection primaryConnection;
+
+	@Mock
+	private Connection replica1Connection;
+
+	@Mock
+	private Connection replica2Connection;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterEach
+	public void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testConstructorNoReplicas() {
+		final Throwable ex = assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSource(primary, List.of(), ReplicaSelectionPolicy.ROUND_ROBIN, 1000));
+
+		assertEquals("replicas list is empty", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetConnectionNotReadOnly() throws SQLException {
+		final ReplicaRoutingDataSource dataSource = createDataSource(ReplicaSelectionPolicy.ROUND_ROBIN);
+
+		when(primary.getConnection()).thenReturn(primaryConnection);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+
+		verify(replica1, never()).getConnection();
+		verify(replica2, never()).getConnection();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetConnectionReadOnlyRoundRobin() throws SQLException {
+		final ReplicaRoutingDataSource dataSource = createDataSource(ReplicaSelectionPolicy.ROUND_ROBIN);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		when(replica1.getConnection()).thenReturn(replica1Connection);
+		when(replica2.getConnection()).thenReturn(replica2Connection);
+
+		assertSame(replica1Connection, dataSource.getConnection());
+		assertSame(replica2Connection, dataSource.getConnection());
+		assertSame(replica1Connection, dataSource.getConnection());
+
+		verify(primary, never()).getConnection();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetConnectionReadOnlyLeastConnections() throws SQLException {
+		final ReplicaRoutingDataSource dataSource = createDataSource(ReplicaSelectionPolicy.LEAST_CONNECTIONS);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		when(replica1.getConnection()).thenReturn(replica1Connection);
+
+		// no pool information => the first replica is chosen
+		assertSame(replica1Connection, dataSource.getConnection());
+		assertSame(replica1Connection, dataSource.getConnection());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetConnectionReadOnlyUnhealthyReplica() throws SQLException {
+		final ReplicaRoutingDataSource dataSource = createDataSource(ReplicaSelectionPolicy.ROUND_ROBIN);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(replica2.getConnection()).thenReturn(replica2Connection);
+
+		assertSame(replica2Connection, dataSource.getConnection());
+		assertSame(replica2Connection, dataSource.getConnection());
+		assertEquals(List.of("replica-0"), dataSource.getUnhealthyReplicas());
+
+		// unhealthy replica is skipped until the retry interval is over
+		verify(replica1).getConnection();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetConnectionReadOnlyAllReplicasUnhealthy() throws SQLException {
+		final ReplicaRoutingDataSource dataSource = createDataSource(ReplicaSelectionPolicy.ROUND_ROBIN);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(replica2.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(primary.getConnection()).thenReturn(primaryConnection);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+		assertEquals(List.of("replica-0", "replica-1"), dataSource.getUnhealthyReplicas());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetConnectionReadOnlyRetryAfterInterval() throws SQLException {
+		final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica1), ReplicaSelectionPolicy.ROUND_ROBIN, 0);
+		dataSource.afterPropertiesSet();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		when(replica1.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(replica1Connection);
+		when(primary.getConnection()).thenReturn(primaryConnection);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+		assertSame(replica1Connection, dataSource.getConnection());
+		assertTrue(dataSource.getUnhealthyReplicas().isEmpty());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private ReplicaRoutingDataSource createDataSource(final ReplicaSelectionPolicy policy) {
+		final ReplicaRoutingDataSource result = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), policy, 60000);
+		result.afterPropertiesSet();
+
+		return result;
+	}
+}
\ No newline at end of file
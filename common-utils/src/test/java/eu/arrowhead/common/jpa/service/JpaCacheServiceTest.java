@@ -0,0 +1,112 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.jpa.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class JpaCacheServiceTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private JpaCacheService cacheService;
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private SessionFactory sessionFactory;
+
+	@Mock
+	private Statistics statistics;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetRegionStatistics() {
+		final CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getStatistics()).thenReturn(statistics);
+		when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[] { "eu.arrowhead.Entity", "unknown" });
+		when(statistics.getCacheRegionStatistics("eu.arrowhead.Entity")).thenReturn(regionStatistics);
+		when(statistics.getCacheRegionStatistics("unknown")).thenReturn(null);
+
+		final Map<String, CacheRegionStatistics> result = cacheService.getRegionStatistics();
+
+		assertEquals(Map.of("eu.arrowhead.Entity", regionStatistics), result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetHitRatioNoLookup() {
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getStatistics()).thenReturn(statistics);
+		when(statistics.getSecondLevelCacheHitCount()).thenReturn(0L);
+		when(statistics.getSecondLevelCacheMissCount()).thenReturn(0L);
+
+		assertEquals(-1, cacheService.getHitRatio());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetHitRatio() {
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getStatistics()).thenReturn(statistics);
+		when(statistics.getSecondLevelCacheHitCount()).thenReturn(3L);
+		when(statistics.getSecondLevelCacheMissCount()).thenReturn(1L);
+
+		assertEquals(0.75, cacheService.getHitRatio());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testEvictAll() {
+		final jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+		final Cache cache = mock(Cache.class);
+
+		when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(cache);
+
+		cacheService.evictAll();
+
+		verify(jpaCache).evictAll();
+		verify(cache).evictQueryRegions();
+	}
+}
\ No newline at end of file
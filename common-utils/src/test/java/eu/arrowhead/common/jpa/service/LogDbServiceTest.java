@@ -19,13 +19,17 @@ package eu.arrowhead.common.jpa.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,12 +39,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.logging.LogLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.jpa.LogEntity;
 import eu.arrowhead.common.jpa.LogEntityRepository;
+import eu.arrowhead.common.service.util.KeysetPageRequest;
 import jakarta.persistence.QueryTimeoutException;
 
 @ExtendWith(MockitoExtension.class)
@@ -140,4 +150,150 @@ public class LogDbServiceTest {
 		assertEquals(1L, resultPage.getTotalElements());
 		assertEquals(results.get(0), resultPage.getContent().get(0));
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetLogEntriesKeysetNoLoggerStrException() {
+		final KeysetPageRequest pageRequest = new KeysetPageRequest(Limit.of(10), Sort.by(Direction.DESC, "entryDate"), ScrollPosition.keyset());
+		final List<LogLevel> allLevels = Arrays.asList(LogLevel.values());
+
+		when(logRepository.findAllByLogLevelInAndEntryDateBetween(eq(allLevels), any(ZonedDateTime.class), any(ZonedDateTime.class), eq(pageRequest.position()), eq(pageRequest.limit()), eq(pageRequest.sort())))
+				.thenThrow(QueryTimeoutException.class);
+
+		final Throwable ex = assertThrows(InternalServerError.class,
+				() -> dbService.getLogEntries(pageRequest, null, null, null, null));
+
+		assertEquals("Database operation error", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetLogEntriesKeysetWithLoggerStrOk() {
+		final KeysetPageRequest pageRequest = new KeysetPageRequest(Limit.of(10), Sort.by(Direction.DESC, "entryDate"), ScrollPosition.keyset());
+		final List<LogLevel> levels = List.of(LogLevel.INFO);
+		final ZonedDateTime from = Utilities.parseUTCStringToZonedDateTime("2025-07-21T10:00:00Z");
+		final ZonedDateTime to = Utilities.parseUTCStringToZonedDateTime("2025-07-21T14:00:00Z");
+		final List<LogEntity> results = List.of(new LogEntity(
+				"id",
+				Utilities.parseUTCStringToZonedDateTime("2025-07-21T12:41:12Z"),
+				"loggername",
+				LogLevel.INFO,
+				"something important",
+				null));
+
+		when(logRepository.findAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(levels, from, to, "logger", pageRequest.position(), pageRequest.limit(), pageRequest.sort()))
+				.thenReturn(Window.from(results, i -> ScrollPosition.offset(i), false));
+
+		final Window<LogEntity> result = dbService.getLogEntries(pageRequest, levels, from, to, "logger");
+
+		verify(logRepository).findAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(levels, from, to, "logger", pageRequest.position(), pageRequest.limit(), pageRequest.sort());
+
+		assertEquals(1, result.size());
+		assertEquals(results.get(0), result.getContent().get(0));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testStreamLogEntriesNoLoggerStrException() {
+		final Sort sort = Sort.by(Direction.DESC, "entryDate");
+		final List<LogLevel> allLevels = Arrays.asList(LogLevel.values());
+
+		when(logRepository.streamAllByLogLevelInAndEntryDateBetween(eq(allLevels), any(ZonedDateTime.class), any(ZonedDateTime.class), eq(sort))).thenThrow(QueryTimeoutException.class);
+
+		final Throwable ex = assertThrows(InternalServerError.class,
+				() -> dbService.streamLogEntries(sort, null, null, null, null));
+
+		assertEquals("Database operation error", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testStreamLogEntriesWithLoggerStrOk() {
+		final Sort sort = Sort.by(Direction.DESC, "entryDate");
+		final List<LogLevel> levels = List.of(LogLevel.INFO);
+		final ZonedDateTime from = Utilities.parseUTCStringToZonedDateTime("2025-07-21T10:00:00Z");
+		final ZonedDateTime to = Utilities.parseUTCStringToZonedDateTime("2025-07-21T14:00:00Z");
+		final LogEntity entity = new LogEntity(
+				"id",
+				Utilities.parseUTCStringToZonedDateTime("2025-07-21T12:41:12Z"),
+				"loggername",
+				LogLevel.INFO,
+				"something important",
+				null);
+
+		when(logRepository.streamAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(levels, from, to, "logger", sort)).thenReturn(Stream.of(entity));
+
+		final Stream<LogEntity> result = dbService.streamLogEntries(sort, levels, from, to, "logger");
+
+		verify(logRepository).streamAllByLogLevelInAndEntryDateBetweenAndLoggerContainsIgnoreCase(levels, from, to, "logger", sort);
+
+		assertEquals(List.of(entity), result.toList());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPurgeLogEntriesInChunks() {
+		final ZonedDateTime threshold = Utilities.utcNow();
+		final PageRequest chunk = PageRequest.of(0, 2);
+
+		when(logRepository.findLogIdsByLogLevelAndEntryDateBefore(LogLevel.DEBUG, threshold, chunk)).thenReturn(List.of("1", "2"), List.of("3"));
+
+		final int result = dbService.purgeLogEntries(LogLevel.DEBUG, threshold, 2);
+
+		verify(logRepository, times(2)).findLogIdsByLogLevelAndEntryDateBefore(LogLevel.DEBUG, threshold, chunk);
+		verify(logRepository).deleteAllByIdInBatch(List.of("1", "2"));
+		verify(logRepository).deleteAllByIdInBatch(List.of("3"));
+
+		assertEquals(3, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPurgeLogEntriesNothingToDelete() {
+		final ZonedDateTime threshold = Utilities.utcNow();
+
+		when(logRepository.findLogIdsByLogLevelAndEntryDateBefore(LogLevel.INFO, threshold, PageRequest.of(0, 10))).thenReturn(List.of());
+
+		final int result = dbService.purgeLogEntries(LogLevel.INFO, threshold, 10);
+
+		verify(logRepository, never()).deleteAllByIdInBatch(anyList());
+
+		assertEquals(0, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPurgeLogEntriesWithoutLevel() {
+		final ZonedDateTime threshold = Utilities.utcNow();
+		final PageRequest chunk = PageRequest.of(0, 2);
+
+		when(logRepository.findLogIdsWithoutLogLevelAndEntryDateBefore(threshold, chunk)).thenReturn(List.of("1", "2"), List.of());
+
+		final int result = dbService.purgeLogEntriesWithoutLevel(threshold, 2);
+
+		verify(logRepository, times(2)).findLogIdsWithoutLogLevelAndEntryDateBefore(threshold, chunk);
+		verify(logRepository).deleteAllByIdInBatch(List.of("1", "2"));
+
+		assertEquals(2, result);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testPurgeLogEntriesException() {
+		final ZonedDateTime threshold = Utilities.utcNow();
+
+		when(logRepository.findLogIdsByLogLevelAndEntryDateBefore(LogLevel.INFO, threshold, PageRequest.of(0, 10))).thenThrow(QueryTimeoutException.class);
+
+		final Throwable ex = assertThrows(InternalServerError.class, () -> dbService.purgeLogEntries(LogLevel.INFO, threshold, 10));
+
+		assertEquals("Database operation error", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDropExpiredLogPartitionsInvalidTableName() {
+		final Throwable ex = assertThrows(IllegalArgumentException.class, () -> dbService.dropExpiredLogPartitions("logs; DROP TABLE x", Utilities.utcNow()));
+
+		assertEquals("Invalid table name", ex.getMessage());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.model;
+
+import java.util.List;
+import java.util.Map;
+
+import eu.arrowhead.common.http.balancer.HttpEndpoint;
+import eu.arrowhead.common.http.model.HttpInterfaceModel;
+import eu.arrowhead.common.http.model.HttpOperationModel;
+
+// service models shared by the tests: one generic_http interface that defines test-operation as GET <basePath>/op
+public final class ServiceModelTestHelper {
+
+	//=================================================================================================
+	// members
+
+	public static final String OPERATION = "test-operation";
+
+	private static final String TEMPLATE_NAME = "generic_http";
+	private static final String BASE_PATH = "/test";
+	private static final String OPERATION_PATH = "/op";
+	private static final String OPERATION_METHOD = "GET";
+	private static final String ADDRESS = "localhost";
+	private static final int PORT = 1234;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	public static ServiceModel createServiceModel(final String serviceDefinition, final String version, final List<String> addresses, final int port, final Map<String, Object> metadata) {
+		return new ServiceModel.Builder()
+				.serviceDefinition(serviceDefinition)
+				.version(version)
+				.serviceInterface(new HttpInterfaceModel.Builder(TEMPLATE_NAME)
+						.accessAddresses(addresses)
+						.accessPort(port)
+						.basePath(BASE_PATH)
+						.operation(OPERATION, new HttpOperationModel(OPERATION_PATH, OPERATION_METHOD))
+						.build())
+				.metadata(metadata)
+				.build();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public static ServiceModel createServiceModel(final String serviceDefinition, final String version) {
+		return createServiceModel(serviceDefinition, version, List.of(ADDRESS), PORT, null);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	public static HttpEndpoint createEndpoint(final String serviceDefinition, final String address, final Map<String, Object> metadata) {
+		final ServiceModel serviceModel = createServiceModel(serviceDefinition, "1.0.0", List.of(address), PORT, metadata);
+
+		return new HttpEndpoint(serviceModel, (HttpInterfaceModel) serviceModel.interfaces().get(0), address);
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private ServiceModelTestHelper() {
+		throw new UnsupportedOperationException();
+	}
+}
\ No newline at end of file
@@ -18,6 +18,8 @@ package eu.arrowhead.common.mqtt;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
@@ -26,7 +28,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -127,4 +133,53 @@ public class MqttResourceManagerTest {
 
 		assertTrue((boolean) ReflectionTestUtils.getField(manager, "threadpoolFixed"));
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testVirtualThreadExecutor() throws InterruptedException {
+		final MqttResourceManager virtualManager = new MqttResourceManager(true);
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicBoolean virtual = new AtomicBoolean();
+
+		virtualManager.getExecutor().execute(() -> {
+			virtual.set(Thread.currentThread().isVirtual());
+			latch.countDown();
+		});
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertTrue(virtual.get());
+		assertNull(virtualManager.getThreadpool());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testVirtualThreadExecutorFixedLimit() throws InterruptedException {
+		final MqttResourceManager virtualManager = new MqttResourceManager(true);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch started = new CountDownLatch(1);
+
+		virtualManager.getExecutor().execute(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		for (int i = 0; i < 5; ++i) {
+			virtualManager.registerLatency(2010);
+		}
+
+		// the limit is the number of messages under processing when the latency became high
+		assertTrue((boolean) ReflectionTestUtils.getField(virtualManager, "threadpoolFixed"));
+		assertThrows(RejectedExecutionException.class, () -> virtualManager.getExecutor().execute(() -> { }));
+
+		virtualManager.registerLatency(10);
+
+		assertFalse((boolean) ReflectionTestUtils.getField(virtualManager, "threadpoolFixed"));
+		assertDoesNotThrow(() -> virtualManager.getExecutor().execute(() -> { }));
+		release.countDown();
+	}
 }
\ No newline at end of file
@@ -32,18 +32,21 @@ import java.util.Map;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import eu.arrowhead.common.SSLProperties;
+import eu.arrowhead.common.security.SSLContextFactory;
 
 @SuppressWarnings("checkstyle:MagicNumber")
 @ExtendWith(MockitoExtension.class)
@@ -58,9 +61,18 @@ public class MqttServiceTest {
 	@Mock
 	private SSLProperties sslProperties;
 
+	@Spy
+	private SSLContextFactory sslContextFactory;
+
 	//=================================================================================================
 	// methods
 
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(sslContextFactory, "sslProperties", sslProperties);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@Test
 	public void testClientInputNull() {
@@ -20,12 +20,19 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -34,15 +41,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import eu.arrowhead.common.exception.ArrowheadException;
+import eu.arrowhead.common.exception.ForbiddenException;
 import eu.arrowhead.common.mqtt.MqttResourceManager;
 import eu.arrowhead.common.mqtt.filter.ArrowheadMqttFilter;
+import eu.arrowhead.common.mqtt.filter.authorization.IAuthorizationCheckMqttFilter;
 import eu.arrowhead.common.mqtt.handler.MqttTopicHandlerTest.DummyArrowheadMqttFilter;
 import eu.arrowhead.common.mqtt.model.MqttMessageContainer;
 import eu.arrowhead.common.mqtt.model.MqttRequestModel;
+import eu.arrowhead.common.security.ParallelAuthorizationChecker;
 import eu.arrowhead.dto.MqttRequestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +68,9 @@ public class MqttMessageContainerHandlerTest {
 	@Mock
 	private List<ArrowheadMqttFilter> filters;
 
+	@Mock
+	private ParallelAuthorizationChecker authorizationChecker;
+
 	@Mock
 	private MqttMessageContainer msgContainer;
 
@@ -153,4 +167,63 @@ public class MqttMessageContainerHandlerTest {
 		verify(utils).errorResponse(any(ArrowheadException.class), any(MqttRequestModel.class));
 		verify(resourceManager).registerLatency(anyLong());
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
+	@Test
+	public void testRunParallelChecks() {
+		final IAuthorizationCheckMqttFilter blacklistFilter = Mockito.mock(IAuthorizationCheckMqttFilter.class);
+		final IAuthorizationCheckMqttFilter managementFilter = Mockito.mock(IAuthorizationCheckMqttFilter.class);
+		ReflectionTestUtils.setField(handler, "filters", List.of(new DummyArrowheadMqttFilter(10), blacklistFilter, managementFilter));
+		when(utils.parseMqttMessage(any(MqttMessageContainer.class))).thenReturn(new ImmutablePair<String, MqttRequestModel>(
+				"test",
+				new MqttRequestModel(
+						"test-base",
+						"test-operation",
+						new MqttRequestTemplate("trace", "auth", "response", 0, null, null))));
+		when(authorizationChecker.isEnabled()).thenReturn(true);
+		final List<Integer> batchSizes = new ArrayList<>();
+		doAnswer(invocation -> {
+			final List<Runnable> checks = invocation.getArgument(0);
+			batchSizes.add(checks.size());
+			checks.forEach(Runnable::run);
+			return null;
+		}).when(authorizationChecker).check(anyList());
+		doNothing().when(topicHandler).handle(any(MqttRequestModel.class));
+		doNothing().when(resourceManager).registerLatency(anyLong());
+
+		assertDoesNotThrow(() -> handler.run());
+
+		assertEquals(List.of(0, 2), batchSizes);
+		verify(authorizationChecker, times(2)).check(anyList());
+		verify(blacklistFilter).doFilter(eq("test"), any(MqttRequestModel.class));
+		verify(managementFilter).doFilter(eq("test"), any(MqttRequestModel.class));
+		verify(topicHandler).handle(any(MqttRequestModel.class));
+		verify(resourceManager).registerLatency(anyLong());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testRunParallelChecksDenied() {
+		final IAuthorizationCheckMqttFilter blacklistFilter = Mockito.mock(IAuthorizationCheckMqttFilter.class);
+		ReflectionTestUtils.setField(handler, "filters", List.of(blacklistFilter));
+		when(utils.parseMqttMessage(any(MqttMessageContainer.class))).thenReturn(new ImmutablePair<String, MqttRequestModel>(
+				"test",
+				new MqttRequestModel(
+						"test-base",
+						"test-operation",
+						new MqttRequestTemplate("trace", "auth", "response", 0, null, null))));
+		when(authorizationChecker.isEnabled()).thenReturn(true);
+		doThrow(new ForbiddenException("RequesterSystem system is blacklisted")).when(authorizationChecker).check(anyList());
+		doNothing().when(utils).errorResponse(any(ForbiddenException.class), any(MqttRequestModel.class));
+		doNothing().when(resourceManager).registerLatency(anyLong());
+
+		assertDoesNotThrow(() -> handler.run());
+
+		verify(blacklistFilter, never()).doFilter(anyString(), any(MqttRequestModel.class));
+		verify(topicHandler, never()).handle(any(MqttRequestModel.class));
+		verify(utils).errorResponse(any(ForbiddenException.class), any(MqttRequestModel.class));
+		verify(resourceManager).registerLatency(anyLong());
+	}
 }
\ No newline at end of file
@@ -103,6 +103,20 @@ public class MqttTopicHandlerTest {
 		verify(filters).sort(any(Comparator.class));
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testInitVirtualThreads() {
+		ReflectionTestUtils.setField(handler, "virtualThreads", true);
+		doNothing().when(filters).sort(any(Comparator.class));
+
+		assertDoesNotThrow(() -> handler.init(new LinkedBlockingQueue<>()));
+
+		final MqttResourceManager resourceManager = (MqttResourceManager) ReflectionTestUtils.getField(handler, "resourceManager");
+		assertNull(resourceManager.getThreadpool());
+		assertFalse(ReflectionTestUtils.getField(handler, "threadpool") instanceof ThreadPoolExecutor);
+	}
+
 	//-------------------------------------------------------------------------------------------------
 	@SuppressWarnings("unchecked")
 	@Test
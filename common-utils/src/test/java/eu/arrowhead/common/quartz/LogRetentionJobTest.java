@@ -0,0 +1,181 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.quartz;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.exception.InternalServerError;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.jpa.service.LogDbService;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class LogRetentionJobTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private LogRetentionJob job;
+
+	@Mock
+	private LogDbService dbService;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(job, "retentionDays", 30);
+		ReflectionTestUtils.setField(job, "batchSize", 100);
+		ReflectionTestUtils.setField(job, "partitionedTable", "");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitInvalidBatchSize() {
+		ReflectionTestUtils.setField(job, "batchSize", 0);
+
+		final Throwable ex = assertThrows(InvalidParameterException.class, () -> ReflectionTestUtils.invokeMethod(job, "init"));
+
+		assertEquals("Log retention batch size must be positive", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testInitInvalidLevel() {
+		ReflectionTestUtils.setField(job, "rawRetentionDaysPerLevel", Map.of("VERBOSE", 1));
+
+		final Throwable ex = assertThrows(InvalidParameterException.class, () -> ReflectionTestUtils.invokeMethod(job, "init"));
+
+		assertEquals("Invalid log level in log retention settings: VERBOSE", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePerLevelRetention() {
+		ReflectionTestUtils.setField(job, "rawRetentionDaysPerLevel", Map.of(" debug ", 1, "ERROR", 0));
+		ReflectionTestUtils.invokeMethod(job, "init");
+
+		when(dbService.purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100))).thenReturn(2);
+
+		assertDoesNotThrow(() -> job.execute(null));
+
+		// ERROR entries are kept forever
+		verify(dbService, times(LogLevel.values().length - 1)).purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100));
+		verify(dbService, never()).purgeLogEntries(eq(LogLevel.ERROR), any(ZonedDateTime.class), anyInt());
+		verify(dbService).purgeLogEntries(eq(LogLevel.DEBUG), any(ZonedDateTime.class), eq(100));
+		verify(dbService).purgeLogEntriesWithoutLevel(any(ZonedDateTime.class), eq(100));
+		verify(dbService, never()).dropExpiredLogPartitions(anyString(), any(ZonedDateTime.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteEntriesWithoutLevelKeptForever() {
+		ReflectionTestUtils.setField(job, "retentionDays", 0);
+		ReflectionTestUtils.setField(job, "partitionedTable", "logs");
+		ReflectionTestUtils.setField(job, "rawRetentionDaysPerLevel", Map.of("TRACE", 1, "DEBUG", 1, "INFO", 1, "WARN", 1, "ERROR", 1, "FATAL", 1, "OFF", 1));
+		ReflectionTestUtils.invokeMethod(job, "init");
+
+		assertDoesNotThrow(() -> job.execute(null));
+
+		// partitions also contain the entries without level
+		verify(dbService, times(LogLevel.values().length)).purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100));
+		verify(dbService, never()).purgeLogEntriesWithoutLevel(any(ZonedDateTime.class), anyInt());
+		verify(dbService, never()).dropExpiredLogPartitions(anyString(), any(ZonedDateTime.class));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteWithPartitions() {
+		ReflectionTestUtils.setField(job, "partitionedTable", "logs");
+		ReflectionTestUtils.setField(job, "rawRetentionDaysPerLevel", Map.of("DEBUG", 1));
+		ReflectionTestUtils.invokeMethod(job, "init");
+
+		when(dbService.dropExpiredLogPartitions(eq("logs"), any(ZonedDateTime.class))).thenReturn(List.of("p2025_01"));
+		when(dbService.purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100))).thenReturn(0);
+
+		final ZonedDateTime before = ZonedDateTime.now().minusDays(30);
+		assertDoesNotThrow(() -> job.execute(null));
+
+		// partitions are dropped based on the longest retention
+		verify(dbService).dropExpiredLogPartitions(eq("logs"), argThat(t -> !t.isAfter(before.plusMinutes(1)) && t.isAfter(before.minusMinutes(1))));
+		verify(dbService, times(LogLevel.values().length)).purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecutePartitionErrorDoesNotStopPurge() {
+		ReflectionTestUtils.setField(job, "partitionedTable", "logs");
+		ReflectionTestUtils.invokeMethod(job, "init");
+
+		when(dbService.dropExpiredLogPartitions(eq("logs"), any(ZonedDateTime.class))).thenThrow(new InternalServerError("Database operation error"));
+
+		assertDoesNotThrow(() -> job.execute(null));
+
+		verify(dbService, times(LogLevel.values().length)).purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteDatabaseError() {
+		ReflectionTestUtils.invokeMethod(job, "init");
+
+		when(dbService.purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100))).thenThrow(new InternalServerError("Database operation error"));
+
+		assertDoesNotThrow(() -> job.execute(null));
+
+		verify(dbService).purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), eq(100));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testExecuteNothingToDo() {
+		ReflectionTestUtils.setField(job, "retentionDays", -1);
+		ReflectionTestUtils.invokeMethod(job, "init");
+
+		assertDoesNotThrow(() -> job.execute(null));
+
+		verify(dbService, never()).purgeLogEntries(any(LogLevel.class), any(ZonedDateTime.class), anyInt());
+		verify(dbService, never()).purgeLogEntriesWithoutLevel(any(ZonedDateTime.class), anyInt());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.exception.ForbiddenException;
+import eu.arrowhead.common.exception.InternalServerError;
+
+public class ParallelAuthorizationCheckerTest {
+
+	//=================================================================================================
+	// members
+
+	private final ParallelAuthorizationChecker checker = new ParallelAuthorizationChecker();
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@AfterEach
+	public void tearDown() {
+		ReflectionTestUtils.invokeMethod(checker, "destroy");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckNullList() {
+		final Throwable ex = assertThrows(IllegalArgumentException.class,
+				() -> checker.check(null));
+
+		assertEquals("checks list is null", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckDisabledSequential() {
+		ReflectionTestUtils.invokeMethod(checker, "init");
+		final Thread caller = Thread.currentThread();
+		final AtomicBoolean sameThread = new AtomicBoolean(true);
+
+		assertDoesNotThrow(() -> checker.check(List.of(
+				() -> sameThread.compareAndSet(true, Thread.currentThread() == caller),
+				() -> sameThread.compareAndSet(true, Thread.currentThread() == caller))));
+
+		assertTrue(sameThread.get());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckConcurrent() {
+		enable();
+		final CountDownLatch latch = new CountDownLatch(2);
+		final Runnable check = () -> {
+			latch.countDown();
+			try {
+				// completes only if the other check runs at the same time
+				if (!latch.await(5, TimeUnit.SECONDS)) {
+					throw new ForbiddenException("not concurrent");
+				}
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		assertDoesNotThrow(() -> checker.check(List.of(check, check)));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckFirstDenialShortCircuits() {
+		enable();
+		final CountDownLatch never = new CountDownLatch(1);
+		final Runnable slow = () -> {
+			try {
+				never.await(30, TimeUnit.SECONDS);
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		final Runnable deny = () -> {
+			throw new ForbiddenException("RequesterSystem system is blacklisted");
+		};
+
+		final long start = System.currentTimeMillis();
+		final Throwable ex = assertThrows(ForbiddenException.class,
+				() -> checker.check(List.of(slow, deny)));
+
+		assertEquals("RequesterSystem system is blacklisted", ex.getMessage());
+		assertTrue(System.currentTimeMillis() - start < 10000);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckErrorWrapped() {
+		enable();
+		final Runnable fail = () -> {
+			throw new AssertionError("boom");
+		};
+
+		final Throwable ex = assertThrows(InternalServerError.class,
+				() -> checker.check(List.of(() -> { }, fail)));
+
+		assertEquals("boom", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCheckPoolFullRunsOnCaller() {
+		enable(1);
+		final Thread caller = Thread.currentThread();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicBoolean onCaller = new AtomicBoolean(false);
+		final Runnable busy = () -> {
+			try {
+				latch.await(5, TimeUnit.SECONDS);
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		final Runnable rejected = () -> {
+			onCaller.set(Thread.currentThread() == caller);
+			latch.countDown();
+		};
+
+		assertDoesNotThrow(() -> checker.check(List.of(busy, rejected)));
+
+		assertTrue(onCaller.get());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void enable() {
+		enable(4);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	private void enable(final int maxThreads) {
+		ReflectionTestUtils.setField(checker, "enabled", true);
+		ReflectionTestUtils.setField(checker, "maxThreads", maxThreads);
+		ReflectionTestUtils.invokeMethod(checker, "init");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import eu.arrowhead.common.SSLProperties;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+
+@SuppressWarnings("checkstyle:MagicNumber")
+@ExtendWith(MockitoExtension.class)
+public class SSLContextFactoryTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private SSLContextFactory factory;
+
+	@Mock
+	private SSLProperties sslProperties;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(factory, "protocols", List.of("TLSv1.3", "TLSv1.2"));
+		ReflectionTestUtils.setField(factory, "sessionCacheSize", 500);
+		ReflectionTestUtils.setField(factory, "sessionTimeout", 3600);
+		ReflectionTestUtils.setField(factory, "provider", "JDK");
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetClientContextCached() throws Exception {
+		initStores();
+
+		final SslContext result = factory.getClientContext();
+
+		assertSame(result, factory.getClientContext());
+		assertEquals(500, result.sessionCacheSize());
+		assertEquals(3600, result.sessionTimeout());
+		assertTrue(result.newEngine(ByteBufAllocator.DEFAULT).getEnabledProtocols()[0].startsWith("TLSv1."));
+		verify(sslProperties, times(2)).getTrustStorePassword();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetSSLContextSharesStores() throws Exception {
+		initStores();
+
+		factory.getClientContext();
+		final SSLContext result = factory.getSSLContext();
+
+		assertSame(result, factory.getSSLContext());
+		assertEquals("TLS", result.getProtocol());
+		assertEquals(500, result.getClientSessionContext().getSessionCacheSize());
+		assertEquals(3600, result.getClientSessionContext().getSessionTimeout());
+
+		// stores are loaded only once
+		verify(sslProperties, times(2)).getTrustStorePassword();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetSSLSocketFactoryRestrictsProtocols() throws Exception {
+		initStores();
+		ReflectionTestUtils.setField(factory, "protocols", List.of("TLSv1.3"));
+
+		final SSLSocketFactory result = factory.getSSLSocketFactory();
+
+		assertSame(result, factory.getSSLSocketFactory());
+		try (SSLSocket socket = (SSLSocket) result.createSocket()) {
+			assertArrayEquals(new String[] { "TLSv1.3" }, socket.getEnabledProtocols());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testGetHttp2ClientContext() throws Exception {
+		initStores();
+
+		final SslContext plain = factory.getClientContext();
+		final SslContext result = factory.getHttp2ClientContext();
+
+		assertSame(result, factory.getHttp2ClientContext());
+		assertNotSame(plain, result);
+		assertTrue(plain.applicationProtocolNegotiator().protocols().isEmpty());
+		assertEquals(List.of(ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1), result.applicationProtocolNegotiator().protocols());
+
+		// stores are loaded only once
+		verify(sslProperties, times(2)).getTrustStorePassword();
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetClientContextUnavailableProvider() throws Exception {
+		initStores();
+		ReflectionTestUtils.setField(factory, "provider", "openssl");
+
+		// netty-tcnative is not on the test classpath
+		final SslContext result = factory.getClientContext();
+
+		assertTrue(result.isClient());
+		assertEquals("JdkSslClientContext", result.getClass().getSimpleName());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetClientContextInvalidProvider() {
+		initStores();
+		ReflectionTestUtils.setField(factory, "provider", "unknown");
+
+		final Throwable ex = assertThrows(IllegalArgumentException.class,
+				() -> factory.getClientContext());
+
+		assertEquals("tls.provider is invalid: unknown", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetSSLContextMissingKeyStoreType() {
+		when(sslProperties.getKeyStoreType()).thenReturn(null);
+
+		final Throwable ex = assertThrows(IllegalArgumentException.class,
+				() -> factory.getSSLContext());
+
+		assertEquals("server.ssl.key-store-type is not defined", ex.getMessage());
+	}
+
+	//=================================================================================================
+	// assistant methods
+
+	//-------------------------------------------------------------------------------------------------
+	private void initStores() {
+		when(sslProperties.getKeyStoreType()).thenReturn("pkcs12");
+		when(sslProperties.getKeyStore()).thenReturn(new ClassPathResource("certs/ConsumerAuthorization.p12"));
+		when(sslProperties.getKeyStorePassword()).thenReturn("123456");
+		when(sslProperties.getKeyPassword()).thenReturn("123456");
+		when(sslProperties.getTrustStore()).thenReturn(new ClassPathResource("certs/truststore.p12"));
+		when(sslProperties.getTrustStorePassword()).thenReturn("123456");
+	}
+}
\ No newline at end of file
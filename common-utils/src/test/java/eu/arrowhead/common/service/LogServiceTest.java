@@ -21,12 +21,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,13 +42,25 @@ import org.springframework.boot.logging.LogLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import eu.arrowhead.common.Utilities;
 import eu.arrowhead.common.exception.InternalServerError;
 import eu.arrowhead.common.jpa.LogEntity;
 import eu.arrowhead.common.jpa.service.LogDbService;
+import eu.arrowhead.common.service.stream.StreamingFormat;
+import eu.arrowhead.common.service.stream.StreamingResponseService;
+import eu.arrowhead.common.service.util.KeysetPageRequest;
 import eu.arrowhead.common.service.validation.LogValidation;
+import eu.arrowhead.dto.CursorPageDTO;
+import eu.arrowhead.dto.LogCursorRequestDTO;
+import eu.arrowhead.dto.LogEntryCursorListResponseDTO;
 import eu.arrowhead.dto.LogEntryDTO;
 import eu.arrowhead.dto.LogEntryListResponseDTO;
 import eu.arrowhead.dto.LogRequestDTO;
@@ -68,6 +85,9 @@ public class LogServiceTest {
 	@Mock
 	private LogDbService dbService;
 
+	@Mock
+	private StreamingResponseService streamingService;
+
 	//=================================================================================================
 	// methods
 
@@ -183,6 +203,90 @@ public class LogServiceTest {
 		assertEquals(convertedResult, result.entries().get(0));
 	}
 
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings("checkstyle:MagicNumber")
+	@Test
+	public void testGetLogEntriesByCursor() {
+		final CursorPageDTO page = new CursorPageDTO(1, "DESC", "entryDate", null);
+		final LogCursorRequestDTO input = new LogCursorRequestDTO(
+				page,
+				"2025-06-27T10:00:00Z",
+				"2025-06-27T12:00:00Z",
+				"WARN",
+				" testLogger ");
+
+		final KeysetPageRequest pageRequest = new KeysetPageRequest(Limit.of(1), Sort.by(Direction.DESC, "entryDate"), ScrollPosition.keyset());
+		final Window<LogEntity> dbResult = Window.from(
+				List.of(new Log(
+						"id1",
+						Utilities.parseUTCStringToZonedDateTime("2025-06-27T10:02:01Z"),
+						"testLogger",
+						LogLevel.WARN,
+						"test message",
+						null)),
+				i -> ScrollPosition.forward(Map.of("logId", "id1")),
+				true);
+
+		when(pageService.getKeysetPageRequest(page, Direction.DESC, LogEntity.KEYSET_SORTABLE_FIELDS_BY, LogEntity.DEFAULT_SORT_FIELD, LogEntity.class, "test"))
+				.thenReturn(pageRequest);
+		when(dbService.getLogEntries(eq(pageRequest), anyList(), any(ZonedDateTime.class), any(ZonedDateTime.class), eq("testLogger")))
+				.thenReturn(dbResult);
+		when(pageService.getNextCursor(dbResult, pageRequest.sort())).thenReturn("next");
+
+		final LogEntryCursorListResponseDTO result = service.getLogEntriesByCursor(input, "test");
+
+		verify(validator).validateLogCursorRequest(input, "test");
+		verify(dbService).getLogEntries(eq(pageRequest), anyList(), any(ZonedDateTime.class), any(ZonedDateTime.class), eq("testLogger"));
+		verify(pageService).getNextCursor(dbResult, pageRequest.sort());
+
+		assertEquals(1, result.entries().size());
+		assertEquals("id1", result.entries().get(0).logId());
+		assertEquals("next", result.nextCursor());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@SuppressWarnings({ "checkstyle:MagicNumber", "unchecked" })
+	@Test
+	public void testExportLogEntries() {
+		final PageDTO page = new PageDTO(null, null, "ASC", "logger");
+		final LogRequestDTO input = new LogRequestDTO(
+				page,
+				null,
+				null,
+				"ERROR",
+				null);
+		final Log entity = new Log(
+				"id1",
+				Utilities.parseUTCStringToZonedDateTime("2025-06-27T10:02:01Z"),
+				"testLogger",
+				LogLevel.ERROR,
+				"test message",
+				null);
+		final ResponseEntity<StreamingResponseBody> response = ResponseEntity.ok().build();
+
+		when(pageService.normalizePageParameters(page, Direction.DESC, LogEntity.SORTABLE_FIELDS_BY, LogEntity.DEFAULT_SORT_FIELD, "test"))
+				.thenReturn(new PageDTO(0, 1000, "ASC", "logger"));
+		when(dbService.streamLogEntries(eq(Sort.by(Direction.ASC, "logger")), anyList(), nullable(ZonedDateTime.class), nullable(ZonedDateTime.class), nullable(String.class)))
+				.thenReturn(Stream.of(entity));
+		when(streamingService.createResponse(any(Supplier.class), any(Function.class), eq(StreamingFormat.NDJSON))).thenAnswer(invocation -> {
+			final Supplier<Stream<LogEntity>> supplier = invocation.getArgument(0);
+			final Function<LogEntity, LogEntryDTO> converter = invocation.getArgument(1);
+			final List<LogEntryDTO> converted = supplier.get().map(converter).toList();
+
+			assertEquals(1, converted.size());
+			assertEquals("ERROR", converted.get(0).severity());
+
+			return response;
+		});
+
+		final ResponseEntity<StreamingResponseBody> result = service.exportLogEntries(input, null, "test");
+
+		verify(validator).validateLogRequest(input, "test");
+		verify(dbService).streamLogEntries(eq(Sort.by(Direction.ASC, "logger")), eq(List.of(LogLevel.ERROR, LogLevel.FATAL, LogLevel.OFF)), nullable(ZonedDateTime.class), nullable(ZonedDateTime.class), nullable(String.class));
+
+		assertEquals(response, result);
+	}
+
 	//=================================================================================================
 	// nested classes
 
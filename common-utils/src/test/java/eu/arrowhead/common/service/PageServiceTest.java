@@ -18,6 +18,9 @@ package eu.arrowhead.common.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -25,7 +28,10 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 
+import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,11 +39,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import eu.arrowhead.common.Utilities;
+import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.common.jpa.LogEntity;
+import eu.arrowhead.common.service.util.KeysetPageRequest;
 import eu.arrowhead.common.service.validation.PageValidator;
+import eu.arrowhead.dto.CursorPageDTO;
 import eu.arrowhead.dto.PageDTO;
 
 @SuppressWarnings("checkstyle:MagicNumber")
@@ -169,4 +185,143 @@ public class PageServiceTest {
 		assertEquals("notDefault", pr.getSort().iterator().next().getProperty());
 		assertEquals(Direction.DESC, pr.getSort().getOrderFor("notDefault").getDirection());
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testNormalizeCursorPageParametersNull() {
+		final CursorPageDTO page = service.normalizeCursorPageParameters(null, Direction.DESC, List.of(), "default", "test");
+
+		assertNotNull(page);
+		assertEquals(11, page.size());
+		assertEquals("DESC", page.direction());
+		assertEquals("default", page.sortField());
+		assertNull(page.cursor());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testNormalizeCursorPageParametersWrongSpec() {
+		doNothing().when(pageValidator).validateCursorPageParameter(any(CursorPageDTO.class), anyList(), anyString());
+
+		final CursorPageDTO page = service.normalizeCursorPageParameters(new CursorPageDTO(0, null, null, " "), Direction.ASC, List.of(), "default", "test");
+
+		verify(pageValidator).validateCursorPageParameter(any(CursorPageDTO.class), anyList(), anyString());
+
+		assertNotNull(page);
+		assertEquals(11, page.size());
+		assertEquals("ASC", page.direction());
+		assertEquals("default", page.sortField());
+		assertNull(page.cursor());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetKeysetPageRequestNoCursor() {
+		doNothing().when(pageValidator).validateCursorPageParameter(any(CursorPageDTO.class), anyList(), anyString());
+
+		final KeysetPageRequest pr = service.getKeysetPageRequest(new CursorPageDTO(5, "DESC", "entryDate", null), Direction.ASC, LogEntity.SORTABLE_FIELDS_BY, "logId", LogEntity.class, "test");
+
+		assertEquals(5, pr.limit().max());
+		assertEquals(Direction.DESC, pr.sort().getOrderFor("entryDate").getDirection());
+		assertTrue(pr.position().isInitial());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testEncodeDecodeCursorRoundTrip() {
+		doNothing().when(pageValidator).validateCursorPageParameter(any(CursorPageDTO.class), anyList(), anyString());
+
+		final ZonedDateTime entryDate = Utilities.parseUTCStringToZonedDateTime("2025-07-21T12:41:12.123Z");
+		final Sort sort = Sort.by(Direction.DESC, "entryDate");
+		final String cursor = service.encodeCursor(ScrollPosition.forward(Map.of("entryDate", entryDate, "logId", "id")), sort);
+
+		final KeysetPageRequest pr = service.getKeysetPageRequest(new CursorPageDTO(5, "DESC", "entryDate", cursor), Direction.ASC, LogEntity.SORTABLE_FIELDS_BY, "logId", LogEntity.class, "test");
+		final KeysetScrollPosition position = pr.position();
+
+		assertEquals(entryDate, position.getKeys().get("entryDate"));
+		assertEquals("id", position.getKeys().get("logId"));
+		assertEquals(2, position.getKeys().size());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDecodeCursorInvalid() {
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> service.decodeCursor("not a cursor", Sort.by(Direction.DESC, "entryDate"), LogEntity.class, "test"));
+
+		assertEquals("Invalid cursor", ex.getMessage());
+		assertEquals("test", ((InvalidParameterException) ex).getOrigin());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDecodeCursorSortMismatch() {
+		final String cursor = service.encodeCursor(ScrollPosition.forward(Map.of("logId", "id")), Sort.by(Direction.ASC, "logId"));
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> service.decodeCursor(cursor, Sort.by(Direction.DESC, "logId"), LogEntity.class, "test"));
+
+		assertEquals("Cursor does not match the requested sort field and direction", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDecodeCursorUnknownField() {
+		final String cursor = service.encodeCursor(ScrollPosition.forward(Map.of("unknown", "id")), Sort.by(Direction.ASC, "logId"));
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> service.decodeCursor(cursor, Sort.by(Direction.ASC, "logId"), LogEntity.class, "test"));
+
+		assertEquals("Invalid cursor", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDecodeCursorUnexpectedField() {
+		final Sort sort = Sort.by(Direction.DESC, "entryDate");
+		final String cursor = service.encodeCursor(ScrollPosition.forward(Map.of("entryDate", "2025-07-21T12:41:12Z", "logId", "id", "logLevel", LogLevel.WARN)), sort);
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> service.decodeCursor(cursor, sort, LogEntity.class, "test"));
+
+		assertEquals("Invalid cursor", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDecodeCursorNullLogger() {
+		final Sort sort = Sort.by(Direction.ASC, "logger");
+		final Map<String, Object> keys = new HashMap<>();
+		keys.put("logger", null);
+		keys.put("logId", "id");
+		final String cursor = service.encodeCursor(ScrollPosition.forward(keys), sort);
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> service.decodeCursor(cursor, sort, LogEntity.class, "test"));
+
+		assertEquals("Invalid cursor", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testDecodeCursorMissingId() {
+		final Sort sort = Sort.by(Direction.DESC, "entryDate");
+		final String cursor = service.encodeCursor(ScrollPosition.forward(Map.of("entryDate", "2025-07-21T12:41:12Z")), sort);
+
+		final Throwable ex = assertThrows(InvalidParameterException.class,
+				() -> service.decodeCursor(cursor, sort, LogEntity.class, "test"));
+
+		assertEquals("Invalid cursor", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testGetNextCursor() {
+		final Sort sort = Sort.by(Direction.ASC, "logId");
+		final Window<String> last = Window.from(List.of("a"), i -> ScrollPosition.forward(Map.of("logId", "a")), false);
+		final Window<String> notLast = Window.from(List.of("a"), i -> ScrollPosition.forward(Map.of("logId", "a")), true);
+
+		assertNull(service.getNextCursor(last, sort));
+		assertEquals("a", service.decodeCursor(service.getNextCursor(notLast, sort), sort, LogEntity.class, "test").getKeys().get("logId"));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ *
+ * Copyright (c) 2025 AITIA
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ *
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  	AITIA - implementation
+ *  	Arrowhead Consortia - conceptualization
+ *
+ *******************************************************************************/
+package eu.arrowhead.common.service.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.arrowhead.dto.KeyValuesDTO;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingResponseServiceTest {
+
+	//=================================================================================================
+	// members
+
+	@InjectMocks
+	private StreamingResponseService service;
+
+	@Spy
+	private ObjectMapper mapper;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private EntityManager entityManager;
+
+	//=================================================================================================
+	// methods
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCreateResponseBodyNullInput() {
+		assertThrows(IllegalArgumentException.class, () -> service.createResponseBody(null, e -> e, StreamingFormat.NDJSON));
+		assertThrows(IllegalArgumentException.class, () -> service.createResponseBody(() -> Stream.empty(), null, StreamingFormat.NDJSON));
+		assertThrows(IllegalArgumentException.class, () -> service.createResponseBody(() -> Stream.empty(), e -> e, null));
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testCreateResponse() {
+		final ResponseEntity<StreamingResponseBody> response = service.createResponse(() -> Stream.empty(), e -> e, StreamingFormat.NDJSON);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(StreamingFormat.NDJSON.getMediaType(), response.getHeaders().getContentType());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWriteNdjson() throws IOException {
+		when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.createResponseBody(() -> Stream.of("a", "b"), e -> new KeyValuesDTO(Map.of("key", e)), StreamingFormat.NDJSON).writeTo(out);
+
+		verify(transactionManager).commit(any());
+		verify(entityManager, never()).clear();
+
+		assertEquals("{\"map\":{\"key\":\"a\"}}\n{\"map\":{\"key\":\"b\"}}\n", out.toString());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWriteNdjsonEmpty() throws IOException {
+		when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.createResponseBody(() -> Stream.empty(), e -> e, StreamingFormat.NDJSON).writeTo(out);
+
+		assertEquals("", out.toString());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWriteJsonArray() throws IOException {
+		when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.createResponseBody(() -> IntStream.range(0, 250).boxed(), e -> List.of(e), StreamingFormat.JSON_ARRAY).writeTo(out);
+
+		verify(entityManager, times(2)).clear();
+
+		final Integer[][] result = mapper.readValue(out.toByteArray(), Integer[][].class);
+		assertEquals(250, result.length);
+		assertEquals(249, result[249][0]);
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testWriteIOException() {
+		when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+
+		final OutputStream failing = new OutputStream() {
+			@Override
+			public void write(final int b) throws IOException {
+				throw new IOException("broken pipe");
+			}
+		};
+
+		final Throwable ex = assertThrows(IOException.class,
+				() -> service.createResponseBody(() -> IntStream.range(0, 250).boxed(), e -> e, StreamingFormat.NDJSON).writeTo(failing));
+
+		verify(transactionManager).rollback(any());
+
+		assertEquals("broken pipe", ex.getMessage());
+	}
+}
\ No newline at end of file
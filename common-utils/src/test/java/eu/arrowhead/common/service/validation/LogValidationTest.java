@@ -19,6 +19,7 @@ package eu.arrowhead.common.service.validation;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +37,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import eu.arrowhead.common.exception.InvalidParameterException;
 import eu.arrowhead.common.jpa.LogEntity;
+import eu.arrowhead.dto.CursorPageDTO;
+import eu.arrowhead.dto.LogCursorRequestDTO;
 import eu.arrowhead.dto.LogRequestDTO;
 import eu.arrowhead.dto.PageDTO;
 
@@ -202,4 +205,19 @@ public class LogValidationTest {
 
 		);
 	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateLogCursorRequestKeysetSortFields() {
+		doNothing().when(pageValidator).validateCursorPageParameter(any(CursorPageDTO.class), anyList(), eq("test"));
+
+		final CursorPageDTO pageDto = new CursorPageDTO(10, "ASC", "entryDate", null);
+		final LogCursorRequestDTO request = new LogCursorRequestDTO(pageDto, null, null, null, null);
+
+		assertDoesNotThrow(() -> validator.validateLogCursorRequest(request, "test"));
+
+		// logger is nullable, so it cannot be a keyset sort field
+		verify(pageValidator).validateCursorPageParameter(pageDto, LogEntity.KEYSET_SORTABLE_FIELDS_BY, "test");
+		assertFalse(LogEntity.KEYSET_SORTABLE_FIELDS_BY.contains("logger"));
+	}
 }
\ No newline at end of file
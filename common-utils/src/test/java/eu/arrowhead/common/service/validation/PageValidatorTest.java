@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import eu.arrowhead.common.exception.InvalidParameterException;
+import eu.arrowhead.dto.CursorPageDTO;
 import eu.arrowhead.dto.PageDTO;
 
 @SuppressWarnings("checkstyle:MagicNumber")
@@ -117,4 +118,43 @@ public class PageValidatorTest {
 				() -> assertDoesNotThrow(() -> validator.validatePageParameter(pageDto2, List.of("id"), "test")),
 				() -> assertDoesNotThrow(() -> validator.validatePageParameter(pageDto3, List.of("id"), "test")));
 	}
-}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateCursorPageParameterOverMaxPageSize() {
+		ReflectionTestUtils.setField(validator, "maxPageSize", 5);
+		final CursorPageDTO pageDto = new CursorPageDTO(10, "ASC", "id", null);
+
+		final Throwable ex = assertThrows(
+				InvalidParameterException.class,
+				() -> validator.validateCursorPageParameter(pageDto, List.of("id"), "test"));
+
+		assertEquals("The page size cannot be larger than 5", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateCursorPageParameterInvalidDirection() {
+		ReflectionTestUtils.setField(validator, "maxPageSize", 10);
+		final CursorPageDTO pageDto = new CursorPageDTO(5, "invalid", "id", null);
+
+		final Throwable ex = assertThrows(
+				InvalidParameterException.class,
+				() -> validator.validateCursorPageParameter(pageDto, List.of("id"), "test"));
+
+		assertEquals("Direction is invalid. Only ASC or DESC are allowed", ex.getMessage());
+	}
+
+	//-------------------------------------------------------------------------------------------------
+	@Test
+	public void testValidateCursorPageParameterOk() {
+		ReflectionTestUtils.setField(validator, "maxPageSize", 10);
+		final CursorPageDTO pageDto = new CursorPageDTO(null, null, null, null);
+		final CursorPageDTO pageDto2 = new CursorPageDTO(5, "DESC", "id", "cursor");
+
+		assertAll("valid cursor page parameters",
+				() -> assertDoesNotThrow(() -> validator.validateCursorPageParameter(null, null, null)),
+				() -> assertDoesNotThrow(() -> validator.validateCursorPageParameter(pageDto, null, null)),
+				() -> assertDoesNotThrow(() -> validator.validateCursorPageParameter(pageDto2, List.of("id"), "test")));
+	}
+}
\ No newline at end of file